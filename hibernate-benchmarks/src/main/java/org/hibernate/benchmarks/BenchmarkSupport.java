@@ -0,0 +1,73 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.benchmarks.model.Author;
+import org.hibernate.benchmarks.model.Book;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * Bootstraps the {@link org.hibernate.SessionFactory} shared by the benchmarks
+ * against an in-memory H2 database, and seeds it with data.
+ */
+public final class BenchmarkSupport {
+	private static final AtomicInteger DATABASE_COUNTER = new AtomicInteger();
+
+	private BenchmarkSupport() {
+	}
+
+	/**
+	 * Build a {@code SessionFactory} over a fresh H2 in-memory database, so
+	 * that forked benchmarks never share state.
+	 *
+	 * @param settings additional settings, overriding the defaults
+	 */
+	public static SessionFactoryImplementor buildSessionFactory(Map<String, Object> settings) {
+		final Configuration configuration = new Configuration()
+				.addAnnotatedClass( Author.class )
+				.addAnnotatedClass( Book.class )
+				.setProperty(
+						AvailableSettings.JAKARTA_JDBC_URL,
+						"jdbc:h2:mem:bench" + DATABASE_COUNTER.incrementAndGet() + ";DB_CLOSE_DELAY=-1"
+				)
+				.setProperty( AvailableSettings.JAKARTA_JDBC_USER, "sa" )
+				.setProperty( AvailableSettings.JAKARTA_JDBC_PASSWORD, "" )
+				.setProperty( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.setProperty( AvailableSettings.STATEMENT_BATCH_SIZE, "50" )
+				.setProperty( AvailableSettings.SHOW_SQL, "false" )
+				.setProperty( AvailableSettings.LOG_SESSION_METRICS, "false" );
+		settings.forEach( (name, value) -> configuration.getProperties().put( name, value ) );
+		return (SessionFactoryImplementor) configuration.buildSessionFactory();
+	}
+
+	/**
+	 * Persist {@code numberOfBooks} books, spread over one author per ten books.
+	 * Identifiers are assigned sequentially, starting at {@code 1}.
+	 */
+	public static void populate(SessionFactoryImplementor sessionFactory, int numberOfBooks) {
+		sessionFactory.inTransaction( session -> {
+			Author author = null;
+			for ( long id = 1; id <= numberOfBooks; id++ ) {
+				if ( id % 10 == 1 ) {
+					author = new Author( id, "author " + id, (int) ( id % 7 ) );
+					session.persist( author );
+				}
+				session.persist( new Book( id, "title " + id, author ) );
+				if ( id % 1000 == 0 ) {
+					session.flush();
+					session.clear();
+					author = session.getReference( Author.class, author.getId() );
+				}
+			}
+		} );
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.internal.util.collections.TinyLfuConcurrentMap;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the bounded maps backing the query plan caches: the segmented
+ * {@link BoundedConcurrentHashMap}, with LIRS or LRU eviction, and the
+ * {@link TinyLfuConcurrentMap}. Each operation looks a key up, and adds it on
+ * a miss, as {@code QueryInterpretationCacheStandardImpl} does.
+ * <p>
+ * The {@code hits} and {@code misses} secondary results give the hit ratio
+ * of each eviction policy for the chosen {@link #workload}:
+ * <ul>
+ * <li>{@code zipf}: 4000 distinct keys with a Zipf distribution, more than the
+ *     2048 entries of the map,
+ * <li>{@code scan}: 80% of the accesses to 1000 hot keys, interleaved with a
+ *     scan over keys which are used only once.
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BoundedCacheBenchmark {
+	private static final int MAXIMUM_SIZE = 2048;
+	private static final int SEQUENCE_LENGTH = 1 << 20;
+
+	@Param({ "LIRS", "LRU", "TINY_LFU" })
+	public String implementation;
+
+	@Param({ "zipf", "scan" })
+	public String workload;
+
+	private ConcurrentMap<Integer, Object> map;
+	private Integer[] keys;
+
+	@Setup(Level.Trial)
+	public void generateKeys() {
+		keys = "scan".equals( workload ) ? scan() : zipf();
+	}
+
+	@Setup(Level.Iteration)
+	public void createMap() {
+		switch ( implementation ) {
+			case "LIRS":
+				map = new BoundedConcurrentHashMap<>( MAXIMUM_SIZE, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+				break;
+			case "LRU":
+				map = new BoundedConcurrentHashMap<>( MAXIMUM_SIZE, 20, BoundedConcurrentHashMap.Eviction.LRU );
+				break;
+			default:
+				map = new TinyLfuConcurrentMap<>( MAXIMUM_SIZE );
+		}
+	}
+
+	private static Integer[] zipf() {
+		final int distinctKeys = 4000;
+		final double[] cumulative = new double[distinctKeys];
+		double sum = 0;
+		for ( int i = 0; i < distinctKeys; i++ ) {
+			sum += 1.0 / ( i + 1 );
+			cumulative[i] = sum;
+		}
+		final Random random = new Random( 42 );
+		final Integer[] keys = new Integer[SEQUENCE_LENGTH];
+		for ( int i = 0; i < SEQUENCE_LENGTH; i++ ) {
+			int index = Arrays.binarySearch( cumulative, random.nextDouble() * sum );
+			if ( index < 0 ) {
+				index = -index - 1;
+			}
+			keys[i] = Math.min( index, distinctKeys - 1 );
+		}
+		return keys;
+	}
+
+	private static Integer[] scan() {
+		final Random random = new Random( 42 );
+		final Integer[] keys = new Integer[SEQUENCE_LENGTH];
+		int next = 1000;
+		for ( int i = 0; i < SEQUENCE_LENGTH; i++ ) {
+			keys[i] = random.nextInt( 5 ) == 0 ? next++ : random.nextInt( 1000 );
+		}
+		return keys;
+	}
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Counters {
+		public long hits;
+		public long misses;
+
+		private int next;
+
+		int next(int offset) {
+			next = ( next + 1 ) & ( SEQUENCE_LENGTH - 1 );
+			return ( next + offset ) & ( SEQUENCE_LENGTH - 1 );
+		}
+	}
+
+	@Benchmark
+	@Threads(1)
+	public Object getOrPut(Counters counters) {
+		return getOrPut( counters, 0 );
+	}
+
+	@Benchmark
+	@Threads(8)
+	public Object getOrPutConcurrently(Counters counters) {
+		// threads start at different points of the sequence
+		return getOrPut( counters, System.identityHashCode( counters ) );
+	}
+
+	private Object getOrPut(Counters counters, int offset) {
+		final Integer key = keys[counters.next( offset )];
+		final Object value = map.get( key );
+		if ( value != null ) {
+			counters.hits++;
+			return value;
+		}
+		counters.misses++;
+		map.put( key, key );
+		return key;
+	}
+}
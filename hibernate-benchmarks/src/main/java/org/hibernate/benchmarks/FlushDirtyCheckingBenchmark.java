@@ -0,0 +1,95 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Transaction;
+import org.hibernate.benchmarks.model.Book;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures flush-time dirty checking, that is
+ * {@link org.hibernate.event.internal.DefaultFlushEntityEventListener},
+ * over a persistence context holding {@link #managedEntities} entities.
+ * <p>
+ * {@link #flushClean()} isolates the cost of detecting that nothing changed,
+ * {@link #flushOnePercentDirty()} adds the cost of scheduling and executing
+ * the resulting updates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FlushDirtyCheckingBenchmark {
+	@Param({ "1000", "10000" })
+	public int managedEntities;
+
+	private SessionFactoryImplementor sessionFactory;
+	private SessionImplementor session;
+	private Transaction transaction;
+	private List<Book> books;
+	private int round;
+
+	@Setup(Level.Trial)
+	public void setUpTrial() {
+		sessionFactory = BenchmarkSupport.buildSessionFactory( Collections.emptyMap() );
+		BenchmarkSupport.populate( sessionFactory, managedEntities );
+	}
+
+	@Setup(Level.Iteration)
+	public void setUpIteration() {
+		session = (SessionImplementor) sessionFactory.openSession();
+		transaction = session.beginTransaction();
+		books = session.createSelectionQuery( "from Book", Book.class ).getResultList();
+	}
+
+	@Benchmark
+	public void flushClean() {
+		session.flush();
+	}
+
+	@Benchmark
+	public void flushOnePercentDirty() {
+		round++;
+		for ( int i = round % 100; i < books.size(); i += 100 ) {
+			final Book book = books.get( i );
+			book.setPages( book.getPages() + 1 );
+		}
+		session.flush();
+	}
+
+	@TearDown(Level.Iteration)
+	public void tearDownIteration() {
+		transaction.rollback();
+		session.close();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDownTrial() {
+		sessionFactory.close();
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.benchmarks.model.Author;
+import org.hibernate.benchmarks.model.Book;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures flushing of interleaved inserts of two dependent entity types with
+ * {@value AvailableSettings#ORDER_INSERTS} enabled, which is dominated by
+ * {@code ActionQueue.InsertActionSorter} for large numbers of inserts.
+ * The transaction is rolled back after each invocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InsertOrderingBenchmark {
+	@Param({ "1000", "10000" })
+	public int inserts;
+
+	@Param({ "true", "false" })
+	public boolean orderInserts;
+
+	private SessionFactoryImplementor sessionFactory;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSupport.buildSessionFactory(
+				Collections.singletonMap( AvailableSettings.ORDER_INSERTS, Boolean.toString( orderInserts ) )
+		);
+	}
+
+	@Benchmark
+	public void persistAndFlush() {
+		try ( Session session = sessionFactory.openSession() ) {
+			final Transaction transaction = session.beginTransaction();
+			try {
+				Author author = null;
+				for ( long id = 1; id <= inserts; id++ ) {
+					if ( id % 10 == 1 ) {
+						author = new Author( id, "author " + id, 0 );
+						session.persist( author );
+					}
+					session.persist( new Book( id, "title " + id, author ) );
+				}
+				session.flush();
+			}
+			finally {
+				transaction.rollback();
+			}
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+}
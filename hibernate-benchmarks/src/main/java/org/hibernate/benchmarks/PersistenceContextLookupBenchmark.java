@@ -0,0 +1,106 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.benchmarks.model.Book;
+import org.hibernate.cfg.PersistenceSettings;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures entity lookups in
+ * {@link org.hibernate.engine.internal.StatefulPersistenceContext} for a
+ * session holding {@link #managedEntities} entities, both directly by
+ * {@link org.hibernate.engine.spi.EntityKey} or by identifier, and through
+ * {@code Session#find}, which resolves from the persistence context without
+ * hitting the database, with and without the
+ * {@linkplain PersistenceSettings#PRIMITIVE_IDENTIFIER_INDEX primitive identifier index}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersistenceContextLookupBenchmark {
+	@Param({ "1000", "100000" })
+	public int managedEntities;
+
+	@Param({ "false", "true" })
+	public boolean primitiveIdentifierIndex;
+
+	private SessionFactoryImplementor sessionFactory;
+	private SessionImplementor session;
+	private PersistenceContext persistenceContext;
+	private EntityPersister persister;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSupport.buildSessionFactory(
+				Map.<String, Object>of( PersistenceSettings.PRIMITIVE_IDENTIFIER_INDEX, primitiveIdentifierIndex )
+		);
+		BenchmarkSupport.populate( sessionFactory, managedEntities );
+		session = (SessionImplementor) sessionFactory.openSession();
+		session.createSelectionQuery( "from Book", Book.class ).getResultList();
+		persistenceContext = session.getPersistenceContextInternal();
+		persister = sessionFactory.getMappingMetamodel().getEntityDescriptor( Book.class );
+	}
+
+	@Benchmark
+	public void getEntityByKey(Blackhole blackhole) {
+		for ( long id = 1; id <= managedEntities; id++ ) {
+			blackhole.consume( persistenceContext.getEntity( session.generateEntityKey( id, persister ) ) );
+		}
+	}
+
+	@Benchmark
+	public void getEntityById(Blackhole blackhole) {
+		for ( long id = 1; id <= managedEntities; id++ ) {
+			blackhole.consume( persistenceContext.getEntity( id, persister ) );
+		}
+	}
+
+	@Benchmark
+	public void containsEntity(Blackhole blackhole) {
+		for ( long id = 1; id <= managedEntities; id++ ) {
+			blackhole.consume( persistenceContext.containsEntity( session.generateEntityKey( id, persister ) ) );
+		}
+	}
+
+	@Benchmark
+	public void find(Blackhole blackhole) {
+		for ( long id = 1; id <= managedEntities; id++ ) {
+			blackhole.consume( session.find( Book.class, id ) );
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		session.close();
+		sessionFactory.close();
+	}
+}
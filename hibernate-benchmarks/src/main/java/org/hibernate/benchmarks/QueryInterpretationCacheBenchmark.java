@@ -0,0 +1,100 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.benchmarks.model.Book;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.hql.HqlTranslator;
+import org.hibernate.query.spi.HqlInterpretation;
+import org.hibernate.query.spi.QueryInterpretationCache;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link org.hibernate.query.internal.QueryInterpretationCacheStandardImpl}
+ * lookups of HQL interpretations, cycling over {@link #distinctQueries} query
+ * strings.  With more distinct queries than the configured plan cache size
+ * (2048 by default) this also exposes the hit ratio of the eviction policy.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryInterpretationCacheBenchmark {
+	@Param({ "1", "100", "2000", "4000" })
+	public int distinctQueries;
+
+	private SessionFactoryImplementor sessionFactory;
+	private QueryInterpretationCache interpretationCache;
+	private HqlTranslator hqlTranslator;
+	private String[] queries;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSupport.buildSessionFactory( Collections.emptyMap() );
+		interpretationCache = sessionFactory.getQueryEngine().getInterpretationCache();
+		hqlTranslator = sessionFactory.getQueryEngine().getHqlTranslator();
+		queries = new String[distinctQueries];
+		for ( int i = 0; i < distinctQueries; i++ ) {
+			queries[i] = "from Book b where b.pages > " + i + " order by b.title";
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class Cursor {
+		private int next;
+
+		int next(int bound) {
+			final int current = next;
+			next = current + 1 == bound ? 0 : current + 1;
+			return current;
+		}
+	}
+
+	@Benchmark
+	@Threads(1)
+	public HqlInterpretation<Book> resolveHqlInterpretation(Cursor cursor) {
+		return interpretationCache.resolveHqlInterpretation(
+				queries[cursor.next( distinctQueries )],
+				Book.class,
+				hqlTranslator
+		);
+	}
+
+	@Benchmark
+	@Threads(8)
+	public HqlInterpretation<Book> resolveHqlInterpretationConcurrently(Cursor cursor) {
+		return interpretationCache.resolveHqlInterpretation(
+				queries[cursor.next( distinctQueries )],
+				Book.class,
+				hqlTranslator
+		);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.benchmarks.model.Book;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures row hydration through
+ * {@link org.hibernate.sql.results.internal.StandardRowReader}, for entity
+ * results (entity initializers plus persistence context registration) and
+ * for scalar results (basic assemblers only).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RowHydrationBenchmark {
+	@Param({ "100", "10000" })
+	public int rows;
+
+	private SessionFactoryImplementor sessionFactory;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSupport.buildSessionFactory( Collections.emptyMap() );
+		BenchmarkSupport.populate( sessionFactory, rows );
+	}
+
+	@Benchmark
+	public List<Book> entities() {
+		return sessionFactory.fromSession(
+				session -> session.createSelectionQuery( "from Book", Book.class ).getResultList()
+		);
+	}
+
+	@Benchmark
+	public List<Object[]> entitiesReadOnly() {
+		return sessionFactory.fromSession(
+				session -> session.createSelectionQuery( "select b, b.author.id from Book b", Object[].class )
+						.setReadOnly( true )
+						.getResultList()
+		);
+	}
+
+	@Benchmark
+	public List<Object[]> scalars() {
+		return sessionFactory.fromSession(
+				session -> session.createSelectionQuery(
+								"select b.id, b.title, b.price, b.pages from Book b",
+								Object[].class
+						)
+						.getResultList()
+		);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+@Entity
+@Table(name = "bench_book")
+public class Book {
+	@Id
+	private Long id;
+	@Version
+	private int version;
+	private String title;
+	private String isbn;
+	private BigDecimal price;
+	private LocalDate published;
+	private int pages;
+	private boolean available;
+	@ManyToOne(fetch = FetchType.LAZY)
+	private Author author;
+
+	protected Book() {
+	}
+
+	public Book(Long id, String title, Author author) {
+		this.id = id;
+		this.title = title;
+		this.isbn = "isbn-" + id;
+		this.price = BigDecimal.valueOf( id % 100 );
+		this.published = LocalDate.of( 2000, 1, 1 ).plusDays( id % 1000 );
+		this.pages = (int) ( id % 500 );
+		this.available = id % 2 == 0;
+		this.author = author;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getTitle() {
+		return title;
+	}
+
+	public void setTitle(String title) {
+		this.title = title;
+	}
+
+	public BigDecimal getPrice() {
+		return price;
+	}
+
+	public void setPrice(BigDecimal price) {
+		this.price = price;
+	}
+
+	public int getPages() {
+		return pages;
+	}
+
+	public void setPages(int pages) {
+		this.pages = pages;
+	}
+
+	public Author getAuthor() {
+		return author;
+	}
+}
@@ -70,6 +70,7 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 						.getService( BytecodeProvider.class );
 		addSessionFactoryObservers( new SessionFactoryObserverForBytecodeEnhancer( bytecodeProvider ) );
 		addSessionFactoryObservers( new SessionFactoryObserverForNamedQueryValidation( metadata ) );
+		addSessionFactoryObservers( new SessionFactoryObserverForQueryInterpretationSnapshot( metadata ) );
 		addSessionFactoryObservers( new SessionFactoryObserverForSchemaExport( metadata ) );
 		addSessionFactoryObservers( new SessionFactoryObserverForRegistration() );
 	}
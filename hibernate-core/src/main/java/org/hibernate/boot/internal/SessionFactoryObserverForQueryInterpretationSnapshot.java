@@ -0,0 +1,67 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.boot.internal;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.spi.MetadataImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.query.internal.QueryInterpretationCacheSnapshot;
+
+import static org.hibernate.cfg.QuerySettings.QUERY_PLAN_CACHE_SNAPSHOT;
+
+/**
+ * Responsible for loading the {@linkplain QueryInterpretationCacheSnapshot
+ * snapshot of the query interpretation cache} when the {@link SessionFactory}
+ * is created, and saving it when it is closed.
+ *
+ * @see org.hibernate.cfg.QuerySettings#QUERY_PLAN_CACHE_SNAPSHOT
+ */
+class SessionFactoryObserverForQueryInterpretationSnapshot implements SessionFactoryObserver {
+	private final MetadataImplementor metadata;
+	private Path snapshot;
+	private String fingerprint;
+
+	SessionFactoryObserverForQueryInterpretationSnapshot(MetadataImplementor metadata) {
+		this.metadata = metadata;
+	}
+
+	@Override
+	public void sessionFactoryCreated(SessionFactory factory) {
+		final String path = ConfigurationHelper.getString( QUERY_PLAN_CACHE_SNAPSHOT, factory.getProperties() );
+		if ( path != null && !path.isBlank() ) {
+			final SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) factory;
+			snapshot = Paths.get( path );
+			fingerprint = QueryInterpretationCacheSnapshot.fingerprint(
+					metadata,
+					sessionFactory.getJdbcServices().getDialect()
+			);
+			QueryInterpretationCacheSnapshot.load(
+					snapshot,
+					fingerprint,
+					sessionFactory.getQueryEngine(),
+					sessionFactory.getServiceRegistry().requireService( ClassLoaderService.class )
+			);
+		}
+	}
+
+	@Override
+	public void sessionFactoryClosing(SessionFactory factory) {
+		if ( snapshot != null ) {
+			QueryInterpretationCacheSnapshot.write(
+					snapshot,
+					fingerprint,
+					( (SessionFactoryImplementor) factory ).getQueryEngine().getInterpretationCache()
+			);
+		}
+	}
+}
@@ -99,6 +99,7 @@ import static org.hibernate.cfg.AvailableSettings.FLUSH_BEFORE_COMPLETION;
 import static org.hibernate.cfg.AvailableSettings.GENERATE_STATISTICS;
 import static org.hibernate.cfg.AvailableSettings.IMMUTABLE_ENTITY_UPDATE_QUERY_HANDLING_MODE;
 import static org.hibernate.cfg.AvailableSettings.INTERCEPTOR;
+import static org.hibernate.cfg.AvailableSettings.IN_CLAUSE_PARAMETER_ARRAY;
 import static org.hibernate.cfg.AvailableSettings.IN_CLAUSE_PARAMETER_PADDING;
 import static org.hibernate.cfg.AvailableSettings.JDBC_TIME_ZONE;
 import static org.hibernate.cfg.AvailableSettings.JPA_CALLBACKS_ENABLED;
@@ -128,7 +129,9 @@ import static org.hibernate.cfg.AvailableSettings.USE_SECOND_LEVEL_CACHE;
 import static org.hibernate.cfg.AvailableSettings.USE_SQL_COMMENTS;
 import static org.hibernate.cfg.AvailableSettings.USE_STRUCTURED_CACHE;
 import static org.hibernate.cfg.AvailableSettings.USE_SUBSELECT_FETCH;
+import static org.hibernate.cfg.CacheSettings.QUERY_CACHE_INVALIDATION_BY_ID;
 import static org.hibernate.cfg.CacheSettings.QUERY_CACHE_LAYOUT;
+import static org.hibernate.cfg.JdbcSettings.STATEMENT_CACHE_SIZE;
 import static org.hibernate.cfg.QuerySettings.DEFAULT_NULL_ORDERING;
 import static org.hibernate.cfg.QuerySettings.PORTABLE_INTEGER_DIVISION;
 import static org.hibernate.engine.config.spi.StandardConverters.BOOLEAN;
@@ -235,6 +238,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean secondLevelCacheEnabled;
 	private boolean queryCacheEnabled;
 	private CacheLayout queryCacheLayout;
+	private boolean queryCacheInvalidationById;
 	private TimestampsCacheFactory timestampsCacheFactory;
 	private String cacheRegionPrefix;
 	private boolean minimalPutsEnabled;
@@ -250,6 +254,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private int jdbcBatchSize;
 	private boolean jdbcBatchVersionedData;
 	private Integer jdbcFetchSize;
+	private int jdbcStatementCacheSize;
 	private boolean scrollableResultSetsEnabled;
 	private boolean commentsEnabled;
 	private PhysicalConnectionHandlingMode connectionHandlingMode;
@@ -272,6 +277,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 
 	private final boolean failOnPaginationOverCollectionFetchEnabled;
 	private final boolean inClauseParameterPaddingEnabled;
+	private final boolean inClauseParameterArrayEnabled;
 
 	private final boolean portableIntegerDivisionEnabled;
 
@@ -463,6 +469,8 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 					value -> CacheLayout.valueOf( value.toString().toUpperCase( Locale.ROOT ) ),
 					CacheLayout.FULL
 			);
+			this.queryCacheInvalidationById =
+					configurationService.getSetting( QUERY_CACHE_INVALIDATION_BY_ID, BOOLEAN, false );
 			this.timestampsCacheFactory = strategySelector.resolveDefaultableStrategy(
 					TimestampsCacheFactory.class,
 					configurationSettings.get( QUERY_CACHE_FACTORY ),
@@ -489,6 +497,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 			this.secondLevelCacheEnabled = false;
 			this.queryCacheEnabled = false;
 			this.queryCacheLayout = CacheLayout.AUTO;
+			this.queryCacheInvalidationById = false;
 			this.timestampsCacheFactory = null;
 			this.cacheRegionPrefix = null;
 			this.minimalPutsEnabled = false;
@@ -534,6 +543,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				meta.supportsGetGeneratedKeys()
 		);
 		this.jdbcFetchSize = getInteger( STATEMENT_FETCH_SIZE, configurationSettings );
+		this.jdbcStatementCacheSize = getInt( STATEMENT_CACHE_SIZE, configurationSettings, 0 );
 
 		this.connectionHandlingMode = interpretConnectionHandlingMode( configurationSettings, serviceRegistry );
 		this.connectionProviderDisablesAutoCommit = getBoolean(
@@ -608,6 +618,10 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				IN_CLAUSE_PARAMETER_PADDING,
 				configurationSettings
 		);
+		this.inClauseParameterArrayEnabled = getBoolean(
+				IN_CLAUSE_PARAMETER_ARRAY,
+				configurationSettings
+		);
 
 		this.portableIntegerDivisionEnabled = getBoolean(
 				PORTABLE_INTEGER_DIVISION,
@@ -1080,6 +1094,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return queryCacheLayout;
 	}
 
+	@Override
+	public boolean isQueryCacheInvalidationByIdEnabled() {
+		return queryCacheInvalidationById;
+	}
+
 	@Override
 	public TimestampsCacheFactory getTimestampsCacheFactory() {
 		return timestampsCacheFactory;
@@ -1140,6 +1159,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return jdbcFetchSize;
 	}
 
+	@Override
+	public int getJdbcStatementCacheSize() {
+		return jdbcStatementCacheSize;
+	}
+
 	@Override
 	public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
 		return connectionHandlingMode;
@@ -1230,6 +1254,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return this.inClauseParameterPaddingEnabled;
 	}
 
+	@Override
+	public boolean inClauseParameterArrayEnabled() {
+		return this.inClauseParameterArrayEnabled;
+	}
+
 	@Override
 	public boolean isPortableIntegerDivisionEnabled() {
 		return portableIntegerDivisionEnabled;
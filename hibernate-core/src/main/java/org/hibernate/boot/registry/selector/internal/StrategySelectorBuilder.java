@@ -27,6 +27,9 @@ import org.hibernate.boot.registry.selector.spi.StrategySelector;
 import org.hibernate.cache.internal.DefaultCacheKeysFactory;
 import org.hibernate.cache.internal.SimpleCacheKeysFactory;
 import org.hibernate.cache.spi.CacheKeysFactory;
+import org.hibernate.cache.spi.support.CacheEntrySerializer;
+import org.hibernate.cache.spi.support.CompactCacheEntrySerializer;
+import org.hibernate.cache.spi.support.JavaCacheEntrySerializer;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
 import org.hibernate.id.enhanced.ImplicitDatabaseObjectNamingStrategy;
@@ -125,6 +128,7 @@ public class StrategySelectorBuilder {
 		addImplicitNamingStrategies( strategySelector );
 		addColumnOrderingStrategies( strategySelector );
 		addCacheKeysFactories( strategySelector );
+		addCacheEntrySerializers( strategySelector );
 		addJsonFormatMappers( strategySelector );
 		addXmlFormatMappers( strategySelector );
 
@@ -302,6 +306,19 @@ public class StrategySelectorBuilder {
 		);
 	}
 
+	private static void addCacheEntrySerializers(StrategySelectorImpl strategySelector) {
+		strategySelector.registerStrategyImplementor(
+			CacheEntrySerializer.class,
+			CompactCacheEntrySerializer.SHORT_NAME,
+			CompactCacheEntrySerializer.class
+		);
+		strategySelector.registerStrategyImplementor(
+			CacheEntrySerializer.class,
+			JavaCacheEntrySerializer.SHORT_NAME,
+			JavaCacheEntrySerializer.class
+		);
+	}
+
 	private static void addJsonFormatMappers(StrategySelectorImpl strategySelector) {
 		strategySelector.registerStrategyImplementor(
 				FormatMapper.class,
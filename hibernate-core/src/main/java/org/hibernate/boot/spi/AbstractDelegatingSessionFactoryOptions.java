@@ -259,6 +259,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.getQueryCacheLayout();
 	}
 
+	@Override
+	public boolean isQueryCacheInvalidationByIdEnabled() {
+		return delegate.isQueryCacheInvalidationByIdEnabled();
+	}
+
 	@Override
 	public TimestampsCacheFactory getTimestampsCacheFactory() {
 		return delegate.getTimestampsCacheFactory();
@@ -319,6 +324,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.getJdbcFetchSize();
 	}
 
+	@Override
+	public int getJdbcStatementCacheSize() {
+		return delegate.getJdbcStatementCacheSize();
+	}
+
 	@Override
 	public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
 		return delegate.getPhysicalConnectionHandlingMode();
@@ -428,6 +438,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.inClauseParameterPaddingEnabled();
 	}
 
+	@Override
+	public boolean inClauseParameterArrayEnabled() {
+		return delegate.inClauseParameterArrayEnabled();
+	}
+
 	@Override
 	public boolean isPortableIntegerDivisionEnabled() {
 		return delegate.isPortableIntegerDivisionEnabled();
@@ -170,6 +170,14 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 	@Incubating
 	CacheLayout getQueryCacheLayout();
 
+	/**
+	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_INVALIDATION_BY_ID
+	 */
+	@Incubating
+	default boolean isQueryCacheInvalidationByIdEnabled() {
+		return false;
+	}
+
 	TimestampsCacheFactory getTimestampsCacheFactory();
 
 	String getCacheRegionPrefix();
@@ -194,6 +202,16 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	Integer getJdbcFetchSize();
 
+	/**
+	 * The maximum number of prepared statements cached per JDBC connection.
+	 *
+	 * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+	 */
+	@Incubating
+	default int getJdbcStatementCacheSize() {
+		return 0;
+	}
+
 	PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode();
 
 	default boolean doesConnectionProviderDisableAutoCommit() {
@@ -279,6 +297,16 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 		return false;
 	}
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#IN_CLAUSE_PARAMETER_ARRAY
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	default boolean inClauseParameterArrayEnabled() {
+		return false;
+	}
+
 	/**
 	 * @see org.hibernate.cfg.AvailableSettings#PORTABLE_INTEGER_DIVISION
 	 */
@@ -0,0 +1,307 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An immutable view of cached query results, storing the JDBC values of the
+ * rows column by column rather than as one array per row. Numeric and boolean
+ * columns are stored in primitive arrays, and string columns with many repeated
+ * values are dictionary encoded.
+ * <p>
+ * As a {@link List}, it contains the same elements as the results it was
+ * {@linkplain #from created from}: the optional leading {@link JdbcValuesMetadata},
+ * followed by the rows, each of them either an {@code Object[]} or a single
+ * value. {@link org.hibernate.sql.results.jdbc.internal.JdbcValuesCacheHit}
+ * reads the values through {@link #getValue(int, int)} instead, without
+ * materializing the rows.
+ *
+ * @since 6.6
+ */
+public final class ColumnarQueryResults extends AbstractList<Object> implements RandomAccess, Serializable {
+
+	private final @Nullable Object metadata;
+	private final int offset;
+	private final int rowCount;
+	private final boolean arrayRows;
+	private final Column[] columns;
+
+	private ColumnarQueryResults(@Nullable Object metadata, int rowCount, boolean arrayRows, Column[] columns) {
+		this.metadata = metadata;
+		this.offset = metadata == null ? 0 : 1;
+		this.rowCount = rowCount;
+		this.arrayRows = arrayRows;
+		this.columns = columns;
+	}
+
+	/**
+	 * Encode the given query results column by column.
+	 *
+	 * @return the encoded results, or {@code null} if the results contain no
+	 *         row, or rows of different shapes
+	 */
+	public static @Nullable ColumnarQueryResults from(List<?> results) {
+		final int offset = !results.isEmpty() && results.get( 0 ) instanceof JdbcValuesMetadata ? 1 : 0;
+		final int rowCount = results.size() - offset;
+		if ( rowCount == 0 ) {
+			return null;
+		}
+
+		final Object first = results.get( offset );
+		final boolean arrayRows = first != null && first.getClass() == Object[].class;
+		final int width = arrayRows ? ( (Object[]) first ).length : 1;
+		for ( int i = offset; i < results.size(); i++ ) {
+			final Object row = results.get( i );
+			final boolean arrayRow = row != null && row.getClass() == Object[].class;
+			if ( arrayRow != arrayRows || arrayRow && ( (Object[]) row ).length != width ) {
+				return null;
+			}
+		}
+
+		final Column[] columns = new Column[width];
+		final Object[] values = new Object[rowCount];
+		for ( int column = 0; column < width; column++ ) {
+			for ( int i = 0; i < rowCount; i++ ) {
+				final Object row = results.get( i + offset );
+				values[i] = arrayRows ? ( (Object[]) row )[column] : row;
+			}
+			columns[column] = Column.of( values );
+		}
+		return new ColumnarQueryResults( offset == 0 ? null : results.get( 0 ), rowCount, arrayRows, columns );
+	}
+
+	/**
+	 * Whether the rows are arrays of values, rather than single values.
+	 */
+	public boolean isArrayRows() {
+		return arrayRows;
+	}
+
+	/**
+	 * The value of the given column of the element at the given index of this list.
+	 */
+	public Object getValue(int index, int column) {
+		return columns[column].get( index - offset );
+	}
+
+	@Override
+	public Object get(int index) {
+		Objects.checkIndex( index, size() );
+		if ( index < offset ) {
+			return metadata;
+		}
+		final int row = index - offset;
+		if ( arrayRows ) {
+			final Object[] values = new Object[columns.length];
+			for ( int i = 0; i < values.length; i++ ) {
+				values[i] = columns[i].get( row );
+			}
+			return values;
+		}
+		else {
+			return columns[0].get( row );
+		}
+	}
+
+	@Override
+	public int size() {
+		return rowCount + offset;
+	}
+
+	private abstract static class Column implements Serializable {
+		abstract Object get(int row);
+
+		static Column of(Object[] values) {
+			Class<?> type = null;
+			for ( Object value : values ) {
+				if ( value != null ) {
+					if ( type == null ) {
+						type = value.getClass();
+					}
+					else if ( type != value.getClass() ) {
+						return new ObjectColumn( values );
+					}
+				}
+			}
+
+			if ( type == Long.class ) {
+				return new LongColumn( values );
+			}
+			else if ( type == Integer.class ) {
+				return new IntColumn( values );
+			}
+			else if ( type == Double.class ) {
+				return new DoubleColumn( values );
+			}
+			else if ( type == Boolean.class ) {
+				return new BooleanColumn( values );
+			}
+			else if ( type == String.class ) {
+				final DictionaryColumn column = DictionaryColumn.of( values );
+				return column == null ? new ObjectColumn( values ) : column;
+			}
+			else {
+				return new ObjectColumn( values );
+			}
+		}
+
+		static BitSet nulls(Object[] values) {
+			final BitSet nulls = new BitSet();
+			for ( int i = 0; i < values.length; i++ ) {
+				if ( values[i] == null ) {
+					nulls.set( i );
+				}
+			}
+			return nulls;
+		}
+	}
+
+	private static final class ObjectColumn extends Column {
+		private final Object[] values;
+
+		private ObjectColumn(Object[] values) {
+			this.values = values.clone();
+		}
+
+		@Override
+		Object get(int row) {
+			return values[row];
+		}
+	}
+
+	private static final class LongColumn extends Column {
+		private final long[] values;
+		private final BitSet nulls;
+
+		private LongColumn(Object[] values) {
+			this.values = new long[values.length];
+			this.nulls = nulls( values );
+			for ( int i = 0; i < values.length; i++ ) {
+				if ( values[i] != null ) {
+					this.values[i] = (Long) values[i];
+				}
+			}
+		}
+
+		@Override
+		Object get(int row) {
+			return nulls.get( row ) ? null : values[row];
+		}
+	}
+
+	private static final class IntColumn extends Column {
+		private final int[] values;
+		private final BitSet nulls;
+
+		private IntColumn(Object[] values) {
+			this.values = new int[values.length];
+			this.nulls = nulls( values );
+			for ( int i = 0; i < values.length; i++ ) {
+				if ( values[i] != null ) {
+					this.values[i] = (Integer) values[i];
+				}
+			}
+		}
+
+		@Override
+		Object get(int row) {
+			return nulls.get( row ) ? null : values[row];
+		}
+	}
+
+	private static final class DoubleColumn extends Column {
+		private final double[] values;
+		private final BitSet nulls;
+
+		private DoubleColumn(Object[] values) {
+			this.values = new double[values.length];
+			this.nulls = nulls( values );
+			for ( int i = 0; i < values.length; i++ ) {
+				if ( values[i] != null ) {
+					this.values[i] = (Double) values[i];
+				}
+			}
+		}
+
+		@Override
+		Object get(int row) {
+			return nulls.get( row ) ? null : values[row];
+		}
+	}
+
+	private static final class BooleanColumn extends Column {
+		private final BitSet values = new BitSet();
+		private final BitSet nulls;
+
+		private BooleanColumn(Object[] values) {
+			this.nulls = nulls( values );
+			for ( int i = 0; i < values.length; i++ ) {
+				if ( Boolean.TRUE.equals( values[i] ) ) {
+					this.values.set( i );
+				}
+			}
+		}
+
+		@Override
+		Object get(int row) {
+			return nulls.get( row ) ? null : values.get( row );
+		}
+	}
+
+	private static final class DictionaryColumn extends Column {
+		private final String[] dictionary;
+		// the index of the value in the dictionary, or -1 for null
+		private final int[] codes;
+
+		private DictionaryColumn(String[] dictionary, int[] codes) {
+			this.dictionary = dictionary;
+			this.codes = codes;
+		}
+
+		/**
+		 * @return the encoded column, or {@code null} if too few values are
+		 *         repeated for the dictionary to pay off
+		 */
+		static @Nullable DictionaryColumn of(Object[] values) {
+			final HashMap<Object, Integer> codesByValue = new HashMap<>();
+			final int[] codes = new int[values.length];
+			for ( int i = 0; i < values.length; i++ ) {
+				final Object value = values[i];
+				if ( value == null ) {
+					codes[i] = -1;
+				}
+				else {
+					final Integer code = codesByValue.putIfAbsent( value, codesByValue.size() );
+					codes[i] = code == null ? codesByValue.size() - 1 : code;
+					if ( codesByValue.size() > values.length / 2 ) {
+						return null;
+					}
+				}
+			}
+			final String[] dictionary = new String[codesByValue.size()];
+			codesByValue.forEach( (value, code) -> dictionary[code] = (String) value );
+			return new DictionaryColumn( dictionary, codes );
+		}
+
+		@Override
+		Object get(int row) {
+			final int code = codes[row];
+			return code < 0 ? null : dictionary[code];
+		}
+	}
+}
@@ -0,0 +1,172 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Off-heap memory divided into fixed-size blocks, carved out of direct
+ * {@link ByteBuffer} slabs which are allocated lazily, until a maximum
+ * number of bytes is reached.
+ * <p>
+ * A value is stored in any set of free blocks, which need not be contiguous,
+ * so that memory never gets fragmented: any freed block may be reused by any
+ * other value.
+ * <p>
+ * Not thread-safe: access must be guarded by the caller.
+ *
+ * @see OffHeapStorageAccess
+ */
+final class OffHeapBlockStore {
+	private static final int MAX_SLAB_SIZE = 1 << 24;
+
+	private final int blockSize;
+	private final int blockShift;
+	private final int slabShift;
+	private final int maxBlocks;
+	private final ByteBuffer[] slabs;
+
+	// number of blocks carved out of the slabs so far
+	private int allocatedBlocks;
+	// stack of the free blocks among the allocated ones
+	private int[] freeBlocks = new int[64];
+	private int freeCount;
+
+	/**
+	 * @param maxBytes the maximum amount of off-heap memory to allocate
+	 * @param blockSize the size of a block, which must be a power of two
+	 */
+	OffHeapBlockStore(long maxBytes, int blockSize) {
+		if ( blockSize <= 0 || Integer.bitCount( blockSize ) != 1 || blockSize > MAX_SLAB_SIZE ) {
+			throw new IllegalArgumentException( "Block size must be a power of two, no larger than "
+					+ MAX_SLAB_SIZE + ": " + blockSize );
+		}
+		if ( maxBytes < blockSize ) {
+			throw new IllegalArgumentException( "Off-heap memory size must be at least one block: " + maxBytes );
+		}
+		this.blockSize = blockSize;
+		this.blockShift = Integer.numberOfTrailingZeros( blockSize );
+		final int slabSize = (int) Math.min( MAX_SLAB_SIZE, Long.highestOneBit( maxBytes ) );
+		this.slabShift = Integer.numberOfTrailingZeros( slabSize ) - blockShift;
+		this.maxBlocks = (int) Math.min( Integer.MAX_VALUE, maxBytes >> blockShift );
+		this.slabs = new ByteBuffer[ ( ( maxBlocks - 1 ) >> slabShift ) + 1 ];
+	}
+
+	/**
+	 * The number of blocks needed to store the given number of bytes.
+	 */
+	int blocksFor(int length) {
+		return ( length + blockSize - 1 ) >> blockShift;
+	}
+
+	/**
+	 * The number of bytes of off-heap memory currently holding values.
+	 */
+	long usedBytes() {
+		return (long) ( allocatedBlocks - freeCount ) << blockShift;
+	}
+
+	/**
+	 * Can the given number of blocks ever be allocated, even if all other
+	 * values were released?
+	 */
+	boolean canEverAllocate(int count) {
+		return count <= maxBlocks;
+	}
+
+	/**
+	 * Allocate the given number of blocks.
+	 *
+	 * @return the indexes of the blocks, or {@code null} if not enough memory is free
+	 */
+	int[] allocate(int count) {
+		if ( count > freeCount + maxBlocks - allocatedBlocks ) {
+			return null;
+		}
+		final int[] blocks = new int[count];
+		int i = 0;
+		while ( i < count && freeCount > 0 ) {
+			blocks[i++] = freeBlocks[--freeCount];
+		}
+		while ( i < count ) {
+			final int block = allocatedBlocks++;
+			final int slab = block >> slabShift;
+			if ( slabs[slab] == null ) {
+				final int blocksInSlab = Math.min( 1 << slabShift, maxBlocks - ( slab << slabShift ) );
+				slabs[slab] = ByteBuffer.allocateDirect( blocksInSlab << blockShift );
+			}
+			blocks[i++] = block;
+		}
+		return blocks;
+	}
+
+	/**
+	 * Return the given blocks to the free list.
+	 */
+	void release(int[] blocks) {
+		if ( freeCount + blocks.length > freeBlocks.length ) {
+			final int[] newFreeBlocks = new int[ Math.max( freeBlocks.length << 1, freeCount + blocks.length ) ];
+			System.arraycopy( freeBlocks, 0, newFreeBlocks, 0, freeCount );
+			freeBlocks = newFreeBlocks;
+		}
+		for ( int block : blocks ) {
+			freeBlocks[freeCount++] = block;
+		}
+	}
+
+	/**
+	 * Copy the given bytes to the given blocks.
+	 */
+	void write(int[] blocks, byte[] data) {
+		int offset = 0;
+		for ( int block : blocks ) {
+			final int length = Math.min( blockSize, data.length - offset );
+			final ByteBuffer slab = slabs[block >> slabShift];
+			slab.position( positionOf( block ) );
+			slab.put( data, offset, length );
+			offset += length;
+		}
+	}
+
+	/**
+	 * Copy the given number of bytes out of the given blocks.
+	 */
+	byte[] read(int[] blocks, int length) {
+		final byte[] data = new byte[length];
+		int offset = 0;
+		for ( int block : blocks ) {
+			final int chunk = Math.min( blockSize, length - offset );
+			final ByteBuffer slab = slabs[block >> slabShift];
+			slab.position( positionOf( block ) );
+			slab.get( data, offset, chunk );
+			offset += chunk;
+		}
+		return data;
+	}
+
+	/**
+	 * Release all blocks, while keeping the slabs allocated so far.
+	 */
+	void clear() {
+		allocatedBlocks = 0;
+		freeCount = 0;
+	}
+
+	/**
+	 * Release all blocks, and drop the slabs, whose memory is freed once they
+	 * are garbage collected. Slabs are allocated again if the store is reused.
+	 */
+	void dispose() {
+		clear();
+		Arrays.fill( slabs, null );
+	}
+
+	private int positionOf(int block) {
+		return ( block & ( ( 1 << slabShift ) - 1 ) ) << blockShift;
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.Incubating;
+import org.hibernate.boot.registry.selector.spi.StrategySelector;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.CacheEntrySerializer;
+import org.hibernate.cache.spi.support.CompactCacheEntrySerializer;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import static org.hibernate.cfg.CacheSettings.CACHE_ENTRY_SERIALIZER;
+import static org.hibernate.cfg.CacheSettings.OFF_HEAP_BLOCK_SIZE;
+import static org.hibernate.cfg.CacheSettings.OFF_HEAP_REGION_SIZE;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getLong;
+
+/**
+ * A built-in {@link org.hibernate.cache.spi.RegionFactory} storing serialized entity,
+ * collection, natural id, and query result cache entries in off-heap memory, with a
+ * {@linkplain org.hibernate.cfg.CacheSettings#OFF_HEAP_REGION_SIZE bounded size}
+ * per region. The usual access strategies of {@link org.hibernate.cache.spi.support}
+ * are supported. Cache entries are converted to bytes by the configured
+ * {@linkplain org.hibernate.cfg.CacheSettings#CACHE_ENTRY_SERIALIZER serializer},
+ * by default a {@link CompactCacheEntrySerializer}.
+ * <p>
+ * Update timestamps are kept on the heap, since they are few, and since they must
+ * never be evicted.
+ * <p>
+ * The cache is local to the JVM: it's not suitable for clustered deployments.
+ *
+ * @see OffHeapStorageAccess
+ *
+ * @since 6.6
+ */
+@Incubating
+public class OffHeapRegionFactory extends RegionFactoryTemplate {
+	public static final long DEFAULT_REGION_SIZE = 64L * 1024 * 1024;
+	public static final int DEFAULT_BLOCK_SIZE = 128;
+
+	private Map<String, Object> configValues;
+	private long defaultRegionSize;
+	private int blockSize;
+	private CacheEntrySerializer serializer;
+
+	@Override
+	protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+		this.configValues = configValues;
+		this.defaultRegionSize = getSize( OFF_HEAP_REGION_SIZE, DEFAULT_REGION_SIZE );
+		this.blockSize = getInt( OFF_HEAP_BLOCK_SIZE, configValues, DEFAULT_BLOCK_SIZE );
+		this.serializer = settings.getServiceRegistry().requireService( StrategySelector.class )
+				.resolveDefaultableStrategy(
+						CacheEntrySerializer.class,
+						configValues.get( CACHE_ENTRY_SERIALIZER ),
+						CompactCacheEntrySerializer::new
+				);
+	}
+
+	@Override
+	protected void releaseFromUse() {
+		configValues = null;
+		serializer = null;
+	}
+
+	@Override
+	protected DomainDataStorageAccess createDomainDataStorageAccess(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		serializer.prepare( buildingContext.getSessionFactory() );
+		return createStorageAccess( regionConfig.getRegionName() );
+	}
+
+	@Override
+	protected StorageAccess createQueryResultsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		serializer.prepare( sessionFactory );
+		return createStorageAccess( regionName );
+	}
+
+	@Override
+	protected StorageAccess createTimestampsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return new TimestampsStorageAccess();
+	}
+
+	/**
+	 * The serializer converting cache entries to bytes.
+	 */
+	public CacheEntrySerializer getCacheEntrySerializer() {
+		return serializer;
+	}
+
+	private OffHeapStorageAccess createStorageAccess(String regionName) {
+		final long regionSize = getSize( OFF_HEAP_REGION_SIZE + '.' + regionName, defaultRegionSize );
+		return new OffHeapStorageAccess( regionName, regionSize, blockSize, serializer );
+	}
+
+	private long getSize(String settingName, long defaultSize) {
+		return configValues.containsKey( settingName ) ? getLong( settingName, configValues, 0 ) : defaultSize;
+	}
+
+	/**
+	 * Keeps the update timestamps on the heap, without any eviction.
+	 */
+	private static class TimestampsStorageAccess implements StorageAccess {
+		private final Map<Object, Object> timestamps = new ConcurrentHashMap<>();
+
+		@Override
+		public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+			return timestamps.get( key );
+		}
+
+		@Override
+		public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+			timestamps.put( key, value );
+		}
+
+		@Override
+		public boolean contains(Object key) {
+			return timestamps.containsKey( key );
+		}
+
+		@Override
+		public void evictData() {
+			timestamps.clear();
+		}
+
+		@Override
+		public void evictData(Object key) {
+			timestamps.remove( key );
+		}
+
+		@Override
+		public void release() {
+			timestamps.clear();
+		}
+	}
+}
@@ -0,0 +1,205 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.cache.spi.support.CacheEntrySerializer;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.type.SerializationException;
+
+import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
+
+/**
+ * A {@link DomainDataStorageAccess} keeping the cached values serialized in off-heap
+ * memory, so that even very large caches put no pressure on the garbage collector.
+ * Only the keys, and a few bytes of bookkeeping per entry, remain on the heap.
+ * <p>
+ * The memory used by the region is bounded: when a new value doesn't fit, the least
+ * recently used entries are evicted. A value which could never fit is not cached.
+ *
+ * @see OffHeapRegionFactory
+ */
+public class OffHeapStorageAccess implements DomainDataStorageAccess {
+	private final String regionName;
+	private final CacheEntrySerializer serializer;
+	private final ReentrantLock lock = new ReentrantLock();
+	// in access order, for LRU eviction
+	private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<>( 16, 0.75f, true );
+	private final OffHeapBlockStore store;
+
+	private static final class Entry {
+		private final int[] blocks;
+		private final int length;
+
+		private Entry(int[] blocks, int length) {
+			this.blocks = blocks;
+			this.length = length;
+		}
+	}
+
+	public OffHeapStorageAccess(String regionName, long maxBytes, int blockSize, CacheEntrySerializer serializer) {
+		this.regionName = regionName;
+		this.serializer = serializer;
+		this.store = new OffHeapBlockStore( maxBytes, blockSize );
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final byte[] data;
+		lock.lock();
+		try {
+			final Entry entry = entries.get( key );
+			if ( entry == null ) {
+				return null;
+			}
+			data = store.read( entry.blocks, entry.length );
+		}
+		finally {
+			lock.unlock();
+		}
+		return deserialize( data );
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		final byte[] data = serialize( value );
+		lock.lock();
+		try {
+			// any previous value becomes stale, even if the new one can't be stored
+			removeEntry( key );
+			if ( data != null ) {
+				final int[] blocks = allocate( store.blocksFor( data.length ) );
+				if ( blocks != null ) {
+					store.write( blocks, data );
+					entries.put( key, new Entry( blocks, data.length ) );
+				}
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		lock.lock();
+		try {
+			return entries.containsKey( key );
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void evictData() {
+		lock.lock();
+		try {
+			entries.clear();
+			store.clear();
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void evictData(Object key) {
+		lock.lock();
+		try {
+			removeEntry( key );
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void release() {
+		lock.lock();
+		try {
+			entries.clear();
+			// the direct buffers are freed once garbage collected
+			store.dispose();
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * The number of entries currently held by the region.
+	 */
+	public int getElementCount() {
+		lock.lock();
+		try {
+			return entries.size();
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * The number of bytes of off-heap memory currently holding entries of the region.
+	 */
+	public long getSizeInBytes() {
+		lock.lock();
+		try {
+			return store.usedBytes();
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private int[] allocate(int blockCount) {
+		if ( !store.canEverAllocate( blockCount ) ) {
+			return null;
+		}
+		int[] blocks = store.allocate( blockCount );
+		if ( blocks == null ) {
+			final Iterator<Entry> leastRecentlyUsed = entries.values().iterator();
+			while ( blocks == null && leastRecentlyUsed.hasNext() ) {
+				store.release( leastRecentlyUsed.next().blocks );
+				leastRecentlyUsed.remove();
+				blocks = store.allocate( blockCount );
+			}
+		}
+		return blocks;
+	}
+
+	private void removeEntry(Object key) {
+		final Entry removed = entries.remove( key );
+		if ( removed != null ) {
+			store.release( removed.blocks );
+		}
+	}
+
+	private byte[] serialize(Object value) {
+		final byte[] data = serializer.serialize( value );
+		if ( data == null ) {
+			L2CACHE_LOGGER.debugf( "Not caching non-serializable value in cache region [%s]", regionName );
+		}
+		return data;
+	}
+
+	private Object deserialize(byte[] data) {
+		try {
+			return serializer.deserialize( data );
+		}
+		catch (SerializationException e) {
+			// treat it as a cache miss
+			L2CACHE_LOGGER.debugf( e, "Unable to deserialize value from cache region [%s]", regionName );
+			return null;
+		}
+	}
+}
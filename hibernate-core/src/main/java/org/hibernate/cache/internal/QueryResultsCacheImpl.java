@@ -8,12 +8,14 @@ package org.hibernate.cache.internal;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 
 import org.hibernate.HibernateException;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
+import org.hibernate.cache.spi.QueryResultsDependencies;
 import org.hibernate.cache.spi.QueryResultsRegion;
 import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -52,6 +54,15 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 			final QueryKey key,
 			final List<?> results,
 			final SharedSessionContractImplementor session) throws HibernateException {
+		return put( key, results, null, session );
+	}
+
+	@Override
+	public boolean put(
+			final QueryKey key,
+			final List<?> results,
+			final QueryResultsDependencies dependencies,
+			final SharedSessionContractImplementor session) throws HibernateException {
 		if ( L2CACHE_LOGGER.isDebugEnabled() ) {
 			L2CACHE_LOGGER.debugf( "Caching query results in region: %s; timestamp=%s",
 					cacheRegion.getName(),
@@ -60,7 +71,8 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 
 		final CacheItem cacheItem = new CacheItem(
 				session.getCacheTransactionSynchronization().getCachingTimestamp(),
-				deepCopy( results )
+				toCachedResults( results ),
+				dependencies
 		);
 
 		final EventManager eventManager = session.getEventManager();
@@ -83,8 +95,14 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 		return true;
 	}
 
+	private static List<?> toCachedResults(List<?> results) {
+		final ColumnarQueryResults columnarResults = ColumnarQueryResults.from( results );
+		return columnarResults == null ? deepCopy( results ) : columnarResults;
+	}
+
 	private static <T> List<T> deepCopy(List<T> results) {
-		return new ArrayList<>( results );
+		// the columnar representation is immutable
+		return results instanceof ColumnarQueryResults ? results : new ArrayList<>( results );
 	}
 
 	@Override
@@ -105,7 +123,7 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 			return null;
 		}
 
-		if ( !timestampsCache.isUpToDate( spaces, cacheItem.timestamp, session ) ) {
+		if ( !isUpToDate( spaces, cacheItem, session ) ) {
 			if ( loggerDebugEnabled ) {
 				L2CACHE_LOGGER.debug( "Cached query results were not up-to-date" );
 			}
@@ -137,7 +155,7 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 			return null;
 		}
 
-		if ( !timestampsCache.isUpToDate( spaces, cacheItem.timestamp, session ) ) {
+		if ( !isUpToDate( spaces, cacheItem, session ) ) {
 			if ( loggerDebugEnabled ) {
 				L2CACHE_LOGGER.debug( "Cached query results were not up-to-date" );
 			}
@@ -151,6 +169,33 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 		return deepCopy( cacheItem.results );
 	}
 
+	private boolean isUpToDate(
+			Set<String> spaces,
+			CacheItem cacheItem,
+			SharedSessionContractImplementor session) {
+		if ( cacheItem.dependencies == null ) {
+			return timestampsCache.isUpToDate( spaces, cacheItem.timestamp, session );
+		}
+		else {
+			// updates and deletions of the cached entities are tracked by row
+			final String[] keys = cacheItem.dependencies.getTimestampKeys( spaces );
+			return timestampsCache.isUpToDate( keys, cacheItem.timestamp, session );
+		}
+	}
+
+	private boolean isUpToDate(
+			String[] spaces,
+			CacheItem cacheItem,
+			SharedSessionContractImplementor session) {
+		if ( cacheItem.dependencies == null ) {
+			return timestampsCache.isUpToDate( spaces, cacheItem.timestamp, session );
+		}
+		else {
+			final String[] keys = cacheItem.dependencies.getTimestampKeys( Arrays.asList( spaces ) );
+			return timestampsCache.isUpToDate( keys, cacheItem.timestamp, session );
+		}
+	}
+
 	private CacheItem getCachedData(QueryKey key, SharedSessionContractImplementor session) {
 		CacheItem cachedItem = null;
 		final EventManager eventManager = session.getEventManager();
@@ -179,10 +224,12 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 	public static class CacheItem implements Serializable {
 		private final Long timestamp;
 		private final List<?> results;
+		private final QueryResultsDependencies dependencies;
 
-		CacheItem(long timestamp, List<?> results) {
+		CacheItem(long timestamp, List<?> results, QueryResultsDependencies dependencies) {
 			this.timestamp = Long.valueOf( timestamp );
 			this.results = results;
+			this.dependencies = dependencies;
 		}
 	}
 }
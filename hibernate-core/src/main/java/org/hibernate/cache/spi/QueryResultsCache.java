@@ -54,6 +54,33 @@ public interface QueryResultsCache {
 			List<?> result,
 			SharedSessionContractImplementor session) throws HibernateException;
 
+	/**
+	 * Store a result list of a query with the given {@link QueryKey}
+	 * in the query result cache, recording the entities it contains so
+	 * that only changes to these entities, or insertions, invalidate it.
+	 *
+	 * @param key The cache key uniquely identifying the query and its
+	 *            bound parameter arguments
+	 * @param result The result list to cache
+	 * @param dependencies The entities contained in the result list
+	 * @param session The originating session
+	 *
+	 * @return Whether the put actually happened.
+	 *
+	 * @throws HibernateException Indicates a problem delegating to the underlying cache.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_INVALIDATION_BY_ID
+	 *
+	 * @since 6.6
+	 */
+	default boolean put(
+			QueryKey key,
+			List<?> result,
+			QueryResultsDependencies dependencies,
+			SharedSessionContractImplementor session) throws HibernateException {
+		return put( key, result, session );
+	}
+
 	/**
 	 * Attempt to retrieve a cached query result list for the given
 	 * {@link QueryKey} from the {@linkplain QueryResultsRegion cache
@@ -0,0 +1,211 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.cache.spi;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.BasicEntityIdentifierMapping;
+import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.type.descriptor.java.JavaType;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
+
+/**
+ * The entities contained in cached query results, recorded so that the
+ * results are only invalidated by an update or deletion of one of these
+ * entities, rather than by any change to the tables they are mapped to.
+ * This is only recorded for queries selecting entities by identifier,
+ * which no update of any other entity could add to the results.
+ * <p>
+ * When {@value org.hibernate.cfg.CacheSettings#QUERY_CACHE_INVALIDATION_BY_ID}
+ * is enabled, every change to a table {@code space} still updates its
+ * timestamp in the {@link TimestampsCache}, and additionally:
+ * <ul>
+ *     <li>an update or deletion of the entity with identifier {@code id}
+ *         updates the timestamp of the {@linkplain #rowKey row key}
+ *         {@code space#n}, where {@code n} is one of {@value #ROW_BUCKETS}
+ *         buckets the identifier hashes to, while
+ *     <li>any other change updates the timestamp of the
+ *         {@linkplain #anyRowKey key} {@code space#*}.
+ * </ul>
+ * Cached results record the identifiers of the entities they contain,
+ * and then check the timestamps of the row keys of these identifiers and
+ * of {@code space#*}, instead of the timestamp of {@code space}, for the
+ * tables of these entities. An update of another entity whose identifier
+ * hashes to the same bucket also invalidates the results, but the number
+ * of keys in the timestamps cache stays bounded.
+ *
+ * @see org.hibernate.jpa.HibernateHints#HINT_CACHE_INVALIDATION_BY_ID
+ *
+ * @since 6.6
+ */
+@Incubating
+public final class QueryResultsDependencies implements Serializable {
+	/**
+	 * The number of row keys per table.
+	 */
+	public static final int ROW_BUCKETS = 256;
+
+	private final String[] entitySpaces;
+	private final String[] dependentSpaces;
+	private final String[] dependentIds;
+
+	private QueryResultsDependencies(String[] entitySpaces, String[] dependentSpaces, String[] dependentIds) {
+		this.entitySpaces = entitySpaces;
+		this.dependentSpaces = dependentSpaces;
+		this.dependentIds = dependentIds;
+	}
+
+	/**
+	 * The entities contained in the given query results, or {@code null}
+	 * if the results contain anything but initialized entities with a
+	 * basic identifier.
+	 */
+	public static @Nullable QueryResultsDependencies fromResults(
+			List<?> results,
+			SharedSessionContractImplementor session) {
+		if ( results.isEmpty() ) {
+			// nothing tells which tables hold entities
+			return null;
+		}
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final Set<String> entitySpaces = new LinkedHashSet<>();
+		final Map<String, Set<String>> idsBySpace = new LinkedHashMap<>();
+		for ( Object result : results ) {
+			if ( result instanceof Object[] ) {
+				for ( Object element : (Object[]) result ) {
+					if ( !addEntity( element, persistenceContext, entitySpaces, idsBySpace ) ) {
+						return null;
+					}
+				}
+			}
+			else if ( !addEntity( result, persistenceContext, entitySpaces, idsBySpace ) ) {
+				return null;
+			}
+		}
+		final List<String> dependentSpaces = new ArrayList<>();
+		final List<String> dependentIds = new ArrayList<>();
+		idsBySpace.forEach( (space, ids) -> {
+			for ( String id : ids ) {
+				dependentSpaces.add( space );
+				dependentIds.add( id );
+			}
+		} );
+		return new QueryResultsDependencies(
+				entitySpaces.toArray( new String[0] ),
+				dependentSpaces.toArray( new String[0] ),
+				dependentIds.toArray( new String[0] )
+		);
+	}
+
+	private static boolean addEntity(
+			Object result,
+			PersistenceContext persistenceContext,
+			Set<String> entitySpaces,
+			Map<String, Set<String>> idsBySpace) {
+		if ( result == null ) {
+			return true;
+		}
+		final Object entity;
+		final LazyInitializer lazyInitializer = extractLazyInitializer( result );
+		if ( lazyInitializer != null ) {
+			if ( lazyInitializer.isUninitialized() ) {
+				return false;
+			}
+			entity = lazyInitializer.getImplementation();
+		}
+		else {
+			entity = result;
+		}
+		final EntityEntry entry = persistenceContext.getEntry( entity );
+		if ( entry == null || !hasBasicIdentifier( entry.getPersister() ) ) {
+			return false;
+		}
+		final String id = identifierString( entry.getPersister(), entry.getId() );
+		for ( String space : entry.getPersister().getPropertySpaces() ) {
+			entitySpaces.add( space );
+			idsBySpace.computeIfAbsent( space, s -> new LinkedHashSet<>() ).add( id );
+		}
+		return true;
+	}
+
+	/**
+	 * Whether changes to instances of the given entity may be tracked by
+	 * {@linkplain #rowKey row key}.
+	 */
+	public static boolean hasBasicIdentifier(EntityPersister persister) {
+		return persister.getIdentifierMapping() instanceof BasicEntityIdentifierMapping;
+	}
+
+	/**
+	 * The key of the timestamp of the last update or deletion of the
+	 * entity with the given identifier, or of any other entity whose
+	 * identifier hashes to the same bucket, in the given table.
+	 */
+	public static String rowKey(String space, EntityPersister persister, Object id) {
+		return rowKey( space, identifierString( persister, id ) );
+	}
+
+	private static String rowKey(String space, String id) {
+		// String.hashCode() is specified, so that every node of a cluster agrees on the bucket
+		return space + '#' + Math.floorMod( id.hashCode(), ROW_BUCKETS );
+	}
+
+	private static String identifierString(EntityPersister persister, Object id) {
+		final EntityIdentifierMapping identifierMapping = persister.getIdentifierMapping();
+		//noinspection unchecked
+		final JavaType<Object> javaType = (JavaType<Object>) identifierMapping.getJavaType();
+		return javaType.toString( id );
+	}
+
+	/**
+	 * The key of the timestamp of the last change to the given table
+	 * other than an update or deletion of an entity.
+	 */
+	public static String anyRowKey(String space) {
+		return space + "#*";
+	}
+
+	/**
+	 * The keys of the {@link TimestampsCache} to check for cached results
+	 * of a query against the given query spaces.
+	 */
+	public String[] getTimestampKeys(Collection<String> querySpaces) {
+		final Set<String> keys = new LinkedHashSet<>();
+		for ( String space : querySpaces ) {
+			keys.add( isEntitySpace( space ) ? anyRowKey( space ) : space );
+		}
+		for ( int i = 0; i < dependentIds.length; i++ ) {
+			keys.add( rowKey( dependentSpaces[i], dependentIds[i] ) );
+		}
+		return keys.toArray( new String[0] );
+	}
+
+	private boolean isEntitySpace(String space) {
+		for ( String entitySpace : entitySpaces ) {
+			if ( entitySpace.equals( space ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -6,11 +6,15 @@
  */
 package org.hibernate.cache.spi.access;
 
+import java.util.Collection;
+import java.util.Map;
+
 import jakarta.persistence.Cache;
 
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.CollectionHelper;
 
 /**
  * Base contract for accessing the underlying cached data for a particular
@@ -57,6 +61,34 @@ public interface CachedDomainDataAccess {
 	 */
 	Object get(SharedSessionContractImplementor session, Object key);
 
+	/**
+	 * Attempt to retrieve several objects from the cache, as by {@link #get}.
+	 * Used to resolve a whole batch of entities from the second level cache.
+	 *
+	 * @implSpec The default implementation calls {@link #get} for each key.
+	 *           Implementations should override it to retrieve all the objects
+	 *           in a single round trip to the underlying cache.
+	 *
+	 * @param session Current session.
+	 * @param keys The keys of the items to be retrieved.
+	 *
+	 * @return the cached data, by key, without the keys which were not found
+	 *
+	 * @throws CacheException Propagated from underlying cache provider
+	 *
+	 * @since 6.6
+	 */
+	default Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		final Map<Object, Object> items = CollectionHelper.mapOfSize( keys.size() );
+		for ( Object key : keys ) {
+			final Object item = get( session, key );
+			if ( item != null ) {
+				items.put( key, item );
+			}
+		}
+		return items;
+	}
+
 	/**
 	 * Attempt to cache an object, afterQuery loading from the database.
 	 *
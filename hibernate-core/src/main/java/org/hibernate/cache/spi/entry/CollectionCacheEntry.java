@@ -30,7 +30,13 @@ public class CollectionCacheEntry implements Serializable {
 		this.state = collection.disassemble( persister );
 	}
 
-	CollectionCacheEntry(Serializable state) {
+	/**
+	 * Constructs a CollectionCacheEntry from state which was already disassembled,
+	 * for example when reading back a serialized cache entry.
+	 *
+	 * @param state The disassembled collection state
+	 */
+	public CollectionCacheEntry(Serializable state) {
 		this.state = state;
 	}
 
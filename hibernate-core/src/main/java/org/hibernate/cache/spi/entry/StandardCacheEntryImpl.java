@@ -58,14 +58,20 @@ public class StandardCacheEntryImpl implements CacheEntry {
 		this.version = version;
 	}
 
-	StandardCacheEntryImpl(Serializable[] disassembledState, String subclass, Object version) {
+	/**
+	 * Constructs a StandardCacheEntryImpl from state which was already disassembled,
+	 * for example when reading back a serialized cache entry.
+	 *
+	 * @param disassembledState The disassembled state
+	 * @param subclass The entity name
+	 * @param version The current version (if versioned)
+	 */
+	public StandardCacheEntryImpl(Serializable[] disassembledState, String subclass, Object version) {
 		this.disassembledState = disassembledState;
 		this.subclass = subclass;
 		this.version = version;
 	}
 
-
-
 	@Override
 	public boolean isReferenceEntry() {
 		return false;
@@ -7,8 +7,10 @@
 package org.hibernate.cache.spi.support;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
@@ -18,6 +20,7 @@ import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.CollectionHelper;
 
 import org.jboss.logging.Logger;
 
@@ -99,6 +102,36 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		}
 	}
 
+	/**
+	 * Like {@link #get}, but for several keys, which are retrieved from the
+	 * underlying cache all at once.
+	 */
+	@Override
+	public Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		if ( log.isDebugEnabled() ) {
+			log.debugf( "Getting cached data from region [`%s` (%s)] by keys %s", getRegion().getName(), getAccessType(), keys );
+		}
+		try {
+			readLock.lock();
+			final Map<Object, Object> items = getStorageAccess().getAllFromCache( keys, session );
+			final Map<Object, Object> values = CollectionHelper.mapOfSize( items.size() );
+			final long timestamp = session.getCacheTransactionSynchronization().getCachingTimestamp();
+			for ( Map.Entry<Object, Object> entry : items.entrySet() ) {
+				final Lockable item = (Lockable) entry.getValue();
+				if ( item != null && item.isReadable( timestamp ) ) {
+					values.put( entry.getKey(), item.getValue() );
+				}
+			}
+			if ( log.isDebugEnabled() ) {
+				log.debugf( "Cache hits : region = `%s`, %s of %s keys", getRegion().getName(), values.size(), keys.size() );
+			}
+			return values;
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
 	@Override
 	public boolean putFromLoad(
 			SharedSessionContractImplementor session,
@@ -285,6 +318,14 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 			this.timestamp = timestamp;
 		}
 
+		Object getVersion() {
+			return version;
+		}
+
+		long getTimestamp() {
+			return timestamp;
+		}
+
 		@Override
 		public boolean isReadable(long txTimestamp) {
 			if ( log.isDebugEnabled() ) {
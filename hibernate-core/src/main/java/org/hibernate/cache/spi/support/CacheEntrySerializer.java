@@ -0,0 +1,48 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.spi.support;
+
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * Converts the values stored in cache regions, that is, entity and collection cache
+ * entries, the read-write wrappers around them, query results, and timestamps, to and
+ * from byte arrays, for {@link StorageAccess} implementations which store bytes rather
+ * than objects, for example, off-heap or distributed caches.
+ *
+ * @see CompactCacheEntrySerializer
+ * @see JavaCacheEntrySerializer
+ * @see org.hibernate.cfg.CacheSettings#CACHE_ENTRY_SERIALIZER
+ *
+ * @since 6.6
+ */
+@Incubating
+public interface CacheEntrySerializer {
+	/**
+	 * Called by the region factory, before any value is serialized, with the session
+	 * factory whose cache entries are serialized, allowing the serializer to take the
+	 * mapping model into account.
+	 */
+	default void prepare(SessionFactoryImplementor sessionFactory) {
+	}
+
+	/**
+	 * Convert the given cached value to bytes.
+	 *
+	 * @return the serialized form of the value, or {@code null} if the value
+	 *         can't be serialized, in which case it should not be cached
+	 */
+	byte[] serialize(Object value);
+
+	/**
+	 * Read back a value from the bytes produced by {@link #serialize}.
+	 *
+	 * @throws org.hibernate.type.SerializationException if the value can't be read back
+	 */
+	Object deserialize(byte[] data);
+}
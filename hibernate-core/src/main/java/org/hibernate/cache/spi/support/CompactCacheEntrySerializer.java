@@ -0,0 +1,619 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.spi.support;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.cache.spi.entry.CollectionCacheEntry;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.SerializationException;
+import org.hibernate.type.Type;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
+
+/**
+ * A {@link CacheEntrySerializer} producing a compact binary encoding of cache entries,
+ * which avoids the class descriptors and object headers written by Java serialization:
+ * <ul>
+ *     <li>the disassembled state of {@link StandardCacheEntryImpl entity} and
+ *         {@link CollectionCacheEntry collection} cache entries, and the
+ *         {@link AbstractReadWriteAccess.Item read-write} wrappers around them, are
+ *         written field by field,
+ *     <li>values of the common basic types are written with a one-byte type tag, with
+ *         integral numbers written as variable-length integers,
+ *     <li>entity names are written as indexes into the sorted entity names of the
+ *         mapping model, and
+ *     <li>anything else falls back to Java serialization.
+ * </ul>
+ * <p>
+ * Once {@linkplain #prepare prepared} with a session factory, the values of the basic
+ * attributes of entities are only written behind a type tag when the attribute has no
+ * converter, and when the value is exactly of the Java type of the {@link BasicType}
+ * of the attribute. Any other value, for example, of a subtype, is written with Java
+ * serialization, which preserves it exactly. Values of other attributes, for example,
+ * the identifiers of associated entities and the values of embeddables, and all values
+ * when the serializer is not prepared, are tagged by their runtime class.
+ * <p>
+ * The entity name dictionary is derived from the mapping model alone, so the bytes
+ * written by one JVM may be read back by another one with the same mappings. A hash of
+ * the dictionary is written with every value, and a value written with a different
+ * dictionary is rejected. Entity names which are not part of the dictionary, or which
+ * are written by a serializer which was not prepared, are written inline.
+ *
+ * @since 6.6
+ */
+public class CompactCacheEntrySerializer implements CacheEntrySerializer {
+	public static final String SHORT_NAME = "compact";
+
+	private static final byte FORMAT_VERSION = 2;
+
+	private static final byte NULL = 0;
+	private static final byte TRUE = 1;
+	private static final byte FALSE = 2;
+	private static final byte INTEGER = 3;
+	private static final byte LONG = 4;
+	private static final byte SHORT = 5;
+	private static final byte BYTE = 6;
+	private static final byte DOUBLE = 7;
+	private static final byte FLOAT = 8;
+	private static final byte CHARACTER = 9;
+	private static final byte STRING = 10;
+	private static final byte BIG_DECIMAL = 11;
+	private static final byte BIG_INTEGER = 12;
+	private static final byte UUID_VALUE = 13;
+	private static final byte BYTES = 14;
+	private static final byte LOCAL_DATE = 15;
+	private static final byte LOCAL_TIME = 16;
+	private static final byte LOCAL_DATE_TIME = 17;
+	private static final byte INSTANT = 18;
+	private static final byte DATE = 19;
+	private static final byte SQL_DATE = 20;
+	private static final byte SQL_TIME = 21;
+	private static final byte SQL_TIMESTAMP = 22;
+	private static final byte SERIALIZABLE_ARRAY = 23;
+	private static final byte OBJECT_ARRAY = 24;
+	private static final byte UNFETCHED_PROPERTY = 25;
+	private static final byte ENTITY_ENTRY = 26;
+	private static final byte COLLECTION_ENTRY = 27;
+	private static final byte READ_WRITE_ITEM = 28;
+	private static final byte JAVA_SERIALIZED = 127;
+
+	private volatile MappingModel mappingModel = MappingModel.NONE;
+
+	@Override
+	public void prepare(SessionFactoryImplementor sessionFactory) {
+		final MappingMetamodelImplementor metamodel = sessionFactory.getMappingMetamodel();
+		if ( mappingModel.metamodel != metamodel ) {
+			mappingModel = new MappingModel( metamodel );
+		}
+	}
+
+	@Override
+	public byte[] serialize(Object value) {
+		final MappingModel mappingModel = this.mappingModel;
+		final Output output = new Output( mappingModel );
+		output.writeByte( FORMAT_VERSION );
+		output.writeFixedLong( mappingModel.fingerprint, 4 );
+		try {
+			write( value, output );
+		}
+		catch (SerializationException e) {
+			L2CACHE_LOGGER.debug( "Unable to serialize cached value", e );
+			return null;
+		}
+		return output.toByteArray();
+	}
+
+	@Override
+	public Object deserialize(byte[] data) {
+		try {
+			final Input input = new Input( data );
+			final byte version = input.readByte();
+			if ( version != FORMAT_VERSION ) {
+				throw new SerializationException( "Unsupported cache entry format version: " + version, null );
+			}
+			final int fingerprint = (int) input.readFixedLong( 4 );
+			input.mappingModel = fingerprint == mappingModel.fingerprint ? mappingModel : null;
+			final Object value = read( input );
+			if ( input.position != data.length ) {
+				throw new SerializationException( "Unexpected trailing bytes in cache entry", null );
+			}
+			return value;
+		}
+		catch (SerializationException e) {
+			throw e;
+		}
+		catch (RuntimeException e) {
+			// truncated or corrupted data
+			throw new SerializationException( "Malformed cache entry", e );
+		}
+	}
+
+	private void write(Object value, Output output) {
+		if ( value == null ) {
+			output.writeByte( NULL );
+			return;
+		}
+		else if ( value == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+			output.writeByte( UNFETCHED_PROPERTY );
+			return;
+		}
+
+		final Class<?> type = value.getClass();
+		if ( type == String.class ) {
+			output.writeByte( STRING );
+			output.writeString( (String) value );
+		}
+		else if ( type == Integer.class ) {
+			output.writeByte( INTEGER );
+			output.writeSignedVarLong( (Integer) value );
+		}
+		else if ( type == Long.class ) {
+			output.writeByte( LONG );
+			output.writeSignedVarLong( (Long) value );
+		}
+		else if ( type == Boolean.class ) {
+			output.writeByte( (Boolean) value ? TRUE : FALSE );
+		}
+		else if ( type == Short.class ) {
+			output.writeByte( SHORT );
+			output.writeSignedVarLong( (Short) value );
+		}
+		else if ( type == Byte.class ) {
+			output.writeByte( BYTE );
+			output.writeByte( (Byte) value );
+		}
+		else if ( type == Double.class ) {
+			output.writeByte( DOUBLE );
+			output.writeFixedLong( Double.doubleToRawLongBits( (Double) value ), 8 );
+		}
+		else if ( type == Float.class ) {
+			output.writeByte( FLOAT );
+			output.writeFixedLong( Float.floatToRawIntBits( (Float) value ), 4 );
+		}
+		else if ( type == Character.class ) {
+			output.writeByte( CHARACTER );
+			output.writeVarLong( (Character) value );
+		}
+		else if ( type == BigDecimal.class ) {
+			final BigDecimal decimal = (BigDecimal) value;
+			output.writeByte( BIG_DECIMAL );
+			output.writeSignedVarLong( decimal.scale() );
+			output.writeBytes( decimal.unscaledValue().toByteArray() );
+		}
+		else if ( type == BigInteger.class ) {
+			output.writeByte( BIG_INTEGER );
+			output.writeBytes( ( (BigInteger) value ).toByteArray() );
+		}
+		else if ( type == UUID.class ) {
+			final UUID uuid = (UUID) value;
+			output.writeByte( UUID_VALUE );
+			output.writeFixedLong( uuid.getMostSignificantBits(), 8 );
+			output.writeFixedLong( uuid.getLeastSignificantBits(), 8 );
+		}
+		else if ( type == byte[].class ) {
+			output.writeByte( BYTES );
+			output.writeBytes( (byte[]) value );
+		}
+		else if ( type == LocalDate.class ) {
+			output.writeByte( LOCAL_DATE );
+			output.writeSignedVarLong( ( (LocalDate) value ).toEpochDay() );
+		}
+		else if ( type == LocalTime.class ) {
+			output.writeByte( LOCAL_TIME );
+			output.writeVarLong( ( (LocalTime) value ).toNanoOfDay() );
+		}
+		else if ( type == LocalDateTime.class ) {
+			final LocalDateTime dateTime = (LocalDateTime) value;
+			output.writeByte( LOCAL_DATE_TIME );
+			output.writeSignedVarLong( dateTime.toLocalDate().toEpochDay() );
+			output.writeVarLong( dateTime.toLocalTime().toNanoOfDay() );
+		}
+		else if ( type == Instant.class ) {
+			final Instant instant = (Instant) value;
+			output.writeByte( INSTANT );
+			output.writeSignedVarLong( instant.getEpochSecond() );
+			output.writeVarLong( instant.getNano() );
+		}
+		else if ( type == Date.class ) {
+			output.writeByte( DATE );
+			output.writeSignedVarLong( ( (Date) value ).getTime() );
+		}
+		else if ( type == java.sql.Date.class ) {
+			output.writeByte( SQL_DATE );
+			output.writeSignedVarLong( ( (java.sql.Date) value ).getTime() );
+		}
+		else if ( type == java.sql.Time.class ) {
+			output.writeByte( SQL_TIME );
+			output.writeSignedVarLong( ( (java.sql.Time) value ).getTime() );
+		}
+		else if ( type == java.sql.Timestamp.class ) {
+			final java.sql.Timestamp timestamp = (java.sql.Timestamp) value;
+			output.writeByte( SQL_TIMESTAMP );
+			output.writeSignedVarLong( timestamp.getTime() );
+			output.writeVarLong( timestamp.getNanos() );
+		}
+		else if ( type == Serializable[].class ) {
+			output.writeByte( SERIALIZABLE_ARRAY );
+			writeArray( (Object[]) value, output );
+		}
+		else if ( type == Object[].class ) {
+			output.writeByte( OBJECT_ARRAY );
+			writeArray( (Object[]) value, output );
+		}
+		else if ( type == StandardCacheEntryImpl.class ) {
+			final StandardCacheEntryImpl entry = (StandardCacheEntryImpl) value;
+			output.writeByte( ENTITY_ENTRY );
+			writeEntityName( entry.getSubclass(), output );
+			write( entry.getVersion(), output );
+			writeEntityState( entry.getDisassembledState(), entry.getSubclass(), output );
+		}
+		else if ( type == CollectionCacheEntry.class ) {
+			output.writeByte( COLLECTION_ENTRY );
+			write( ( (CollectionCacheEntry) value ).getState(), output );
+		}
+		else if ( type == AbstractReadWriteAccess.Item.class ) {
+			final AbstractReadWriteAccess.Item item = (AbstractReadWriteAccess.Item) value;
+			output.writeByte( READ_WRITE_ITEM );
+			write( item.getValue(), output );
+			write( item.getVersion(), output );
+			output.writeSignedVarLong( item.getTimestamp() );
+		}
+		else {
+			writeJavaSerialized( value, output );
+		}
+	}
+
+	private void writeJavaSerialized(Object value, Output output) {
+		if ( value instanceof Serializable ) {
+			output.writeByte( JAVA_SERIALIZED );
+			output.writeBytes( SerializationHelper.serialize( (Serializable) value ) );
+		}
+		else {
+			throw new SerializationException( "Cached value is not serializable: " + value.getClass().getName(), null );
+		}
+	}
+
+	private void writeEntityState(Serializable[] state, String entityName, Output output) {
+		final EntityPersister persister = output.mappingModel.findEntityDescriptor( entityName );
+		final Type[] types = persister == null ? null : persister.getPropertyTypes();
+		if ( types == null || types.length != state.length ) {
+			writeArray( state, output );
+		}
+		else {
+			output.writeVarLong( state.length );
+			for ( int i = 0; i < state.length; i++ ) {
+				if ( isTaggable( state[i], types[i] ) ) {
+					write( state[i], output );
+				}
+				else {
+					writeJavaSerialized( state[i], output );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Whether the given value of an attribute of the given type may be written behind
+	 * a type tag: a value of a basic attribute only may if the attribute has no converter,
+	 * and if the value is exactly of the Java type of the attribute.
+	 */
+	private static boolean isTaggable(Object value, Type type) {
+		if ( value == null || value == LazyPropertyInitializer.UNFETCHED_PROPERTY
+				|| !( type instanceof BasicType<?> ) ) {
+			return true;
+		}
+		else {
+			final BasicType<?> basicType = (BasicType<?>) type;
+			return basicType.getValueConverter() == null
+				&& basicType.getJavaTypeDescriptor().getJavaTypeClass() == value.getClass();
+		}
+	}
+
+	private void writeEntityName(String entityName, Output output) {
+		final Integer index = output.mappingModel.entityNameIndexes.get( entityName );
+		if ( index == null ) {
+			output.writeVarLong( 0 );
+			output.writeString( entityName );
+		}
+		else {
+			output.writeVarLong( index + 1 );
+		}
+	}
+
+	private String readEntityName(Input input) {
+		final int index = (int) input.readVarLong();
+		if ( index == 0 ) {
+			return input.readString();
+		}
+		else if ( input.mappingModel == null ) {
+			throw new SerializationException( "Cache entry was written with different entity mappings", null );
+		}
+		else {
+			return input.mappingModel.entityNames[index - 1];
+		}
+	}
+
+	private void writeArray(Object[] array, Output output) {
+		output.writeVarLong( array.length );
+		for ( Object element : array ) {
+			write( element, output );
+		}
+	}
+
+	private Object read(Input input) {
+		final byte tag = input.readByte();
+		switch ( tag ) {
+			case NULL:
+				return null;
+			case TRUE:
+				return Boolean.TRUE;
+			case FALSE:
+				return Boolean.FALSE;
+			case INTEGER:
+				return (int) input.readSignedVarLong();
+			case LONG:
+				return input.readSignedVarLong();
+			case SHORT:
+				return (short) input.readSignedVarLong();
+			case BYTE:
+				return input.readByte();
+			case DOUBLE:
+				return Double.longBitsToDouble( input.readFixedLong( 8 ) );
+			case FLOAT:
+				return Float.intBitsToFloat( (int) input.readFixedLong( 4 ) );
+			case CHARACTER:
+				return (char) input.readVarLong();
+			case STRING:
+				return input.readString();
+			case BIG_DECIMAL: {
+				final int scale = (int) input.readSignedVarLong();
+				return new BigDecimal( new BigInteger( input.readBytes() ), scale );
+			}
+			case BIG_INTEGER:
+				return new BigInteger( input.readBytes() );
+			case UUID_VALUE:
+				return new UUID( input.readFixedLong( 8 ), input.readFixedLong( 8 ) );
+			case BYTES:
+				return input.readBytes();
+			case LOCAL_DATE:
+				return LocalDate.ofEpochDay( input.readSignedVarLong() );
+			case LOCAL_TIME:
+				return LocalTime.ofNanoOfDay( input.readVarLong() );
+			case LOCAL_DATE_TIME: {
+				final LocalDate date = LocalDate.ofEpochDay( input.readSignedVarLong() );
+				return LocalDateTime.of( date, LocalTime.ofNanoOfDay( input.readVarLong() ) );
+			}
+			case INSTANT: {
+				final long epochSecond = input.readSignedVarLong();
+				return Instant.ofEpochSecond( epochSecond, input.readVarLong() );
+			}
+			case DATE:
+				return new Date( input.readSignedVarLong() );
+			case SQL_DATE:
+				return new java.sql.Date( input.readSignedVarLong() );
+			case SQL_TIME:
+				return new java.sql.Time( input.readSignedVarLong() );
+			case SQL_TIMESTAMP: {
+				final java.sql.Timestamp timestamp = new java.sql.Timestamp( input.readSignedVarLong() );
+				timestamp.setNanos( (int) input.readVarLong() );
+				return timestamp;
+			}
+			case SERIALIZABLE_ARRAY:
+				return readArray( new Serializable[input.readLength()], input );
+			case OBJECT_ARRAY:
+				return readArray( new Object[input.readLength()], input );
+			case UNFETCHED_PROPERTY:
+				return LazyPropertyInitializer.UNFETCHED_PROPERTY;
+			case ENTITY_ENTRY: {
+				final String subclass = readEntityName( input );
+				final Object version = read( input );
+				final Serializable[] state = readArray( new Serializable[input.readLength()], input );
+				return new StandardCacheEntryImpl( state, subclass, version );
+			}
+			case COLLECTION_ENTRY:
+				return new CollectionCacheEntry( (Serializable) read( input ) );
+			case READ_WRITE_ITEM: {
+				final Object value = read( input );
+				final Object version = read( input );
+				return new AbstractReadWriteAccess.Item( value, version, input.readSignedVarLong() );
+			}
+			case JAVA_SERIALIZED:
+				return SerializationHelper.deserialize( input.readBytes() );
+			default:
+				throw new SerializationException( "Unknown cache entry type tag: " + tag, null );
+		}
+	}
+
+	private <T> T[] readArray(T[] array, Input input) {
+		for ( int i = 0; i < array.length; i++ ) {
+			//noinspection unchecked
+			array[i] = (T) read( input );
+		}
+		return array;
+	}
+
+	/**
+	 * The mapping model of a session factory, with its entity names in a deterministic order.
+	 */
+	private static final class MappingModel {
+		private static final MappingModel NONE = new MappingModel();
+
+		private final MappingMetamodelImplementor metamodel;
+		private final String[] entityNames;
+		private final Map<String, Integer> entityNameIndexes;
+		private final int fingerprint;
+
+		private MappingModel() {
+			metamodel = null;
+			entityNames = new String[0];
+			entityNameIndexes = Map.of();
+			fingerprint = 0;
+		}
+
+		private MappingModel(MappingMetamodelImplementor metamodel) {
+			this.metamodel = metamodel;
+			final List<String> names = new ArrayList<>();
+			metamodel.forEachEntityDescriptor( persister -> names.add( persister.getEntityName() ) );
+			names.sort( null );
+			entityNames = names.toArray( new String[0] );
+			entityNameIndexes = new HashMap<>( entityNames.length * 2 );
+			for ( int i = 0; i < entityNames.length; i++ ) {
+				entityNameIndexes.put( entityNames[i], i );
+			}
+			fingerprint = Arrays.hashCode( entityNames );
+		}
+
+		private EntityPersister findEntityDescriptor(String entityName) {
+			return metamodel == null ? null : metamodel.findEntityDescriptor( entityName );
+		}
+	}
+
+	private static final class Output {
+		private final MappingModel mappingModel;
+		private byte[] bytes = new byte[64];
+		private int size;
+
+		Output(MappingModel mappingModel) {
+			this.mappingModel = mappingModel;
+		}
+
+		private void ensureCapacity(int additional) {
+			if ( size + additional > bytes.length ) {
+				bytes = Arrays.copyOf( bytes, Math.max( bytes.length << 1, size + additional ) );
+			}
+		}
+
+		void writeByte(int value) {
+			ensureCapacity( 1 );
+			bytes[size++] = (byte) value;
+		}
+
+		void writeVarLong(long value) {
+			ensureCapacity( 10 );
+			while ( ( value & ~0x7FL ) != 0 ) {
+				bytes[size++] = (byte) ( ( value & 0x7F ) | 0x80 );
+				value >>>= 7;
+			}
+			bytes[size++] = (byte) value;
+		}
+
+		void writeSignedVarLong(long value) {
+			// zig-zag encoding keeps small negative numbers short
+			writeVarLong( ( value << 1 ) ^ ( value >> 63 ) );
+		}
+
+		void writeFixedLong(long value, int length) {
+			ensureCapacity( length );
+			for ( int i = length - 1; i >= 0; i-- ) {
+				bytes[size++] = (byte) ( value >>> ( i << 3 ) );
+			}
+		}
+
+		void writeBytes(byte[] value) {
+			writeVarLong( value.length );
+			ensureCapacity( value.length );
+			System.arraycopy( value, 0, bytes, size, value.length );
+			size += value.length;
+		}
+
+		void writeString(String value) {
+			writeBytes( value.getBytes( UTF_8 ) );
+		}
+
+		byte[] toByteArray() {
+			return Arrays.copyOf( bytes, size );
+		}
+	}
+
+	private static final class Input {
+		private final byte[] bytes;
+		private int position;
+		// null if the value was written with a different entity name dictionary
+		private MappingModel mappingModel;
+
+		Input(byte[] bytes) {
+			this.bytes = bytes;
+		}
+
+		byte readByte() {
+			return bytes[position++];
+		}
+
+		long readVarLong() {
+			long value = 0;
+			int shift = 0;
+			byte current;
+			do {
+				current = bytes[position++];
+				value |= (long) ( current & 0x7F ) << shift;
+				shift += 7;
+			}
+			while ( current < 0 );
+			return value;
+		}
+
+		long readSignedVarLong() {
+			final long value = readVarLong();
+			return ( value >>> 1 ) ^ -( value & 1 );
+		}
+
+		long readFixedLong(int length) {
+			long value = 0;
+			for ( int i = 0; i < length; i++ ) {
+				value = ( value << 8 ) | ( bytes[position++] & 0xFF );
+			}
+			return value;
+		}
+
+		/**
+		 * Reads the length of a byte sequence or an array, which can never exceed the
+		 * number of remaining bytes, since every array element takes at least one byte.
+		 */
+		int readLength() {
+			final long length = readVarLong();
+			if ( length < 0 || length > bytes.length - position ) {
+				throw new SerializationException( "Invalid length in cache entry: " + length, null );
+			}
+			return (int) length;
+		}
+
+		byte[] readBytes() {
+			final int length = readLength();
+			final byte[] value = Arrays.copyOfRange( bytes, position, position + length );
+			position += length;
+			return value;
+		}
+
+		String readString() {
+			final int length = readLength();
+			final String value = new String( bytes, position, length, UTF_8 );
+			position += length;
+			return value;
+		}
+	}
+}
@@ -0,0 +1,49 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.spi.support;
+
+import java.io.Serializable;
+
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.type.SerializationException;
+
+import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
+
+/**
+ * A {@link CacheEntrySerializer} based on Java serialization.
+ *
+ * @since 6.6
+ */
+public class JavaCacheEntrySerializer implements CacheEntrySerializer {
+	public static final String SHORT_NAME = "java";
+
+	/**
+	 * Singleton access
+	 */
+	public static final JavaCacheEntrySerializer INSTANCE = new JavaCacheEntrySerializer();
+
+	@Override
+	public byte[] serialize(Object value) {
+		if ( value instanceof Serializable ) {
+			try {
+				return SerializationHelper.serialize( (Serializable) value );
+			}
+			catch (SerializationException e) {
+				L2CACHE_LOGGER.debug( "Unable to serialize cached value", e );
+				return null;
+			}
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public Object deserialize(byte[] data) {
+		return SerializationHelper.deserialize( data );
+	}
+}
@@ -6,7 +6,11 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.CollectionHelper;
 
 /**
  * A general read/write abstraction over the specific "cache" object from the caching provider.
@@ -23,6 +27,28 @@ public interface StorageAccess {
 	 */
 	Object getFromCache(Object key, SharedSessionContractImplementor session);
 
+	/**
+	 * Get the items with the given keys from the cache.
+	 *
+	 * @implSpec The default implementation calls {@link #getFromCache} for each key.
+	 *           Implementations backed by a remote cache should override it to get
+	 *           all the items in a single round trip.
+	 *
+	 * @return The items found in the cache, by key
+	 *
+	 * @since 6.6
+	 */
+	default Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> items = CollectionHelper.mapOfSize( keys.size() );
+		for ( Object key : keys ) {
+			final Object item = getFromCache( key, session );
+			if ( item != null ) {
+				items.put( key, item );
+			}
+		}
+		return items;
+	}
+
 	/**
 	 * Put an item into the cache
 	 */
@@ -8,6 +8,7 @@ package org.hibernate.cfg;
 
 import java.sql.PreparedStatement;
 
+import org.hibernate.Incubating;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 
 /**
@@ -65,6 +66,63 @@ public interface BatchSettings {
 	 */
 	String BATCH_VERSIONED_DATA = "hibernate.jdbc.batch_versioned_data";
 
+	/**
+	 * When enabled, batched inserts are executed as a single multi-row
+	 * {@code insert into ... values (...),(...)} statement per table,
+	 * instead of a JDBC batch, if the {@linkplain org.hibernate.dialect.Dialect#supportsValuesListForInsert
+	 * dialect supports it}. This saves round trips with JDBC drivers which send
+	 * each statement of a batch separately.
+	 * <p/>
+	 * Has no effect unless {@linkplain #STATEMENT_BATCH_SIZE batching} is enabled,
+	 * nor when a custom {@linkplain #BUILDER batch builder} is used.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String BATCH_MULTI_ROW_INSERTS = "hibernate.jdbc.batch_multi_row_inserts";
+
+	/**
+	 * When enabled, a batch of statements is executed in the background, over
+	 * the same connection, while the session binds the statements of the next
+	 * batch. At most one batch is executed in the background at a time, and its
+	 * failures, including unexpected row counts, are reported when the next
+	 * batch starts executing, before any non-batched statement is executed, and
+	 * at the end of the flush at the latest.
+	 * <p/>
+	 * Only takes effect when the JDBC driver is known to support the concurrent
+	 * use of a connection by multiple threads, according to
+	 * {@link org.hibernate.dialect.Dialect#supportsConcurrentConnectionUse()}.
+	 * Only {@link java.sql.PreparedStatement#executeBatch()} is called from
+	 * another thread. Has no effect unless {@linkplain #STATEMENT_BATCH_SIZE
+	 * batching} is enabled, nor when a custom {@linkplain #BUILDER batch builder}
+	 * is used.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String BATCH_PIPELINING = "hibernate.jdbc.batch_pipelining";
+
+	/**
+	 * When set to a positive number of milliseconds, the size of the JDBC batches
+	 * of each entity and collection mutation is adapted, so that executing a batch
+	 * takes about the given time. The sizes never exceed {@link #STATEMENT_BATCH_SIZE},
+	 * which should then be set to a generous upper bound.
+	 * <p/>
+	 * The sizes currently chosen are reported by {@link org.hibernate.stat.Statistics#getJdbcBatchSizes()}.
+	 * Has no effect unless {@linkplain #STATEMENT_BATCH_SIZE batching} is enabled,
+	 * nor when a custom {@linkplain #BUILDER batch builder} is used.
+	 *
+	 * @settingDefault {@code 0}, meaning batches always have the size {@link #STATEMENT_BATCH_SIZE}
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String BATCH_TARGET_LATENCY = "hibernate.jdbc.batch_target_latency";
+
 	/**
 	 * @deprecated Use {@link #BUILDER} instead
 	 */
@@ -90,6 +90,29 @@ public interface CacheSettings {
 	@Incubating
 	String QUERY_CACHE_LAYOUT = "hibernate.cache.query_cache_layout";
 
+	/**
+	 * When enabled, updates and deletions of entities with a basic identifier
+	 * additionally record the hashed identifiers of the changed rows in the
+	 * {@linkplain org.hibernate.cache.spi.TimestampsCache timestamps cache}.
+	 * The cached results of queries which opt in using the hint
+	 * {@value org.hibernate.jpa.HibernateHints#HINT_CACHE_INVALIDATION_BY_ID}
+	 * and which select entities by identifier only are then only invalidated
+	 * by an update or deletion of one of the entities they contain, instead
+	 * of by any change to the tables they query. Insertions, collection
+	 * changes, and bulk or native mutations still invalidate every cached
+	 * result querying the affected tables.
+	 * <p>
+	 * This requires a timestamps region which never evicts entries, and
+	 * which can hold {@value org.hibernate.cache.spi.QueryResultsDependencies#ROW_BUCKETS}
+	 * additional entries for each table.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String QUERY_CACHE_INVALIDATION_BY_ID = "hibernate.cache.query_cache_invalidation_by_id";
+
 	/**
 	 * The {@link RegionFactory} implementation, either:
 	 * <ul>
@@ -218,6 +241,55 @@ public interface CacheSettings {
 	 */
 	String COLLECTION_CACHE_PREFIX = "hibernate.collectioncache";
 
+	/**
+	 * Specifies the {@link org.hibernate.cache.spi.support.CacheEntrySerializer} used by
+	 * cache providers which store cache entries as bytes, either:
+	 * <ul>
+	 *     <li>an instance of {@code CacheEntrySerializer},
+	 *     <li>a {@link Class} implementing {@code CacheEntrySerializer},
+	 *     <li>the name of a class implementing {@code CacheEntrySerializer}, or
+	 *     <li>one of the short names {@code compact} or {@code java}.
+	 * </ul>
+	 *
+	 * @settingDefault {@link org.hibernate.cache.spi.support.CompactCacheEntrySerializer}
+	 *
+	 * @see org.hibernate.cache.internal.OffHeapRegionFactory
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String CACHE_ENTRY_SERIALIZER = "hibernate.cache.entry_serializer";
+
+	/**
+	 * When the {@link org.hibernate.cache.internal.OffHeapRegionFactory} is used, the
+	 * maximum number of bytes of off-heap memory used to store the entries of a single
+	 * cache region. The budget of a particular region may be specified by appending
+	 * its name to the setting name, for example:
+	 * {@code hibernate.cache.off_heap.region_size.org.acme.Book}.
+	 * <p>
+	 * Least recently used entries are evicted to keep each region within its budget.
+	 *
+	 * @settingDefault {@code 67108864} (64 MiB)
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String OFF_HEAP_REGION_SIZE = "hibernate.cache.off_heap.region_size";
+
+	/**
+	 * When the {@link org.hibernate.cache.internal.OffHeapRegionFactory} is used, the
+	 * size in bytes of the blocks in which the off-heap memory of a region is divided.
+	 * Each cache entry occupies a whole number of blocks, so smaller blocks waste less
+	 * memory, at the cost of some additional on-heap bookkeeping per entry. Must be a
+	 * power of two.
+	 *
+	 * @settingDefault {@code 128}
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String OFF_HEAP_BLOCK_SIZE = "hibernate.cache.off_heap.block_size";
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Legacy JPA settings
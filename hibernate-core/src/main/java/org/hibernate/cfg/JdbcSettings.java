@@ -362,6 +362,26 @@ public interface JdbcSettings extends C3p0Settings, ProxoolSettings {
 	 */
 	String STATEMENT_FETCH_SIZE = "hibernate.jdbc.fetch_size";
 
+	/**
+	 * The maximum number of {@link java.sql.PreparedStatement}s kept open for
+	 * reuse by a session, per JDBC connection. A statement released by the
+	 * session is kept in a least-recently-used cache, keyed by its SQL and its
+	 * result set options, until it is prepared again, evicted, or the session
+	 * releases its JDBC connection.
+	 * <p>
+	 * Useful when neither the connection pool nor the JDBC driver caches
+	 * prepared statements. A value of {@code 0}, the default, disables the
+	 * cache.
+	 *
+	 * @settingDefault {@code 0}
+	 *
+	 * @see org.hibernate.stat.Statistics#getPreparedStatementCacheHitCount()
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String STATEMENT_CACHE_SIZE = "hibernate.jdbc.statement_cache_size";
+
 	/**
 	 * Controls how Hibernate should handle scrollable results - <ul>
 	 * 	 <li>
@@ -452,6 +472,23 @@ public interface JdbcSettings extends C3p0Settings, ProxoolSettings {
 	 */
 	String USE_GET_GENERATED_KEYS = "hibernate.jdbc.use_get_generated_keys";
 
+	/**
+	 * The maximum number of threads of each session factory running JDBC work in the
+	 * background, that is, fetching identifier blocks ahead of time for a
+	 * {@linkplain org.hibernate.id.enhanced.TableGenerator#PREFETCH_LOW_WATERMARK_PARAM
+	 * table generator}, and executing {@linkplain BatchSettings#BATCH_PIPELINING pipelined}
+	 * JDBC batches. Further work waits for a thread to become available.
+	 * <p>
+	 * The threads are only started when needed, and stopped when the session factory
+	 * is closed.
+	 *
+	 * @settingDefault The number of available processors
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String BACKGROUND_THREADS = "hibernate.jdbc.background_threads";
+
 	/**
 	 * Specifies how Hibernate should manage JDBC connections in terms of acquisition
 	 * and release, either:
@@ -161,6 +161,41 @@ public interface PersistenceSettings {
 	 */
 	String SESSION_FACTORY_OBSERVER = "hibernate.session_factory_observer";
 
+	/**
+	 * When enabled, the persistence context maintains, for each entity type with a
+	 * {@code Long} or {@code Integer} identifier, an index keyed directly by the
+	 * primitive identifier value. Entity lookups by {@link org.hibernate.engine.spi.EntityKey}
+	 * for such types then avoid hashing and comparing identifiers through their
+	 * {@link org.hibernate.type.Type}, which pays off for sessions holding very many
+	 * entities, at the cost of some additional memory per managed entity.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String PRIMITIVE_IDENTIFIER_INDEX = "hibernate.persistence_context.primitive_identifier_index";
+
+	/**
+	 * The minimum number of entities a persistence context must hold for the state
+	 * of its managed entities to be read and dirty-checked in parallel at flush time.
+	 * The parallel phase only covers entities whose dirty check involves nothing but
+	 * reading attribute values and comparing basic values. All remaining work, including
+	 * the scheduling of the resulting actions, still happens sequentially, in the usual
+	 * order.
+	 * <p>
+	 * Enabling this requires that the getters and fields of entities are free of side
+	 * effects. Dirty checking is never done in parallel when an interceptor, a custom
+	 * flush entity event listener, or a {@link jakarta.persistence.PreUpdate} callback
+	 * might modify the state of other entities during flush.
+	 *
+	 * @settingDefault {@code 0}, meaning that dirty checking is never done in parallel
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String PARALLEL_DIRTY_CHECKING_THRESHOLD = "hibernate.flush.parallel_dirty_checking_threshold";
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Legacy JPA settings
@@ -6,6 +6,7 @@
  */
 package org.hibernate.cfg;
 
+import org.hibernate.Incubating;
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.query.NullPrecedence;
 import org.hibernate.query.spi.QueryPlan;
@@ -199,6 +200,32 @@ public interface QuerySettings {
 	 */
 	String IN_CLAUSE_PARAMETER_PADDING = "hibernate.query.in_clause_parameter_padding";
 
+	/**
+	 * When enabled, specifies that a parameter occurring alone in a SQL {@code IN}
+	 * predicate, as in {@code where id in :ids}, is bound as a single SQL array
+	 * instead of being expanded to one bind parameter per argument. The predicate
+	 * is rendered as {@code id = any(?)} on PostgreSQL, and as the equivalent
+	 * array predicate on other databases.
+	 * <p>
+	 * The SQL statement is then the same whatever the number of arguments, and so
+	 * the query plan may be cached in the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query
+	 * interpretation cache}, and the prepared statement reused by the database.
+	 * <p>
+	 * This setting only has an effect if the dialect
+	 * {@linkplain org.hibernate.dialect.Dialect#useArrayForMultiValuedParameters
+	 * prefers arrays for multi-valued parameters}, and only applies to parameters
+	 * compared with a basic value.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see #IN_CLAUSE_PARAMETER_PADDING
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String IN_CLAUSE_PARAMETER_ARRAY = "hibernate.query.in_clause_parameter_array";
+
 	/**
 	 * When enabled, specifies that Hibernate should attempt to map parameter names
 	 * given in a {@link org.hibernate.procedure.ProcedureCall} or
@@ -233,6 +260,24 @@ public interface QuerySettings {
 	 */
 	String QUERY_PLAN_CACHE_MAX_SIZE = "hibernate.query.plan_cache_max_size";
 
+	/**
+	 * The path of a file to which the query strings of the HQL interpretations
+	 * held by the {@linkplain org.hibernate.query.spi.QueryInterpretationCache
+	 * query interpretation cache} are saved when the {@code SessionFactory} is
+	 * closed. When the next {@code SessionFactory} is created, those queries are
+	 * interpreted again before the first one is executed.
+	 * <p>
+	 * The snapshot is ignored if it was saved with a different mapping model.
+	 * It may be produced at build time, for example by running the tests of the
+	 * application, and packaged with the application.
+	 *
+	 * @settingDefault no snapshot
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String QUERY_PLAN_CACHE_SNAPSHOT = "hibernate.query.plan_cache_snapshot";
+
 	/**
 	 * The maximum number of {@link org.hibernate.query.ParameterMetadata} instances
 	 * maintained by the {@link org.hibernate.query.spi.QueryInterpretationCache}.
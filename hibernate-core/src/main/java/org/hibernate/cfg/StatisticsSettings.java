@@ -6,6 +6,7 @@
  */
 package org.hibernate.cfg;
 
+import org.hibernate.Incubating;
 import org.hibernate.stat.spi.StatisticsFactory;
 
 /**
@@ -43,4 +44,20 @@ public interface StatisticsSettings {
 	 * @see org.hibernate.stat.Statistics#getQueries()
 	 */
 	String QUERY_STATISTICS_MAX_SIZE = "hibernate.statistics.query_max_size";
+
+	/**
+	 * When enabled, and unless a {@linkplain #STATS_BUILDER custom factory} is specified,
+	 * the {@link org.hibernate.stat.Statistics} also keep a
+	 * {@linkplain org.hibernate.stat.ExecutionTimeHistogram histogram} of the execution
+	 * times of each query and of the natural id lookups of each entity, from which the
+	 * percentiles of these execution times may be obtained.
+	 * <p>
+	 * The statistics are then an instance of {@link org.hibernate.stat.HistogramStatistics}.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String STATISTICS_HISTOGRAMS = "hibernate.statistics.histograms";
 }
@@ -1681,6 +1681,35 @@ public abstract class Dialect implements ConversionContext, TypeContributor, Fun
 		return true;
 	}
 
+	/**
+	 * The JDBC fetch size to use when the results of a query are
+	 * {@linkplain org.hibernate.query.SelectionQuery#stream() streamed},
+	 * and no fetch size was specified for the query, nor using the
+	 * configuration property {@value org.hibernate.cfg.Environment#STATEMENT_FETCH_SIZE}.
+	 *
+	 * @return the fetch size, or {@code 0} to use the default of the driver
+	 *
+	 * @since 6.6
+	 */
+	public int getDefaultStreamFetchSize() {
+		return 0;
+	}
+
+	/**
+	 * Does the JDBC driver support the concurrent use of a single connection by
+	 * multiple threads, each executing its own statements? This is required to
+	 * execute a JDBC batch in the background while the next one is prepared.
+	 *
+	 * @return {@code true} if the driver is known to support it
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_PIPELINING
+	 *
+	 * @since 6.6
+	 */
+	public boolean supportsConcurrentConnectionUse() {
+		return false;
+	}
+
 	@Override
 	public String toString() {
 		return getClass().getName() + ", version: " + getVersion();
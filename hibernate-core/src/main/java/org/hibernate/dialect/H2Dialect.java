@@ -183,6 +183,12 @@ public class H2Dialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean supportsConcurrentConnectionUse() {
+		// the driver serializes the executions on a session
+		return true;
+	}
+
 	@Override
 	public boolean useArrayForMultiValuedParameters() {
 		// Performance is worse than the in-predicate version
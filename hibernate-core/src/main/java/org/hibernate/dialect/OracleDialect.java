@@ -806,6 +806,12 @@ public class OracleDialect extends Dialect {
 		return 15;
 	}
 
+	@Override
+	public int getDefaultStreamFetchSize() {
+		// the driver fetches 10 rows at a time by default
+		return 100;
+	}
+
 	@Override
 	public boolean getDefaultUseGetGeneratedKeys() {
 		// Oracle driver reports to support getGeneratedKeys(), but they only
@@ -306,6 +306,18 @@ public class PostgreSQLDialect extends Dialect {
 		return 15;
 	}
 
+	@Override
+	public int getDefaultStreamFetchSize() {
+		// the driver reads all rows unless a fetch size is set
+		return 1000;
+	}
+
+	@Override
+	public boolean supportsConcurrentConnectionUse() {
+		// the driver serializes the executions on a connection
+		return true;
+	}
+
 	@Override
 	public JdbcType resolveSqlTypeDescriptor(
 			String columnTypeName,
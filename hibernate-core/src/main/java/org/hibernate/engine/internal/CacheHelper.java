@@ -6,6 +6,9 @@
  */
 package org.hibernate.engine.internal;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.hibernate.cache.MutableCacheKeyBuilder;
 import org.hibernate.cache.spi.access.CachedDomainDataAccess;
 import org.hibernate.engine.spi.SessionEventListenerManager;
@@ -63,6 +66,39 @@ public final class CacheHelper {
 		return cachedValue;
 	}
 
+	/**
+	 * Get the cached data of several entities in a single round trip to the cache.
+	 *
+	 * @return The cached data, by cache key, without the keys which were not found
+	 */
+	public static Map<Object, Object> fromSharedCache(
+			SharedSessionContractImplementor session,
+			Collection<?> cacheKeys,
+			EntityPersister persister,
+			CachedDomainDataAccess cacheAccess) {
+		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+		Map<Object, Object> cachedValues = null;
+		eventListenerManager.cacheGetStart();
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent cacheGetEvent = eventManager.beginCacheGetEvent();
+		try {
+			cachedValues = cacheAccess.getAll( session, cacheKeys );
+		}
+		finally {
+			final boolean hit = cachedValues != null && !cachedValues.isEmpty();
+			eventManager.completeCacheGetEvent(
+					cacheGetEvent,
+					session,
+					cacheAccess.getRegion(),
+					persister,
+					false,
+					hit
+			);
+			eventListenerManager.cacheGetEnd( hit );
+		}
+		return cachedValues;
+	}
+
 	public static Object fromSharedCache(
 			SharedSessionContractImplementor session,
 			Object cacheKey,
@@ -12,7 +12,6 @@ import org.hibernate.action.internal.DelayedPostInsertIdentifier;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.spi.CollectionEntry;
 import org.hibernate.engine.spi.EntityEntry;
-import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
@@ -82,8 +81,7 @@ public final class Collections {
 					throw new AssertionFailure( "Unable to determine collection owner identifier for orphan-delete processing" );
 				}
 			}
-			final EntityKey key = session.generateEntityKey( ownerId, loadedPersister.getOwnerEntityPersister() );
-			final Object owner = persistenceContext.getEntity( key );
+			final Object owner = persistenceContext.getEntity( ownerId, loadedPersister.getOwnerEntityPersister() );
 			if ( owner == null ) {
 				throw new AssertionFailure(
 						"collection owner not associated with session: " +
@@ -301,9 +299,9 @@ public final class Collections {
 		if ( persister != null
 				// TODO: same optimization for @OneToMany @OnDelete(action=SET_NULL)
 				&& !persister.isOneToMany() && persister.isCascadeDeleteEnabled() ) {
-			final EntityKey entityKey = session.generateEntityKey( key, persister.getOwnerEntityPersister() );
 			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
-			final EntityEntry entry = persistenceContext.getEntry( persistenceContext.getEntity( entityKey ) );
+			final EntityEntry entry =
+					persistenceContext.getEntry( persistenceContext.getEntity( key, persister.getOwnerEntityPersister() ) );
 			return entry == null || entry.getStatus().isDeletedOrGone();
 		}
 		else {
@@ -58,6 +58,7 @@ import org.hibernate.event.spi.PostLoadEventListener;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.internal.util.collections.IdentityMap;
+import org.hibernate.internal.util.collections.LongKeyedHashMap;
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
@@ -68,7 +69,12 @@ import org.hibernate.sql.exec.spi.Callback;
 import org.hibernate.sql.results.graph.entity.EntityInitializer;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingState;
 import org.hibernate.sql.results.spi.LoadContexts;
+import org.hibernate.type.BasicType;
 import org.hibernate.type.CollectionType;
+import org.hibernate.type.Type;
+import org.hibernate.type.descriptor.java.IntegerJavaType;
+import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.descriptor.java.LongJavaType;
 
 import org.jboss.logging.Logger;
 
@@ -101,6 +107,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		the following fields are used in all circumstances, and are not worth (or not suited) to being converted into lazy
 	 */
 	private final SharedSessionContractImplementor session;
+	private final boolean usePrimitiveIdentifierIndex;
 	private EntityEntryContext entityEntryContext;
 
 	/*
@@ -114,6 +121,11 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	// Loaded entity instances, by EntityKey
 	private HashMap<EntityKey, EntityHolderImpl> entitiesByKey;
 
+	// Optional secondary index of entitiesByKey for entity types with a Long or Integer identifier,
+	// by root entity name and then by primitive identifier value: lookups of such entities never
+	// go through EntityKey#hashCode / #equals and the identifier Type
+	private HashMap<String, LongKeyedHashMap<EntityHolderImpl>> entitiesByPrimitiveId;
+
 	// Loaded entity instances, by EntityUniqueKey
 	private HashMap<EntityUniqueKey, Object> entitiesByUniqueKey;
 
@@ -170,6 +182,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 	public StatefulPersistenceContext(SharedSessionContractImplementor session) {
 		this.session = session;
+		this.usePrimitiveIdentifierIndex = session.getFactory().getFastSessionServices().usePrimitiveIdentifierIndex;
 		this.entityEntryContext = new EntityEntryContext( this );
 	}
 
@@ -180,6 +193,85 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		return entitiesByKey;
 	}
 
+	/*
+		All access to entitiesByKey by key goes through the following methods,
+		which keep entitiesByPrimitiveId in sync
+	 */
+
+	private EntityHolderImpl findEntityHolder(EntityKey key) {
+		return entitiesByKey == null ? null : findEntityHolder( key.getIdentifier(), key.getPersister(), key );
+	}
+
+	/**
+	 * Look up the holder of the entity with the given identifier through the primitive
+	 * identifier index when possible, or else through the given key, which is only
+	 * generated, when {@code null}, if the index does not apply.
+	 */
+	private EntityHolderImpl findEntityHolder(Object id, EntityPersister persister, EntityKey key) {
+		if ( entitiesByPrimitiveId != null && hasPrimitiveIdentifier( id, persister ) ) {
+			final LongKeyedHashMap<EntityHolderImpl> index =
+					entitiesByPrimitiveId.get( persister.getRootEntityName() );
+			return index == null ? null : index.get( ( (Number) id ).longValue() );
+		}
+		else {
+			return entitiesByKey.get( key == null ? session.generateEntityKey( id, persister ) : key );
+		}
+	}
+
+	private EntityHolderImpl putEntityHolderIfAbsent(EntityKey key, EntityHolderImpl holder) {
+		final EntityHolderImpl oldHolder = getOrInitializeEntitiesByKey().putIfAbsent( key, holder );
+		if ( oldHolder == null ) {
+			indexEntityHolder( key, holder );
+		}
+		return oldHolder;
+	}
+
+	private void putEntityHolder(EntityKey key, EntityHolderImpl holder) {
+		getOrInitializeEntitiesByKey().put( key, holder );
+		indexEntityHolder( key, holder );
+	}
+
+	private EntityHolderImpl removeEntityHolderByKey(EntityKey key) {
+		final EntityHolderImpl holder = entitiesByKey.remove( key );
+		if ( holder != null && entitiesByPrimitiveId != null
+				&& hasPrimitiveIdentifier( key.getIdentifier(), key.getPersister() ) ) {
+			final LongKeyedHashMap<EntityHolderImpl> index =
+					entitiesByPrimitiveId.get( key.getPersister().getRootEntityName() );
+			if ( index != null ) {
+				index.remove( ( (Number) key.getIdentifier() ).longValue() );
+			}
+		}
+		return holder;
+	}
+
+	private void indexEntityHolder(EntityKey key, EntityHolderImpl holder) {
+		if ( usePrimitiveIdentifierIndex && hasPrimitiveIdentifier( key.getIdentifier(), key.getPersister() ) ) {
+			if ( entitiesByPrimitiveId == null ) {
+				entitiesByPrimitiveId = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
+			}
+			entitiesByPrimitiveId.computeIfAbsent( key.getPersister().getRootEntityName(), k -> new LongKeyedHashMap<>() )
+					.put( ( (Number) key.getIdentifier() ).longValue(), holder );
+		}
+	}
+
+	/**
+	 * Whether the given identifier is a {@code Long} or {@code Integer} compared by its
+	 * natural equality, so that it may be indexed by its primitive value.
+	 */
+	private static boolean hasPrimitiveIdentifier(Object id, EntityPersister persister) {
+		// test the class of the identifier first, which rules out most other identifiers at once
+		if ( id instanceof Long || id instanceof Integer ) {
+			final Type identifierType = persister.getIdentifierType();
+			if ( identifierType instanceof BasicType<?> ) {
+				final JavaType<?> javaType = ( (BasicType<?>) identifierType ).getJavaTypeDescriptor();
+				return id instanceof Long
+						? javaType instanceof LongJavaType
+						: javaType instanceof IntegerJavaType;
+			}
+		}
+		return false;
+	}
+
 	@Override
 	public boolean isStateless() {
 		return false;
@@ -242,6 +334,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 		arrayHolders = null;
 		entitiesByKey = null;
+		entitiesByPrimitiveId = null;
 		entitiesByUniqueKey = null;
 		entityEntryContext.clear();
 		parentsByChild = null;
@@ -382,10 +475,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			JdbcValuesSourceProcessingState processingState,
 			EntityInitializer initializer) {
 		EntityHolderImpl holder = EntityHolderImpl.forEntity( key, key.getPersister(), entity );
-		final EntityHolderImpl oldHolder = getOrInitializeEntitiesByKey().putIfAbsent(
-				key,
-				holder
-		);
+		final EntityHolderImpl oldHolder = putEntityHolderIfAbsent( key, holder );
 
 		if ( oldHolder != null ) {
 			if ( entity != null ) {
@@ -413,12 +503,17 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public EntityHolderImpl getEntityHolder(EntityKey key) {
-		return entitiesByKey == null ? null : entitiesByKey.get( key );
+		return findEntityHolder( key );
+	}
+
+	@Override
+	public EntityHolderImpl getEntityHolder(Object id, EntityPersister persister) {
+		return entitiesByKey == null ? null : findEntityHolder( id, persister, null );
 	}
 
 	@Override
 	public boolean containsEntityHolder(EntityKey key) {
-		return entitiesByKey != null && entitiesByKey.get( key ) != null;
+		return findEntityHolder( key ) != null;
 	}
 
 	@Override
@@ -455,7 +550,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			// It's possible that we tried to load an entity and found out it doesn't exist,
 			// in which case we added an entry with a null proxy and entity.
 			// Remove that empty entry on post load to avoid unwanted side effects
-			entitiesByKey.remove( holder.getEntityKey() );
+			removeEntityHolderByKey( holder.getEntityKey() );
 			return;
 		}
 		if ( postLoadEvent != null ) {
@@ -481,10 +576,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public void addEntity(EntityKey key, Object entity) {
 		EntityHolderImpl holder = EntityHolderImpl.forEntity( key, key.getPersister(), entity );
-		final EntityHolderImpl oldHolder = getOrInitializeEntitiesByKey().putIfAbsent(
-				key,
-				holder
-		);
+		final EntityHolderImpl oldHolder = putEntityHolderIfAbsent( key, holder );
 		if ( oldHolder != null ) {
 //			assert oldHolder.entity == null || oldHolder.entity == entity;
 			oldHolder.entity = entity;
@@ -499,13 +591,19 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public Object getEntity(EntityKey key) {
-		final EntityHolderImpl holder = entitiesByKey == null ? null : entitiesByKey.get( key );
+		final EntityHolderImpl holder = findEntityHolder( key );
+		return holder == null || holder.state == EntityHolderState.UNINITIALIZED ? null : holder.entity;
+	}
+
+	@Override
+	public Object getEntity(Object id, EntityPersister persister) {
+		final EntityHolderImpl holder = getEntityHolder( id, persister );
 		return holder == null || holder.state == EntityHolderState.UNINITIALIZED ? null : holder.entity;
 	}
 
 	@Override
 	public boolean containsEntity(EntityKey key) {
-		final EntityHolderImpl holder = entitiesByKey == null ? null : entitiesByKey.get( key );
+		final EntityHolderImpl holder = findEntityHolder( key );
 		return holder != null && holder.entity != null && holder.state != EntityHolderState.UNINITIALIZED;
 	}
 
@@ -517,7 +615,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( holder.proxy != null ) {
 				holder.entity = null;
 				holder.state = EntityHolderState.UNINITIALIZED;
-				entitiesByKey.put( key, holder );
+				putEntityHolder( key, holder );
 			}
 			return entity;
 		}
@@ -528,7 +626,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	public EntityHolderImpl removeEntityHolder(EntityKey key) {
 		final EntityHolderImpl holder;
 		if ( entitiesByKey != null ) {
-			holder = entitiesByKey.remove( key );
+			holder = removeEntityHolderByKey( key );
 			if ( entitiesByUniqueKey != null ) {
 				final Object entity = holder == null ? null : holder.entity;
 				final Iterator<?> itr = entitiesByUniqueKey.values().iterator();
@@ -762,7 +860,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 					.getEntityDescriptor( li.getEntityName() );
 			final EntityKey key = session.generateEntityKey( li.getInternalIdentifier(), persister );
 		  	// any earlier proxy takes precedence
-			final EntityHolderImpl holder = getOrInitializeEntitiesByKey().putIfAbsent(
+			final EntityHolderImpl holder = putEntityHolderIfAbsent(
 					key,
 					EntityHolderImpl.forProxy( key, persister, proxy )
 			);
@@ -871,7 +969,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	private Object removeProxyByKey(final EntityKey key) {
 		final EntityHolderImpl entityHolder;
-		if ( entitiesByKey != null && ( entityHolder = entitiesByKey.get( key ) ) != null ) {
+		if ( ( entityHolder = findEntityHolder( key ) ) != null ) {
 			Object proxy = entityHolder.proxy;
 			entityHolder.proxy = null;
 			return proxy;
@@ -913,10 +1011,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public void addEnhancedProxy(EntityKey key, PersistentAttributeInterceptable entity) {
 		EntityHolderImpl holder = EntityHolderImpl.forEntity( key, key.getPersister(), entity );
-		final EntityHolderImpl oldHolder = getOrInitializeEntitiesByKey().putIfAbsent(
-				key,
-				holder
-		);
+		final EntityHolderImpl oldHolder = putEntityHolderIfAbsent( key, holder );
 		if ( oldHolder != null ) {
 			oldHolder.entity = entity;
 			holder = oldHolder;
@@ -932,7 +1027,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		// these 2 are not always the same.  Same is true in the case of ToOne associations with property-ref...
 		final EntityPersister ownerPersister = collectionPersister.getOwnerEntityPersister();
 		if ( ownerPersister.getIdentifierType().getReturnedClass().isInstance( key ) ) {
-			return getEntity( session.generateEntityKey( key, collectionPersister.getOwnerEntityPersister() ) );
+			return getEntity( key, collectionPersister.getOwnerEntityPersister() );
 		}
 
 		// we have a property-ref type mapping for the collection key.  But that could show up a few ways here...
@@ -943,7 +1038,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( ownerId == null ) {
 				return null;
 			}
-			return getEntity( session.generateEntityKey( ownerId, ownerPersister ) );
+			return getEntity( ownerId, ownerPersister );
 		}
 
 		final CollectionType collectionType = collectionPersister.getCollectionType();
@@ -979,11 +1074,11 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			//			in place of natural id snapshots.  BUt really its better to just do it the right way ^^ if we start
 			// 			going that route
 			final Object ownerId = ownerPersister.getIdByUniqueKey( key, collectionType.getLHSPropertyName(), session );
-			return getEntity( session.generateEntityKey( ownerId, ownerPersister ) );
+			return getEntity( ownerId, ownerPersister );
 		}
 
 		// as a last resort this is what the old code did...
-		return getEntity( session.generateEntityKey( key, collectionPersister.getOwnerEntityPersister() ) );
+		return getEntity( key, collectionPersister.getOwnerEntityPersister() );
 	}
 
 	@Override
@@ -1203,13 +1298,13 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public Object getProxy(EntityKey key) {
-		final EntityHolderImpl holder = entitiesByKey == null ? null : entitiesByKey.get( key );
+		final EntityHolderImpl holder = findEntityHolder( key );
 		return holder == null ? null : holder.proxy;
 	}
 
 	@Override
 	public void addProxy(EntityKey key, Object proxy) {
-		final EntityHolderImpl holder = getOrInitializeEntitiesByKey().putIfAbsent(
+		final EntityHolderImpl holder = putEntityHolderIfAbsent(
 				key,
 				EntityHolderImpl.forProxy( key, key.getPersister(), proxy )
 		);
@@ -1739,7 +1834,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public void replaceDelayedEntityIdentityInsertKeys(EntityKey oldKey, Object generatedId) {
-		final EntityHolderImpl holder = entitiesByKey == null ? null : entitiesByKey.remove( oldKey );
+		final EntityHolderImpl holder = entitiesByKey == null ? null : removeEntityHolderByKey( oldKey );
 		final Object entity = holder == null ? null : holder.entity;
 		final EntityEntry oldEntry = entityEntryContext.removeEntityEntry( entity );
 		this.parentsByChild = null;
@@ -1931,7 +2026,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 						}
 					}
 				}
-				rtn.entitiesByKey.put( ek, holder );
+				rtn.putEntityHolder( ek, holder );
 			}
 
 			count = ois.readInt();
@@ -0,0 +1,158 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.Blob;
+import java.sql.Clob;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+
+/**
+ * Chooses the size of the JDBC batches of each {@link BatchKey}, so that
+ * executing a batch takes about a target time.
+ * <p>
+ * The size of a key grows by a quarter each time a full batch executes
+ * faster than the target, and shrinks in proportion to the excess when
+ * a batch executes slower than the target, at most by half at a time.
+ * The size also stays low enough for the values bound to a batch to
+ * remain within a few megabytes. It never exceeds the configured
+ * {@linkplain org.hibernate.cfg.BatchSettings#STATEMENT_BATCH_SIZE batch size}.
+ * <p>
+ * The sizes are shared by all sessions of a session factory. Concurrent
+ * sessions may occasionally overwrite each other's adjustment, which is
+ * harmless for an estimate.
+ *
+ * @see org.hibernate.cfg.BatchSettings#BATCH_TARGET_LATENCY
+ *
+ * @since 6.6
+ */
+public class AdaptiveBatchSizeController {
+	private static final int MIN_BATCH_SIZE = 2;
+	private static final long MAX_BATCH_BYTES = 4L * 1024 * 1024;
+	// reading the actual length of a LOB might require a round trip
+	private static final long LOB_SIZE_ESTIMATE = 8 * 1024;
+
+	private final long targetLatencyNanos;
+	private final Map<BatchKey, Integer> batchSizes = new ConcurrentHashMap<>();
+
+	/**
+	 * @param targetLatencyMillis The target execution time of a batch, in milliseconds
+	 */
+	public AdaptiveBatchSizeController(long targetLatencyMillis) {
+		this.targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos( targetLatencyMillis );
+	}
+
+	/**
+	 * The size to use for the next batch of the given key.
+	 *
+	 * @param maxBatchSize The configured batch size
+	 */
+	public int getBatchSize(BatchKey key, int maxBatchSize) {
+		final Integer batchSize = batchSizes.get( key );
+		return batchSize == null ? maxBatchSize : Math.min( batchSize, maxBatchSize );
+	}
+
+	/**
+	 * Adjust the size of the batches of the given key after executing one.
+	 *
+	 * @param rowCount The number of rows of the executed batch
+	 * @param boundBytes An estimate of the size of the values bound to the executed batch
+	 * @param executionNanos The time the execution took
+	 * @param maxBatchSize The configured batch size
+	 *
+	 * @return The size to use for the next batch
+	 */
+	public int batchExecuted(
+			BatchKey key,
+			int rowCount,
+			long boundBytes,
+			long executionNanos,
+			int maxBatchSize,
+			StatisticsImplementor statistics) {
+		if ( rowCount == 0 ) {
+			return getBatchSize( key, maxBatchSize );
+		}
+		final int batchSize = getBatchSize( key, maxBatchSize );
+		long nextBatchSize;
+		if ( executionNanos > targetLatencyNanos ) {
+			nextBatchSize = Math.max( rowCount * targetLatencyNanos / executionNanos, batchSize / 2 );
+		}
+		else if ( rowCount >= batchSize ) {
+			nextBatchSize = batchSize + Math.max( 1, batchSize / 4 );
+		}
+		else {
+			// a partial batch tells nothing about larger ones
+			nextBatchSize = batchSize;
+		}
+		if ( boundBytes > 0 ) {
+			nextBatchSize = Math.min( nextBatchSize, MAX_BATCH_BYTES * rowCount / boundBytes );
+		}
+		final int newBatchSize = (int) Math.max( MIN_BATCH_SIZE, Math.min( nextBatchSize, maxBatchSize ) );
+		if ( newBatchSize != batchSize || !batchSizes.containsKey( key ) ) {
+			batchSizes.put( key, newBatchSize );
+			if ( BATCH_LOGGER.isDebugEnabled() ) {
+				BATCH_LOGGER.debugf(
+						"Adjusted batch size from %s to %s (%s rows in %s ms) - `%s`",
+						batchSize,
+						newBatchSize,
+						rowCount,
+						TimeUnit.NANOSECONDS.toMillis( executionNanos ),
+						key.toLoggableString()
+				);
+			}
+		}
+		// reported even if unchanged, since the statistics
+		// may have been enabled or cleared since it was chosen
+		if ( statistics != null && statistics.isStatisticsEnabled() ) {
+			statistics.jdbcBatchSize( key.toLoggableString(), newBatchSize );
+		}
+		return newBatchSize;
+	}
+
+	/**
+	 * An estimate of the size of the values of the given bindings.
+	 */
+	public static long estimateSize(BindingGroup bindingGroup) {
+		if ( bindingGroup == null ) {
+			return 0;
+		}
+		long size = 0;
+		for ( Binding binding : bindingGroup.getBindings() ) {
+			size += estimateSize( binding.getValue() );
+		}
+		return size;
+	}
+
+	private static long estimateSize(Object value) {
+		if ( value == null ) {
+			return 0;
+		}
+		else if ( value instanceof CharSequence ) {
+			return ( (CharSequence) value ).length();
+		}
+		else if ( value instanceof byte[] ) {
+			return ( (byte[]) value ).length;
+		}
+		else if ( value instanceof char[] ) {
+			return ( (char[]) value ).length;
+		}
+		else if ( value instanceof Blob || value instanceof Clob ) {
+			return LOB_SIZE_ESTIMATE;
+		}
+		else {
+			return 8;
+		}
+	}
+}
@@ -7,12 +7,14 @@
 package org.hibernate.engine.jdbc.batch.internal;
 
 import java.util.Collections;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import org.hibernate.Internal;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.internal.BackgroundExecutor;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
 import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementGroupSingleTable;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
@@ -30,6 +32,9 @@ import static org.hibernate.jdbc.Expectations.NONE;
  */
 public class BatchBuilderImpl implements BatchBuilder {
 	private final int globalBatchSize;
+	private final boolean multiRowInserts;
+	private final boolean pipelining;
+	private final AdaptiveBatchSizeController batchSizeController;
 
 	/**
 	 * Constructs a BatchBuilderImpl
@@ -38,14 +43,59 @@ public class BatchBuilderImpl implements BatchBuilder {
 	 * on {@link #buildBatch}
 	 */
 	public BatchBuilderImpl(int globalBatchSize) {
+		this( globalBatchSize, false );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param globalBatchSize The batch size to use.  Can be overridden
+	 * on {@link #buildBatch}
+	 * @param multiRowInserts Whether to execute batched inserts as multi-row inserts
+	 */
+	public BatchBuilderImpl(int globalBatchSize, boolean multiRowInserts) {
+		this( globalBatchSize, multiRowInserts, false );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param globalBatchSize The batch size to use.  Can be overridden
+	 * on {@link #buildBatch}
+	 * @param multiRowInserts Whether to execute batched inserts as multi-row inserts
+	 * @param pipelining Whether to execute a batch in the background while the next one is prepared
+	 */
+	public BatchBuilderImpl(int globalBatchSize, boolean multiRowInserts, boolean pipelining) {
+		this( globalBatchSize, multiRowInserts, pipelining, 0 );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param globalBatchSize The batch size to use.  Can be overridden
+	 * on {@link #buildBatch}
+	 * @param multiRowInserts Whether to execute batched inserts as multi-row inserts
+	 * @param pipelining Whether to execute a batch in the background while the next one is prepared
+	 * @param targetLatencyMillis The target execution time of a batch, in milliseconds, to which
+	 * the batch sizes are adapted, up to the given batch size, or 0 to use the given batch size
+	 */
+	public BatchBuilderImpl(int globalBatchSize, boolean multiRowInserts, boolean pipelining, long targetLatencyMillis) {
 		if ( BATCH_LOGGER.isTraceEnabled() ) {
 			BATCH_LOGGER.tracef(
-					"Using standard BatchBuilder (%s)",
-					globalBatchSize
+					"Using standard BatchBuilder (%s, multi-row inserts: %s, pipelining: %s, target latency: %s ms)",
+					globalBatchSize,
+					multiRowInserts,
+					pipelining,
+					targetLatencyMillis
 			);
 		}
 
 		this.globalBatchSize = globalBatchSize;
+		this.multiRowInserts = multiRowInserts;
+		this.pipelining = pipelining;
+		this.batchSizeController = targetLatencyMillis > 0
+				? new AdaptiveBatchSizeController( targetLatencyMillis )
+				: null;
 	}
 
 	public int getJdbcBatchSize() {
@@ -63,7 +113,45 @@ public class BatchBuilderImpl implements BatchBuilder {
 				: explicitBatchSize;
 		assert batchSize > 1;
 
-		return new BatchImpl( key, statementGroupSupplier.get(), batchSize, jdbcCoordinator );
+		final PreparedStatementGroup statementGroup = statementGroupSupplier.get();
+		if ( multiRowInserts && supportsMultiRowInserts( jdbcCoordinator ) ) {
+			final Batch batch = MultiRowInsertBatch.create( key, statementGroup, batchSize, jdbcCoordinator );
+			if ( batch != null ) {
+				return batch;
+			}
+		}
+		return new BatchImpl(
+				key,
+				statementGroup,
+				batchSize,
+				jdbcCoordinator,
+				pipelining && supportsPipelining( jdbcCoordinator ) ? backgroundExecutor( jdbcCoordinator ) : null,
+				batchSizeController
+		);
+	}
+
+	private static boolean supportsMultiRowInserts(JdbcCoordinator jdbcCoordinator) {
+		return jdbcCoordinator.getJdbcSessionOwner()
+				.getJdbcSessionContext()
+				.getJdbcServices()
+				.getDialect()
+				.supportsValuesListForInsert();
+	}
+
+	private static Executor backgroundExecutor(JdbcCoordinator jdbcCoordinator) {
+		return jdbcCoordinator.getJdbcSessionOwner()
+				.getJdbcSessionContext()
+				.getSessionFactory()
+				.getServiceRegistry()
+				.requireService( BackgroundExecutor.class );
+	}
+
+	private static boolean supportsPipelining(JdbcCoordinator jdbcCoordinator) {
+		return jdbcCoordinator.getJdbcSessionOwner()
+				.getJdbcSessionContext()
+				.getJdbcServices()
+				.getDialect()
+				.supportsConcurrentConnectionUse();
 	}
 
 
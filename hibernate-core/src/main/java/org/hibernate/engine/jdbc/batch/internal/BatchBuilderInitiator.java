@@ -44,7 +44,10 @@ public class BatchBuilderInitiator implements StandardServiceInitiator<BatchBuil
 
 		if ( builder == null ) {
 			return new BatchBuilderImpl(
-					ConfigurationHelper.getInt( BatchSettings.STATEMENT_BATCH_SIZE, configurationValues, 1 )
+					ConfigurationHelper.getInt( BatchSettings.STATEMENT_BATCH_SIZE, configurationValues, 1 ),
+					ConfigurationHelper.getBoolean( BatchSettings.BATCH_MULTI_ROW_INSERTS, configurationValues ),
+					ConfigurationHelper.getBoolean( BatchSettings.BATCH_PIPELINING, configurationValues ),
+					ConfigurationHelper.getInt( BatchSettings.BATCH_TARGET_LATENCY, configurationValues, 0 )
 			);
 		}
 
@@ -8,7 +8,12 @@ package org.hibernate.engine.jdbc.batch.internal;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.hibernate.HibernateException;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
@@ -39,23 +44,60 @@ import static org.hibernate.sql.model.ModelMutationLogging.MODEL_MUTATION_LOGGER
  */
 public class BatchImpl implements Batch {
 	private final BatchKey key;
-	private final int batchSizeToUse;
+	private final int maxBatchSize;
+	// only ever accessed on the session thread: a batch executed
+	// in the background is adapted to when it is joined
+	private int batchSizeToUse;
 	private final PreparedStatementGroup statementGroup;
 
 	private final JdbcCoordinator jdbcCoordinator;
+	private final Executor backgroundExecutor;
+	private final AdaptiveBatchSizeController batchSizeController;
 	private final SqlStatementLogger sqlStatementLogger;
 	private final SqlExceptionHelper sqlExceptionHelper;
 
 	private final LinkedHashSet<BatchObserver> observers = new LinkedHashSet<>();
 
 	private int batchPosition;
+	private long boundBytes;
 	private boolean batchExecuted;
+	private BackgroundExecution backgroundExecution;
 
 	public BatchImpl(
 			BatchKey key,
 			PreparedStatementGroup statementGroup,
 			int batchSizeToUse,
 			JdbcCoordinator jdbcCoordinator) {
+		this( key, statementGroup, batchSizeToUse, jdbcCoordinator, null );
+	}
+
+	/**
+	 * @param backgroundExecutor The executor used to {@linkplain #executeInBackground() execute
+	 * the batch in the background}, or {@code null} if the batch is always executed synchronously
+	 */
+	public BatchImpl(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator,
+			Executor backgroundExecutor) {
+		this( key, statementGroup, batchSizeToUse, jdbcCoordinator, backgroundExecutor, null );
+	}
+
+	/**
+	 * @param maxBatchSize The configured batch size, used as is unless a {@code batchSizeController} is given
+	 * @param backgroundExecutor The executor used to {@linkplain #executeInBackground() execute
+	 * the batch in the background}, or {@code null} if the batch is always executed synchronously
+	 * @param batchSizeController The controller adapting the batch size to the execution time,
+	 * or {@code null} to always use the configured batch size
+	 */
+	public BatchImpl(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			int maxBatchSize,
+			JdbcCoordinator jdbcCoordinator,
+			Executor backgroundExecutor,
+			AdaptiveBatchSizeController batchSizeController) {
 		if ( key == null ) {
 			throw new IllegalArgumentException( "Batch key cannot be null" );
 		}
@@ -66,12 +108,17 @@ public class BatchImpl implements Batch {
 		this.key = key;
 		this.jdbcCoordinator = jdbcCoordinator;
 		this.statementGroup = statementGroup;
+		this.backgroundExecutor = backgroundExecutor;
+		this.batchSizeController = batchSizeController;
 
 		final JdbcServices jdbcServices = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getJdbcServices();
 		this.sqlStatementLogger = jdbcServices.getSqlStatementLogger();
 		this.sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
 
-		this.batchSizeToUse = batchSizeToUse;
+		this.maxBatchSize = maxBatchSize;
+		this.batchSizeToUse = batchSizeController == null
+				? maxBatchSize
+				: batchSizeController.getBatchSize( key, maxBatchSize );
 
 		if ( BATCH_LOGGER.isTraceEnabled() ) {
 			BATCH_LOGGER.tracef(
@@ -124,6 +171,11 @@ public class BatchImpl implements Batch {
 				//noinspection resource
 				final PreparedStatement statement = statementDetails.resolveStatement();
 				sqlStatementLogger.logStatement( statementDetails.getSqlString() );
+				if ( batchSizeController != null ) {
+					boundBytes += AdaptiveBatchSizeController.estimateSize(
+							jdbcValueBindings.getBindingGroup( statementDetails.getMutatingTableDetails().getTableName() )
+					);
+				}
 				jdbcValueBindings.beforeStatement( statementDetails );
 
 				try {
@@ -220,6 +272,57 @@ public class BatchImpl implements Batch {
 		}
 	}
 
+	@Override
+	public boolean executeInBackground() {
+		if ( backgroundExecutor == null || batchPosition == 0 ) {
+			return false;
+		}
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_LOGGER.tracef(
+					"Executing JDBC batch in the background (%s / %s) - `%s`",
+					batchPosition,
+					batchSizeToUse,
+					getKey().toLoggableString()
+			);
+		}
+
+		final BackgroundExecution execution = new BackgroundExecution( batchPosition, boundBytes );
+		getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
+			if ( statementDetails.getStatement() != null ) {
+				execution.statements.add( statementDetails );
+			}
+		} );
+		batchPosition = 0;
+		boundBytes = 0;
+
+		// the observer and monitoring events are only ever handled on this
+		// thread, spanning from the submission of the batch to its outcome
+		//noinspection deprecation
+		final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
+		final JdbcObserver observer = jdbcSessionOwner.getJdbcSessionContext().getObserver();
+		final EventManager eventManager = jdbcSessionOwner.getEventManager();
+		for ( PreparedStatementDetails statementDetails : execution.statements ) {
+			if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
+				execution.jdbcBatchExecutionEvents.add( eventManager.beginJdbcBatchExecutionEvent() );
+				observer.jdbcExecuteBatchStart();
+			}
+		}
+
+		// only executeBatch() runs in the background, the
+		// outcome is handled on this thread by execute()
+		try {
+			execution.future = CompletableFuture.runAsync( execution::executeBatches, backgroundExecutor );
+		}
+		catch (RejectedExecutionException e) {
+			// the executor was shut down along with the SessionFactory
+			BATCH_LOGGER.debug( "Background execution rejected, executing JDBC batch synchronously", e );
+			execution.executeBatches();
+			execution.future = CompletableFuture.completedFuture( null );
+		}
+		backgroundExecution = execution;
+		return true;
+	}
+
 	@Override
 	public void execute() {
 		notifyObserversExplicitExecution();
@@ -228,7 +331,10 @@ public class BatchImpl implements Batch {
 		}
 
 		try {
-			if ( batchPosition == 0 ) {
+			if ( backgroundExecution != null ) {
+				completeBackgroundExecution();
+			}
+			else if ( batchPosition == 0 ) {
 				if( !batchExecuted) {
 					if ( BATCH_LOGGER.isDebugEnabled() ) {
 						BATCH_LOGGER.debugf(
@@ -257,9 +363,14 @@ public class BatchImpl implements Batch {
 			);
 		}
 
+		// the rows may reference rows of a previous batch still executing in the background,
+		// which then has to complete first (a failure of that batch aborts this one)
+		jdbcCoordinator.completeBackgroundBatch();
+
 		//noinspection deprecation
 		final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
 		final JdbcObserver observer = jdbcSessionOwner.getJdbcSessionContext().getObserver();
+		final long executionStart = batchSizeController == null ? 0 : System.nanoTime();
 		try {
 			getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
 				final String sql = statementDetails.getSqlString();
@@ -282,7 +393,7 @@ public class BatchImpl implements Batch {
 							eventManager.completeJdbcBatchExecutionEvent( jdbcBatchExecutionEvent, sql );
 							observer.jdbcExecuteBatchEnd();
 						}
-						checkRowCounts( rowCounts, statementDetails );
+						checkRowCounts( rowCounts, statementDetails, batchPosition );
 					}
 					else {
 						statement.executeBatch();
@@ -299,20 +410,100 @@ public class BatchImpl implements Batch {
 					throw re;
 				}
 			} );
+			if ( batchSizeController != null ) {
+				adaptBatchSize( batchPosition, boundBytes, System.nanoTime() - executionStart );
+			}
 		}
 		finally {
 			batchPosition = 0;
+			boundBytes = 0;
 		}
 	}
 
-	private void checkRowCounts(int[] rowCounts, PreparedStatementDetails statementDetails) throws SQLException, HibernateException {
+	/**
+	 * Waits for the batch executing in the background, and then handles its outcome
+	 * as {@link #performExecution()} does: the observer and monitoring events, the
+	 * row count checks, the failures, and the adaptation of the batch size.
+	 */
+	private void completeBackgroundExecution() {
+		final BackgroundExecution execution = backgroundExecution;
+		backgroundExecution = null;
+		awaitBackgroundExecution( execution );
+
+		for ( int i = 0; i < execution.statements.size(); i++ ) {
+			final PreparedStatementDetails statementDetails = execution.statements.get( i );
+			final String sql = statementDetails.getSqlString();
+			try {
+				if ( i == execution.rowCounts.size() ) {
+					execution.throwFailure();
+				}
+				if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
+					checkRowCounts( execution.rowCounts.get( i ), statementDetails, execution.rowCount );
+				}
+			}
+			catch (SQLException e) {
+				abortBatch( e );
+				BATCH_MESSAGE_LOGGER.unableToExecuteBatch( e, sql );
+				throw sqlExceptionHelper.convert( e, "could not execute batch", sql );
+			}
+			catch (RuntimeException re) {
+				abortBatch( re );
+				BATCH_MESSAGE_LOGGER.unableToExecuteBatch( re, sql );
+				throw re;
+			}
+		}
+		if ( batchSizeController != null ) {
+			adaptBatchSize( execution.rowCount, execution.boundBytes, execution.executionNanos );
+		}
+	}
+
+	/**
+	 * Waits for the batch executing in the background, and completes
+	 * the observer and monitoring events begun on its submission.
+	 */
+	private void awaitBackgroundExecution(BackgroundExecution execution) {
+		try {
+			// the task records its failures itself
+			execution.future.join();
+		}
+		finally {
+			//noinspection deprecation
+			final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
+			final JdbcObserver observer = jdbcSessionOwner.getJdbcSessionContext().getObserver();
+			final EventManager eventManager = jdbcSessionOwner.getEventManager();
+			int index = 0;
+			for ( PreparedStatementDetails statementDetails : execution.statements ) {
+				if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
+					eventManager.completeJdbcBatchExecutionEvent(
+							execution.jdbcBatchExecutionEvents.get( index++ ),
+							statementDetails.getSqlString()
+					);
+					observer.jdbcExecuteBatchEnd();
+				}
+			}
+		}
+	}
+
+	private void adaptBatchSize(int rowCount, long boundBytes, long executionNanos) {
+		batchSizeToUse = batchSizeController.batchExecuted(
+				key,
+				rowCount,
+				boundBytes,
+				executionNanos,
+				maxBatchSize,
+				jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getStatistics()
+		);
+	}
+
+	private void checkRowCounts(int[] rowCounts, PreparedStatementDetails statementDetails, int expectedRowCount)
+			throws SQLException, HibernateException {
 		final int numberOfRowCounts = rowCounts.length;
-		if ( batchPosition != 0 ) {
-			if ( numberOfRowCounts != batchPosition ) {
+		if ( expectedRowCount != 0 ) {
+			if ( numberOfRowCounts != expectedRowCount ) {
 				JDBC_MESSAGE_LOGGER.unexpectedRowCounts(
 						statementDetails.getMutatingTableDetails().getTableName(),
 						numberOfRowCounts,
-						batchPosition
+						expectedRowCount
 				);
 			}
 		}
@@ -324,6 +515,12 @@ public class BatchImpl implements Batch {
 
 	@Override
 	public void release() {
+		if ( backgroundExecution != null ) {
+			// the statements cannot be released while still in use
+			final BackgroundExecution execution = backgroundExecution;
+			backgroundExecution = null;
+			awaitBackgroundExecution( execution );
+		}
 		if ( BATCH_MESSAGE_LOGGER.isInfoEnabled() ) {
 			final PreparedStatementGroup statementGroup = getStatementGroup();
 			if ( statementGroup.getNumberOfStatements() != 0 ) {
@@ -340,4 +537,47 @@ public class BatchImpl implements Batch {
 	public String toString() {
 		return "BatchImpl(" + getKey().toLoggableString() + ")";
 	}
+
+	/**
+	 * The execution of a batch on another thread, which only calls
+	 * {@link PreparedStatement#executeBatch()}, and records the outcome.
+	 */
+	private static class BackgroundExecution {
+		private final int rowCount;
+		private final long boundBytes;
+		private final List<PreparedStatementDetails> statements = new ArrayList<>();
+		private final List<HibernateMonitoringEvent> jdbcBatchExecutionEvents = new ArrayList<>();
+
+		// written by the background thread, read once the future completed
+		private final List<int[]> rowCounts = new ArrayList<>();
+		private Exception failure;
+		private long executionNanos;
+
+		private CompletableFuture<Void> future;
+
+		private BackgroundExecution(int rowCount, long boundBytes) {
+			this.rowCount = rowCount;
+			this.boundBytes = boundBytes;
+		}
+
+		private void executeBatches() {
+			final long executionStart = System.nanoTime();
+			try {
+				for ( PreparedStatementDetails statementDetails : statements ) {
+					rowCounts.add( statementDetails.getStatement().executeBatch() );
+				}
+			}
+			catch (SQLException | RuntimeException e) {
+				failure = e;
+			}
+			executionNanos = System.nanoTime() - executionStart;
+		}
+
+		private void throwFailure() throws SQLException {
+			if ( failure instanceof SQLException ) {
+				throw (SQLException) failure;
+			}
+			throw (RuntimeException) failure;
+		}
+	}
 }
@@ -0,0 +1,418 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.hibernate.StaleStateException;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
+import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
+import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.jdbc.Expectation;
+import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
+import org.hibernate.sql.exec.spi.JdbcParameterBinder;
+import org.hibernate.sql.model.ast.ColumnValueParameter;
+import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
+
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_MESSAGE_LOGGER;
+
+/**
+ * A {@link Batch} of insert statements which, instead of relying on
+ * {@link PreparedStatement#addBatch()}, executes a single multi-row
+ * {@code insert into ... values (...),(...)} statement per table.
+ * <p>
+ * This saves round trips with JDBC drivers which do not rewrite batched
+ * inserts on their own. Only applies to inserts whose outcome is checked
+ * by row count, if at all, and which assign a plain parameter to each of
+ * their columns. The multi-row statement is built from the columns of the
+ * {@linkplain JdbcInsertMutation insert}, and only used when the statement
+ * generated for a single row has exactly the same form.
+ *
+ * @see org.hibernate.cfg.BatchSettings#BATCH_MULTI_ROW_INSERTS
+ *
+ * @since 6.6
+ */
+public class MultiRowInsertBatch implements Batch {
+	private final BatchKey key;
+	private final int batchSizeToUse;
+	private final PreparedStatementGroup statementGroup;
+	private final JdbcCoordinator jdbcCoordinator;
+	private final SharedSessionContractImplementor session;
+	private final SqlExceptionHelper sqlExceptionHelper;
+	private final Map<String, RowBuffer> rowBuffers;
+
+	private final LinkedHashSet<BatchObserver> observers = new LinkedHashSet<>();
+
+	private int batchPosition;
+
+	private MultiRowInsertBatch(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator,
+			SharedSessionContractImplementor session,
+			Map<String, RowBuffer> rowBuffers) {
+		this.key = key;
+		this.statementGroup = statementGroup;
+		this.batchSizeToUse = batchSizeToUse;
+		this.jdbcCoordinator = jdbcCoordinator;
+		this.session = session;
+		this.sqlExceptionHelper = jdbcCoordinator.getJdbcSessionOwner()
+				.getJdbcSessionContext()
+				.getJdbcServices()
+				.getSqlExceptionHelper();
+		this.rowBuffers = rowBuffers;
+
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_LOGGER.tracef(
+					"Created multi-row insert Batch (%s) - `%s`",
+					batchSizeToUse,
+					key.toLoggableString()
+			);
+		}
+	}
+
+	/**
+	 * Create a {@code MultiRowInsertBatch} for the given statements, or return
+	 * {@code null} if any of them cannot be executed as a multi-row insert.
+	 */
+	public static MultiRowInsertBatch create(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator) {
+		final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
+		if ( !( jdbcSessionOwner instanceof SharedSessionContractImplementor ) ) {
+			return null;
+		}
+		final int parameterCountLimit = jdbcSessionOwner.getJdbcSessionContext()
+				.getJdbcServices()
+				.getDialect()
+				.getParameterCountLimit();
+		final Map<String, RowBuffer> rowBuffers = new HashMap<>();
+		final boolean[] supported = { statementGroup.getNumberOfStatements() > 0 };
+		statementGroup.forEachStatement( (tableName, statementDetails) -> {
+			if ( supported[0] ) {
+				final RowBuffer rowBuffer = RowBuffer.create( statementDetails, batchSizeToUse, parameterCountLimit );
+				if ( rowBuffer == null ) {
+					supported[0] = false;
+				}
+				else {
+					rowBuffers.put( tableName, rowBuffer );
+				}
+			}
+		} );
+		return supported[0]
+				? new MultiRowInsertBatch(
+						key,
+						statementGroup,
+						batchSizeToUse,
+						jdbcCoordinator,
+						(SharedSessionContractImplementor) jdbcSessionOwner,
+						rowBuffers
+				)
+				: null;
+	}
+
+	@Override
+	public BatchKey getKey() {
+		return key;
+	}
+
+	@Override
+	public PreparedStatementGroup getStatementGroup() {
+		return statementGroup;
+	}
+
+	@Override
+	public void addObserver(BatchObserver observer) {
+		observers.add( observer );
+	}
+
+	@Override
+	public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecker inclusionChecker) {
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_LOGGER.tracef(
+					"Adding to multi-row insert (%s) - `%s`",
+					batchPosition + 1,
+					getKey().toLoggableString()
+			);
+		}
+
+		try {
+			statementGroup.forEachStatement( (tableName, statementDetails) -> {
+				if ( inclusionChecker == null || inclusionChecker.include( statementDetails.getMutatingTableDetails() ) ) {
+					final BindingGroup bindingGroup = jdbcValueBindings.getBindingGroup(
+							statementDetails.getMutatingTableDetails().getTableName()
+					);
+					rowBuffers.get( tableName ).addRow(
+							bindingGroup == null ? new Binding[0] : bindingGroup.copyBindings()
+					);
+					jdbcValueBindings.afterStatement( statementDetails.getMutatingTableDetails() );
+				}
+			} );
+		}
+		catch (RuntimeException e) {
+			abortBatch( e );
+			throw e;
+		}
+
+		batchPosition++;
+		if ( batchPosition == batchSizeToUse ) {
+			for ( BatchObserver observer : observers ) {
+				observer.batchImplicitlyExecuted();
+			}
+			performExecution();
+		}
+	}
+
+	@Override
+	public void execute() {
+		for ( BatchObserver observer : observers ) {
+			observer.batchExplicitlyExecuted();
+		}
+		try {
+			if ( batchPosition > 0 ) {
+				performExecution();
+			}
+		}
+		finally {
+			clearRows();
+			statementGroup.release();
+		}
+	}
+
+	protected void performExecution() {
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_LOGGER.tracef(
+					"Executing multi-row insert (%s / %s) - `%s`",
+					batchPosition,
+					batchSizeToUse,
+					getKey().toLoggableString()
+			);
+		}
+
+		try {
+			// the rows may reference rows of a previous batch still executing in the background
+			jdbcCoordinator.completeBackgroundBatch();
+			// the tables are visited in the order of their foreign keys
+			statementGroup.forEachStatement(
+					(tableName, statementDetails) -> rowBuffers.get( tableName ).execute( this )
+			);
+		}
+		finally {
+			clearRows();
+		}
+	}
+
+	private void clearRows() {
+		batchPosition = 0;
+		for ( RowBuffer rowBuffer : rowBuffers.values() ) {
+			rowBuffer.rows.clear();
+		}
+	}
+
+	protected void abortBatch(Exception cause) {
+		try {
+			jdbcCoordinator.abortBatch();
+		}
+		catch (RuntimeException e) {
+			cause.addSuppressed( e );
+		}
+	}
+
+	@Override
+	public void release() {
+		if ( batchPosition > 0 ) {
+			BATCH_MESSAGE_LOGGER.batchContainedStatementsOnRelease();
+		}
+		clearRows();
+		statementGroup.release();
+		observers.clear();
+	}
+
+	@Override
+	public String toString() {
+		return "MultiRowInsertBatch(" + getKey().toLoggableString() + ")";
+	}
+
+	/**
+	 * The rows added to the batch for one of the tables
+	 */
+	private static class RowBuffer {
+		private final PreparedStatementDetails statementDetails;
+		// the SQL up to the values keyword, and the values of a single row
+		private final String sqlPrefix;
+		private final String rowValues;
+		private final int parametersPerRow;
+		private final int maxRowsPerStatement;
+		private final List<Binding[]> rows;
+
+		private RowBuffer(
+				PreparedStatementDetails statementDetails,
+				String sqlPrefix,
+				String rowValues,
+				int parametersPerRow,
+				int maxRowsPerStatement) {
+			this.statementDetails = statementDetails;
+			this.sqlPrefix = sqlPrefix;
+			this.rowValues = rowValues;
+			this.parametersPerRow = parametersPerRow;
+			this.maxRowsPerStatement = maxRowsPerStatement;
+			this.rows = new ArrayList<>( maxRowsPerStatement );
+		}
+
+		private static RowBuffer create(
+				PreparedStatementDetails statementDetails,
+				int batchSize,
+				int parameterCountLimit) {
+			final Expectation expectation = statementDetails.getExpectation();
+			if ( !( expectation instanceof Expectation.None || expectation.getClass() == Expectation.RowCount.class ) ) {
+				return null;
+			}
+			if ( !( statementDetails.getMutationOperation() instanceof JdbcInsertMutation ) ) {
+				return null;
+			}
+			final JdbcInsertMutation insert = (JdbcInsertMutation) statementDetails.getMutationOperation();
+			final List<JdbcParameterBinder> parameterBinders = insert.getParameterBinders();
+			final int parametersPerRow = parameterBinders.size();
+			if ( insert.isCallable() || parametersPerRow == 0 ) {
+				return null;
+			}
+			final int maxRowsPerStatement = parameterCountLimit > 0
+					? Math.min( batchSize, parameterCountLimit / parametersPerRow )
+					: batchSize;
+			if ( maxRowsPerStatement < 2 ) {
+				return null;
+			}
+
+			// the insert statement of a single row, as rendered for a table whose column
+			// values are all plain parameters
+			final StringBuilder sqlPrefix = new StringBuilder( "insert into " )
+					.append( insert.getTableDetails().getTableName() )
+					.append( " (" );
+			final StringBuilder rowValues = new StringBuilder( "(" );
+			for ( int i = 0; i < parametersPerRow; i++ ) {
+				final JdbcParameterBinder parameterBinder = parameterBinders.get( i );
+				if ( !( parameterBinder instanceof ColumnValueParameter ) ) {
+					return null;
+				}
+				if ( i > 0 ) {
+					sqlPrefix.append( ',' );
+					rowValues.append( ',' );
+				}
+				sqlPrefix.append( ( (ColumnValueParameter) parameterBinder ).getColumnReference().getColumnExpression() );
+				rowValues.append( '?' );
+			}
+			sqlPrefix.append( ") values " );
+			rowValues.append( ')' );
+
+			// any other statement, for example with a comment, a column write expression,
+			// a literal value, other parameter markers, or a returning clause, is batched
+			// through JDBC instead
+			final String prefix = sqlPrefix.toString();
+			final String row = rowValues.toString();
+			if ( !statementDetails.getSqlString().equals( prefix + row ) ) {
+				return null;
+			}
+			return new RowBuffer(
+					statementDetails,
+					prefix,
+					row,
+					parametersPerRow,
+					maxRowsPerStatement
+			);
+		}
+
+		private void addRow(Binding[] bindings) {
+			rows.add( bindings );
+		}
+
+		private void execute(MultiRowInsertBatch batch) {
+			final int rowCount = rows.size();
+			for ( int start = 0; start < rowCount; start += maxRowsPerStatement ) {
+				execute( batch, start, Math.min( rowCount, start + maxRowsPerStatement ) );
+			}
+		}
+
+		private void execute(MultiRowInsertBatch batch, int start, int end) {
+			final String sql = sql( end - start );
+			final JdbcCoordinator jdbcCoordinator = batch.jdbcCoordinator;
+			final PreparedStatement statement = jdbcCoordinator.getStatementPreparer().prepareStatement( sql );
+			try {
+				for ( int row = start; row < end; row++ ) {
+					final int offset = ( row - start ) * parametersPerRow;
+					for ( Binding binding : rows.get( row ) ) {
+						try {
+							binding.getValueBinder().bind(
+									statement,
+									binding.getValue(),
+									offset + binding.getPosition(),
+									batch.session
+							);
+						}
+						catch (SQLException e) {
+							throw batch.sqlExceptionHelper.convert(
+									e,
+									String.format(
+											Locale.ROOT,
+											"Unable to bind parameter #%s - %s",
+											offset + binding.getPosition(),
+											binding.getValue()
+									),
+									sql
+							);
+						}
+					}
+				}
+				final int insertedRows = jdbcCoordinator.getResultSetReturn().executeUpdate( statement, sql );
+				if ( !( statementDetails.getExpectation() instanceof Expectation.None )
+						&& insertedRows >= 0 && insertedRows != end - start ) {
+					throw new StaleStateException(
+							"Unexpected row count: " + insertedRows + "; expected: " + ( end - start )
+									+ "; statement executed: " + sql
+					);
+				}
+			}
+			catch (RuntimeException e) {
+				batch.abortBatch( e );
+				BATCH_MESSAGE_LOGGER.unableToExecuteBatch( e, sql );
+				throw e;
+			}
+			finally {
+				jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+				jdbcCoordinator.afterStatementExecution();
+			}
+		}
+
+		private String sql(int rowCount) {
+			final StringBuilder sql = new StringBuilder( sqlPrefix.length() + rowCount * ( rowValues.length() + 1 ) );
+			sql.append( sqlPrefix ).append( rowValues );
+			for ( int i = 1; i < rowCount; i++ ) {
+				sql.append( ',' ).append( rowValues );
+			}
+			return sql.toString();
+		}
+	}
+}
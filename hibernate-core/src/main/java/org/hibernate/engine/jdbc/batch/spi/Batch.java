@@ -56,6 +56,22 @@ public interface Batch {
 	 */
 	void execute();
 
+	/**
+	 * Start executing this batch in the background, if supported, so that
+	 * the next batch can be prepared in the meantime. The execution is then
+	 * completed by {@link #execute()}, which waits for the background work,
+	 * and reports its failures.
+	 *
+	 * @return {@code true} if the execution was started in the background,
+	 * {@code false} if nothing was done and {@link #execute()} executes the
+	 * batch as usual
+	 *
+	 * @since 6.6
+	 */
+	default boolean executeInBackground() {
+		return false;
+	}
+
 	/**
 	 * Used to indicate that the batch instance is no longer needed and that, therefore,
 	 * it can release its resources.
@@ -0,0 +1,92 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.engine.jdbc.internal;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.service.Service;
+import org.hibernate.service.spi.Stoppable;
+
+/**
+ * The executor of a session factory running JDBC work on a background thread,
+ * such as fetching identifier values ahead of time, or executing JDBC batches
+ * while the next one is prepared.
+ * <p>
+ * At most {@value org.hibernate.cfg.JdbcSettings#BACKGROUND_THREADS} threads are
+ * started, when work is submitted, and they are discarded when idle. Further work
+ * is queued. The executor is shut down along with the session factory, after
+ * the work submitted by the factory has completed, waiting at most
+ * {@value #SHUTDOWN_TIMEOUT_SECONDS} seconds before interrupting it.
+ *
+ * @see BackgroundExecutorInitiator
+ *
+ * @since 6.6
+ */
+public final class BackgroundExecutor implements Service, Executor, Stoppable {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( BackgroundExecutor.class );
+
+	/**
+	 * How long {@link #stop()} waits for the submitted work to complete.
+	 */
+	public static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+	private final ThreadPoolExecutor executor;
+
+	public BackgroundExecutor(String sessionFactoryName, int maxThreads) {
+		if ( maxThreads < 1 ) {
+			throw new IllegalArgumentException( "The number of background threads must be positive" );
+		}
+		final String threadName = sessionFactoryName == null
+				? "hibernate-background-"
+				: "hibernate-background-" + sessionFactoryName + "-";
+		final AtomicInteger threadCount = new AtomicInteger();
+		final ThreadFactory threadFactory = runnable -> {
+			final Thread thread = new Thread( runnable, threadName + threadCount.incrementAndGet() );
+			thread.setDaemon( true );
+			return thread;
+		};
+		executor = new ThreadPoolExecutor(
+				maxThreads,
+				maxThreads,
+				60L,
+				TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(),
+				threadFactory
+		);
+		executor.allowCoreThreadTimeOut( true );
+	}
+
+	@Override
+	public void execute(Runnable command) {
+		executor.execute( command );
+	}
+
+	@Override
+	public void stop() {
+		executor.shutdown();
+		try {
+			if ( !executor.awaitTermination( SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS ) ) {
+				LOG.debugf(
+						"Background JDBC work did not complete within %s seconds, interrupting it",
+						SHUTDOWN_TIMEOUT_SECONDS
+				);
+				executor.shutdownNow();
+			}
+		}
+		catch (InterruptedException e) {
+			executor.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,41 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.engine.jdbc.internal;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.service.spi.SessionFactoryServiceInitiator;
+import org.hibernate.service.spi.SessionFactoryServiceInitiatorContext;
+
+import static org.hibernate.cfg.JdbcSettings.BACKGROUND_THREADS;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
+
+/**
+ * Standard initiator for the {@link BackgroundExecutor} of a session factory.
+ *
+ * @since 6.6
+ */
+public class BackgroundExecutorInitiator implements SessionFactoryServiceInitiator<BackgroundExecutor> {
+	/**
+	 * Singleton access
+	 */
+	public static final BackgroundExecutorInitiator INSTANCE = new BackgroundExecutorInitiator();
+
+	@Override
+	public BackgroundExecutor initiateService(SessionFactoryServiceInitiatorContext context) {
+		final int maxThreads = getInt(
+				BACKGROUND_THREADS,
+				context.getServiceRegistry().requireService( ConfigurationService.class ).getSettings(),
+				Runtime.getRuntime().availableProcessors()
+		);
+		return new BackgroundExecutor( context.getSessionFactoryOptions().getSessionFactoryName(), maxThreads );
+	}
+
+	@Override
+	public Class<BackgroundExecutor> getServiceInitiated() {
+		return BackgroundExecutor.class;
+	}
+}
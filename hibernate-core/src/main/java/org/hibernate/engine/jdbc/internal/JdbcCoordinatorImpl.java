@@ -60,6 +60,8 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 	private transient final JdbcServices jdbcServices;
 
 	private transient Batch currentBatch;
+	// a batch executing in the background, while the current batch is prepared
+	private transient Batch backgroundBatch;
 
 	private transient long transactionTimeOutInstant = -1;
 
@@ -152,6 +154,10 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		LOG.tracev( "Closing JDBC container [{0}]", this );
 		Connection connection;
 		try {
+			if ( backgroundBatch != null ) {
+				LOG.closingUnreleasedBatch();
+				completeBackgroundBatch( false );
+			}
 			if ( currentBatch != null ) {
 				LOG.closingUnreleasedBatch();
 				currentBatch.release();
@@ -170,8 +176,16 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 				return currentBatch;
 			}
 			else {
-				currentBatch.execute();
-				currentBatch.release();
+				// only one batch executes in the background at a time,
+				// so that the batches are executed in order
+				completeBackgroundBatch( true );
+				if ( currentBatch.executeInBackground() ) {
+					backgroundBatch = currentBatch;
+				}
+				else {
+					currentBatch.execute();
+					currentBatch.release();
+				}
 			}
 		}
 
@@ -183,6 +197,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	@Override
 	public void executeBatch() {
+		completeBackgroundBatch( true );
 		if ( currentBatch != null ) {
 			try {
 				currentBatch.execute();
@@ -195,6 +210,8 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	@Override
 	public void conditionallyExecuteBatch(BatchKey key) {
+		// the non-batched work which follows might depend on it
+		completeBackgroundBatch( true );
 		if ( currentBatch == null ) {
 			return;
 		}
@@ -207,11 +224,44 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	@Override
 	public void abortBatch() {
+		completeBackgroundBatch( false );
 		if ( currentBatch != null ) {
 			currentBatch.release();
 		}
 	}
 
+	@Override
+	public void completeBackgroundBatch() {
+		completeBackgroundBatch( true );
+	}
+
+	/**
+	 * Wait for the batch executing in the background, if any, to complete.
+	 *
+	 * @param reportFailure Whether to propagate a failure of the batch, in
+	 * which case the batch has already aborted the current batch
+	 */
+	private void completeBackgroundBatch(boolean reportFailure) {
+		if ( backgroundBatch != null ) {
+			final Batch batch = backgroundBatch;
+			backgroundBatch = null;
+			try {
+				batch.execute();
+			}
+			catch (RuntimeException e) {
+				if ( reportFailure ) {
+					throw e;
+				}
+				else {
+					JdbcBatchLogging.BATCH_LOGGER.debug( "Ignoring failure of background batch execution", e );
+				}
+			}
+			finally {
+				batch.release();
+			}
+		}
+	}
+
 	private transient StatementPreparer statementPreparer;
 
 	@Override
@@ -14,11 +14,8 @@ import org.hibernate.AssertionFailure;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.MutationStatementPreparer;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
-import org.hibernate.event.spi.EventManager;
-import org.hibernate.event.spi.HibernateMonitoringEvent;
-import org.hibernate.resource.jdbc.spi.JdbcObserver;
+import org.hibernate.resource.jdbc.internal.PreparedStatementCache;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
-import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 
 /**
@@ -39,7 +36,12 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 	}
 
 	private StatementPreparationTemplate buildPreparedStatementPreparationTemplate(String sql, final boolean isCallable) {
-		return new StatementPreparationTemplate( sql ) {
+		return new StatementPreparationTemplate( jdbcCoordinator, jdbcServices, sql ) {
+			@Override
+			protected PreparedStatementCache.Key cacheKey() {
+				return PreparedStatementCache.Key.of( sql, isCallable );
+			}
+
 			@Override
 			protected PreparedStatement doPrepare() throws SQLException {
 				//noinspection resource
@@ -55,7 +57,12 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 		if ( autoGeneratedKeys == PreparedStatement.RETURN_GENERATED_KEYS ) {
 			checkAutoGeneratedKeysSupportEnabled();
 		}
-		return new StatementPreparationTemplate( sql ) {
+		return new StatementPreparationTemplate( jdbcCoordinator, jdbcServices, sql ) {
+			@Override
+			protected PreparedStatementCache.Key cacheKey() {
+				return PreparedStatementCache.Key.withGeneratedKeys( sql, autoGeneratedKeys );
+			}
+
 			public PreparedStatement doPrepare() throws SQLException {
 				//noinspection resource
 				return connection().prepareStatement( sql, autoGeneratedKeys );
@@ -72,7 +79,12 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 	@Override
 	public PreparedStatement prepareStatement(String sql, String[] columnNames) {
 		checkAutoGeneratedKeysSupportEnabled();
-		return new StatementPreparationTemplate( sql ) {
+		return new StatementPreparationTemplate( jdbcCoordinator, jdbcServices, sql ) {
+			@Override
+			protected PreparedStatementCache.Key cacheKey() {
+				return PreparedStatementCache.Key.withGeneratedKeys( sql, columnNames );
+			}
+
 			public PreparedStatement doPrepare() throws SQLException {
 				//noinspection resource
 				return connection().prepareStatement( sql, columnNames );
@@ -80,59 +92,6 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 		}.prepareStatement();
 	}
 
-	private abstract class StatementPreparationTemplate {
-		protected final String sql;
-
-		protected StatementPreparationTemplate(String incomingSql) {
-			final String inspectedSql = jdbcCoordinator.getJdbcSessionOwner()
-					.getJdbcSessionContext()
-					.getStatementInspector()
-					.inspect( incomingSql );
-			this.sql = inspectedSql == null ? incomingSql : inspectedSql;
-		}
-
-		public PreparedStatement prepareStatement() {
-			try {
-				final PreparedStatement preparedStatement;
-				//noinspection deprecation
-				final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
-				final JdbcObserver observer = jdbcSessionOwner
-						.getJdbcSessionContext()
-						.getObserver();
-				final EventManager eventManager = jdbcSessionOwner.getEventManager();
-				final HibernateMonitoringEvent jdbcPreparedStatementCreation = eventManager.beginJdbcPreparedStatementCreationEvent();
-				try {
-					observer.jdbcPrepareStatementStart();
-					preparedStatement = doPrepare();
-					setStatementTimeout( preparedStatement );
-				}
-				finally {
-					eventManager.completeJdbcPreparedStatementCreationEvent( jdbcPreparedStatementCreation, sql );
-					observer.jdbcPrepareStatementEnd();
-				}
-				postProcess( preparedStatement );
-				return preparedStatement;
-			}
-			catch (SQLException e) {
-				throw sqlExceptionHelper().convert( e, "could not prepare statement", sql );
-			}
-		}
-
-		protected abstract PreparedStatement doPrepare() throws SQLException;
-
-		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
-			jdbcCoordinator.getLogicalConnection().getResourceRegistry().register( preparedStatement, true );
-//			logicalConnection().notifyObserversStatementPrepared();
-		}
-
-		private void setStatementTimeout(PreparedStatement preparedStatement) throws SQLException {
-			final int remainingTransactionTimeOutPeriod = jdbcCoordinator.determineRemainingTransactionTimeOutPeriod();
-			if ( remainingTransactionTimeOutPeriod > 0 ) {
-				preparedStatement.setQueryTimeout( remainingTransactionTimeOutPeriod );
-			}
-		}
-	}
-
 	protected final Connection connection() {
 		return logicalConnection().getPhysicalConnection();
 	}
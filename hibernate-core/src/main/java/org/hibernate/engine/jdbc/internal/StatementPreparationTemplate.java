@@ -0,0 +1,113 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.resource.jdbc.internal.LogicalConnectionManagedImpl;
+import org.hibernate.resource.jdbc.internal.PreparedStatementCache;
+import org.hibernate.resource.jdbc.spi.JdbcObserver;
+import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
+import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Prepares a statement for a {@link StatementPreparerImpl} or a
+ * {@link MutationStatementPreparerImpl}, reusing the statement kept by
+ * the {@link PreparedStatementCache} of the logical connection, if any.
+ * Only the preparation of a new statement is reported to the
+ * {@link JdbcObserver} and as a monitoring event.
+ *
+ * @since 6.6
+ */
+abstract class StatementPreparationTemplate {
+	private final JdbcCoordinatorImpl jdbcCoordinator;
+	private final JdbcServices jdbcServices;
+	protected final String sql;
+
+	protected StatementPreparationTemplate(
+			JdbcCoordinatorImpl jdbcCoordinator,
+			JdbcServices jdbcServices,
+			String incomingSql) {
+		this.jdbcCoordinator = jdbcCoordinator;
+		this.jdbcServices = jdbcServices;
+		final String inspectedSql = jdbcCoordinator.getJdbcSessionOwner()
+				.getJdbcSessionContext()
+				.getStatementInspector()
+				.inspect( incomingSql );
+		this.sql = inspectedSql == null ? incomingSql : inspectedSql;
+	}
+
+	public PreparedStatement prepareStatement() {
+		try {
+			final PreparedStatementCache statementCache = statementCache();
+			final PreparedStatementCache.Key key = statementCache == null ? null : cacheKey();
+			final PreparedStatement cachedStatement = statementCache == null ? null : statementCache.take( key );
+			final PreparedStatement preparedStatement;
+			if ( cachedStatement != null ) {
+				preparedStatement = cachedStatement;
+				setStatementTimeout( preparedStatement );
+			}
+			else {
+				preparedStatement = prepareNewStatement();
+				if ( statementCache != null ) {
+					statementCache.track( preparedStatement, key );
+				}
+			}
+			postProcess( preparedStatement );
+			return preparedStatement;
+		}
+		catch (SQLException e) {
+			throw jdbcServices.getSqlExceptionHelper().convert( e, "could not prepare statement", sql );
+		}
+	}
+
+	private PreparedStatement prepareNewStatement() throws SQLException {
+		final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
+		final JdbcObserver observer = jdbcSessionOwner.getJdbcSessionContext().getObserver();
+		final EventManager eventManager = jdbcSessionOwner.getEventManager();
+		final HibernateMonitoringEvent jdbcPreparedStatementCreation =
+				eventManager.beginJdbcPreparedStatementCreationEvent();
+		try {
+			observer.jdbcPrepareStatementStart();
+			final PreparedStatement preparedStatement = doPrepare();
+			setStatementTimeout( preparedStatement );
+			return preparedStatement;
+		}
+		finally {
+			eventManager.completeJdbcPreparedStatementCreationEvent( jdbcPreparedStatementCreation, sql );
+			observer.jdbcPrepareStatementEnd();
+		}
+	}
+
+	private @Nullable PreparedStatementCache statementCache() {
+		final LogicalConnectionImplementor logicalConnection = jdbcCoordinator.getLogicalConnection();
+		return logicalConnection instanceof LogicalConnectionManagedImpl
+				? ( (LogicalConnectionManagedImpl) logicalConnection ).getStatementCache()
+				: null;
+	}
+
+	protected abstract PreparedStatementCache.Key cacheKey();
+
+	protected abstract PreparedStatement doPrepare() throws SQLException;
+
+	protected void postProcess(PreparedStatement preparedStatement) throws SQLException {
+		jdbcCoordinator.getLogicalConnection().getResourceRegistry().register( preparedStatement, true );
+	}
+
+	private void setStatementTimeout(PreparedStatement preparedStatement) throws SQLException {
+		final int remainingTransactionTimeOutPeriod = jdbcCoordinator.determineRemainingTransactionTimeOutPeriod();
+		if ( remainingTransactionTimeOutPeriod > 0 ) {
+			preparedStatement.setQueryTimeout( remainingTransactionTimeOutPeriod );
+		}
+	}
+}
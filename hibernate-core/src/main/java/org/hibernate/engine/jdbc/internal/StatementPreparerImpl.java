@@ -17,11 +17,8 @@ import org.hibernate.ScrollMode;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.StatementPreparer;
-import org.hibernate.event.spi.EventManager;
-import org.hibernate.event.spi.HibernateMonitoringEvent;
-import org.hibernate.resource.jdbc.spi.JdbcObserver;
+import org.hibernate.resource.jdbc.internal.PreparedStatementCache;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
-import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 
 /**
@@ -85,8 +82,13 @@ class StatementPreparerImpl implements StatementPreparer {
 		return buildPreparedStatementPreparationTemplate( sql, isCallable ).prepareStatement();
 	}
 
-	private StatementPreparationTemplate buildPreparedStatementPreparationTemplate(String sql, final boolean isCallable) {
-		return new StatementPreparationTemplate( sql ) {
+	private LoggingStatementPreparationTemplate buildPreparedStatementPreparationTemplate(String sql, final boolean isCallable) {
+		return new LoggingStatementPreparationTemplate( sql ) {
+			@Override
+			protected PreparedStatementCache.Key cacheKey() {
+				return PreparedStatementCache.Key.of( sql, isCallable );
+			}
+
 			@Override
 			protected PreparedStatement doPrepare() throws SQLException {
 				return isCallable
@@ -108,7 +110,12 @@ class StatementPreparerImpl implements StatementPreparer {
 			checkAutoGeneratedKeysSupportEnabled();
 		}
 		jdbcCoordinator.executeBatch();
-		return new StatementPreparationTemplate( sql ) {
+		return new LoggingStatementPreparationTemplate( sql ) {
+			@Override
+			protected PreparedStatementCache.Key cacheKey() {
+				return PreparedStatementCache.Key.withGeneratedKeys( sql, autoGeneratedKeys );
+			}
+
 			public PreparedStatement doPrepare() throws SQLException {
 				return connection().prepareStatement( sql, autoGeneratedKeys );
 			}
@@ -119,7 +126,12 @@ class StatementPreparerImpl implements StatementPreparer {
 	public PreparedStatement prepareStatement(String sql, final String[] columnNames) {
 		checkAutoGeneratedKeysSupportEnabled();
 		jdbcCoordinator.executeBatch();
-		return new StatementPreparationTemplate( sql ) {
+		return new LoggingStatementPreparationTemplate( sql ) {
+			@Override
+			protected PreparedStatementCache.Key cacheKey() {
+				return PreparedStatementCache.Key.withGeneratedKeys( sql, columnNames );
+			}
+
 			public PreparedStatement doPrepare() throws SQLException {
 				return connection().prepareStatement( sql, columnNames );
 			}
@@ -136,6 +148,11 @@ class StatementPreparerImpl implements StatementPreparer {
 				throw new AssertionFailure("scrollable result sets are not enabled");
 			}
 			final PreparedStatement ps = new QueryStatementPreparationTemplate( sql ) {
+				@Override
+				protected PreparedStatementCache.Key cacheKey() {
+					return PreparedStatementCache.Key.of( sql, isCallable, scrollMode.toResultSetType() );
+				}
+
 				public PreparedStatement doPrepare() throws SQLException {
 						return isCallable
 								? connection().prepareCall( sql, scrollMode.toResultSetType(), ResultSet.CONCUR_READ_ONLY )
@@ -147,6 +164,11 @@ class StatementPreparerImpl implements StatementPreparer {
 		}
 		else {
 			final PreparedStatement ps = new QueryStatementPreparationTemplate( sql ) {
+				@Override
+				protected PreparedStatementCache.Key cacheKey() {
+					return PreparedStatementCache.Key.of( sql, isCallable );
+				}
+
 				public PreparedStatement doPrepare() throws SQLException {
 						return isCallable
 								? connection().prepareCall( sql )
@@ -158,64 +180,25 @@ class StatementPreparerImpl implements StatementPreparer {
 		}
 	}
 
-	private abstract class StatementPreparationTemplate {
-		protected final String sql;
-
-		protected StatementPreparationTemplate(String incomingSql) {
-			final String inspectedSql = jdbcCoordinator.getJdbcSessionOwner()
-					.getJdbcSessionContext()
-					.getStatementInspector()
-					.inspect( incomingSql );
-			this.sql = inspectedSql == null ? incomingSql : inspectedSql;
+	private abstract class LoggingStatementPreparationTemplate extends StatementPreparationTemplate {
+		protected LoggingStatementPreparationTemplate(String sql) {
+			super( jdbcCoordinator, jdbcServices, sql );
 		}
 
+		@Override
 		public PreparedStatement prepareStatement() {
-			try {
-				jdbcServices.getSqlStatementLogger().logStatement( sql );
-
-				final PreparedStatement preparedStatement;
-				final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
-				final JdbcObserver observer = jdbcSessionOwner.getJdbcSessionContext().getObserver();
-				final EventManager eventManager = jdbcSessionOwner.getEventManager();
-				final HibernateMonitoringEvent jdbcPreparedStatementCreation = eventManager.beginJdbcPreparedStatementCreationEvent();
-				try {
-					observer.jdbcPrepareStatementStart();
-					preparedStatement = doPrepare();
-					setStatementTimeout( preparedStatement );
-				}
-				finally {
-					eventManager.completeJdbcPreparedStatementCreationEvent( jdbcPreparedStatementCreation, sql );
-					observer.jdbcPrepareStatementEnd();
-				}
-				postProcess( preparedStatement );
-				return preparedStatement;
-			}
-			catch ( SQLException e ) {
-				throw sqlExceptionHelper().convert( e, "could not prepare statement", sql );
-			}
-		}
-
-		protected abstract PreparedStatement doPrepare() throws SQLException;
-
-		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
-			jdbcCoordinator.getLogicalConnection().getResourceRegistry().register( preparedStatement, true );
-//			logicalConnection().notifyObserversStatementPrepared();
-		}
-
-		private void setStatementTimeout(PreparedStatement preparedStatement) throws SQLException {
-			final int remainingTransactionTimeOutPeriod = jdbcCoordinator.determineRemainingTransactionTimeOutPeriod();
-			if ( remainingTransactionTimeOutPeriod > 0 ) {
-				preparedStatement.setQueryTimeout( remainingTransactionTimeOutPeriod );
-			}
+			jdbcServices.getSqlStatementLogger().logStatement( sql );
+			return super.prepareStatement();
 		}
 	}
 
-	private abstract class QueryStatementPreparationTemplate extends StatementPreparationTemplate {
+	private abstract class QueryStatementPreparationTemplate extends LoggingStatementPreparationTemplate {
 		protected QueryStatementPreparationTemplate(String sql) {
 			super( sql );
 		}
 
-		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
+		@Override
+		protected void postProcess(PreparedStatement preparedStatement) throws SQLException {
 			super.postProcess( preparedStatement );
 			setStatementFetchSize( preparedStatement );
 		}
@@ -10,8 +10,10 @@ import java.sql.CallableStatement;
 import java.sql.PreparedStatement;
 
 import org.hibernate.Incubating;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.jdbc.Expectation;
+import org.hibernate.sql.model.PreparableMutationOperation;
 import org.hibernate.sql.model.TableMapping;
 
 /**
@@ -50,6 +52,16 @@ public interface PreparedStatementDetails {
 	 */
 	Expectation getExpectation();
 
+	/**
+	 * The operation from which the {@linkplain #getSqlString() SQL} was generated,
+	 * or {@code null} if unknown.
+	 *
+	 * @since 6.6
+	 */
+	default PreparableMutationOperation getMutationOperation() {
+		return null;
+	}
+
 	/**
 	 * Whether the statement is callable
 	 */
@@ -58,4 +70,16 @@ public interface PreparedStatementDetails {
 	}
 
 	void releaseStatement(SharedSessionContractImplementor session);
+
+	/**
+	 * The group collecting the parameter bindings of the statement. An
+	 * implementation may return the same group for every row bound to the
+	 * statement, which is cleared after each row, so that the rows of a
+	 * batch reuse the same binding objects.
+	 *
+	 * @since 6.6
+	 */
+	default BindingGroup getBindingGroup() {
+		return new BindingGroup( getMutatingTableDetails().getTableName() );
+	}
 }
@@ -11,6 +11,7 @@ import java.util.Locale;
 import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
 import org.hibernate.engine.jdbc.mutation.ParameterUsage;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.sql.model.PreparableMutationOperation;
 import org.hibernate.sql.model.jdbc.JdbcValueDescriptor;
@@ -59,6 +60,13 @@ public abstract class AbstractSingleMutationExecutor extends AbstractMutationExe
 		return mutationOperation.findValueDescriptor( columnName, usage );
 	}
 
+	@Override
+	public BindingGroup resolveBindingGroup(String tableName) {
+		// reuse the bindings of the statement across the rows of a batch
+		final PreparedStatementDetails statementDetails = getPreparedStatementDetails( tableName );
+		return statementDetails == null ? new BindingGroup( tableName ) : statementDetails.getBindingGroup();
+	}
+
 	@Override
 	public JdbcValueBindings getJdbcValueBindings() {
 		return valueBindings;
@@ -70,7 +70,9 @@ public class JdbcValueBindingsImpl implements JdbcValueBindings {
 			return existing;
 		}
 
-		final BindingGroup created = new BindingGroup( tableName );
+		final BindingGroup created = jdbcValueDescriptorAccess.resolveBindingGroup( tableName );
+		// a reused group still holds bindings if the previous row failed
+		created.clear();
 		bindingGroupMap.put( tableName, created );
 		return created;
 	}
@@ -126,5 +128,16 @@ public class JdbcValueBindingsImpl implements JdbcValueBindings {
 		}
 
 		JdbcValueDescriptor resolveValueDescriptor(String tableName, String columnName, ParameterUsage usage);
+
+		/**
+		 * The group to collect the bindings for the given physical table in,
+		 * which is {@linkplain BindingGroup#clear() cleared} after the statement
+		 * is executed or added to a batch, and may then be reused.
+		 *
+		 * @see PreparedStatementDetails#getBindingGroup()
+		 */
+		default BindingGroup resolveBindingGroup(String tableName) {
+			return new BindingGroup( tableName );
+		}
 	}
 }
@@ -12,6 +12,7 @@ import java.util.function.Supplier;
 
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.jdbc.Expectation;
@@ -24,6 +25,7 @@ import org.hibernate.sql.model.TableMapping;
  * @author Steve Ebersole
  */
 public class PreparedStatementDetailsStandard implements PreparedStatementDetails {
+	private final PreparableMutationOperation mutationOperation;
 	private final TableMapping mutatingTableDetails;
 	private final String sql;
 	private final Supplier<PreparedStatement> jdbcStatementCreator;
@@ -31,6 +33,7 @@ public class PreparedStatementDetailsStandard implements PreparedStatementDetail
 	private final JdbcServices jdbcServices;
 
 	private PreparedStatement statement;
+	private BindingGroup bindingGroup;
 
 	public PreparedStatementDetailsStandard(
 			PreparableMutationOperation tableMutation,
@@ -51,6 +54,7 @@ public class PreparedStatementDetailsStandard implements PreparedStatementDetail
 			Supplier<PreparedStatement> jdbcStatementCreator,
 			Expectation expectation,
 			JdbcServices jdbcServices) {
+		this.mutationOperation = tableMutation;
 		this.mutatingTableDetails = tableMutation.getTableDetails();
 		this.sql = sql;
 		this.jdbcStatementCreator = jdbcStatementCreator;
@@ -58,6 +62,11 @@ public class PreparedStatementDetailsStandard implements PreparedStatementDetail
 		this.jdbcServices = jdbcServices;
 	}
 
+	@Override
+	public PreparableMutationOperation getMutationOperation() {
+		return mutationOperation;
+	}
+
 	@Override
 	public TableMapping getMutatingTableDetails() {
 		return mutatingTableDetails;
@@ -104,6 +113,14 @@ public class PreparedStatementDetailsStandard implements PreparedStatementDetail
 		return expectation;
 	}
 
+	@Override
+	public BindingGroup getBindingGroup() {
+		if ( bindingGroup == null ) {
+			bindingGroup = new BindingGroup( mutatingTableDetails.getTableName() );
+		}
+		return bindingGroup;
+	}
+
 	@Override
 	public String toString() {
 		return "PreparedStatementDetails(" + sql + ")";
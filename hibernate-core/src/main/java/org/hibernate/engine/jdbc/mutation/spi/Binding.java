@@ -17,7 +17,7 @@ import org.hibernate.type.descriptor.ValueBinder;
  */
 public class Binding {
 	private final String columnName;
-	private final Object value;
+	private Object value;
 	private final JdbcValueDescriptor valueDescriptor;
 
 	public Binding(String columnName, Object value, JdbcValueDescriptor valueDescriptor) {
@@ -40,6 +40,15 @@ public class Binding {
 		return value;
 	}
 
+	/**
+	 * Reuse this binding for the value of another row
+	 *
+	 * @see BindingGroup#clear()
+	 */
+	void setValue(Object value) {
+		this.value = value;
+	}
+
 	public JdbcValueDescriptor getValueDescriptor() {
 		return valueDescriptor;
 	}
@@ -6,28 +6,50 @@
  */
 package org.hibernate.engine.jdbc.mutation.spi;
 
-import java.util.Comparator;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
-import java.util.TreeSet;
 import java.util.function.Consumer;
 
 import org.hibernate.sql.model.jdbc.JdbcValueDescriptor;
 
 /**
  * Group of all parameter {@linkplain #getBindings() bindings} for a table.
+ * <p>
+ * The bindings are kept by JDBC position, and once {@linkplain #clear() cleared},
+ * the group may be reused for the next row bound to the same statement, in which
+ * case the {@link Binding} objects are reused as well.
  *
  * @author Steve Ebersole
  */
 public class BindingGroup {
+	private static final Binding[] NO_BINDINGS = new Binding[0];
+
 	private final String tableName;
-	private final Set<Binding> bindings;
+
+	// indexed by JDBC position - 1, holding the bindings of the current row
+	// as well as unbound Binding objects available for reuse
+	private Binding[] bindings = NO_BINDINGS;
+	private boolean[] bound;
+	private int size;
+
+	private final Set<Binding> bindingSet = new AbstractSet<>() {
+		@Override
+		public Iterator<Binding> iterator() {
+			return new BindingIterator();
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+	};
 
 	public BindingGroup(String tableName) {
 		this.tableName = tableName;
-		// todo (6.2) : TreeSet to log the parameter binding sequentially
-		//		- if we don't care, this can be another type of Set for perf
-		this.bindings = new TreeSet<>( Comparator.comparing( Binding::getPosition ) );
 	}
 
 	/**
@@ -38,17 +60,41 @@ public class BindingGroup {
 	}
 
 	/**
-	 * The parameter bindings
+	 * The parameter bindings, ordered by position. The returned set is a
+	 * view of the bindings of this group, which is emptied when the group
+	 * is {@linkplain #clear() cleared}.
+	 *
+	 * @see #copyBindings()
 	 */
 	public Set<Binding> getBindings() {
-		return bindings;
+		return bindingSet;
+	}
+
+	/**
+	 * A copy of the parameter bindings, ordered by position, which is not
+	 * affected by the later reuse of this group.
+	 */
+	public Binding[] copyBindings() {
+		final Binding[] copy = new Binding[size];
+		int count = 0;
+		for ( int i = 0; i < bindings.length; i++ ) {
+			if ( bound[i] ) {
+				final Binding binding = bindings[i];
+				copy[count++] = new Binding( binding.getColumnName(), binding.getValue(), binding.getValueDescriptor() );
+			}
+		}
+		return copy;
 	}
 
 	/**
 	 * Visit each parameter binding
 	 */
 	public void forEachBinding(Consumer<Binding> action) {
-		bindings.forEach( action );
+		for ( int i = 0; i < bindings.length; i++ ) {
+			if ( bound[i] ) {
+				action.accept( bindings[i] );
+			}
+		}
 	}
 
 	/**
@@ -56,13 +102,65 @@ public class BindingGroup {
 	 */
 	public void bindValue(String columnName, Object value, JdbcValueDescriptor valueDescriptor) {
 		assert Objects.equals( columnName, valueDescriptor.getColumnName() );
-		bindings.add( new Binding( columnName, value, valueDescriptor ) );
+		final int index = valueDescriptor.getJdbcPosition() - 1;
+		if ( index >= bindings.length ) {
+			final int length = Math.max( index + 1, bindings.length * 2 );
+			bindings = Arrays.copyOf( bindings, length );
+			bound = bound == null ? new boolean[length] : Arrays.copyOf( bound, length );
+		}
+		if ( !bound[index] ) {
+			final Binding existing = bindings[index];
+			if ( existing != null && existing.getValueDescriptor() == valueDescriptor ) {
+				existing.setValue( value );
+			}
+			else {
+				bindings[index] = new Binding( columnName, value, valueDescriptor );
+			}
+			bound[index] = true;
+			size++;
+		}
+		// else a value was already bound at this position, and we keep it
 	}
 
 	/**
 	 * Clear the {@linkplain #getBindings() bindings}
 	 */
 	public void clear() {
-		bindings.clear();
+		if ( size > 0 ) {
+			for ( int i = 0; i < bindings.length; i++ ) {
+				if ( bound[i] ) {
+					bindings[i].setValue( null );
+					bound[i] = false;
+				}
+			}
+			size = 0;
+		}
+	}
+
+	private class BindingIterator implements Iterator<Binding> {
+		private int next = advance( 0 );
+
+		private int advance(int from) {
+			int index = from;
+			while ( index < bindings.length && !bound[index] ) {
+				index++;
+			}
+			return index;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next < bindings.length;
+		}
+
+		@Override
+		public Binding next() {
+			if ( !hasNext() ) {
+				throw new NoSuchElementException();
+			}
+			final Binding binding = bindings[next];
+			next = advance( next + 1 );
+			return binding;
+		}
 	}
 }
@@ -71,6 +71,15 @@ public interface JdbcCoordinator extends Serializable, TransactionCoordinatorOwn
 	 */
 	void abortBatch();
 
+	/**
+	 * Wait for the batch {@linkplain Batch#executeInBackground() executing in the background}
+	 * (if any), so that the statements executed next run after it.
+	 *
+	 * @since 6.6
+	 */
+	default void completeBackgroundBatch() {
+	}
+
 	/**
 	 * Obtain the statement preparer associated with this JDBC coordinator.
 	 *
@@ -11,13 +11,14 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.BitSet;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -31,6 +32,7 @@ import org.hibernate.action.internal.BulkOperationCleanupAction;
 import org.hibernate.action.internal.CollectionRecreateAction;
 import org.hibernate.action.internal.CollectionRemoveAction;
 import org.hibernate.action.internal.CollectionUpdateAction;
+import org.hibernate.action.internal.EntityAction;
 import org.hibernate.action.internal.EntityActionVetoException;
 import org.hibernate.action.internal.EntityDeleteAction;
 import org.hibernate.action.internal.EntityIdentityInsertAction;
@@ -59,6 +61,9 @@ import org.hibernate.type.Type;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import static org.hibernate.cache.spi.QueryResultsDependencies.anyRowKey;
+import static org.hibernate.cache.spi.QueryResultsDependencies.hasBasicIdentifier;
+import static org.hibernate.cache.spi.QueryResultsDependencies.rowKey;
 import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
 
 /**
@@ -425,7 +430,7 @@ public class ActionQueue {
 			beforeTransactionProcesses.register( executable.getBeforeTransactionCompletionProcess() );
 		}
 		if ( session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
-			invalidateSpaces( executable.getPropertySpaces() );
+			invalidateSpaces( spacesToInvalidate( executable ) );
 		}
 		if ( executable.getAfterTransactionCompletionProcess() != null ) {
 			if ( afterTransactionProcesses == null ) {
@@ -663,7 +668,7 @@ public class ActionQueue {
 				// Strictly speaking, only a subset of the list may have been processed if a RuntimeException occurs.
 				// We still invalidate all spaces. I don't see this as a big deal - after all, RuntimeExceptions are
 				// unexpected.
-				invalidateSpaces( list.getQuerySpaces().toArray(new String[0]) );
+				invalidateSpaces( spacesToInvalidate( list ) );
 			}
 			// @NonNull String @Nullable [] - array nullable, elements not
 			// @Nullable String @NonNull [] - elements nullable, array not
@@ -685,6 +690,56 @@ public class ActionQueue {
 		}
 	}
 
+	private String @Nullable [] spacesToInvalidate(Executable executable) {
+		if ( session.getFactory().getSessionFactoryOptions().isQueryCacheInvalidationByIdEnabled() ) {
+			final Set<String> spaces = new HashSet<>();
+			addSpacesToInvalidate( executable, spaces );
+			return spaces.toArray( new String[0] );
+		}
+		else {
+			return executable.getPropertySpaces();
+		}
+	}
+
+	private <E extends ComparableExecutable> String[] spacesToInvalidate(ExecutableList<E> list) {
+		if ( session.getFactory().getSessionFactoryOptions().isQueryCacheInvalidationByIdEnabled() ) {
+			final Set<String> spaces = new HashSet<>();
+			for ( E executable : list ) {
+				addSpacesToInvalidate( executable, spaces );
+			}
+			return spaces.toArray( new String[0] );
+		}
+		else {
+			return list.getQuerySpaces().toArray( new String[0] );
+		}
+	}
+
+	/**
+	 * Besides the spaces themselves, updates and deletions of entities invalidate the
+	 * {@linkplain org.hibernate.cache.spi.QueryResultsDependencies#rowKey row keys} of the entities, and any
+	 * other change invalidates the {@linkplain org.hibernate.cache.spi.QueryResultsDependencies#anyRowKey key}
+	 * of changes to any row of the spaces. Row keys are shared by many rows, so that a flush invalidates each
+	 * of them at most once, however many rows it changes.
+	 */
+	private static void addSpacesToInvalidate(Executable executable, Set<String> spacesToInvalidate) {
+		final String[] spaces = executable.getPropertySpaces();
+		if ( spaces != null ) {
+			final EntityAction rowAction = executable instanceof EntityUpdateAction
+					|| executable instanceof EntityDeleteAction
+					? (EntityAction) executable
+					: null;
+			for ( String space : spaces ) {
+				spacesToInvalidate.add( space );
+				if ( rowAction != null && hasBasicIdentifier( rowAction.getPersister() ) ) {
+					spacesToInvalidate.add( rowKey( space, rowAction.getPersister(), rowAction.getId() ) );
+				}
+				else {
+					spacesToInvalidate.add( anyRowKey( space ) );
+				}
+			}
+		}
+	}
+
 	/**
 	 * This method is now called once per execution of an ExecutableList or once for execution of an Execution.
 	 *
@@ -1094,13 +1149,19 @@ public class ActionQueue {
 	 * directionality of foreign-keys. So even though we will be changing the ordering here, we need to make absolutely
 	 * certain that we do not circumvent this FK ordering to the extent of causing constraint violations.
 	 * <p>
-	 * The algorithm first discovers the transitive incoming dependencies for every insert action
-	 * and groups all inserts by the entity name.
-	 * Finally, it schedules these groups one by one, as long as all the dependencies of the groups are fulfilled.
-	 * </p>
-	 * The implementation will only produce an optimal insert order for the insert groups that can be perfectly scheduled serially.
-	 * Scheduling serially means, that there is an order which doesn't violate the FK constraint dependencies.
-	 * The inserts of insert groups which can't be scheduled, are going to be inserted in the original order.
+	 * The algorithm first discovers the direct dependencies between the insert actions, only looking at the
+	 * attributes which may carry one, as determined once per entity type and session factory from the mapping
+	 * model. It then topologically sorts the insert actions, counting the dependencies each insert still waits
+	 * on, and grouping the inserts by entity name: whenever possible, it schedules all the remaining inserts
+	 * of an entity name at once, otherwise all the inserts of an entity name which don't wait on any other
+	 * insert. The entity names having such ready inserts are kept in priority queues, so the sort is
+	 * {@code O((n + d) log g)} for {@code n} inserts, {@code d} dependencies and {@code g} entity names,
+	 * and dependencies between inserts of the same entity name, as in a tree, don't prevent the grouping.
+	 * <p>
+	 * Circular references between entity instances are broken when the insert actions are created, by
+	 * inserting a null foreign key and updating it later, so the original order, given by the cascades,
+	 * respects the foreign keys. Should a cycle be found anyway, for example between the elements of
+	 * inconsistent bidirectional associations, the whole batch is left in its original order.
 	 */
 	private static class InsertActionSorter implements ExecutableList.Sorter<AbstractEntityInsertAction> {
 		/**
@@ -1110,56 +1171,37 @@ public class ActionQueue {
 
 		private static class InsertInfo {
 			private final AbstractEntityInsertAction insertAction;
-			// Inserts in this set must be executed before this insert
-			private Set<InsertInfo> transitiveIncomingDependencies;
-			// Child dependencies of i.e. one-to-many or inverse one-to-one
-			// It's necessary to have this for unidirectional associations, to propagate incoming dependencies
-			private Set<InsertInfo> outgoingDependencies;
-			// The current index of the insert info within an insert schedule
-			private int index;
-
-			public InsertInfo(AbstractEntityInsertAction insertAction, int index) {
+			// The position of the insert in the original order
+			private final int index;
+			private final EntityInsertGroup group;
+			// Inserts which must be executed after this insert
+			private @Nullable List<InsertInfo> dependents;
+			// The number of inserts which must be executed before this insert and were not scheduled yet
+			private int pendingDependencies;
+
+			public InsertInfo(AbstractEntityInsertAction insertAction, int index, EntityInsertGroup group) {
 				this.insertAction = insertAction;
 				this.index = index;
+				this.group = group;
 			}
 
-			public void buildDirectDependencies(IdentityHashMap<Object, InsertInfo> insertInfosByEntity) {
-				final Object[] propertyValues = insertAction.getState();
-				final Type[] propertyTypes = insertAction.getPersister().getPropertyTypes();
-				for ( int i = 0, propertyTypesLength = propertyTypes.length; i < propertyTypesLength; i++ ) {
-					addDirectDependency( propertyTypes[i], propertyValues[i], insertInfosByEntity );
-				}
-			}
-
-			public void propagateChildDependencies() {
-				if ( outgoingDependencies != null ) {
-					for ( InsertInfo childDependency : outgoingDependencies ) {
-						if (childDependency.transitiveIncomingDependencies == null) {
-							childDependency.transitiveIncomingDependencies = new HashSet<>();
-						}
-						childDependency.transitiveIncomingDependencies.add( this );
+			private void addDependent(InsertInfo dependent) {
+				if ( dependent != this ) {
+					if ( dependents == null ) {
+						dependents = new ArrayList<>();
 					}
+					dependents.add( dependent );
+					dependent.pendingDependencies++;
 				}
 			}
 
-			public void buildTransitiveDependencies(Set<InsertInfo> visited) {
-				if ( transitiveIncomingDependencies != null ) {
-					visited.addAll( transitiveIncomingDependencies );
-					for ( InsertInfo insertInfo : transitiveIncomingDependencies.toArray(new InsertInfo[0]) ) {
-						insertInfo.addTransitiveDependencies(this, visited);
-					}
-					visited.clear();
-				}
-			}
-
-			public void addTransitiveDependencies(InsertInfo origin, Set<InsertInfo> visited) {
-				if ( transitiveIncomingDependencies != null ) {
-					for ( InsertInfo insertInfo : transitiveIncomingDependencies ) {
-						if ( visited.add(insertInfo) ) {
-							origin.transitiveIncomingDependencies.add( insertInfo );
-							insertInfo.addTransitiveDependencies( origin, visited );
-						}
-					}
+			public void buildDirectDependencies(
+					IdentityHashMap<Object, InsertInfo> insertInfosByEntity,
+					int[] dependencyAttributes) {
+				final Object[] propertyValues = insertAction.getState();
+				final Type[] propertyTypes = insertAction.getPersister().getPropertyTypes();
+				for ( int i : dependencyAttributes ) {
+					addDirectDependency( propertyTypes[i], propertyValues[i], insertInfosByEntity );
 				}
 			}
 
@@ -1171,41 +1213,23 @@ public class ActionQueue {
 						if ( entityType.isOneToOne()
 								&& entityType.getForeignKeyDirection() == ForeignKeyDirection.TO_PARENT ) {
 							if ( !entityType.isReferenceToPrimaryKey() ) {
-								if ( outgoingDependencies == null ) {
-									outgoingDependencies = new HashSet<>();
-								}
-								outgoingDependencies.add(insertInfo);
+								// the other side holds the foreign key to this side
+								addDependent( insertInfo );
 							}
 						}
 						else {
-							if ( transitiveIncomingDependencies == null ) {
-								transitiveIncomingDependencies = new HashSet<>();
-							}
-							transitiveIncomingDependencies.add( insertInfo );
+							insertInfo.addDependent( this );
 						}
 					}
 				}
 				else if ( type.isCollectionType() && value != null ) {
-					CollectionType collectionType = (CollectionType) type;
-					final PluralAttributeMapping pluralAttributeMapping = insertAction.getSession()
-							.getFactory()
-							.getMappingMetamodel()
-							.getCollectionDescriptor( collectionType.getRole() )
-							.getAttributeMapping();
-					// We only care about mappedBy one-to-many associations, because for these,
+					// We only get here for mappedBy one-to-many associations, because for these,
 					// the elements depend on the collection owner
-					if ( pluralAttributeMapping.getCollectionDescriptor().isOneToMany()
-							&& pluralAttributeMapping.getElementDescriptor() instanceof EntityCollectionPart ) {
-						final Iterator<?> elementsIterator = collectionType.getElementsIterator( value );
-						while ( elementsIterator.hasNext() ) {
-							final Object element = elementsIterator.next();
-							final InsertInfo insertInfo = insertInfosByEntity.get( element );
-							if ( insertInfo != null ) {
-								if ( outgoingDependencies == null ) {
-									outgoingDependencies = new HashSet<>();
-								}
-								outgoingDependencies.add( insertInfo );
-							}
+					final Iterator<?> elementsIterator = ( (CollectionType) type ).getElementsIterator( value );
+					while ( elementsIterator.hasNext() ) {
+						final InsertInfo insertInfo = insertInfosByEntity.get( elementsIterator.next() );
+						if ( insertInfo != null ) {
+							addDependent( insertInfo );
 						}
 					}
 				}
@@ -1222,24 +1246,6 @@ public class ActionQueue {
 				}
 			}
 
-			@Override
-			public boolean equals(@Nullable Object o) {
-				if ( this == o )  {
-					return true;
-				}
-				if ( o == null || getClass() != o.getClass() ) {
-					return false;
-				}
-
-				final InsertInfo that = (InsertInfo) o;
-				return insertAction.equals( that.insertAction );
-			}
-
-			@Override
-			public int hashCode() {
-				return insertAction.hashCode();
-			}
-
 			@Override
 			public String toString() {
 				return "InsertInfo{" +
@@ -1256,135 +1262,192 @@ public class ActionQueue {
 		 */
 		public void sort(List<AbstractEntityInsertAction> insertions) {
 			final int insertInfoCount = insertions.size();
-			// Build up dependency metadata for insert actions
 			final InsertInfo[] insertInfos = new InsertInfo[insertInfoCount];
 			// A map of all insert infos keyed by the entity instance
 			// This is needed to discover insert infos for direct dependencies
-			final IdentityHashMap<Object, InsertInfo> insertInfosByEntity = new IdentityHashMap<>( insertInfos.length );
-			// Construct insert infos and build a map for that, keyed by entity instance
-			for (int i = 0; i < insertInfoCount; i++) {
-				final AbstractEntityInsertAction insertAction = insertions.get(i);
-				final InsertInfo insertInfo = new InsertInfo(insertAction, i);
-				insertInfosByEntity.put(insertAction.getInstance(), insertInfo);
+			final IdentityHashMap<Object, InsertInfo> insertInfosByEntity = new IdentityHashMap<>( insertInfoCount );
+			// The groups of inserts, in the order of the first insert of each entity name
+			final Map<String, EntityInsertGroup> insertGroupsByEntityName = new LinkedHashMap<>();
+			for ( int i = 0; i < insertInfoCount; i++ ) {
+				final AbstractEntityInsertAction insertAction = insertions.get( i );
+				EntityInsertGroup insertGroup = insertGroupsByEntityName.get( insertAction.getPersister().getEntityName() );
+				if ( insertGroup == null ) {
+					insertGroup = new EntityInsertGroup(
+							insertAction.getPersister().getEntityName(),
+							insertGroupsByEntityName.size()
+					);
+					insertGroupsByEntityName.put( insertGroup.entityName, insertGroup );
+				}
+				final InsertInfo insertInfo = new InsertInfo( insertAction, i, insertGroup );
+				insertGroup.remaining++;
+				insertInfosByEntity.put( insertAction.getInstance(), insertInfo );
 				insertInfos[i] = insertInfo;
 			}
-			// First we must discover the direct dependencies
-			for (int i = 0; i < insertInfoCount; i++) {
-				insertInfos[i].buildDirectDependencies(insertInfosByEntity);
-			}
-			// Then we can propagate child dependencies to the insert infos incoming dependencies
-			for (int i = 0; i < insertInfoCount; i++) {
-				insertInfos[i].propagateChildDependencies();
-			}
-			// Finally, we add all the transitive incoming dependencies
-			// and then group insert infos into EntityInsertGroup keyed by entity name
-			final Set<InsertInfo> visited = new HashSet<>();
-			final Map<String, EntityInsertGroup> insertInfosByEntityName = new LinkedHashMap<>();
-			for (int i = 0; i < insertInfoCount; i++) {
-				final InsertInfo insertInfo = insertInfos[i];
-				insertInfo.buildTransitiveDependencies( visited );
-
-				final String entityName = insertInfo.insertAction.getPersister().getEntityName();
-				EntityInsertGroup entityInsertGroup = insertInfosByEntityName.get(entityName);
-				if (entityInsertGroup == null) {
-					insertInfosByEntityName.put(entityName, entityInsertGroup = new EntityInsertGroup(entityName));
-				}
-				entityInsertGroup.add(insertInfo);
-			}
-			// Now we can go through the EntityInsertGroups and schedule all the ones
-			// for which we have already scheduled all the dependentEntityNames
-			final Set<String> scheduledEntityNames = new HashSet<>(insertInfosByEntityName.size());
-			int schedulePosition = 0;
-			int lastScheduleSize;
-			do {
-				lastScheduleSize = scheduledEntityNames.size();
-				final Iterator<EntityInsertGroup> iterator = insertInfosByEntityName.values().iterator();
-				while (iterator.hasNext()) {
-					final EntityInsertGroup insertGroup = iterator.next();
-					if (scheduledEntityNames.containsAll(insertGroup.dependentEntityNames)) {
-						schedulePosition = schedule(insertInfos, insertGroup.insertInfos, schedulePosition);
-						scheduledEntityNames.add(insertGroup.entityName);
-						iterator.remove();
-					}
+
+			// Discover the direct dependencies, looking only at the attributes which may carry one
+			for ( InsertInfo insertInfo : insertInfos ) {
+				final EntityPersister persister = insertInfo.insertAction.getPersister();
+				insertInfo.buildDirectDependencies(
+						insertInfosByEntity,
+						persister.getFactory().getFastSessionServices()
+								.getInsertDependencyAttributes( persister, InsertActionSorter::dependencyAttributes )
+				);
+			}
+
+			final ReadyInsertGroups readyInsertGroups = new ReadyInsertGroups();
+			for ( InsertInfo insertInfo : insertInfos ) {
+				if ( insertInfo.pendingDependencies == 0 ) {
+					readyInsertGroups.add( insertInfo );
 				}
-				// we try to schedule entity groups over and over again, until we can't schedule any further
-			} while (lastScheduleSize != scheduledEntityNames.size());
-			if ( !insertInfosByEntityName.isEmpty() ) {
-				LOG.warn("The batch containing " + insertions.size() + " statements could not be sorted. " +
-					"This might indicate a circular entity relationship.");
 			}
+
 			insertions.clear();
-			for (InsertInfo insertInfo : insertInfos) {
-				insertions.add(insertInfo.insertAction);
-			}
-		}
-
-		private int schedule(InsertInfo [] insertInfos, List<InsertInfo> insertInfosToSchedule, int schedulePosition) {
-			final InsertInfo[] newInsertInfos = new InsertInfo[insertInfos.length];
-			// The bitset is there to quickly query if an index is already scheduled
-			final BitSet bitSet = new BitSet(insertInfos.length);
-			// Remember the smallest index of the insertInfosToSchedule to check if we actually need to reorder anything
-			int smallestScheduledIndex = -1;
-			// The biggestScheduledIndex is needed as upper bound for shifting elements that were replaced by insertInfosToSchedule
-			int biggestScheduledIndex = -1;
-			for (int i = 0; i < insertInfosToSchedule.size(); i++) {
-				final int index = insertInfosToSchedule.get(i).index;
-				bitSet.set(index);
-				smallestScheduledIndex = Math.min(smallestScheduledIndex, index);
-				biggestScheduledIndex = Math.max(biggestScheduledIndex, index);
-			}
-			final int nextSchedulePosition = schedulePosition + insertInfosToSchedule.size();
-			if (smallestScheduledIndex == schedulePosition && biggestScheduledIndex == nextSchedulePosition) {
-				// In this case, the order is already correct and we can skip some copying
-				return nextSchedulePosition;
-			}
-			// The index to which we start to shift elements that appear within the range of [schedulePosition, nextSchedulePosition)
-			int shiftSchedulePosition = nextSchedulePosition;
-			for (int i = 0; i < insertInfosToSchedule.size(); i++) {
-				final InsertInfo insertInfoToSchedule = insertInfosToSchedule.get(i);
-				final int targetSchedulePosition = schedulePosition + i;
-				newInsertInfos[targetSchedulePosition] = insertInfoToSchedule;
-				insertInfoToSchedule.index = targetSchedulePosition;
-				final InsertInfo oldInsertInfo = insertInfos[targetSchedulePosition];
-				// Move the insert info previously located at the target schedule position to the current shift position
-				if (!bitSet.get(targetSchedulePosition)) {
-					oldInsertInfo.index = shiftSchedulePosition;
-					// Also set this index in the bitset to skip copying the value later, as it is considered scheduled
-					bitSet.set(targetSchedulePosition);
-					newInsertInfos[shiftSchedulePosition++]= oldInsertInfo;
+			EntityInsertGroup insertGroup;
+			while ( ( insertGroup = readyInsertGroups.poll() ) != null ) {
+				// when the whole group is ready, keep the original order of its inserts
+				if ( insertGroup.ready.size() == insertGroup.remaining ) {
+					insertGroup.ready.sort( ( a, b ) -> Integer.compare( a.index, b.index ) );
+				}
+				// inserts becoming ready while scheduling the group are added to it
+				for ( int i = 0; i < insertGroup.ready.size(); i++ ) {
+					schedule( insertGroup.ready.get( i ), insertions, readyInsertGroups );
+				}
+				insertGroup.remaining -= insertGroup.ready.size();
+				insertGroup.ready.clear();
+			}
+
+			if ( insertions.size() < insertInfoCount ) {
+				// The inserts left over wait on each other: rather than guessing which foreign key
+				// may be null, fall back to the original order, in which the cascades placed them
+				LOG.warn( "The batch containing " + insertInfoCount + " statements could not be sorted, " +
+					"and is executed in its original order. This might indicate a circular entity relationship." );
+				insertions.clear();
+				for ( InsertInfo insertInfo : insertInfos ) {
+					insertions.add( insertInfo.insertAction );
 				}
 			}
-			// We have to shift all the elements up to the biggestMovedIndex + 1
-			biggestScheduledIndex++;
-			for (int i = bitSet.nextClearBit(schedulePosition); i < biggestScheduledIndex; i++) {
-				// Only copy the old insert info over if it wasn't already scheduled
-				if (!bitSet.get(i)) {
-					final InsertInfo insertInfo = insertInfos[i];
-					insertInfo.index = shiftSchedulePosition;
-					newInsertInfos[shiftSchedulePosition++] = insertInfo;
+		}
+
+		private static void schedule(
+				InsertInfo insertInfo,
+				List<AbstractEntityInsertAction> insertions,
+				ReadyInsertGroups readyInsertGroups) {
+			insertions.add( insertInfo.insertAction );
+			if ( insertInfo.dependents != null ) {
+				for ( InsertInfo dependent : insertInfo.dependents ) {
+					if ( --dependent.pendingDependencies == 0 ) {
+						readyInsertGroups.add( dependent );
+					}
 				}
 			}
-			// Copy over the newly reordered array part into the main array
-			System.arraycopy(newInsertInfos, schedulePosition, insertInfos, schedulePosition, biggestScheduledIndex - schedulePosition);
-			return nextSchedulePosition;
 		}
 
-		public static class EntityInsertGroup {
-			private final String entityName;
-			private final List<InsertInfo> insertInfos = new ArrayList<>();
-			private final Set<String> dependentEntityNames = new HashSet<>();
+		/**
+		 * The indexes of the attributes of the given entity type which may reference another entity
+		 * which has to be inserted before or after it.
+		 */
+		private static int[] dependencyAttributes(EntityPersister persister) {
+			final Type[] propertyTypes = persister.getPropertyTypes();
+			final int[] dependencyAttributes = new int[propertyTypes.length];
+			int count = 0;
+			for ( int i = 0; i < propertyTypes.length; i++ ) {
+				if ( mayCarryDependency( propertyTypes[i], persister.getFactory() ) ) {
+					dependencyAttributes[count++] = i;
+				}
+			}
+			return Arrays.copyOf( dependencyAttributes, count );
+		}
 
-			public EntityInsertGroup(String entityName) {
-				this.entityName = entityName;
+		private static boolean mayCarryDependency(Type type, SessionFactoryImplementor factory) {
+			if ( type.isEntityType() ) {
+				return true;
+			}
+			else if ( type.isCollectionType() ) {
+				final PluralAttributeMapping pluralAttributeMapping = factory.getMappingMetamodel()
+						.getCollectionDescriptor( ( (CollectionType) type ).getRole() )
+						.getAttributeMapping();
+				// We only care about mappedBy one-to-many associations, because for these,
+				// the elements depend on the collection owner
+				return pluralAttributeMapping.getCollectionDescriptor().isOneToMany()
+						&& pluralAttributeMapping.getElementDescriptor() instanceof EntityCollectionPart;
+			}
+			else if ( type.isComponentType() ) {
+				for ( Type subtype : ( (CompositeType) type ).getSubtypes() ) {
+					if ( mayCarryDependency( subtype, factory ) ) {
+						return true;
+					}
+				}
+				return false;
+			}
+			else {
+				return false;
+			}
+		}
+
+		/**
+		 * The groups having ready inserts, in the order of the first insert of each entity name,
+		 * the groups whose remaining inserts are all ready coming first.
+		 * <p>
+		 * A group is only added to a queue it isn't already in, so the queues may contain groups
+		 * whose ready inserts were scheduled in the meantime, and which are skipped when polled.
+		 */
+		private static class ReadyInsertGroups {
+			private final PriorityQueue<EntityInsertGroup> fullyReady =
+					new PriorityQueue<>( ( a, b ) -> Integer.compare( a.ordinal, b.ordinal ) );
+			private final PriorityQueue<EntityInsertGroup> partiallyReady =
+					new PriorityQueue<>( ( a, b ) -> Integer.compare( a.ordinal, b.ordinal ) );
+
+			private void add(InsertInfo insertInfo) {
+				final EntityInsertGroup insertGroup = insertInfo.group;
+				insertGroup.ready.add( insertInfo );
+				if ( insertGroup.ready.size() == insertGroup.remaining ) {
+					if ( !insertGroup.queuedFullyReady ) {
+						insertGroup.queuedFullyReady = true;
+						fullyReady.add( insertGroup );
+					}
+				}
+				else if ( !insertGroup.queuedPartiallyReady ) {
+					insertGroup.queuedPartiallyReady = true;
+					partiallyReady.add( insertGroup );
+				}
 			}
 
-			public void add(InsertInfo insertInfo) {
-				insertInfos.add(insertInfo);
-				if (insertInfo.transitiveIncomingDependencies != null) {
-					for (InsertInfo dependency : insertInfo.transitiveIncomingDependencies) {
-						dependentEntityNames.add(dependency.insertAction.getEntityName());
+			/**
+			 * The first group whose remaining inserts are all ready, otherwise the first group having
+			 * ready inserts, or {@code null} if there are no ready inserts left.
+			 */
+			private @Nullable EntityInsertGroup poll() {
+				EntityInsertGroup insertGroup;
+				while ( ( insertGroup = fullyReady.poll() ) != null ) {
+					insertGroup.queuedFullyReady = false;
+					if ( !insertGroup.ready.isEmpty() && insertGroup.ready.size() == insertGroup.remaining ) {
+						return insertGroup;
+					}
+				}
+				while ( ( insertGroup = partiallyReady.poll() ) != null ) {
+					insertGroup.queuedPartiallyReady = false;
+					if ( !insertGroup.ready.isEmpty() ) {
+						return insertGroup;
 					}
 				}
+				return null;
+			}
+		}
+
+		private static class EntityInsertGroup {
+			private final String entityName;
+			// The position of the group in the order of the first insert of each entity name
+			private final int ordinal;
+			// Inserts which don't wait on any other insert and were not scheduled yet
+			private final List<InsertInfo> ready = new ArrayList<>();
+			// The number of inserts which were not scheduled yet
+			private int remaining;
+			private boolean queuedFullyReady;
+			private boolean queuedPartiallyReady;
+
+			public EntityInsertGroup(String entityName, int ordinal) {
+				this.entityName = entityName;
+				this.ordinal = ordinal;
 			}
 
 			@Override
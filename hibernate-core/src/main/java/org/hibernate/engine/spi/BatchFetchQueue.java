@@ -202,6 +202,24 @@ public class BatchFetchQueue {
 			IndexedConsumer<T> collector,
 			final @NonNull T loadingId,
 			final EntityMappingType entityDescriptor) {
+		collectBatchLoadableEntityIds( domainBatchSize, collector, loadingId, entityDescriptor, true );
+	}
+
+	/**
+	 * A "collector" form of {@link #getBatchLoadableEntityIds}.
+	 *
+	 * @param skipCached Whether to skip the ids of entities found in the
+	 * second-level cache. Checking the cache costs a lookup per id, so
+	 * callers which look up the whole batch at once pass {@code false}.
+	 *
+	 * @since 6.6
+	 */
+	public <T> void collectBatchLoadableEntityIds(
+			final int domainBatchSize,
+			IndexedConsumer<T> collector,
+			final @NonNull T loadingId,
+			final EntityMappingType entityDescriptor,
+			final boolean skipCached) {
 		// make sure we load the id being loaded in the batch!
 		collector.accept( 0, loadingId );
 
@@ -230,7 +248,7 @@ public class BatchFetchQueue {
 				end = batchPosition;
 			}
 			else {
-				if ( !isCached( key, entityDescriptor.getEntityPersister() ) ) {
+				if ( !skipCached || !isCached( key, entityDescriptor.getEntityPersister() ) ) {
 					//noinspection unchecked
 					collector.accept( batchPosition++, (T) key.getIdentifier() );
 				}
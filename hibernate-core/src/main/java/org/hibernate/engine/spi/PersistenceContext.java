@@ -182,6 +182,23 @@ public interface PersistenceContext {
 	 */
 	boolean containsEntity(EntityKey key);
 
+	/**
+	 * Get the entity instance with the given identifier, like {@link #getEntity(EntityKey)},
+	 * but without requiring the caller to instantiate an {@link EntityKey}, which the
+	 * persistence context may avoid altogether.
+	 *
+	 * @param id The identifier of the entity
+	 * @param persister The persister of the entity
+	 *
+	 * @return The matching entity, or {@code null}
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	default Object getEntity(Object id, EntityPersister persister) {
+		return getEntity( getSession().generateEntityKey( id, persister ) );
+	}
+
 	/**
 	 * Remove an entity.  Also clears up all other state associated with the entity aside from the {@link EntityEntry}
 	 *
@@ -523,6 +540,17 @@ public interface PersistenceContext {
 
 	EntityHolder getEntityHolder(EntityKey key);
 
+	/**
+	 * Get the holder of the entity with the given identifier, like {@link #getEntityHolder(EntityKey)},
+	 * but without requiring the caller to instantiate an {@link EntityKey}.
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	default EntityHolder getEntityHolder(Object id, EntityPersister persister) {
+		return getEntityHolder( getSession().generateEntityKey( id, persister ) );
+	}
+
 	boolean containsEntityHolder(EntityKey key);
 
 	EntityHolder removeEntityHolder(EntityKey key);
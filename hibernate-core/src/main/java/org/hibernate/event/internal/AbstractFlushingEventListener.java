@@ -234,12 +234,20 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		final Map.Entry<Object,EntityEntry>[] entityEntries = persistenceContext.reentrantSafeEntityEntries();
 		final int count = entityEntries.length;
 
+		// Optionally read and dirty-check the state of large numbers of entities in parallel,
+		// the events themselves are still processed sequentially, and in order
+		final ParallelDirtyChecking.Result[] precomputed =
+				ParallelDirtyChecking.isEnabled( source, count )
+						? ParallelDirtyChecking.precompute( entityEntries, source )
+						: null;
+
 		FlushEntityEvent entityEvent = null; //allow reuse of the event as it's heavily allocated in certain use cases
 		int eventGenerationId = 0; //Used to double-check the instance reuse won't cause problems
 
-		for ( Map.Entry<Object,EntityEntry> me : entityEntries ) {
+		for ( int i = 0; i < count; i++ ) {
 			// Update the status of the object and if necessary, schedule an update
 
+			final Map.Entry<Object,EntityEntry> me = entityEntries[i];
 			final EntityEntry entry = me.getValue();
 			final Status status = entry.getStatus();
 
@@ -247,6 +255,9 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 				entityEvent = createOrReuseEventInstance( entityEvent, source, me.getKey(), entry );
 
 				entityEvent.setInstanceGenerationId( ++eventGenerationId );
+				if ( precomputed != null && precomputed[i] != null ) {
+					entityEvent.setPrecomputedDirtyCheck( precomputed[i].values, precomputed[i].dirtyProperties );
+				}
 
 				flushListeners.fireEventOnEachListener( entityEvent, FlushEntityEventListener::onFlushEntity );
 				entityEvent.setAllowedToReuse( true );
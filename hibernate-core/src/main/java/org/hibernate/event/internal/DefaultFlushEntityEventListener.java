@@ -138,7 +138,7 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 
 		final boolean mightBeDirty = entry.requiresDirtyCheck( entity );
 
-		final Object[] values = getValues( entity, entry, mightBeDirty, session );
+		final Object[] values = getValues( event, entry, mightBeDirty, session );
 
 		event.setPropertyValues( values );
 
@@ -167,7 +167,8 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 
 	}
 
-	private Object[] getValues(Object entity, EntityEntry entry, boolean mightBeDirty, SessionImplementor session) {
+	private Object[] getValues(FlushEntityEvent event, EntityEntry entry, boolean mightBeDirty, SessionImplementor session) {
+		final Object entity = event.getEntity();
 		final Object[] loadedState = entry.getLoadedState();
 
 		if ( entry.getStatus() == Status.DELETED ) {
@@ -181,7 +182,7 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 			final EntityPersister persister = entry.getPersister();
 			checkId( entity, persister, entry.getId(), session );
 			// grab its current state
-			Object[] values = persister.getValues( entity );
+			final Object[] values = persister.getValues( entity );
 			checkNaturalId( persister, entity, entry, values, loadedState, session );
 			return values;
 		}
@@ -487,6 +488,19 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 		logDirtyProperties( event.getEntityEntry(), dirtyProperties );
 	}
 
+	/**
+	 * Whether the current state of an entity still refers to the very same instances
+	 * as the state which was read, and dirty-checked, ahead of the flush entity event.
+	 */
+	private static boolean isSameState(Object[] values, Object[] precomputedValues) {
+		for ( int i = 0; i < values.length; i++ ) {
+			if ( values[i] != precomputedValues[i] ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	private static int[] performDirtyCheck(FlushEntityEvent event) {
 		final SessionImplementor session = event.getSession();
 		boolean dirtyCheckPossible;
@@ -503,7 +517,16 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 			final Object entity = event.getEntity();
 			if ( loadedState != null ) {
 				// dirty check against the usual snapshot of the entity
-				dirtyProperties = persister.findDirty( values, loadedState, entity, session );
+				if ( event.hasPrecomputedDirtyCheck()
+						&& isSameState( values, event.getPrecomputedPropertyValues() ) ) {
+					// the values were dirty-checked ahead of the event, and still refer to the same instances
+					dirtyProperties = event.getPrecomputedDirtyProperties();
+					// a second dirty check, after interception, must be done for real
+					event.clearPrecomputedDirtyCheck();
+				}
+				else {
+					dirtyProperties = persister.findDirty( values, loadedState, entity, session );
+				}
 				dirtyCheckPossible = true;
 			}
 			else if ( entry.getStatus() == Status.DELETED && !entry.isModifiableEntity() ) {
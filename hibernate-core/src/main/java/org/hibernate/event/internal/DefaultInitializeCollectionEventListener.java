@@ -15,6 +15,8 @@ import org.hibernate.engine.spi.CollectionEntry;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.event.spi.InitializeCollectionEvent;
 import org.hibernate.event.spi.InitializeCollectionEventListener;
 import org.hibernate.internal.CoreLogging;
@@ -47,35 +49,42 @@ public class DefaultInitializeCollectionEventListener implements InitializeColle
 		if ( !collection.wasInitialized() ) {
 			final CollectionPersister loadedPersister = ce.getLoadedPersister();
 			final Object loadedKey = ce.getLoadedKey();
-			if ( LOG.isTraceEnabled() ) {
-				LOG.tracev(
-						"Initializing collection {0}",
-						collectionInfoString( loadedPersister, collection, loadedKey, source )
-				);
-				LOG.trace( "Checking second-level cache" );
-			}
-
-			final boolean foundInCache = initializeCollectionFromCache( loadedKey, loadedPersister, collection, source );
-			if ( foundInCache ) {
-				if ( LOG.isTraceEnabled() ) {
-					LOG.trace( "Collection initialized from cache" );
-				}
-			}
-			else {
+			final EventManager eventManager = source.getEventManager();
+			final HibernateMonitoringEvent lazyInitializationEvent = eventManager.beginLazyInitializationEvent();
+			try {
 				if ( LOG.isTraceEnabled() ) {
-					LOG.trace( "Collection not cached" );
+					LOG.tracev(
+							"Initializing collection {0}",
+							collectionInfoString( loadedPersister, collection, loadedKey, source )
+					);
+					LOG.trace( "Checking second-level cache" );
 				}
-				loadedPersister.initialize( loadedKey, source );
-				handlePotentiallyEmptyCollection( collection, persistenceContext, loadedKey, loadedPersister );
-				if ( LOG.isTraceEnabled() ) {
-					LOG.trace( "Collection initialized" );
+
+				final boolean foundInCache = initializeCollectionFromCache( loadedKey, loadedPersister, collection, source );
+				if ( foundInCache ) {
+					if ( LOG.isTraceEnabled() ) {
+						LOG.trace( "Collection initialized from cache" );
+					}
 				}
+				else {
+					if ( LOG.isTraceEnabled() ) {
+						LOG.trace( "Collection not cached" );
+					}
+					loadedPersister.initialize( loadedKey, source );
+					handlePotentiallyEmptyCollection( collection, persistenceContext, loadedKey, loadedPersister );
+					if ( LOG.isTraceEnabled() ) {
+						LOG.trace( "Collection initialized" );
+					}
 
-				final StatisticsImplementor statistics = source.getFactory().getStatistics();
-				if ( statistics.isStatisticsEnabled() ) {
-					statistics.fetchCollection( loadedPersister.getRole() );
+					final StatisticsImplementor statistics = source.getFactory().getStatistics();
+					if ( statistics.isStatisticsEnabled() ) {
+						statistics.fetchCollection( loadedPersister.getRole() );
+					}
 				}
 			}
+			finally {
+				eventManager.completeLazyInitializationEvent( lazyInitializationEvent, source, loadedPersister );
+			}
 		}
 	}
 
@@ -571,8 +571,7 @@ public class DefaultMergeEventListener
 		if ( entry == null ) {
 			Object id = persister.getIdentifier( entity, source );
 			if ( id != null ) {
-				final EntityKey key = source.generateEntityKey( id, persister );
-				final Object managedEntity = persistenceContext.getEntity( key );
+				final Object managedEntity = persistenceContext.getEntity( id, persister );
 				entry = persistenceContext.getEntry( managedEntity );
 			}
 		}
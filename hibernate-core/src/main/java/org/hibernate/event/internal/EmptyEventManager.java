@@ -236,4 +236,104 @@ public final class EmptyEventManager implements EventManager {
 			SharedSessionContractImplementor session) {
 
 	}
+
+	@Override
+	public HibernateMonitoringEvent beginSqmInterpretationEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeSqmInterpretationEvent(
+			HibernateMonitoringEvent sqmInterpretationEvent,
+			SharedSessionContractImplementor session,
+			String hql,
+			boolean cacheHit) {
+
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginSqlAstTranslationEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeSqlAstTranslationEvent(
+			HibernateMonitoringEvent sqlAstTranslationEvent,
+			SharedSessionContractImplementor session,
+			String sql) {
+
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginJdbcValuesMappingResolutionEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeJdbcValuesMappingResolutionEvent(
+			HibernateMonitoringEvent jdbcValuesMappingResolutionEvent,
+			SharedSessionContractImplementor session,
+			String sql) {
+
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginRowHydrationEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeRowHydrationEvent(
+			HibernateMonitoringEvent rowHydrationEvent,
+			SharedSessionContractImplementor session,
+			String sql,
+			int rowCount) {
+
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginLazyInitializationEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeLazyInitializationEvent(
+			HibernateMonitoringEvent lazyInitializationEvent,
+			SharedSessionContractImplementor session,
+			String entityName) {
+
+	}
+
+	@Override
+	public void completeLazyInitializationEvent(
+			HibernateMonitoringEvent lazyInitializationEvent,
+			SharedSessionContractImplementor session,
+			CollectionPersister persister) {
+
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginBatchFetchEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeBatchFetchEvent(
+			HibernateMonitoringEvent batchFetchEvent,
+			SharedSessionContractImplementor session,
+			EntityPersister persister,
+			Object[] ids,
+			int maxBatchSize) {
+
+	}
+
+	@Override
+	public void completeBatchFetchEvent(
+			HibernateMonitoringEvent batchFetchEvent,
+			SharedSessionContractImplementor session,
+			CollectionPersister persister,
+			Object[] keys,
+			int maxBatchSize) {
+
+	}
 }
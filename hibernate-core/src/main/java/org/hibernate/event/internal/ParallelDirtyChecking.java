@@ -0,0 +1,251 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.internal;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.hibernate.boot.internal.DefaultCustomEntityDirtinessStrategy;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.service.spi.EventListenerGroup;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.FlushEntityEventListener;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.EmptyInterceptor;
+import org.hibernate.jpa.event.spi.CallbackRegistry;
+import org.hibernate.jpa.event.spi.CallbackType;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.AbstractStandardBasicType;
+import org.hibernate.type.AnyType;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.ComponentType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
+
+import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
+import static org.hibernate.engine.internal.ManagedTypeHelper.isSelfDirtinessTracker;
+
+/**
+ * Reads the current state of the managed entities of a large persistence context,
+ * and compares it to their loaded state, using the {@linkplain ForkJoinPool#commonPool()
+ * common pool}, ahead of the sequential {@link org.hibernate.event.spi.FlushEntityEvent}s.
+ * <p>
+ * Only entities whose dirty check amounts to reading their attribute values and comparing
+ * basic values are handled here: bytecode-enhanced entities, and entities with an
+ * association or collection which no longer refers to its loaded instance, are left to
+ * the usual sequential processing. So is any entity for which the precomputation fails.
+ * <p>
+ * The flush entity events read the state of each entity again, and only use the precomputed
+ * dirty check if that state still refers to the same instances. Since an instance of a mutable
+ * type might still be modified in place, the parallel phase is skipped altogether when anything
+ * other than Hibernate itself might modify the state of entities during the flush: an
+ * {@link org.hibernate.Interceptor}, a custom dirtiness strategy, a custom flush entity event
+ * listener, or an entity callback invoked before updates.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#PARALLEL_DIRTY_CHECKING_THRESHOLD
+ */
+final class ParallelDirtyChecking {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( ParallelDirtyChecking.class );
+
+	/**
+	 * The number of entities processed by a single task
+	 */
+	private static final int PARTITION_SIZE = 256;
+
+	private ParallelDirtyChecking() {
+	}
+
+	/**
+	 * The state of an entity and the indexes of its dirty properties.
+	 */
+	static final class Result {
+		final Object[] values;
+		final int[] dirtyProperties;
+
+		private Result(Object[] values, int[] dirtyProperties) {
+			this.values = values;
+			this.dirtyProperties = dirtyProperties;
+		}
+	}
+
+	/**
+	 * Should the dirty check of the given entities be done in parallel?
+	 */
+	static boolean isEnabled(EventSource session, int entityCount) {
+		final int threshold = session.getFactory().getFastSessionServices().parallelDirtyCheckingThreshold;
+		return threshold > 0
+			&& entityCount >= threshold
+			// interceptors and custom strategies may do anything at all
+			&& session.getInterceptor() == EmptyInterceptor.INSTANCE
+			&& session.getFactory().getCustomEntityDirtinessStrategy()
+					instanceof DefaultCustomEntityDirtinessStrategy
+			&& hasOnlyDefaultFlushEntityListener( session );
+	}
+
+	private static boolean hasOnlyDefaultFlushEntityListener(EventSource session) {
+		final EventListenerGroup<FlushEntityEventListener> listeners =
+				session.getFactory().getFastSessionServices().eventListenerGroup_FLUSH_ENTITY;
+		if ( listeners.count() != 1 ) {
+			return false;
+		}
+		for ( FlushEntityEventListener listener : listeners.listeners() ) {
+			if ( listener.getClass() != DefaultFlushEntityEventListener.class ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return an array holding, at the index of each of the given entries, the
+	 *         precomputed {@link Result}, or {@code null} if the entity must be
+	 *         dirty-checked the usual way; {@code null} itself if none of the
+	 *         entities may be dirty-checked ahead of the flush entity events
+	 */
+	static Result[] precompute(Map.Entry<Object, EntityEntry>[] entityEntries, EventSource session) {
+		final CallbackRegistry callbackRegistry = session.getFactory().getEventEngine().getCallbackRegistry();
+		// classify the attributes sequentially, so that the tasks only ever read the map
+		final Map<EntityPersister, PropertyCheck[]> propertyChecks = new IdentityHashMap<>();
+		for ( Map.Entry<Object, EntityEntry> me : entityEntries ) {
+			final EntityPersister persister = me.getValue().getPersister();
+			if ( !propertyChecks.containsKey( persister ) ) {
+				if ( callbackRegistry.hasRegisteredCallbacks( persister.getMappedClass(), CallbackType.PRE_UPDATE ) ) {
+					// the callback of one entity might modify the state of another entity
+					return null;
+				}
+				propertyChecks.put( persister, propertyChecks( persister ) );
+			}
+		}
+		final Result[] results = new Result[entityEntries.length];
+		ForkJoinPool.commonPool().invoke(
+				new DirtyCheckTask( entityEntries, 0, entityEntries.length, propertyChecks, results, session )
+		);
+		return results;
+	}
+
+	private enum PropertyCheck {
+		/**
+		 * The comparison only involves the {@link org.hibernate.type.descriptor.java.JavaType}
+		 * of basic values
+		 */
+		COMPARE,
+		/**
+		 * The property can only be checked if it still holds the very same instance
+		 * as its loaded state, in which case it is certainly not dirty
+		 */
+		SAME_INSTANCE,
+		/**
+		 * The dirty check of the property may have side effects
+		 */
+		UNSUPPORTED
+	}
+
+	private static PropertyCheck[] propertyChecks(EntityPersister persister) {
+		final Type[] types = persister.getPropertyTypes();
+		final PropertyCheck[] checks = new PropertyCheck[types.length];
+		for ( int i = 0; i < types.length; i++ ) {
+			checks[i] = propertyCheck( types[i] );
+		}
+		return checks;
+	}
+
+	private static PropertyCheck propertyCheck(Type type) {
+		if ( type instanceof AbstractStandardBasicType ) {
+			return PropertyCheck.COMPARE;
+		}
+		else if ( type instanceof ComponentType ) {
+			for ( Type subtype : ( (ComponentType) type ).getSubtypes() ) {
+				if ( propertyCheck( subtype ) != PropertyCheck.COMPARE ) {
+					return PropertyCheck.SAME_INSTANCE;
+				}
+			}
+			return PropertyCheck.COMPARE;
+		}
+		else if ( type instanceof EntityType || type instanceof CollectionType || type instanceof AnyType ) {
+			return PropertyCheck.SAME_INSTANCE;
+		}
+		else {
+			return PropertyCheck.UNSUPPORTED;
+		}
+	}
+
+	private static Result dirtyCheck(
+			Map.Entry<Object, EntityEntry> me,
+			Map<EntityPersister, PropertyCheck[]> propertyChecks,
+			EventSource session) {
+		final Object entity = me.getKey();
+		final EntityEntry entry = me.getValue();
+		final Object[] loadedState = entry.getLoadedState();
+		if ( entry.getStatus() != Status.MANAGED
+				|| loadedState == null
+				|| !entry.isModifiableEntity()
+				|| isPersistentAttributeInterceptable( entity )
+				|| isSelfDirtinessTracker( entity ) ) {
+			return null;
+		}
+		final EntityPersister persister = entry.getPersister();
+		final PropertyCheck[] checks = propertyChecks.get( persister );
+		final Object[] values = persister.getValues( entity );
+		for ( int i = 0; i < checks.length; i++ ) {
+			if ( checks[i] == PropertyCheck.UNSUPPORTED
+					|| checks[i] == PropertyCheck.SAME_INSTANCE && values[i] != loadedState[i] ) {
+				return null;
+			}
+		}
+		return new Result( values, persister.findDirty( values, loadedState, entity, session ) );
+	}
+
+	private static final class DirtyCheckTask extends RecursiveAction {
+		private final Map.Entry<Object, EntityEntry>[] entityEntries;
+		private final int start;
+		private final int end;
+		private final Map<EntityPersister, PropertyCheck[]> propertyChecks;
+		private final Result[] results;
+		private final EventSource session;
+
+		private DirtyCheckTask(
+				Map.Entry<Object, EntityEntry>[] entityEntries,
+				int start,
+				int end,
+				Map<EntityPersister, PropertyCheck[]> propertyChecks,
+				Result[] results,
+				EventSource session) {
+			this.entityEntries = entityEntries;
+			this.start = start;
+			this.end = end;
+			this.propertyChecks = propertyChecks;
+			this.results = results;
+			this.session = session;
+		}
+
+		@Override
+		protected void compute() {
+			if ( end - start > PARTITION_SIZE ) {
+				final int middle = ( start + end ) >>> 1;
+				invokeAll(
+						new DirtyCheckTask( entityEntries, start, middle, propertyChecks, results, session ),
+						new DirtyCheckTask( entityEntries, middle, end, propertyChecks, results, session )
+				);
+			}
+			else {
+				for ( int i = start; i < end; i++ ) {
+					try {
+						results[i] = dirtyCheck( entityEntries[i], propertyChecks, session );
+					}
+					catch (RuntimeException e) {
+						// the sequential dirty check will run into the same problem, and report it
+						LOG.tracef( e, "Parallel dirty check failed for entity: %s", entityEntries[i].getValue() );
+					}
+				}
+			}
+		}
+	}
+}
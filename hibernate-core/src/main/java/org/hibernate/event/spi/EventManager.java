@@ -162,6 +162,138 @@ public interface EventManager {
 			SharedSessionContractImplementor session
 	);
 
+	/**
+	 * Begin the interpretation of a HQL query as an SQM tree, which
+	 * might be found in the query interpretation cache.
+	 *
+	 * @since 6.6
+	 */
+	HibernateMonitoringEvent beginSqmInterpretationEvent();
+
+	/**
+	 * @param cacheHit whether the interpretation was found in the query
+	 * interpretation cache, instead of being parsed
+	 *
+	 * @since 6.6
+	 */
+	void completeSqmInterpretationEvent(
+			HibernateMonitoringEvent sqmInterpretationEvent,
+			SharedSessionContractImplementor session,
+			String hql,
+			boolean cacheHit);
+
+	/**
+	 * Begin the translation of an SQM select tree to an SQL AST, and
+	 * then to SQL.
+	 *
+	 * @since 6.6
+	 */
+	HibernateMonitoringEvent beginSqlAstTranslationEvent();
+
+	/**
+	 * @since 6.6
+	 */
+	void completeSqlAstTranslationEvent(
+			HibernateMonitoringEvent sqlAstTranslationEvent,
+			SharedSessionContractImplementor session,
+			String sql);
+
+	/**
+	 * Begin the resolution of the
+	 * {@link org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping}
+	 * of the results of a query.
+	 *
+	 * @since 6.6
+	 */
+	HibernateMonitoringEvent beginJdbcValuesMappingResolutionEvent();
+
+	/**
+	 * @since 6.6
+	 */
+	void completeJdbcValuesMappingResolutionEvent(
+			HibernateMonitoringEvent jdbcValuesMappingResolutionEvent,
+			SharedSessionContractImplementor session,
+			String sql);
+
+	/**
+	 * Begin reading the rows of the results of a query, and
+	 * hydrating them.
+	 *
+	 * @since 6.6
+	 */
+	HibernateMonitoringEvent beginRowHydrationEvent();
+
+	/**
+	 * @param rowCount the number of rows, or {@code -1} if they are
+	 * not all read at once, as when scrolling
+	 *
+	 * @since 6.6
+	 */
+	void completeRowHydrationEvent(
+			HibernateMonitoringEvent rowHydrationEvent,
+			SharedSessionContractImplementor session,
+			String sql,
+			int rowCount);
+
+	/**
+	 * Begin the initialization of an entity proxy or of a collection.
+	 *
+	 * @since 6.6
+	 */
+	HibernateMonitoringEvent beginLazyInitializationEvent();
+
+	/**
+	 * @since 6.6
+	 */
+	void completeLazyInitializationEvent(
+			HibernateMonitoringEvent lazyInitializationEvent,
+			SharedSessionContractImplementor session,
+			String entityName);
+
+	/**
+	 * @since 6.6
+	 */
+	void completeLazyInitializationEvent(
+			HibernateMonitoringEvent lazyInitializationEvent,
+			SharedSessionContractImplementor session,
+			CollectionPersister persister);
+
+	/**
+	 * Begin the batch fetching of the entities or collections
+	 * queued in the {@link org.hibernate.engine.spi.BatchFetchQueue}.
+	 *
+	 * @since 6.6
+	 */
+	HibernateMonitoringEvent beginBatchFetchEvent();
+
+	/**
+	 * @param ids the identifiers of the entities fetched together,
+	 * possibly followed by {@code null}s
+	 * @param maxBatchSize the batch size of the entity
+	 *
+	 * @since 6.6
+	 */
+	void completeBatchFetchEvent(
+			HibernateMonitoringEvent batchFetchEvent,
+			SharedSessionContractImplementor session,
+			EntityPersister persister,
+			Object[] ids,
+			int maxBatchSize);
+
+	/**
+	 * @param keys the keys of the collections fetched together,
+	 * possibly followed by {@code null}s
+	 * @param maxBatchSize the batch size of the collection
+	 *
+	 * @since 6.6
+	 */
+	void completeBatchFetchEvent(
+			HibernateMonitoringEvent batchFetchEvent,
+			SharedSessionContractImplementor session,
+			CollectionPersister persister,
+			Object[] keys,
+			int maxBatchSize);
+
 	enum CacheActionDescription {
 		ENTITY_INSERT( "Entity Insert" ),
 		ENTITY_AFTER_INSERT( "Entity After Insert" ),
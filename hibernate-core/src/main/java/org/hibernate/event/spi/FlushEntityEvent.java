@@ -23,6 +23,8 @@ public class FlushEntityEvent extends AbstractEvent {
 	private EntityEntry entityEntry;
 	private boolean allowedToReuse;//allows this event instance to be reused for multiple events: special case to GC
 	private int instanceGenerationId;//in support of event instance reuse: to double check no recursive/nested use is happening
+	private Object[] precomputedPropertyValues;
+	private int[] precomputedDirtyProperties;
 
 	public FlushEntityEvent(EventSource source, Object entity, EntityEntry entry) {
 		super(source);
@@ -102,6 +104,42 @@ public class FlushEntityEvent extends AbstractEvent {
 		this.hasDirtyCollection = false;
 		this.dirtyCheckPossible = false;
 		this.dirtyCheckHandledByInterceptor = false;
+		this.precomputedPropertyValues = null;
+		this.precomputedDirtyProperties = null;
+	}
+
+	/**
+	 * The current state of the entity, if it was already read ahead of this event,
+	 * or {@code null}.
+	 */
+	public Object[] getPrecomputedPropertyValues() {
+		return precomputedPropertyValues;
+	}
+
+	/**
+	 * The result of the dirty check of the {@linkplain #getPrecomputedPropertyValues()
+	 * precomputed state} against the loaded state.
+	 */
+	public int[] getPrecomputedDirtyProperties() {
+		return precomputedDirtyProperties;
+	}
+
+	/**
+	 * Attach the state of the entity and the result of its dirty check, when both were
+	 * computed ahead of this event.
+	 */
+	public void setPrecomputedDirtyCheck(Object[] propertyValues, int[] dirtyProperties) {
+		this.precomputedPropertyValues = propertyValues;
+		this.precomputedDirtyProperties = dirtyProperties;
+	}
+
+	public boolean hasPrecomputedDirtyCheck() {
+		return precomputedPropertyValues != null;
+	}
+
+	public void clearPrecomputedDirtyCheck() {
+		this.precomputedPropertyValues = null;
+		this.precomputedDirtyProperties = null;
 	}
 
 	public boolean isAllowedToReuse() {
@@ -28,4 +28,14 @@ public interface AccessCallback {
 	 * @return The tenant identifier
 	 */
 	String getTenantIdentifier();
+
+	/**
+	 * Called by the optimizer when the calling thread ran out of values, and has
+	 * to wait for the next ones to be {@linkplain #getNextValue() retrieved}, either
+	 * by this callback or by another thread.
+	 *
+	 * @since 6.6
+	 */
+	default void onWaitForNextValue() {
+	}
 }
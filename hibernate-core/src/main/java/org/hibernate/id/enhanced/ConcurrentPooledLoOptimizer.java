@@ -0,0 +1,301 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.internal.CoreMessageLogger;
+
+import org.jboss.logging.Logger;
+
+import static org.hibernate.id.IdentifierGeneratorHelper.extractLong;
+import static org.hibernate.id.IdentifierGeneratorHelper.getIntegralDataTypeHolder;
+
+/**
+ * Variation of {@link PooledLoOptimizer} intended for many threads inserting concurrently.
+ * <p>
+ * Values are handed out from the current block of the pool by an atomic increment, so that
+ * threads never wait on each other while the block lasts. When only a given number of values
+ * of a block remain, by default half of them, the thread which obtains the first of those
+ * values fetches the next block from the database, while the other threads keep generating
+ * values from the current block. Threads only wait for each other, and for the database,
+ * when a block runs out before the next one was fetched.
+ * <p>
+ * Since the blocks are not necessarily used in the order they are fetched, the generated
+ * values are unique but not strictly increasing. Values must fit in a {@code long}.
+ * <p>
+ * If fetching a block ahead of time fails, the failure is logged, and the block is
+ * fetched again when the current block runs out.
+ * <p>
+ * Blocks can also be fetched ahead of time on another thread,
+ * see {@link #generate(AccessCallback, AccessCallback, Executor)}. The
+ * {@link SequenceStyleGenerator} does so when its structure is a sequence, and the
+ * {@link TableGenerator} when a {@value TableGenerator#PREFETCH_LOW_WATERMARK_PARAM}
+ * is specified.
+ *
+ * @see PooledLoOptimizer
+ *
+ * @since 6.6
+ */
+@Incubating
+public class ConcurrentPooledLoOptimizer extends AbstractOptimizer {
+	private static final CoreMessageLogger log = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			ConcurrentPooledLoOptimizer.class.getName()
+	);
+
+	/**
+	 * Use a lock instead of the monitor lock to avoid pinning when using virtual threads.
+	 */
+	private final Lock lock = new ReentrantLock();
+	private final int lowWatermark;
+	private final GenerationState noTenantState = new GenerationState();
+	private final Map<String, GenerationState> tenantSpecificState = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a {@code ConcurrentPooledLoOptimizer}.
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public ConcurrentPooledLoOptimizer(Class<?> returnClass, int incrementSize) {
+		this( returnClass, incrementSize, ( incrementSize + 1 ) / 2 );
+	}
+
+	/**
+	 * Constructs a {@code ConcurrentPooledLoOptimizer}.
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 * @param lowWatermark The number of values remaining in a block when the next block is fetched.
+	 */
+	public ConcurrentPooledLoOptimizer(Class<?> returnClass, int incrementSize, int lowWatermark) {
+		super( returnClass, incrementSize );
+		if ( incrementSize < 1 ) {
+			throw new HibernateException( "increment size cannot be less than 1" );
+		}
+		if ( lowWatermark < 1 ) {
+			throw new HibernateException( "low watermark cannot be less than 1" );
+		}
+		this.lowWatermark = lowWatermark;
+		if ( log.isTraceEnabled() ) {
+			log.tracev(
+					"Creating concurrent pooled-lo optimizer with [incrementSize={0}; lowWatermark={1}; returnClass={2}]",
+					incrementSize,
+					lowWatermark,
+					returnClass.getName()
+			);
+		}
+	}
+
+	@Override
+	public Serializable generate(AccessCallback callback) {
+		return generate( callback, null, null );
+	}
+
+	/**
+	 * Generates a value, fetching the next block ahead of time on the background executor
+	 * using the given background callback. The background callback is called from another
+	 * thread, and so must not rely on the state of the calling thread, such as its session
+	 * or its transaction.
+	 *
+	 * @param callback Fetches blocks on the calling thread
+	 * @param backgroundCallback Fetches blocks ahead of time on another thread, or {@code null}
+	 * to fetch them on the calling thread
+	 * @param backgroundExecutor The executor calling the background callback, or {@code null}
+	 * to fetch blocks on the calling thread
+	 */
+	public Serializable generate(
+			AccessCallback callback,
+			AccessCallback backgroundCallback,
+			Executor backgroundExecutor) {
+		final long value = locateGenerationState( callback.getTenantIdentifier() )
+				.generate( callback, backgroundExecutor == null ? null : backgroundCallback, backgroundExecutor );
+		return getIntegralDataTypeHolder( getReturnClass() ).initialize( value ).makeValue();
+	}
+
+	/**
+	 * Waits for the blocks being fetched ahead of time, for example before the resources
+	 * used to fetch them are released. Failures are ignored.
+	 */
+	public void awaitPrefetchedBlocks() {
+		noTenantState.awaitPrefetchedBlocks();
+		for ( GenerationState state : tenantSpecificState.values() ) {
+			state.awaitPrefetchedBlocks();
+		}
+	}
+
+	/**
+	 * Whether blocks may be fetched for the given session on a background thread. A JTA
+	 * transaction is bound to the thread of the session, and a tenant connection can only
+	 * be obtained through the session, so neither can be used in the background.
+	 */
+	static boolean canFetchInBackground(SharedSessionContractImplementor session) {
+		return session.getTenantIdentifier() == null
+			&& !session.getTransactionCoordinator().getTransactionCoordinatorBuilder().isJta();
+	}
+
+	private GenerationState locateGenerationState(String tenantIdentifier) {
+		if ( tenantIdentifier == null ) {
+			return noTenantState;
+		}
+		else {
+			return tenantSpecificState.computeIfAbsent( tenantIdentifier, tenant -> new GenerationState() );
+		}
+	}
+
+	// for Hibernate testsuite use only
+	@Override
+	public IntegralDataTypeHolder getLastSourceValue() {
+		return noTenantState.lastSourceValue;
+	}
+
+	@Override
+	public boolean applyIncrementSizeToSourceValues() {
+		return true;
+	}
+
+	private class GenerationState {
+		// the block values are currently generated from
+		private final AtomicReference<Block> currentBlock = new AtomicReference<>( new Block( 0, 0, 0 ) );
+		// blocks fetched ahead of time, or being fetched, not yet used
+		private final Queue<CompletableFuture<Block>> prefetchedBlocks = new ConcurrentLinkedQueue<>();
+		// last value read from db source
+		private volatile IntegralDataTypeHolder lastSourceValue;
+
+		private long generate(AccessCallback callback, AccessCallback backgroundCallback, Executor backgroundExecutor) {
+			while ( true ) {
+				final Block block = currentBlock.get();
+				final long value = block.nextValue.getAndIncrement();
+				if ( value < block.upperLimitValue ) {
+					if ( value == block.prefetchValue ) {
+						prefetchBlock( callback, backgroundCallback, backgroundExecutor );
+					}
+					return value;
+				}
+				switchBlock( block, callback );
+			}
+		}
+
+		private void switchBlock(Block exhaustedBlock, AccessCallback callback) {
+			lock.lock();
+			try {
+				// another thread might have switched already
+				if ( currentBlock.get() == exhaustedBlock ) {
+					final CompletableFuture<Block> prefetchedBlock = prefetchedBlocks.poll();
+					// the thread can't go on before the next block is fetched
+					final boolean waiting = prefetchedBlock == null || !prefetchedBlock.isDone();
+					if ( waiting ) {
+						callback.onWaitForNextValue();
+					}
+					final Block nextBlock = prefetchedBlock == null ? null : joinPrefetchedBlock( prefetchedBlock );
+					if ( nextBlock == null ) {
+						if ( !waiting ) {
+							callback.onWaitForNextValue();
+						}
+						currentBlock.set( fetchBlock( callback ) );
+					}
+					else {
+						currentBlock.set( nextBlock );
+					}
+				}
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private void prefetchBlock(
+				AccessCallback callback,
+				AccessCallback backgroundCallback,
+				Executor backgroundExecutor) {
+			if ( backgroundCallback == null ) {
+				// registered before fetching, so that a thread running out of
+				// values meanwhile waits for this block instead of fetching another
+				final CompletableFuture<Block> prefetchedBlock = new CompletableFuture<>();
+				prefetchedBlocks.add( prefetchedBlock );
+				try {
+					prefetchedBlock.complete( fetchBlock( callback ) );
+				}
+				catch (RuntimeException e) {
+					// the value drawn by this thread is valid regardless
+					prefetchedBlock.completeExceptionally( e );
+				}
+			}
+			else {
+				try {
+					prefetchedBlocks.add( CompletableFuture.supplyAsync( () -> fetchBlock( backgroundCallback ), backgroundExecutor ) );
+				}
+				catch (RejectedExecutionException e) {
+					// the executor was shut down, the block is fetched when the current block runs out
+					log.debug( "Unable to fetch the next block of values ahead of time", e );
+				}
+			}
+		}
+
+		private Block joinPrefetchedBlock(CompletableFuture<Block> prefetchedBlock) {
+			try {
+				return prefetchedBlock.join();
+			}
+			catch (CompletionException | CancellationException e) {
+				// the block is fetched again on the calling thread
+				log.debug( "Unable to fetch the next block of values ahead of time", e );
+				return null;
+			}
+		}
+
+		private void awaitPrefetchedBlocks() {
+			for ( CompletableFuture<Block> prefetchedBlock : prefetchedBlocks ) {
+				try {
+					prefetchedBlock.join();
+				}
+				catch (CompletionException | CancellationException e) {
+					log.debug( "Unable to fetch the next block of values ahead of time", e );
+				}
+			}
+		}
+
+		private Block fetchBlock(AccessCallback callback) {
+			final IntegralDataTypeHolder sourceValue = callback.getNextValue();
+			lastSourceValue = sourceValue;
+			final long lowerLimitValue = extractLong( sourceValue );
+			return new Block( lowerLimitValue, lowerLimitValue + incrementSize, lowWatermark );
+		}
+	}
+
+	private static class Block {
+		private final AtomicLong nextValue;
+		private final long upperLimitValue;
+		// the value at which the next block is fetched
+		private final long prefetchValue;
+
+		private Block(long lowerLimitValue, long upperLimitValue, int lowWatermark) {
+			// handle cases where initial-value is less that one (hsqldb for instance).
+			final long firstValue = Math.max( lowerLimitValue, 1 );
+			this.nextValue = new AtomicLong( firstValue );
+			this.upperLimitValue = upperLimitValue;
+			this.prefetchValue = Math.max( firstValue, upperLimitValue - lowWatermark );
+		}
+	}
+}
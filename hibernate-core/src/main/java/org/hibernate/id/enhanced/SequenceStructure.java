@@ -6,6 +6,7 @@
  */
 package org.hibernate.id.enhanced;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -17,10 +18,15 @@ import org.hibernate.boot.model.relational.QualifiedName;
 import org.hibernate.boot.model.relational.Sequence;
 import org.hibernate.boot.model.relational.SqlStringGenerationContext;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.engine.jdbc.internal.FormatStyle;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.jdbc.AbstractReturningWork;
+import org.hibernate.resource.transaction.backend.jdbc.internal.JdbcIsolationDelegate;
 
 import org.jboss.logging.Logger;
 
@@ -140,6 +146,54 @@ public class SequenceStructure implements DatabaseStructure {
 		};
 	}
 
+	/**
+	 * Builds a callback obtaining the next value of the sequence on a connection obtained
+	 * from the connection provider independently of any session, so that it may be called
+	 * from a background thread by a {@link ConcurrentPooledLoOptimizer}.
+	 */
+	public AccessCallback buildBackgroundCallback(SessionFactoryImplementor factory) {
+		if ( sql == null ) {
+			throw new AssertionFailure( "SequenceStyleGenerator's SequenceStructure was not properly initialized" );
+		}
+
+		final JdbcServices jdbcServices = factory.getJdbcServices();
+		final JdbcIsolationDelegate isolationDelegate = new JdbcIsolationDelegate(
+				jdbcServices.getBootstrapJdbcConnectionAccess(),
+				jdbcServices.getSqlExceptionHelper()
+		);
+		return new AccessCallback() {
+			@Override
+			public IntegralDataTypeHolder getNextValue() {
+				accessCounter++;
+				// a sequence is not transactional
+				return isolationDelegate.delegateWork(
+						new AbstractReturningWork<>() {
+							@Override
+							public IntegralDataTypeHolder execute(Connection connection) throws SQLException {
+								jdbcServices.getSqlStatementLogger().logStatement( sql, FormatStyle.BASIC.getFormatter() );
+								try ( PreparedStatement st = connection.prepareStatement( sql );
+										ResultSet rs = st.executeQuery() ) {
+									rs.next();
+									final IntegralDataTypeHolder value = IdentifierGeneratorHelper.getIntegralDataTypeHolder( numberType );
+									value.initialize( rs, 1 );
+									if ( LOG.isDebugEnabled() ) {
+										LOG.debugf( "Sequence value obtained: %s", value.makeValue() );
+									}
+									return value;
+								}
+							}
+						},
+						false
+				);
+			}
+
+			@Override
+			public String getTenantIdentifier() {
+				return null;
+			}
+		};
+	}
+
 	@Override
 	public void configure(Optimizer optimizer) {
 		applyIncrementSizeToSourceValues = optimizer.applyIncrementSizeToSourceValues();
@@ -11,9 +11,14 @@ import java.util.Iterator;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.hibernate.HibernateException;
 import org.hibernate.MappingException;
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
 import org.hibernate.boot.model.naming.Identifier;
 import org.hibernate.boot.model.relational.Database;
 import org.hibernate.boot.model.relational.QualifiedName;
@@ -25,6 +30,8 @@ import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.config.spi.ConfigurationService;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.engine.jdbc.internal.BackgroundExecutor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.id.BulkInsertionCapableIdentifierGenerator;
 import org.hibernate.id.IdentifierGenerator;
@@ -163,6 +170,13 @@ public class SequenceStyleGenerator
 	private Optimizer optimizer;
 	private Type identifierType;
 
+	/**
+	 * Use a lock instead of the monitor lock to avoid pinning when using virtual threads.
+	 */
+	private final Lock backgroundLock = new ReentrantLock();
+	private volatile AccessCallback backgroundCallback;
+	private volatile Executor backgroundExecutor;
+
 	/**
 	 * Getter for property 'databaseStructure'.
 	 *
@@ -567,7 +581,46 @@ public class SequenceStyleGenerator
 
 	@Override
 	public Object generate(SharedSessionContractImplementor session, Object object) throws HibernateException {
-		return optimizer.generate( databaseStructure.buildCallback( session ) );
+		final AccessCallback callback = databaseStructure.buildCallback( session );
+		if ( optimizer instanceof ConcurrentPooledLoOptimizer
+				&& databaseStructure instanceof SequenceStructure
+				&& ConcurrentPooledLoOptimizer.canFetchInBackground( session ) ) {
+			final AccessCallback backgroundCallback = backgroundCallback( session.getFactory() );
+			return ( (ConcurrentPooledLoOptimizer) optimizer ).generate( callback, backgroundCallback, backgroundExecutor );
+		}
+		else {
+			return optimizer.generate( callback );
+		}
+	}
+
+	/**
+	 * The callback fetching blocks of values of the sequence ahead of time, run by the
+	 * {@link BackgroundExecutor} of the factory. Blocks still being fetched are awaited
+	 * when the factory closes.
+	 */
+	private AccessCallback backgroundCallback(SessionFactoryImplementor factory) {
+		AccessCallback callback = backgroundCallback;
+		if ( callback == null ) {
+			backgroundLock.lock();
+			try {
+				callback = backgroundCallback;
+				if ( callback == null ) {
+					callback = ( (SequenceStructure) databaseStructure ).buildBackgroundCallback( factory );
+					backgroundExecutor = factory.getServiceRegistry().requireService( BackgroundExecutor.class );
+					factory.addObserver( new SessionFactoryObserver() {
+						@Override
+						public void sessionFactoryClosing(SessionFactory factory) {
+							( (ConcurrentPooledLoOptimizer) optimizer ).awaitPrefetchedBlocks();
+						}
+					} );
+					backgroundCallback = callback;
+				}
+			}
+			finally {
+				backgroundLock.unlock();
+			}
+		}
+		return callback;
 	}
 
 	// BulkInsertionCapableIdentifierGenerator implementation ~~~~~~~~~~~~~~~~~
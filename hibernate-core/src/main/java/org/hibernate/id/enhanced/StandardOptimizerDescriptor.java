@@ -44,7 +44,18 @@ public enum StandardOptimizerDescriptor implements OptimizerDescriptor {
 	 * Here, specifically the lo value is stored in the database and ThreadLocal used to cache
 	 * the generation state.
 	 */
-	POOLED_LOTL;
+	POOLED_LOTL,
+	/**
+	 * Describes the optimizer for use with tables/sequences that store the chunk information.
+	 * Here, specifically the lo value is stored in the database, and values are generated
+	 * without locking, with the next chunk being fetched before the current one runs out.
+	 * With a sequence, the next chunk is fetched on a background thread.
+	 *
+	 * @see ConcurrentPooledLoOptimizer
+	 *
+	 * @since 6.6
+	 */
+	POOLED_LO_CONCURRENT;
 
 	@Override
 	public String getExternalName() {
@@ -61,6 +72,8 @@ public enum StandardOptimizerDescriptor implements OptimizerDescriptor {
 				return "pooled-lo";
 			case POOLED_LOTL:
 				return "pooled-lotl";
+			case POOLED_LO_CONCURRENT:
+				return "pooled-lo-concurrent";
 		}
 		throw new AssertionFailure( "unknown StandardOptimizerDescriptor" );
 	}
@@ -80,6 +93,8 @@ public enum StandardOptimizerDescriptor implements OptimizerDescriptor {
 				return PooledLoOptimizer.class;
 			case POOLED_LOTL:
 				return PooledLoThreadLocalOptimizer.class;
+			case POOLED_LO_CONCURRENT:
+				return ConcurrentPooledLoOptimizer.class;
 		}
 		throw new AssertionFailure( "unknown StandardOptimizerDescriptor" );
 	}
@@ -94,6 +109,7 @@ public enum StandardOptimizerDescriptor implements OptimizerDescriptor {
 			case POOLED:
 			case POOLED_LO:
 			case POOLED_LOTL:
+			case POOLED_LO_CONCURRENT:
 				return true;
 		}
 		throw new AssertionFailure( "unknown StandardOptimizerDescriptor" );
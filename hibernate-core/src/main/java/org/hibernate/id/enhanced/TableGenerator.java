@@ -13,10 +13,16 @@ import java.sql.SQLException;
 import java.sql.Types;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.MappingException;
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
 import org.hibernate.boot.model.naming.Identifier;
 import org.hibernate.boot.model.relational.Database;
 import org.hibernate.boot.model.relational.InitCommand;
@@ -30,9 +36,13 @@ import org.hibernate.engine.config.spi.ConfigurationService;
 import org.hibernate.engine.config.spi.StandardConverters;
 import org.hibernate.engine.jdbc.Size;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.engine.internal.SessionEventListenerManagerImpl;
+import org.hibernate.engine.jdbc.internal.BackgroundExecutor;
 import org.hibernate.engine.jdbc.internal.FormatStyle;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 import org.hibernate.engine.spi.SessionEventListenerManager;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.spi.HibernateMonitoringEvent;
@@ -46,7 +56,9 @@ import org.hibernate.jdbc.AbstractReturningWork;
 import org.hibernate.mapping.Column;
 import org.hibernate.mapping.PrimaryKey;
 import org.hibernate.mapping.Table;
+import org.hibernate.resource.transaction.backend.jdbc.internal.JdbcIsolationDelegate;
 import org.hibernate.service.ServiceRegistry;
+import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.type.BasicTypeRegistry;
 import org.hibernate.type.StandardBasicTypes;
 import org.hibernate.type.Type;
@@ -126,6 +138,12 @@ import static org.hibernate.internal.util.config.ConfigurationHelper.getString;
  *     <td><em>depends on defined increment size</em></td>
  *     <td>Allows explicit definition of which optimization strategy to use</td>
  *   </tr>
+ *   <tr>
+ *     <td>{@value #PREFETCH_LOW_WATERMARK_PARAM}</td>
+ *     <td>0</td>
+ *     <td>When positive, the next block of values is fetched in the background once
+ *         this number of values remain in the current block</td>
+ *   </tr>
  * </table>
  *
  * @author Steve Ebersole
@@ -196,6 +214,21 @@ public class TableGenerator implements PersistentIdentifierGenerator {
 	 */
 	public static final int DEF_SEGMENT_LENGTH = 255;
 
+	/**
+	 * When positive, the number of values remaining in the current block of values at
+	 * which the next block is fetched, and values are handed out by a
+	 * {@link ConcurrentPooledLoOptimizer}. Disabled by default.
+	 * <p>
+	 * With JDBC transactions, and for sessions without a tenant identifier, the next
+	 * block is fetched on a background thread, in a transaction of its own, using a
+	 * connection obtained from the connection provider independently of the session.
+	 * Otherwise, in particular with JTA transactions, it is fetched by the thread
+	 * drawing the value at the low watermark, through the session, as usual.
+	 *
+	 * @since 6.6
+	 */
+	public static final String PREFETCH_LOW_WATERMARK_PARAM = "prefetch_low_watermark";
+
 	private boolean storeLastUsedValue;
 
 
@@ -217,7 +250,15 @@ public class TableGenerator implements PersistentIdentifierGenerator {
 	private String updateQuery;
 
 	private Optimizer optimizer;
-	private long accessCount;
+	private final AtomicLong accessCount = new AtomicLong();
+
+	private int prefetchLowWatermark;
+	/**
+	 * Use a lock instead of the monitor lock to avoid pinning when using virtual threads.
+	 */
+	private final Lock prefetchLock = new ReentrantLock();
+	private volatile AccessCallback backgroundCallback;
+	private volatile Executor backgroundExecutor;
 
 	private String contributor;
 
@@ -319,7 +360,7 @@ public class TableGenerator implements PersistentIdentifierGenerator {
 	 * @return Value for property 'tableAccessCount'.
 	 */
 	public final long getTableAccessCount() {
-		return accessCount;
+		return accessCount.get();
 	}
 
 	/**
@@ -348,12 +389,29 @@ public class TableGenerator implements PersistentIdentifierGenerator {
 		initialValue = determineInitialValue( parameters );
 		incrementSize = determineIncrementSize( parameters );
 
-		optimizer = OptimizerFactory.buildOptimizer(
-				determineOptimizationStrategy( parameters, incrementSize ),
-				identifierType.getReturnedClass(),
-				incrementSize,
-				getInt( INITIAL_PARAM, parameters, -1 )
-		);
+		prefetchLowWatermark = getInt( PREFETCH_LOW_WATERMARK_PARAM, parameters, 0 );
+		if ( prefetchLowWatermark > 0 ) {
+			final OptimizerDescriptor optimizationStrategy = StandardOptimizerDescriptor.fromExternalName(
+					getString( OPT_PARAM, parameters, StandardOptimizerDescriptor.POOLED_LO_CONCURRENT.getExternalName() )
+			);
+			if ( optimizationStrategy != StandardOptimizerDescriptor.POOLED_LO_CONCURRENT ) {
+				throw new MappingException( "Parameter '" + PREFETCH_LOW_WATERMARK_PARAM + "' requires the '"
+						+ StandardOptimizerDescriptor.POOLED_LO_CONCURRENT.getExternalName() + "' optimizer" );
+			}
+			optimizer = new ConcurrentPooledLoOptimizer(
+					identifierType.getReturnedClass(),
+					incrementSize,
+					prefetchLowWatermark
+			);
+		}
+		else {
+			optimizer = OptimizerFactory.buildOptimizer(
+					determineOptimizationStrategy( parameters, incrementSize ),
+					identifierType.getReturnedClass(),
+					incrementSize,
+					getInt( INITIAL_PARAM, parameters, -1 )
+			);
+		}
 
 		contributor = parameters.getProperty( CONTRIBUTOR_NAME );
 		if ( contributor == null ) {
@@ -556,47 +614,130 @@ public class TableGenerator implements PersistentIdentifierGenerator {
 
 	@Override
 	public Object generate(final SharedSessionContractImplementor session, final Object obj) {
-		final SqlStatementLogger statementLogger = session.
-				getFactory().getJdbcServices()
-				.getSqlStatementLogger();
+		final SessionFactoryImplementor factory = session.getFactory();
+		final SqlStatementLogger statementLogger = factory.getJdbcServices().getSqlStatementLogger();
 		final SessionEventListenerManager statsCollector = session.getEventListenerManager();
+		final EventManager eventManager = session.getEventManager();
+		final StatisticsImplementor statistics = factory.getStatistics();
+
+		final AccessCallback callback = new AccessCallback() {
+			@Override
+			public IntegralDataTypeHolder getNextValue() {
+				// other optimizers only fetch a block once they ran out of values
+				if ( !( optimizer instanceof ConcurrentPooledLoOptimizer ) ) {
+					onWaitForNextValue();
+				}
+				return session.getTransactionCoordinator().createIsolationDelegate().delegateWork(
+						new AbstractReturningWork<>() {
+							@Override
+							public IntegralDataTypeHolder execute(Connection connection) throws SQLException {
+								return nextValue( connection, statementLogger, statsCollector, eventManager, statistics );
+							}
+						},
+						true
+				);
+			}
 
-		return optimizer.generate(
-				new AccessCallback() {
-					@Override
-					public IntegralDataTypeHolder getNextValue() {
-						return session.getTransactionCoordinator().createIsolationDelegate().delegateWork(
-								new AbstractReturningWork<>() {
-									@Override
-									public IntegralDataTypeHolder execute(Connection connection) throws SQLException {
-										return nextValue( connection, statementLogger, statsCollector, session );
-									}
-								},
-								true
-						);
-					}
+			@Override
+			public String getTenantIdentifier() {
+				return session.getTenantIdentifier();
+			}
 
-					@Override
-					public String getTenantIdentifier() {
-						return session.getTenantIdentifier();
-					}
+			@Override
+			public void onWaitForNextValue() {
+				if ( statistics.isStatisticsEnabled() ) {
+					statistics.identifierBlockFetchWait();
+				}
+			}
+		};
+
+		if ( prefetchLowWatermark > 0 && ConcurrentPooledLoOptimizer.canFetchInBackground( session ) ) {
+			final AccessCallback backgroundCallback = backgroundCallback( factory );
+			return ( (ConcurrentPooledLoOptimizer) optimizer ).generate( callback, backgroundCallback, backgroundExecutor );
+		}
+		else {
+			return optimizer.generate( callback );
+		}
+	}
+
+	/**
+	 * The callback fetching blocks on a background thread, on a connection obtained
+	 * directly from the connection provider, since the session can't be used from
+	 * another thread, and run by the {@link BackgroundExecutor} of the factory.
+	 * Blocks still being fetched are awaited when the factory closes.
+	 */
+	private AccessCallback backgroundCallback(SessionFactoryImplementor factory) {
+		AccessCallback callback = backgroundCallback;
+		if ( callback == null ) {
+			prefetchLock.lock();
+			try {
+				callback = backgroundCallback;
+				if ( callback == null ) {
+					callback = createBackgroundCallback( factory );
+					backgroundExecutor = factory.getServiceRegistry().requireService( BackgroundExecutor.class );
+					factory.addObserver( new SessionFactoryObserver() {
+						@Override
+						public void sessionFactoryClosing(SessionFactory factory) {
+							( (ConcurrentPooledLoOptimizer) optimizer ).awaitPrefetchedBlocks();
+						}
+					} );
+					backgroundCallback = callback;
 				}
+			}
+			finally {
+				prefetchLock.unlock();
+			}
+		}
+		return callback;
+	}
+
+	private AccessCallback createBackgroundCallback(SessionFactoryImplementor factory) {
+		final JdbcServices jdbcServices = factory.getJdbcServices();
+		final JdbcIsolationDelegate isolationDelegate = new JdbcIsolationDelegate(
+				jdbcServices.getBootstrapJdbcConnectionAccess(),
+				jdbcServices.getSqlExceptionHelper()
 		);
+		return new AccessCallback() {
+			@Override
+			public IntegralDataTypeHolder getNextValue() {
+				return isolationDelegate.delegateWork(
+						new AbstractReturningWork<>() {
+							@Override
+							public IntegralDataTypeHolder execute(Connection connection) throws SQLException {
+								return nextValue(
+										connection,
+										jdbcServices.getSqlStatementLogger(),
+										new SessionEventListenerManagerImpl(),
+										factory.getFastSessionServices().getEventManager(),
+										factory.getStatistics()
+								);
+							}
+						},
+						true
+				);
+			}
+
+			@Override
+			public String getTenantIdentifier() {
+				return null;
+			}
+		};
 	}
 
 	private IntegralDataTypeHolder nextValue(
 			Connection connection,
 			SqlStatementLogger logger,
 			SessionEventListenerManager listener,
-			SharedSessionContractImplementor session)
+			EventManager eventManager,
+			StatisticsImplementor statistics)
 			throws SQLException {
 		final IntegralDataTypeHolder value = makeValue();
 		int rows;
 		do {
 
-			try ( PreparedStatement selectPS = prepareStatement( connection, selectQuery, logger, listener, session ) ) {
+			try ( PreparedStatement selectPS = prepareStatement( connection, selectQuery, logger, listener, eventManager ) ) {
 				selectPS.setString( 1, segmentValue );
-				final ResultSet selectRS = executeQuery( selectPS, listener, selectQuery, session );
+				final ResultSet selectRS = executeQuery( selectPS, listener, selectQuery, eventManager );
 				if ( !selectRS.next() ) {
 					long initializationValue;
 					if ( storeLastUsedValue ) {
@@ -607,11 +748,11 @@ public class TableGenerator implements PersistentIdentifierGenerator {
 					}
 					value.initialize( initializationValue );
 
-					try ( PreparedStatement statement = prepareStatement( connection, insertQuery, logger, listener, session ) ) {
+					try ( PreparedStatement statement = prepareStatement( connection, insertQuery, logger, listener, eventManager ) ) {
 						LOG.tracef( "binding parameter [%s] - [%s]", 1, segmentValue );
 						statement.setString( 1, segmentValue );
 						value.bind( statement, 2 );
-						executeUpdate( statement, listener, insertQuery, session);
+						executeUpdate( statement, listener, insertQuery, eventManager );
 					}
 				}
 				else {
@@ -632,7 +773,7 @@ public class TableGenerator implements PersistentIdentifierGenerator {
 			}
 
 
-			try ( PreparedStatement statement = prepareStatement( connection, updateQuery, logger, listener, session ) ) {
+			try ( PreparedStatement statement = prepareStatement( connection, updateQuery, logger, listener, eventManager ) ) {
 				final IntegralDataTypeHolder updateValue = value.copy();
 				if ( optimizer.applyIncrementSizeToSourceValues() ) {
 					updateValue.add( incrementSize );
@@ -643,7 +784,7 @@ public class TableGenerator implements PersistentIdentifierGenerator {
 				updateValue.bind( statement, 1 );
 				value.bind( statement, 2 );
 				statement.setString( 3, segmentValue );
-				rows = executeUpdate( statement, listener, updateQuery, session );
+				rows = executeUpdate( statement, listener, updateQuery, eventManager );
 			}
 			catch (SQLException e) {
 				LOG.unableToUpdateQueryHiValue( physicalTableName.render(), e );
@@ -652,7 +793,10 @@ public class TableGenerator implements PersistentIdentifierGenerator {
 		}
 		while ( rows == 0 );
 
-		accessCount++;
+		accessCount.incrementAndGet();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.identifierBlockFetch();
+		}
 		if ( storeLastUsedValue ) {
 			return value.increment();
 		}
@@ -666,9 +810,8 @@ public class TableGenerator implements PersistentIdentifierGenerator {
 			String sql,
 			SqlStatementLogger logger,
 			SessionEventListenerManager listener,
-			SharedSessionContractImplementor session) throws SQLException {
+			EventManager eventManager) throws SQLException {
 		logger.logStatement( sql, FormatStyle.BASIC.getFormatter() );
-		final EventManager eventManager = session.getEventManager();
 		final HibernateMonitoringEvent jdbcPreparedStatementCreation = eventManager.beginJdbcPreparedStatementCreationEvent();
 		try {
 			listener.jdbcPrepareStatementStart();
@@ -684,8 +827,7 @@ public class TableGenerator implements PersistentIdentifierGenerator {
 			PreparedStatement ps,
 			SessionEventListenerManager listener,
 			String sql,
-			SharedSessionContractImplementor session) throws SQLException {
-		final EventManager eventManager = session.getEventManager();
+			EventManager eventManager) throws SQLException {
 		final HibernateMonitoringEvent jdbcPreparedStatementExecutionEvent = eventManager.beginJdbcPreparedStatementExecutionEvent();
 		try {
 			listener.jdbcExecuteStatementStart();
@@ -701,8 +843,7 @@ public class TableGenerator implements PersistentIdentifierGenerator {
 			PreparedStatement ps,
 			SessionEventListenerManager listener,
 			String sql,
-			SharedSessionContractImplementor session) throws SQLException {
-		final EventManager eventManager = session.getEventManager();
+			EventManager eventManager) throws SQLException {
 		final HibernateMonitoringEvent jdbcPreparedStatementExecutionEvent = eventManager.beginJdbcPreparedStatementExecutionEvent();
 		try {
 			listener.jdbcExecuteStatementStart();
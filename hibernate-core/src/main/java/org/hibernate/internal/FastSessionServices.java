@@ -10,6 +10,8 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
@@ -70,6 +72,7 @@ import org.hibernate.jpa.SpecHints;
 import org.hibernate.jpa.internal.util.CacheModeHelper;
 import org.hibernate.jpa.internal.util.ConfigurationHelper;
 import org.hibernate.jpa.internal.util.LockOptionsHelper;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.resource.transaction.spi.TransactionCoordinatorBuilder;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.hibernate.sql.ast.spi.ParameterMarkerStrategy;
@@ -89,6 +92,10 @@ import static org.hibernate.cfg.AvailableSettings.JPA_LOCK_SCOPE;
 import static org.hibernate.cfg.AvailableSettings.JPA_LOCK_TIMEOUT;
 import static org.hibernate.cfg.AvailableSettings.JPA_SHARED_CACHE_RETRIEVE_MODE;
 import static org.hibernate.cfg.AvailableSettings.JPA_SHARED_CACHE_STORE_MODE;
+import static org.hibernate.cfg.AvailableSettings.PARALLEL_DIRTY_CHECKING_THRESHOLD;
+import static org.hibernate.cfg.AvailableSettings.PRIMITIVE_IDENTIFIER_INDEX;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
 
 /**
  * Internal component.
@@ -182,6 +189,8 @@ public final class FastSessionServices {
 	public final BatchBuilder batchBuilder;
 	public final Dialect dialect;
 	public final ParameterMarkerStrategy parameterMarkerStrategy;
+	public final boolean usePrimitiveIdentifierIndex;
+	public final int parallelDirtyCheckingThreshold;
 
 	//Private fields:
 	private final CacheStoreMode defaultCacheStoreMode;
@@ -192,6 +201,7 @@ public final class FastSessionServices {
 	private final MutationExecutorService mutationExecutorService;
 	private final JdbcValuesMappingProducerProvider jdbcValuesMappingProducerProvider;
 	private final EventManager eventManager;
+	private final ConcurrentHashMap<String, int[]> insertDependencyAttributes = new ConcurrentHashMap<>();
 
 	FastSessionServices(SessionFactoryImplementor sessionFactory) {
 		Objects.requireNonNull( sessionFactory );
@@ -250,6 +260,8 @@ public final class FastSessionServices {
 		this.requiresMultiTenantConnectionProvider = sessionFactory.getSessionFactoryOptions().isMultiTenancyEnabled();
 		this.parameterMarkerStrategy = serviceRegistry.getService( ParameterMarkerStrategy.class );
 		this.mutationExecutorService = serviceRegistry.getService( MutationExecutorService.class );
+		this.usePrimitiveIdentifierIndex = getBoolean( PRIMITIVE_IDENTIFIER_INDEX, sessionFactory.getProperties(), false );
+		this.parallelDirtyCheckingThreshold = getInt( PARALLEL_DIRTY_CHECKING_THRESHOLD, sessionFactory.getProperties(), 0 );
 
 		//Some "hot" services:
 		this.connectionProvider = requiresMultiTenantConnectionProvider
@@ -395,6 +407,22 @@ public final class FastSessionServices {
 		return eventManager;
 	}
 
+	/**
+	 * The indexes of the attributes of the given entity type which may carry a dependency
+	 * between inserts, as determined by the given function once per entity type.
+	 */
+	public int[] getInsertDependencyAttributes(
+			EntityPersister persister,
+			Function<EntityPersister, int[]> dependencyAttributes) {
+		final int[] attributes = insertDependencyAttributes.get( persister.getEntityName() );
+		return attributes == null
+				? insertDependencyAttributes.computeIfAbsent(
+						persister.getEntityName(),
+						entityName -> dependencyAttributes.apply( persister )
+				)
+				: attributes;
+	}
+
 	public boolean useStreamForLobBinding() {
 		return useStreamForLobBinding;
 	}
@@ -6,9 +6,17 @@
  */
 package org.hibernate.internal;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.EntityHolder;
+import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.internal.EvictVisitor;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
 import org.hibernate.sql.results.jdbc.spi.JdbcValues;
@@ -24,6 +32,9 @@ import org.hibernate.sql.results.spi.RowReader;
 public class ScrollableResultsImpl<R> extends AbstractScrollableResults<R> {
 	private R currentRow;
 
+	private boolean detachLoadedEntities;
+	private List<Object> currentRowLoadedEntities;
+
 	public ScrollableResultsImpl(
 			JdbcValues jdbcValues,
 			JdbcValuesSourceProcessingOptions processingOptions,
@@ -41,6 +52,12 @@ public class ScrollableResultsImpl<R> extends AbstractScrollableResults<R> {
 		);
 	}
 
+	@Override
+	public boolean setDetachLoadedEntities(boolean detachLoadedEntities) {
+		this.detachLoadedEntities = detachLoadedEntities;
+		return true;
+	}
+
 	@Override
 	protected R getCurrentRow() {
 		return currentRow;
@@ -119,6 +136,10 @@ public class ScrollableResultsImpl<R> extends AbstractScrollableResults<R> {
 	}
 
 	private void prepareCurrentRow(boolean underlyingScrollSuccessful) {
+		if ( detachLoadedEntities ) {
+			detachCurrentRowLoadedEntities();
+		}
+
 		if ( !underlyingScrollSuccessful ) {
 			currentRow = null;
 			return;
@@ -133,6 +154,10 @@ public class ScrollableResultsImpl<R> extends AbstractScrollableResults<R> {
 				currentRow = getRowReader().readRow( getRowProcessingState(), getProcessingOptions() );
 
 				getRowProcessingState().finishRowProcessing( true );
+				if ( detachLoadedEntities ) {
+					// the holders are cleared when finishing up
+					rememberCurrentRowLoadedEntities();
+				}
 				getJdbcValuesSourceProcessingState().finishUp( false );
 			}
 			finally {
@@ -147,4 +172,52 @@ public class ScrollableResultsImpl<R> extends AbstractScrollableResults<R> {
 		afterScrollOperation();
 	}
 
+	private void rememberCurrentRowLoadedEntities() {
+		final List<EntityHolder> holders = getJdbcValuesSourceProcessingState().getLoadingEntityHolders();
+		if ( holders != null ) {
+			for ( EntityHolder holder : holders ) {
+				if ( holder.getEntity() != null ) {
+					if ( currentRowLoadedEntities == null ) {
+						currentRowLoadedEntities = new ArrayList<>();
+					}
+					currentRowLoadedEntities.add( holder.getEntity() );
+				}
+			}
+		}
+	}
+
+	private void detachCurrentRowLoadedEntities() {
+		if ( currentRowLoadedEntities != null ) {
+			final SharedSessionContractImplementor session = getPersistenceContext();
+			// a stateless session does not keep the loaded entities anyway
+			if ( session.isEventSource() ) {
+				for ( Object entity : currentRowLoadedEntities ) {
+					detach( entity, session );
+				}
+			}
+			currentRowLoadedEntities.clear();
+		}
+	}
+
+	/**
+	 * Removes the entity from the persistence context like
+	 * {@link org.hibernate.event.internal.DefaultEvictEventListener} does, but without
+	 * cascading, since associated entities may have been managed before the query.
+	 */
+	private static void detach(Object entity, SharedSessionContractImplementor session) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final EntityEntry entry = persistenceContext.getEntry( entity );
+		if ( entry != null ) {
+			final EntityPersister persister = entry.getPersister();
+			final EntityKey key = entry.getEntityKey();
+			if ( persister.hasNaturalIdentifier() ) {
+				persistenceContext.getNaturalIdResolutions().handleEviction( key.getIdentifier(), entity, persister );
+			}
+			if ( persister.hasCollections() ) {
+				new EvictVisitor( session.asEventSource(), entity ).process( entity, persister );
+			}
+			persistenceContext.removeEntity( key );
+			persistenceContext.removeEntry( entity );
+		}
+	}
 }
@@ -1041,12 +1041,20 @@ public class SessionImpl
 					.getEntityDescriptor( entityName );
 			log.debugf( "Initializing proxy: %s", MessageHelper.infoString( persister, id, getFactory() ) );
 		}
-		LoadEvent event = loadEvent;
-		loadEvent = null;
-		event = recycleEventInstance( event, id, entityName );
-		fireLoadNoChecks( event, IMMEDIATE_LOAD );
-		final Object result = event.getResult();
-		finishWithEventInstance( event );
+		final EventManager eventManager = getEventManager();
+		final HibernateMonitoringEvent lazyInitializationEvent = eventManager.beginLazyInitializationEvent();
+		final Object result;
+		try {
+			LoadEvent event = loadEvent;
+			loadEvent = null;
+			event = recycleEventInstance( event, id, entityName );
+			fireLoadNoChecks( event, IMMEDIATE_LOAD );
+			result = event.getResult();
+			finishWithEventInstance( event );
+		}
+		finally {
+			eventManager.completeLazyInitializationEvent( lazyInitializationEvent, this, entityName );
+		}
 		final LazyInitializer lazyInitializer = extractLazyInitializer( result );
 		return lazyInitializer != null ? lazyInitializer.getImplementation() : result;
 	}
@@ -0,0 +1,195 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A hash map keyed by primitive {@code long} values, using open addressing with
+ * linear probing, so that neither lookups nor insertions box the key or allocate
+ * an entry object.
+ * <p>
+ * {@code null} values are not supported: a {@code null} slot marks a free bucket.
+ * Removal uses backward shifting, hence the table never contains tombstones.
+ * <p>
+ * Not thread-safe.
+ *
+ * @param <V> the type of the values
+ */
+public final class LongKeyedHashMap<V> {
+	private static final int DEFAULT_CAPACITY = 16;
+	private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+	private long[] keys;
+	private Object[] values;
+	private int mask;
+	private int size;
+	private int resizeThreshold;
+
+	public LongKeyedHashMap() {
+		this( DEFAULT_CAPACITY );
+	}
+
+	/**
+	 * @param expectedSize the number of entries the map should be able to hold without resizing
+	 */
+	public LongKeyedHashMap(int expectedSize) {
+		allocate( tableSizeFor( expectedSize ) );
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public V get(long key) {
+		final long[] keys = this.keys;
+		final Object[] values = this.values;
+		final int mask = this.mask;
+		int index = bucket( key, mask );
+		Object value;
+		while ( ( value = values[index] ) != null ) {
+			if ( keys[index] == key ) {
+				//noinspection unchecked
+				return (V) value;
+			}
+			index = ( index + 1 ) & mask;
+		}
+		return null;
+	}
+
+	public boolean containsKey(long key) {
+		return get( key ) != null;
+	}
+
+	/**
+	 * Associate the given value with the given key.
+	 *
+	 * @return the value previously associated with the key, or {@code null}
+	 */
+	public V put(long key, V value) {
+		Objects.requireNonNull( value );
+		int index = bucket( key, mask );
+		Object existing;
+		while ( ( existing = values[index] ) != null ) {
+			if ( keys[index] == key ) {
+				values[index] = value;
+				//noinspection unchecked
+				return (V) existing;
+			}
+			index = ( index + 1 ) & mask;
+		}
+		keys[index] = key;
+		values[index] = value;
+		if ( ++size > resizeThreshold ) {
+			resize();
+		}
+		return null;
+	}
+
+	/**
+	 * Remove the value associated with the given key.
+	 *
+	 * @return the removed value, or {@code null} if there was none
+	 */
+	public V remove(long key) {
+		final int mask = this.mask;
+		int index = bucket( key, mask );
+		Object existing;
+		while ( ( existing = values[index] ) != null ) {
+			if ( keys[index] == key ) {
+				shiftBackFrom( index );
+				size--;
+				//noinspection unchecked
+				return (V) existing;
+			}
+			index = ( index + 1 ) & mask;
+		}
+		return null;
+	}
+
+	public void clear() {
+		if ( size > 0 ) {
+			Arrays.fill( values, null );
+			size = 0;
+		}
+	}
+
+	/**
+	 * Close the gap left at {@code gap} by moving back any following entry of the
+	 * same probe run which would otherwise become unreachable.
+	 */
+	private void shiftBackFrom(int gap) {
+		final long[] keys = this.keys;
+		final Object[] values = this.values;
+		final int mask = this.mask;
+		int next = ( gap + 1 ) & mask;
+		while ( values[next] != null ) {
+			final int ideal = bucket( keys[next], mask );
+			// the entry at 'next' may move to 'gap' only if 'gap' lies
+			// (cyclically) between its ideal bucket and its current bucket
+			if ( ( ( next - ideal ) & mask ) >= ( ( next - gap ) & mask ) ) {
+				keys[gap] = keys[next];
+				values[gap] = values[next];
+				gap = next;
+			}
+			next = ( next + 1 ) & mask;
+		}
+		values[gap] = null;
+	}
+
+	private void resize() {
+		final long[] oldKeys = keys;
+		final Object[] oldValues = values;
+		if ( oldValues.length == MAXIMUM_CAPACITY ) {
+			throw new IllegalStateException( "Maximum capacity exceeded" );
+		}
+		allocate( oldValues.length << 1 );
+		final long[] keys = this.keys;
+		final Object[] values = this.values;
+		final int mask = this.mask;
+		for ( int i = 0; i < oldValues.length; i++ ) {
+			final Object value = oldValues[i];
+			if ( value != null ) {
+				int index = bucket( oldKeys[i], mask );
+				while ( values[index] != null ) {
+					index = ( index + 1 ) & mask;
+				}
+				keys[index] = oldKeys[i];
+				values[index] = value;
+			}
+		}
+	}
+
+	private void allocate(int capacity) {
+		keys = new long[capacity];
+		values = new Object[capacity];
+		mask = capacity - 1;
+		// keep the load factor at 0.5 to keep probe sequences short
+		resizeThreshold = capacity >> 1;
+	}
+
+	private static int tableSizeFor(int expectedSize) {
+		if ( expectedSize < 0 ) {
+			throw new IllegalArgumentException( "Illegal expected size: " + expectedSize );
+		}
+		final long requested = Math.max( (long) expectedSize << 1, DEFAULT_CAPACITY );
+		return requested >= MAXIMUM_CAPACITY
+				? MAXIMUM_CAPACITY
+				: Integer.highestOneBit( (int) requested - 1 ) << 1;
+	}
+
+	private static int bucket(long key, int mask) {
+		// Fibonacci hashing spreads sequential identifiers over the whole table
+		final long hash = key * 0x9E3779B97F4A7C15L;
+		return (int) ( hash ^ ( hash >>> 32 ) ) & mask;
+	}
+}
@@ -0,0 +1,686 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A bounded {@link ConcurrentMap} evicting entries according to the W-TinyLFU
+ * policy, as popularized by the Caffeine library.
+ * <p>
+ * The entries are held by a {@link ConcurrentHashMap}, so that reads never lock.
+ * Reads and writes are recorded in buffers, and replayed against the eviction
+ * policy by whichever thread acquires the eviction lock when a buffer needs
+ * draining. Recording a read may fail under contention, in which case the read
+ * is simply not accounted for by the policy.
+ * <p>
+ * The policy keeps a small LRU "window" of recently added entries in front of
+ * a segmented LRU "main" space. An entry leaving the window is only admitted to
+ * the main space if it was used more often than the entry it would replace,
+ * according to a {@linkplain FrequencySketch frequency sketch} of recent usage.
+ * Entries which are used only once, as in a scan, are therefore evicted without
+ * displacing the frequently used ones.
+ * <p>
+ * The number of entries may exceed the maximum until the write buffer is drained.
+ * {@code null} keys and values are not supported.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public final class TinyLfuConcurrentMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+
+	private static final int WINDOW = 0;
+	private static final int PROBATION = 1;
+	private static final int PROTECTED = 2;
+
+	private final ConcurrentHashMap<K, Node<K, V>> data;
+	private final ReadBuffer<K, V> readBuffer = new ReadBuffer<>();
+	private final ConcurrentLinkedQueue<Runnable> writeBuffer = new ConcurrentLinkedQueue<>();
+	private final ReentrantLock evictionLock = new ReentrantLock();
+
+	// guarded by evictionLock
+	private final FrequencySketch sketch;
+	private final AccessOrder<K, V> window = new AccessOrder<>();
+	private final AccessOrder<K, V> probation = new AccessOrder<>();
+	private final AccessOrder<K, V> protectedSpace = new AccessOrder<>();
+	private final int maximumSize;
+	private final int maximumWindowSize;
+	private final int maximumProtectedSize;
+	private final @Nullable BiConsumer<? super K, ? super V> evictionListener;
+	private int size;
+	private int windowSize;
+	private int protectedSize;
+
+	private transient Set<Entry<K, V>> entrySet;
+
+	/**
+	 * @param maximumSize the maximum number of entries
+	 */
+	public TinyLfuConcurrentMap(int maximumSize) {
+		this( maximumSize, null );
+	}
+
+	/**
+	 * @param maximumSize the maximum number of entries
+	 * @param evictionListener notified of each entry evicted by the policy, but not of the entries
+	 * removed explicitly, while the eviction lock is held, so it should return quickly
+	 */
+	public TinyLfuConcurrentMap(int maximumSize, @Nullable BiConsumer<? super K, ? super V> evictionListener) {
+		if ( maximumSize <= 0 ) {
+			throw new IllegalArgumentException( "Maximum size must be positive" );
+		}
+		this.maximumSize = maximumSize;
+		this.maximumWindowSize = Math.max( 1, maximumSize / 100 );
+		this.maximumProtectedSize = (int) ( ( maximumSize - maximumWindowSize ) * 0.8 );
+		this.data = new ConcurrentHashMap<>( Math.min( maximumSize, 1 << 16 ) );
+		this.sketch = new FrequencySketch( maximumSize );
+		this.evictionListener = evictionListener;
+	}
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Map operations
+
+	@Override
+	public int size() {
+		return data.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return data.isEmpty();
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return data.containsKey( key );
+	}
+
+	@Override
+	public V get(Object key) {
+		final Node<K, V> node = data.get( key );
+		if ( node == null ) {
+			return null;
+		}
+		afterRead( node );
+		return node.value;
+	}
+
+	@Override
+	public V put(K key, V value) {
+		return put( key, value, false );
+	}
+
+	@Override
+	public V putIfAbsent(K key, V value) {
+		return put( key, value, true );
+	}
+
+	private V put(K key, V value, boolean onlyIfAbsent) {
+		Objects.requireNonNull( value );
+		final Node<K, V> node = new Node<>( key, value );
+		while ( true ) {
+			final Node<K, V> prior = data.putIfAbsent( key, node );
+			if ( prior == null ) {
+				afterWrite( new AddTask( node ) );
+				return null;
+			}
+			final V oldValue;
+			synchronized ( prior ) {
+				oldValue = prior.retired ? null : prior.value;
+				if ( oldValue != null && !onlyIfAbsent ) {
+					prior.value = value;
+				}
+			}
+			if ( oldValue != null ) {
+				afterRead( prior );
+				return oldValue;
+			}
+			// the prior entry is being removed
+			data.remove( key, prior );
+		}
+	}
+
+	@Override
+	public V remove(Object key) {
+		final Node<K, V> node = data.remove( key );
+		if ( node == null ) {
+			return null;
+		}
+		retire( node );
+		afterWrite( new RemoveTask( node ) );
+		return node.value;
+	}
+
+	@Override
+	public boolean remove(Object key, Object value) {
+		final Node<K, V> node = data.get( key );
+		if ( node != null && node.value.equals( value ) && data.remove( key, node ) ) {
+			retire( node );
+			afterWrite( new RemoveTask( node ) );
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public V replace(K key, V value) {
+		Objects.requireNonNull( value );
+		final Node<K, V> node = data.get( key );
+		if ( node == null ) {
+			return null;
+		}
+		final V oldValue;
+		synchronized ( node ) {
+			if ( node.retired ) {
+				return null;
+			}
+			oldValue = node.value;
+			node.value = value;
+		}
+		afterRead( node );
+		return oldValue;
+	}
+
+	@Override
+	public boolean replace(K key, V oldValue, V newValue) {
+		Objects.requireNonNull( newValue );
+		final Node<K, V> node = data.get( key );
+		if ( node == null ) {
+			return false;
+		}
+		synchronized ( node ) {
+			if ( node.retired || !node.value.equals( oldValue ) ) {
+				return false;
+			}
+			node.value = newValue;
+		}
+		afterRead( node );
+		return true;
+	}
+
+	@Override
+	public void clear() {
+		evictionLock.lock();
+		try {
+			for ( Node<K, V> node : data.values() ) {
+				if ( data.remove( node.key, node ) ) {
+					retire( node );
+				}
+			}
+			readBuffer.drain( null );
+			window.clear();
+			probation.clear();
+			protectedSpace.clear();
+			size = 0;
+			windowSize = 0;
+			protectedSize = 0;
+			// entries added concurrently are still linked
+			Runnable task;
+			while ( ( task = writeBuffer.poll() ) != null ) {
+				task.run();
+			}
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		if ( entrySet == null ) {
+			entrySet = new EntrySet();
+		}
+		return entrySet;
+	}
+
+	private final class EntrySet extends AbstractSet<Entry<K, V>> {
+		@Override
+		public Iterator<Entry<K, V>> iterator() {
+			final Iterator<Node<K, V>> nodes = data.values().iterator();
+			return new Iterator<>() {
+				private Node<K, V> current;
+
+				@Override
+				public boolean hasNext() {
+					return nodes.hasNext();
+				}
+
+				@Override
+				public Entry<K, V> next() {
+					current = nodes.next();
+					return new SimpleImmutableEntry<>( current.key, current.value );
+				}
+
+				@Override
+				public void remove() {
+					if ( current == null ) {
+						throw new IllegalStateException();
+					}
+					TinyLfuConcurrentMap.this.remove( current.key, current.value );
+					current = null;
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return data.size();
+		}
+
+		@Override
+		public void clear() {
+			TinyLfuConcurrentMap.this.clear();
+		}
+	}
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Buffering
+
+	private void afterRead(Node<K, V> node) {
+		if ( !readBuffer.offer( node ) ) {
+			drainBuffers();
+		}
+	}
+
+	private void afterWrite(Runnable task) {
+		writeBuffer.add( task );
+		drainBuffers();
+	}
+
+	private void drainBuffers() {
+		// tasks added while another thread held the lock are drained on its way out
+		do {
+			if ( !evictionLock.tryLock() ) {
+				return;
+			}
+			try {
+				readBuffer.drain( this::onAccess );
+				Runnable task;
+				while ( ( task = writeBuffer.poll() ) != null ) {
+					task.run();
+				}
+				evict();
+			}
+			finally {
+				evictionLock.unlock();
+			}
+		} while ( !writeBuffer.isEmpty() );
+	}
+
+	private static <K, V> void retire(Node<K, V> node) {
+		synchronized ( node ) {
+			node.retired = true;
+		}
+	}
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Policy, guarded by evictionLock
+
+	private void onAccess(Node<K, V> node) {
+		if ( node.queue < 0 ) {
+			// not yet added, or already removed
+			return;
+		}
+		sketch.increment( node.key );
+		switch ( node.queue ) {
+			case WINDOW:
+				window.moveToBack( node );
+				break;
+			case PROBATION:
+				probation.unlink( node );
+				node.queue = PROTECTED;
+				protectedSpace.linkLast( node );
+				protectedSize++;
+				// demote the least recently used protected entries
+				while ( protectedSize > maximumProtectedSize ) {
+					final Node<K, V> demoted = protectedSpace.first();
+					protectedSpace.unlink( demoted );
+					protectedSize--;
+					demoted.queue = PROBATION;
+					probation.linkLast( demoted );
+				}
+				break;
+			default:
+				protectedSpace.moveToBack( node );
+		}
+	}
+
+	private void evict() {
+		// entries leaving the window become candidates for admission, at the back of probation
+		while ( windowSize > maximumWindowSize ) {
+			final Node<K, V> candidate = window.first();
+			window.unlink( candidate );
+			windowSize--;
+			candidate.queue = PROBATION;
+			probation.linkLast( candidate );
+		}
+		while ( size > maximumSize ) {
+			final Node<K, V> victim = probation.first();
+			if ( victim == null ) {
+				evictEntry( protectedSpace.first() != null ? protectedSpace.first() : window.first() );
+			}
+			else {
+				final Node<K, V> candidate = probation.last();
+				if ( candidate == victim || sketch.frequency( candidate.key ) > sketch.frequency( victim.key ) ) {
+					evictEntry( victim );
+				}
+				else {
+					evictEntry( candidate );
+				}
+			}
+		}
+	}
+
+	private void evictEntry(Node<K, V> node) {
+		unlink( node );
+		if ( data.remove( node.key, node ) ) {
+			retire( node );
+			if ( evictionListener != null ) {
+				evictionListener.accept( node.key, node.value );
+			}
+		}
+	}
+
+	private void unlink(Node<K, V> node) {
+		switch ( node.queue ) {
+			case WINDOW:
+				window.unlink( node );
+				windowSize--;
+				break;
+			case PROBATION:
+				probation.unlink( node );
+				break;
+			case PROTECTED:
+				protectedSpace.unlink( node );
+				protectedSize--;
+				break;
+			default:
+				return;
+		}
+		node.queue = -1;
+		size--;
+	}
+
+	private final class AddTask implements Runnable {
+		private final Node<K, V> node;
+
+		private AddTask(Node<K, V> node) {
+			this.node = node;
+		}
+
+		@Override
+		public void run() {
+			if ( !node.retired ) {
+				sketch.increment( node.key );
+				node.queue = WINDOW;
+				window.linkLast( node );
+				windowSize++;
+				size++;
+			}
+		}
+	}
+
+	private final class RemoveTask implements Runnable {
+		private final Node<K, V> node;
+
+		private RemoveTask(Node<K, V> node) {
+			this.node = node;
+		}
+
+		@Override
+		public void run() {
+			unlink( node );
+		}
+	}
+
+	private static final class Node<K, V> {
+		private final K key;
+		private volatile V value;
+		// guarded by the node's monitor, read without it by the eviction policy
+		private volatile boolean retired;
+
+		// guarded by evictionLock
+		private int queue = -1;
+		private Node<K, V> previous;
+		private Node<K, V> next;
+
+		private Node(K key, V value) {
+			this.key = Objects.requireNonNull( key );
+			this.value = value;
+		}
+	}
+
+	/**
+	 * A doubly-linked list of nodes, from the least to the most recently used.
+	 */
+	private static final class AccessOrder<K, V> {
+		private Node<K, V> first;
+		private Node<K, V> last;
+
+		Node<K, V> first() {
+			return first;
+		}
+
+		Node<K, V> last() {
+			return last;
+		}
+
+		void linkLast(Node<K, V> node) {
+			node.previous = last;
+			node.next = null;
+			if ( last == null ) {
+				first = node;
+			}
+			else {
+				last.next = node;
+			}
+			last = node;
+		}
+
+		void unlink(Node<K, V> node) {
+			final Node<K, V> previous = node.previous;
+			final Node<K, V> next = node.next;
+			if ( previous == null ) {
+				first = next;
+			}
+			else {
+				previous.next = next;
+			}
+			if ( next == null ) {
+				last = previous;
+			}
+			else {
+				next.previous = previous;
+			}
+			node.previous = null;
+			node.next = null;
+		}
+
+		void moveToBack(Node<K, V> node) {
+			if ( node != last ) {
+				unlink( node );
+				linkLast( node );
+			}
+		}
+
+		void clear() {
+			for ( Node<K, V> node = first; node != null; ) {
+				final Node<K, V> next = node.next;
+				node.previous = null;
+				node.next = null;
+				node.queue = -1;
+				node = next;
+			}
+			first = null;
+			last = null;
+		}
+	}
+
+	/**
+	 * Lossy buffers of reads, striped by thread to reduce contention. A read is
+	 * dropped if the stripe of the current thread is full, or contended.
+	 */
+	private static final class ReadBuffer<K, V> {
+		private static final int STRIPE_SIZE = 16;
+		private static final int STRIPE_MASK = STRIPE_SIZE - 1;
+
+		private final int stripeMask;
+		private final AtomicReferenceArray<Node<K, V>> buffer;
+		private final AtomicLong[] writeCounts;
+		// guarded by evictionLock, read by the writers
+		private final AtomicLong[] readCounts;
+
+		private ReadBuffer() {
+			final int stripes = Integer.highestOneBit( Math.min( 64, Runtime.getRuntime().availableProcessors() * 2 ) );
+			stripeMask = stripes - 1;
+			buffer = new AtomicReferenceArray<>( stripes * STRIPE_SIZE );
+			writeCounts = new AtomicLong[stripes];
+			readCounts = new AtomicLong[stripes];
+			for ( int i = 0; i < stripes; i++ ) {
+				writeCounts[i] = new AtomicLong();
+				readCounts[i] = new AtomicLong();
+			}
+		}
+
+		/**
+		 * @return {@code false} if the buffer needs to be drained
+		 */
+		boolean offer(Node<K, V> node) {
+			final int stripe = stripe();
+			final AtomicLong writeCount = writeCounts[stripe];
+			final long tail = writeCount.get();
+			final long pending = tail - readCounts[stripe].get();
+			if ( pending >= STRIPE_SIZE ) {
+				return false;
+			}
+			if ( writeCount.compareAndSet( tail, tail + 1 ) ) {
+				buffer.lazySet( stripe * STRIPE_SIZE + (int) ( tail & STRIPE_MASK ), node );
+				return pending + 1 < STRIPE_SIZE;
+			}
+			return true;
+		}
+
+		void drain(Consumer<Node<K, V>> consumer) {
+			for ( int stripe = 0; stripe <= stripeMask; stripe++ ) {
+				final AtomicLong readCount = readCounts[stripe];
+				final long tail = writeCounts[stripe].get();
+				long head = readCount.get();
+				for ( ; head < tail; head++ ) {
+					final int index = stripe * STRIPE_SIZE + (int) ( head & STRIPE_MASK );
+					final Node<K, V> node = buffer.get( index );
+					if ( node == null ) {
+						// not yet published by its writer
+						break;
+					}
+					buffer.lazySet( index, null );
+					if ( consumer != null ) {
+						consumer.accept( node );
+					}
+				}
+				readCount.lazySet( head );
+			}
+		}
+
+		private int stripe() {
+			final int hash = (int) Thread.currentThread().getId() * 0x9E3779B9;
+			return ( hash ^ hash >>> 16 ) & stripeMask;
+		}
+	}
+
+	/**
+	 * A count-min sketch of the recent frequency of the keys, using 4-bit counters
+	 * which are halved periodically so that old usage is progressively forgotten.
+	 */
+	private static final class FrequencySketch {
+		private static final long[] SEEDS = {
+				0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+		};
+		private static final long RESET_MASK = 0x7777777777777777L;
+		private static final long ONE_MASK = 0x1111111111111111L;
+
+		private final long[] table;
+		private final int tableMask;
+		private final int sampleSize;
+		private int additions;
+
+		private FrequencySketch(int maximumSize) {
+			final int length = Integer.highestOneBit( Math.max( 1, Math.min( maximumSize, 1 << 30 ) ) - 1 ) << 1;
+			table = new long[Math.max( 1, length )];
+			tableMask = table.length - 1;
+			sampleSize = 10 * Math.max( 1, maximumSize );
+		}
+
+		int frequency(Object key) {
+			final int hash = spread( key.hashCode() );
+			final int start = ( hash & 3 ) << 2;
+			int frequency = Integer.MAX_VALUE;
+			for ( int i = 0; i < 4; i++ ) {
+				final int index = indexOf( hash, i );
+				final int count = (int) ( ( table[index] >>> ( ( start + i ) << 2 ) ) & 0xfL );
+				frequency = Math.min( frequency, count );
+			}
+			return frequency;
+		}
+
+		void increment(Object key) {
+			final int hash = spread( key.hashCode() );
+			final int start = ( hash & 3 ) << 2;
+			boolean added = false;
+			for ( int i = 0; i < 4; i++ ) {
+				added |= incrementAt( indexOf( hash, i ), start + i );
+			}
+			if ( added && ++additions == sampleSize ) {
+				reset();
+			}
+		}
+
+		private boolean incrementAt(int index, int counter) {
+			final int offset = counter << 2;
+			final long mask = 0xfL << offset;
+			if ( ( table[index] & mask ) != mask ) {
+				table[index] += 1L << offset;
+				return true;
+			}
+			return false;
+		}
+
+		private void reset() {
+			int odd = 0;
+			for ( int i = 0; i < table.length; i++ ) {
+				odd += Long.bitCount( table[i] & ONE_MASK );
+				table[i] = ( table[i] >>> 1 ) & RESET_MASK;
+			}
+			additions = ( additions >>> 1 ) - ( odd >>> 2 );
+		}
+
+		private int indexOf(int hash, int i) {
+			long h = ( hash + SEEDS[i] ) * SEEDS[i];
+			h += h >>> 32;
+			return ( (int) h ) & tableMask;
+		}
+
+		private static int spread(int x) {
+			x = ( ( x >>> 16 ) ^ x ) * 0x45d9f3b;
+			x = ( ( x >>> 16 ) ^ x ) * 0x45d9f3b;
+			return ( x >>> 16 ) ^ x;
+		}
+	}
+}
@@ -63,6 +63,20 @@ public interface HibernateHints {
 	 */
 	String HINT_FETCH_SIZE = "org.hibernate.fetchSize";
 
+	/**
+	 * Hint for specifying that entities loaded by a
+	 * {@linkplain org.hibernate.query.SelectionQuery#stream() streamed}
+	 * query should be detached from the persistence context as soon as
+	 * the stream moves to the next row, so that the persistence context
+	 * does not grow with the number of results. Only applies to queries
+	 * without collection fetches.
+	 *
+	 * @see org.hibernate.Session#detach
+	 *
+	 * @since 6.6
+	 */
+	String HINT_DETACH_STREAMED_RESULTS = "hibernate.query.stream.detach";
+
 	/**
 	 * Hint for specifying whether results from a query should be 
 	 * stored in the query cache.
@@ -90,6 +104,27 @@ public interface HibernateHints {
 	 */
 	String HINT_CACHE_MODE = "org.hibernate.cacheMode";
 
+	/**
+	 * Hint for specifying that the cached results of a query should only
+	 * be invalidated by an update or deletion of one of the entities it
+	 * returned, or by an insertion into one of the tables it queries.
+	 * <p>
+	 * This only applies to a query selecting a single entity, without joins,
+	 * and restricted by identifier only, for example
+	 * {@code from Book where id in :ids}. An update of an entity which is
+	 * not a result of such a query can never add it to the results. For any
+	 * other query, and whenever filters, SQL restrictions, limits, or fetch
+	 * graphs apply, the hint is ignored, and the cached results are
+	 * invalidated by any change to the queried tables.
+	 *
+	 * @implSpec No effect unless {@link #HINT_CACHEABLE} is set to {@code true}
+	 *           and {@value org.hibernate.cfg.CacheSettings#QUERY_CACHE_INVALIDATION_BY_ID}
+	 *           is enabled
+	 *
+	 * @since 6.6
+	 */
+	String HINT_CACHE_INVALIDATION_BY_ID = "org.hibernate.cacheInvalidationById";
+
 	/**
 	 * Hint for specifying a database comment to be appended to the 
 	 * SQL statement sent to the database.
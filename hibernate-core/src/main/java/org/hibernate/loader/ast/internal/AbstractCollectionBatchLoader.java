@@ -13,6 +13,8 @@ import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.loader.ast.spi.CollectionBatchLoader;
 import org.hibernate.metamodel.mapping.NonAggregatedIdentifierMapping;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
@@ -91,9 +93,22 @@ public abstract class AbstractCollectionBatchLoader implements CollectionBatchLo
 			return singleKeyLoader.load( key, session );
 		}
 
-		initializeKeys( key, keys, session );
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent batchFetchEvent = eventManager.beginBatchFetchEvent();
+		try {
+			initializeKeys( key, keys, session );
 
-		finishInitializingKeys( keys, session );
+			finishInitializingKeys( keys, session );
+		}
+		finally {
+			eventManager.completeBatchFetchEvent(
+					batchFetchEvent,
+					session,
+					getLoadable().getCollectionDescriptor(),
+					keys,
+					getDomainBatchSize()
+			);
+		}
 
 		final CollectionKey collectionKey = new CollectionKey( getLoadable().getCollectionDescriptor(), key );
 		return session.getPersistenceContext().getCollection( collectionKey );
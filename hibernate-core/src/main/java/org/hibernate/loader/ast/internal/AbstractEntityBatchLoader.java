@@ -12,6 +12,8 @@ import org.hibernate.LockOptions;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.loader.ast.spi.EntityBatchLoader;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 
@@ -94,7 +96,20 @@ public abstract class AbstractEntityBatchLoader<T>
 			return singleIdLoader.load( id, entityInstance, lockOptions, readOnly, session );
 		}
 
-		initializeEntities( ids, id, entityInstance, lockOptions, readOnly, session );
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent batchFetchEvent = eventManager.beginBatchFetchEvent();
+		try {
+			initializeEntities( ids, id, entityInstance, lockOptions, readOnly, session );
+		}
+		finally {
+			eventManager.completeBatchFetchEvent(
+					batchFetchEvent,
+					session,
+					getLoadable().getEntityPersister(),
+					ids,
+					getDomainBatchSize()
+			);
+		}
 
 		final EntityKey entityKey = session.generateEntityKey( id, getLoadable().getEntityPersister() );
 		//noinspection unchecked
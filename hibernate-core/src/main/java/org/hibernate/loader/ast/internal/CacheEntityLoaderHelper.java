@@ -6,6 +6,10 @@
  */
 package org.hibernate.loader.ast.internal;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 import org.hibernate.HibernateException;
 import org.hibernate.Incubating;
 import org.hibernate.LockMode;
@@ -206,7 +210,41 @@ public class CacheEntityLoaderHelper {
 				persister,
 				entityKey
 		);
+		firePostLoadEvent( event, persister, entity );
+		return entity;
+	}
+
+	/**
+	 * Attempts to load the entity from an entry previously read from the
+	 * second-level cache by {@link #getFromSecondLevelCache}.
+	 *
+	 * @param event The load event
+	 * @param persister The persister for the entity being requested for load
+	 * @param entityKey The entity key
+	 * @param cacheEntry The entry read from the second-level cache, or null.
+	 *
+	 * @return The entity from the second-level cache entry, or null.
+	 */
+	public Object loadFromSecondLevelCache(
+			final LoadEvent event,
+			final EntityPersister persister,
+			final EntityKey entityKey,
+			final Object cacheEntry) {
+		if ( cacheEntry == null ) {
+			return null;
+		}
+		final Object entity = processCachedEntry(
+				event.getInstanceToLoad(),
+				persister,
+				cacheEntry,
+				event.getSession(),
+				entityKey
+		);
+		firePostLoadEvent( event, persister, entity );
+		return entity;
+	}
 
+	private static void firePostLoadEvent(LoadEvent event, EntityPersister persister, Object entity) {
 		if ( entity != null ) {
 			//PostLoad is needed for EJB3
 			final PostLoadEvent postLoadEvent = event.getPostLoadEvent()
@@ -218,7 +256,69 @@ public class CacheEntityLoaderHelper {
 					.getFastSessionServices()
 					.firePostLoadEvent( postLoadEvent );
 		}
-		return entity;
+	}
+
+	/**
+	 * Reads the second-level cache entries of the entities with the given
+	 * ids, in a single round trip to the cache when supported.
+	 *
+	 * @param ids The ids, possibly padded with nulls
+	 * @param persister The persister for the entities being requested for load
+	 * @param lockMode The lock mode
+	 * @param source The source
+	 *
+	 * @return The cache entries, at the positions of their ids, with null for
+	 * ids without a cache entry, or null if the cache may not be used.
+	 */
+	public Object[] getFromSecondLevelCache(
+			final Object[] ids,
+			final EntityPersister persister,
+			final LockMode lockMode,
+			final SharedSessionContractImplementor source) {
+		final boolean useCache = persister.canReadFromCache()
+				&& source.getCacheMode().isGetEnabled()
+				&& lockMode.lessThan( LockMode.READ );
+		if ( !useCache ) {
+			return null;
+		}
+
+		final EntityDataAccess cache = persister.getCacheAccessStrategy();
+		final SessionFactoryImplementor factory = source.getFactory();
+		final Object[] cacheKeys = new Object[ids.length];
+		final List<Object> keysToRead = new ArrayList<>( ids.length );
+		for ( int i = 0; i < ids.length; i++ ) {
+			if ( ids[i] != null ) {
+				cacheKeys[i] = cache.generateCacheKey( ids[i], persister, factory, source.getTenantIdentifier() );
+				keysToRead.add( cacheKeys[i] );
+			}
+		}
+		if ( keysToRead.isEmpty() ) {
+			return null;
+		}
+
+		final Map<Object, Object> cachedValues = CacheHelper.fromSharedCache( source, keysToRead, persister, cache );
+		final StatisticsImplementor statistics = factory.getStatistics();
+		final Object[] entries = new Object[ids.length];
+		for ( int i = 0; i < ids.length; i++ ) {
+			if ( cacheKeys[i] != null ) {
+				entries[i] = cachedValues.get( cacheKeys[i] );
+				if ( statistics.isStatisticsEnabled() ) {
+					if ( entries[i] == null ) {
+						statistics.entityCacheMiss(
+								StatsHelper.INSTANCE.getRootEntityRole( persister ),
+								cache.getRegion().getName()
+						);
+					}
+					else {
+						statistics.entityCacheHit(
+								StatsHelper.INSTANCE.getRootEntityRole( persister ),
+								cache.getRegion().getName()
+						);
+					}
+				}
+			}
+		}
+		return entries;
 	}
 
 	/**
@@ -14,11 +14,14 @@ import org.hibernate.LockOptions;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.LoadEvent;
 import org.hibernate.loader.ast.spi.SqlArrayMultiKeyLoader;
 import org.hibernate.metamodel.mapping.BasicEntityIdentifierMapping;
 import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
@@ -116,7 +119,9 @@ public class EntityBatchLoaderArrayParam<T>
 						domainBatchSize,
 						(index, value) -> idsToLoad[index] = value,
 						pkValue,
-						getLoadable()
+						getLoadable(),
+						// cached entities are resolved all at once by initializeEntities()
+						!canReadFromCache( session )
 				);
 		return trimIdBatch( domainBatchSize, idsToLoad );
 	}
@@ -141,8 +146,12 @@ public class EntityBatchLoaderArrayParam<T>
 			}
 		}
 
+		final Object[] idsToLoad = canReadFromCache( session )
+				? loadFromSecondLevelCache( idsToInitialize, lockOptions, readOnly, (EventSource) session )
+				: idsToInitialize;
+
 		LoaderHelper.loadByArrayParameter(
-				idsToInitialize,
+				idsToLoad,
 				sqlAst,
 				jdbcSelectOperation,
 				jdbcParameter,
@@ -156,6 +165,62 @@ public class EntityBatchLoaderArrayParam<T>
 		);
 	}
 
+	private boolean canReadFromCache(SharedSessionContractImplementor session) {
+		return session instanceof EventSource
+				&& session.getCacheMode().isGetEnabled()
+				&& getLoadable().getEntityPersister().canReadFromCache();
+	}
+
+	/**
+	 * Resolve the entities of the batch from the second-level cache, reading
+	 * the cache entries of the whole batch in a single round trip.
+	 *
+	 * @return The ids of the entities which must be loaded from the database
+	 */
+	private Object[] loadFromSecondLevelCache(
+			Object[] ids,
+			LockOptions lockOptions,
+			Boolean readOnly,
+			EventSource session) {
+		final EntityPersister persister = getLoadable().getEntityPersister();
+		final Object[] idsToRead = Arrays.copyOf( ids, ids.length );
+		// the entity being loaded was already looked up in the cache
+		idsToRead[0] = null;
+		final Object[] cacheEntries = CacheEntityLoaderHelper.INSTANCE.getFromSecondLevelCache(
+				idsToRead,
+				persister,
+				lockOptions.getLockMode(),
+				session
+		);
+		if ( cacheEntries == null ) {
+			return ids;
+		}
+
+		final Class<?> idType = identifierMapping.getJavaType().getJavaTypeClass();
+		final Object[] idsToLoad = (Object[]) Array.newInstance( idType, ids.length );
+		int position = 0;
+		for ( int i = 0; i < ids.length; i++ ) {
+			if ( ids[i] != null ) {
+				final Object entity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
+						new LoadEvent(
+								ids[i],
+								getLoadable().getJavaType().getJavaTypeClass().getName(),
+								lockOptions,
+								session,
+								readOnly
+						),
+						persister,
+						session.generateEntityKey( ids[i], persister ),
+						cacheEntries[i]
+				);
+				if ( entity == null ) {
+					idsToLoad[position++] = ids[i];
+				}
+			}
+		}
+		return trimIdBatch( ids.length, idsToLoad );
+	}
+
 	@Override
 	public T load(Object pkValue, LockOptions lockOptions, Boolean readOnly, SharedSessionContractImplementor session) {
 		return load( pkValue, null, lockOptions, readOnly, session );
@@ -29,6 +29,7 @@ import org.hibernate.loader.ast.spi.SqlArrayMultiKeyLoader;
 import org.hibernate.metamodel.mapping.BasicEntityIdentifierMapping;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
@@ -86,6 +87,8 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 		final List<Object> result = CollectionHelper.arrayList( ids.length );
 		List<Object> idsToLoadFromDatabase = null;
 		List<Integer> idsToLoadFromDatabaseResultIndexes = null;
+		final Object[] cacheEntries =
+				prefetchFromSecondLevelCache( ids, coerce, loadOptions, lockOptions, session );
 
 		for ( int i = 0; i < ids.length; i++ ) {
 			final Object id;
@@ -129,11 +132,7 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 
 				if ( managedEntity == null && loadOptions.isSecondLevelCacheCheckingEnabled() ) {
 					// look for it in the SessionFactory
-					managedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
-							loadEvent,
-							getLoadable().getEntityPersister(),
-							entityKey
-					);
+					managedEntity = loadFromSecondLevelCache( loadEvent, entityKey, cacheEntries, i );
 				}
 
 				if ( managedEntity != null ) {
@@ -316,6 +315,8 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 
 		boolean foundAnyResolvedEntities = false;
 		List<K> nonResolvedIds = null;
+		final Object[] cacheEntries =
+				prefetchFromSecondLevelCache( ids, coerce, loadOptions, lockOptions, session );
 
 		for ( int i = 0; i < ids.length; i++ ) {
 			final Object id;
@@ -357,11 +358,7 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 			}
 
 			if ( resolvedEntity == null && loadOptions.isSecondLevelCacheCheckingEnabled() ) {
-				resolvedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
-						loadEvent,
-						getLoadable().getEntityPersister(),
-						entityKey
-				);
+				resolvedEntity = loadFromSecondLevelCache( loadEvent, entityKey, cacheEntries, i );
 			}
 
 			if ( resolvedEntity != null ) {
@@ -391,6 +388,62 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 		return ids;
 	}
 
+	/**
+	 * Read the second-level cache entries of all the given ids which are not
+	 * already associated with the session in a single round trip to the cache,
+	 * instead of one round trip per id.
+	 *
+	 * @return The cache entries, at the positions of their ids, or null if the
+	 * cache may not be used
+	 */
+	private Object[] prefetchFromSecondLevelCache(
+			Object[] ids,
+			boolean coerce,
+			MultiIdLoadOptions loadOptions,
+			LockOptions lockOptions,
+			EventSource session) {
+		if ( !loadOptions.isSecondLevelCacheCheckingEnabled() ) {
+			return null;
+		}
+		final EntityPersister persister = getLoadable().getEntityPersister();
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final Object[] idsToRead = new Object[ids.length];
+		for ( int i = 0; i < ids.length; i++ ) {
+			final Object id = coerce
+					? getLoadable().getIdentifierMapping().getJavaType().coerce( ids[i], session )
+					: ids[i];
+			if ( !loadOptions.isSessionCheckingEnabled()
+					|| persistenceContext.getEntity( new EntityKey( id, persister ) ) == null ) {
+				idsToRead[i] = id;
+			}
+		}
+		return CacheEntityLoaderHelper.INSTANCE.getFromSecondLevelCache(
+				idsToRead,
+				persister,
+				lockOptions.getLockMode(),
+				session
+		);
+	}
+
+	private Object loadFromSecondLevelCache(
+			LoadEvent loadEvent,
+			EntityKey entityKey,
+			Object[] cacheEntries,
+			int position) {
+		final EntityPersister persister = getLoadable().getEntityPersister();
+		if ( cacheEntries == null ) {
+			return CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache( loadEvent, persister, entityKey );
+		}
+		else {
+			return CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
+					loadEvent,
+					persister,
+					entityKey,
+					cacheEntries[position]
+			);
+		}
+	}
+
 	private <X> X[] createTypedArray(@SuppressWarnings("SameParameterValue") int length) {
 		//noinspection unchecked
 		return (X[]) Array.newInstance( getIdentifierMapping().getJavaType().getJavaTypeClass(), length );
@@ -385,6 +385,7 @@ public abstract class AbstractEntityPersister
 	private final String[][] propertyColumnWriters;
 	private final boolean[][] propertyColumnUpdateable;
 	private final boolean[][] propertyColumnInsertable;
+	private final boolean[] propertyCleanIfSame;
 	private final Set<String> sharedColumnNames;
 
 	private final List<Integer> lobProperties;
@@ -703,6 +704,7 @@ public abstract class AbstractEntityPersister
 			}
 		}
 		lobProperties = toSmallList( lobPropertiesLocalCollector );
+		propertyCleanIfSame = DirtyHelper.determineCleanIfSame( entityMetamodel.getProperties() );
 		hasFormulaProperties = foundFormula;
 		lazyPropertyColumnAliases = to2DStringArray( lazyColAliases );
 		lazyPropertyNames = toStringArray( lazyNames );
@@ -3887,6 +3889,7 @@ public abstract class AbstractEntityPersister
 				currentState,
 				previousState,
 				propertyColumnUpdateable,
+				propertyCleanIfSame,
 				session
 		);
 		if ( props == null ) {
@@ -11,6 +11,8 @@ import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.tuple.NonIdentifierAttribute;
+import org.hibernate.type.AbstractStandardBasicType;
+import org.hibernate.type.Type;
 
 /**
  * Operations for searching an array of property values for modified elements.
@@ -27,6 +29,8 @@ class DirtyHelper {
 	 * @param currentState The current state of the entity
 	 * @param previousState The baseline state of the entity
 	 * @param includeColumns Columns to be included in the dirty checking, per property
+	 * @param cleanIfSame Properties which cannot be dirty when both states hold the same instance,
+	 * as determined by {@link #determineCleanIfSame}
 	 * @param session The session from which the dirty check request originated.
 	 *
 	 * @return Array containing indices of the dirty properties, or null if no properties considered dirty.
@@ -36,6 +40,7 @@ class DirtyHelper {
 			final Object[] currentState,
 			final Object[] previousState,
 			final boolean[][] includeColumns,
+			final boolean[] cleanIfSame,
 			final SharedSessionContractImplementor session) {
 		int[] results = null;
 		int count = 0;
@@ -43,7 +48,7 @@ class DirtyHelper {
 
 		for ( int i = 0; i < span; i++ ) {
 
-			if ( isDirty( properties, currentState, previousState, includeColumns, session, i ) ) {
+			if ( isDirty( properties, currentState, previousState, includeColumns, cleanIfSame, session, i ) ) {
 				if ( results == null ) {
 					results = new int[span];
 				}
@@ -59,6 +64,7 @@ class DirtyHelper {
 			Object[] currentState,
 			Object[] previousState,
 			boolean[][] includeColumns,
+			boolean[] cleanIfSame,
 			SharedSessionContractImplementor session, int i) {
 		if ( currentState[i] == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
 			return false;
@@ -66,12 +72,39 @@ class DirtyHelper {
 		else if ( previousState[i] == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
 			return true;
 		}
+		else if ( cleanIfSame[i] && previousState[i] == currentState[i] ) {
+			// the common case of an unchanged immutable basic value:
+			// skip the (megamorphic) call to Type.isDirty()
+			return false;
+		}
 		else {
 			return properties[i].isDirtyCheckable()
 				&& properties[i].getType().isDirty( previousState[i], currentState[i], includeColumns[i], session);
 		}
 	}
 
+	/**
+	 * Determine, for each property, whether it is known not to be dirty when its current
+	 * and previous values are the very same instance.
+	 * <p>
+	 * This holds for basic types with an immutable {@link org.hibernate.type.descriptor.java.MutabilityPlan}:
+	 * the snapshot of such a value is the instance itself, and an instance is always
+	 * {@linkplain Type#isEqual(Object, Object) equal} to itself. It does not hold for
+	 * mutable types, nor for types with a custom notion of dirtiness.
+	 *
+	 * @param properties The property definitions
+	 *
+	 * @return An array with an element for each property
+	 */
+	public static boolean[] determineCleanIfSame(NonIdentifierAttribute[] properties) {
+		final boolean[] cleanIfSame = new boolean[properties.length];
+		for ( int i = 0; i < properties.length; i++ ) {
+			final Type type = properties[i].getType();
+			cleanIfSame[i] = type instanceof AbstractStandardBasicType<?> && !type.isMutable();
+		}
+		return cleanIfSame;
+	}
+
 	/**
 	 * Determine if any of the given field values are modified, returning an array containing
 	 * indices of the modified fields.
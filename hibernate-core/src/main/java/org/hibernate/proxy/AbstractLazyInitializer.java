@@ -268,8 +268,8 @@ public abstract class AbstractLazyInitializer implements LazyInitializer {
 	public final void initializeWithoutLoadIfPossible() {
 		if ( !initialized && session != null && session.isOpenOrWaitingForAutoClose() ) {
 			final EntityPersister entityDescriptor = getMappingMetamodel().getEntityDescriptor( getEntityName() );
-			final EntityKey key = session.generateEntityKey( getInternalIdentifier(), entityDescriptor );
-			final Object entity = session.getPersistenceContextInternal().getEntity( key );
+			final Object entity =
+					session.getPersistenceContextInternal().getEntity( getInternalIdentifier(), entityDescriptor );
 			if ( entity != null ) {
 				setImplementation( entity );
 			}
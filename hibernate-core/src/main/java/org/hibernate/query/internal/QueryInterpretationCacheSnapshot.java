@@ -0,0 +1,214 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.internal;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Version;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.spi.MetadataImplementor;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.mapping.Collection;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.Property;
+import org.hibernate.mapping.Selectable;
+import org.hibernate.mapping.Value;
+import org.hibernate.query.QueryLogging;
+import org.hibernate.query.spi.QueryEngine;
+import org.hibernate.query.spi.QueryInterpretationCache;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Saves the query strings of the HQL interpretations held by a
+ * {@link QueryInterpretationCache} to a file, and interprets them again when
+ * the next {@link org.hibernate.SessionFactory} starts, instead of on their
+ * first execution.
+ * <p>
+ * A snapshot records a fingerprint of the mapping model, and is ignored when
+ * the mapping model has changed.
+ *
+ * @see org.hibernate.cfg.QuerySettings#QUERY_PLAN_CACHE_SNAPSHOT
+ *
+ * @since 6.6
+ */
+public final class QueryInterpretationCacheSnapshot {
+	private static final Logger log = QueryLogging.subLogger( "plan.cache" );
+
+	private static final int FORMAT_VERSION = 1;
+
+	/**
+	 * The maximum length in bytes of a query string read from a snapshot,
+	 * guarding against a corrupted file
+	 */
+	private static final int MAX_QUERY_STRING_LENGTH = 1 << 24;
+
+	private QueryInterpretationCacheSnapshot() {
+	}
+
+	/**
+	 * A fingerprint of the entities, their attributes and their columns, of
+	 * the collections, and of the Hibernate version and the dialect.
+	 */
+	public static String fingerprint(MetadataImplementor metadata, Dialect dialect) {
+		final StringBuilder model = new StringBuilder();
+		model.append( Version.getVersionString() ).append( ';' ).append( dialect.getClass().getName() );
+		final List<PersistentClass> entityBindings = new ArrayList<>( metadata.getEntityBindings() );
+		entityBindings.sort( Comparator.comparing( PersistentClass::getEntityName ) );
+		for ( PersistentClass entityBinding : entityBindings ) {
+			model.append( ';' ).append( entityBinding.getEntityName() )
+					.append( ':' ).append( entityBinding.getClassName() )
+					.append( ':' ).append( entityBinding.getTable() == null ? null : entityBinding.getTable().getName() );
+			appendColumns( model, entityBinding.getIdentifier() );
+			for ( Property property : entityBinding.getPropertyClosure() ) {
+				model.append( ',' ).append( property.getName() );
+				appendColumns( model, property.getValue() );
+			}
+		}
+		final List<Collection> collectionBindings = new ArrayList<>( metadata.getCollectionBindings() );
+		collectionBindings.sort( Comparator.comparing( Collection::getRole ) );
+		for ( Collection collectionBinding : collectionBindings ) {
+			model.append( ';' ).append( collectionBinding.getRole() );
+		}
+
+		try {
+			final MessageDigest digest = MessageDigest.getInstance( "SHA-256" );
+			return new BigInteger( 1, digest.digest( model.toString().getBytes( StandardCharsets.UTF_8 ) ) )
+					.toString( 36 );
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new HibernateException( "Unable to compute the fingerprint of the mapping model", e );
+		}
+	}
+
+	private static void appendColumns(StringBuilder model, Value value) {
+		if ( value != null ) {
+			model.append( '(' );
+			for ( Selectable selectable : value.getSelectables() ) {
+				model.append( selectable.getText() ).append( ' ' );
+			}
+			model.append( ')' );
+		}
+	}
+
+	/**
+	 * Write the query strings and expected result types of the cached HQL
+	 * interpretations to the given file, replacing any previous snapshot.
+	 */
+	public static void write(Path file, String fingerprint, QueryInterpretationCache interpretationCache) {
+		final List<String> queryStrings = new ArrayList<>();
+		final List<String> resultTypes = new ArrayList<>();
+		interpretationCache.forEachHqlInterpretation( (queryString, expectedResultType) -> {
+			queryStrings.add( queryString );
+			resultTypes.add( expectedResultType == null ? "" : expectedResultType.getName() );
+		} );
+
+		try {
+			final Path directory = file.toAbsolutePath().getParent();
+			Files.createDirectories( directory );
+			final Path temporaryFile = Files.createTempFile( directory, file.getFileName().toString(), ".tmp" );
+			try ( DataOutputStream output =
+						new DataOutputStream( new BufferedOutputStream( Files.newOutputStream( temporaryFile ) ) ) ) {
+				output.writeInt( FORMAT_VERSION );
+				output.writeUTF( fingerprint );
+				output.writeInt( queryStrings.size() );
+				for ( int i = 0; i < queryStrings.size(); i++ ) {
+					writeString( output, queryStrings.get( i ) );
+					output.writeUTF( resultTypes.get( i ) );
+				}
+			}
+			Files.move( temporaryFile, file, StandardCopyOption.REPLACE_EXISTING );
+			log.debugf( "Saved %s HQL interpretations to %s", queryStrings.size(), file );
+		}
+		catch (IOException e) {
+			log.warnf( "Unable to save the query interpretation cache snapshot to %s: %s", file, e.getMessage() );
+		}
+	}
+
+	/**
+	 * Interpret the queries recorded in the given file, if it exists and was
+	 * written for a mapping model with the same fingerprint. Queries which
+	 * can no longer be interpreted are ignored.
+	 *
+	 * @return the number of queries interpreted
+	 */
+	public static int load(
+			Path file,
+			String fingerprint,
+			QueryEngine queryEngine,
+			ClassLoaderService classLoaderService) {
+		if ( !Files.isRegularFile( file ) ) {
+			log.debugf( "No query interpretation cache snapshot found at %s", file );
+			return 0;
+		}
+
+		final QueryInterpretationCache interpretationCache = queryEngine.getInterpretationCache();
+		int count = 0;
+		// read at once, so that the lengths read can be checked against the remaining bytes
+		try ( DataInputStream input = new DataInputStream( new ByteArrayInputStream( Files.readAllBytes( file ) ) ) ) {
+			if ( input.readInt() != FORMAT_VERSION || !fingerprint.equals( input.readUTF() ) ) {
+				log.debugf( "Ignoring stale query interpretation cache snapshot %s", file );
+				return 0;
+			}
+			final int size = input.readInt();
+			for ( int i = 0; i < size; i++ ) {
+				final String queryString = readString( input );
+				final String resultType = input.readUTF();
+				try {
+					interpretationCache.resolveHqlInterpretation(
+							queryString,
+							resultType.isEmpty() ? null : classLoaderService.classForName( resultType ),
+							queryEngine.getHqlTranslator()
+					);
+					count++;
+				}
+				catch (RuntimeException e) {
+					log.debugf( "Unable to interpret query from snapshot [%s]: %s", queryString, e.getMessage() );
+				}
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			// a truncated or corrupted snapshot is as good as a stale one
+			log.warnf( "Unable to read the query interpretation cache snapshot %s: %s", file, e.getMessage() );
+		}
+		log.debugf( "Interpreted %s HQL queries from %s", count, file );
+		return count;
+	}
+
+	private static void writeString(DataOutputStream output, String string) throws IOException {
+		// HQL strings may exceed the length supported by writeUTF()
+		final byte[] bytes = string.getBytes( StandardCharsets.UTF_8 );
+		output.writeInt( bytes.length );
+		output.write( bytes );
+	}
+
+	private static String readString(DataInputStream input) throws IOException {
+		final int length = input.readInt();
+		// available() is exact for a ByteArrayInputStream
+		if ( length < 0 || length > MAX_QUERY_STRING_LENGTH || length > input.available() ) {
+			throw new IOException( "Invalid query string length: " + length );
+		}
+		final byte[] bytes = new byte[length];
+		input.readFully( bytes );
+		return new String( bytes, StandardCharsets.UTF_8 );
+	}
+}
@@ -7,10 +7,11 @@
 package org.hibernate.query.internal;
 
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
-import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.internal.util.collections.TinyLfuConcurrentMap;
 import org.hibernate.query.QueryLogging;
 import org.hibernate.query.hql.HqlTranslator;
 import org.hibernate.query.spi.HqlInterpretation;
@@ -38,18 +39,18 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 	/**
 	 * the cache of the actual plans...
 	 */
-	private final BoundedConcurrentHashMap<Key, QueryPlan> queryPlanCache;
+	private final TinyLfuConcurrentMap<Key, QueryPlan> queryPlanCache;
 
-	private final BoundedConcurrentHashMap<Object, HqlInterpretation<?>> hqlInterpretationCache;
-	private final BoundedConcurrentHashMap<String, ParameterInterpretation> nativeQueryParamCache;
+	private final TinyLfuConcurrentMap<Object, HqlInterpretation<?>> hqlInterpretationCache;
+	private final TinyLfuConcurrentMap<String, ParameterInterpretation> nativeQueryParamCache;
 	private final Supplier<StatisticsImplementor> statisticsSupplier;
 
 	public QueryInterpretationCacheStandardImpl(int maxQueryPlanCount, Supplier<StatisticsImplementor> statisticsSupplier) {
 		log.debugf( "Starting QueryInterpretationCache(%s)", maxQueryPlanCount );
 
-		this.queryPlanCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		this.hqlInterpretationCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		this.nativeQueryParamCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+		this.queryPlanCache = new TinyLfuConcurrentMap<>( maxQueryPlanCount );
+		this.hqlInterpretationCache = new TinyLfuConcurrentMap<>( maxQueryPlanCount );
+		this.nativeQueryParamCache = new TinyLfuConcurrentMap<>( maxQueryPlanCount );
 		this.statisticsSupplier = statisticsSupplier;
 	}
 
@@ -134,6 +135,19 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 		return hqlInterpretation;
 	}
 
+	@Override
+	public void forEachHqlInterpretation(BiConsumer<String, Class<?>> action) {
+		for ( Object cacheKey : hqlInterpretationCache.keySet() ) {
+			if ( cacheKey instanceof HqlInterpretationCacheKey ) {
+				final HqlInterpretationCacheKey key = (HqlInterpretationCacheKey) cacheKey;
+				action.accept( key.queryString, key.expectedResultType );
+			}
+			else {
+				action.accept( (String) cacheKey, null );
+			}
+		}
+	}
+
 	protected static <R> HqlInterpretation<R> createHqlInterpretation(
 			String queryString,
 			Class<R> expectedResultType,
@@ -43,6 +43,7 @@ public class QueryOptionsImpl implements MutableQueryOptions, AppliedGraph {
 	private CacheStoreMode cacheStoreMode;
 	private Boolean resultCachingEnabled;
 	private String resultCacheRegionName;
+	private Boolean resultCacheInvalidationById;
 	private Boolean readOnlyEnabled;
 	private Boolean queryPlanCachingEnabled;
 
@@ -125,6 +126,11 @@ public class QueryOptionsImpl implements MutableQueryOptions, AppliedGraph {
 		this.fetchSize = fetchSize;
 	}
 
+	@Override
+	public void clearFetchSize() {
+		this.fetchSize = null;
+	}
+
 	@Override
 	public CacheRetrieveMode getCacheRetrieveMode() {
 		return cacheRetrieveMode;
@@ -160,6 +166,16 @@ public class QueryOptionsImpl implements MutableQueryOptions, AppliedGraph {
 		return resultCacheRegionName;
 	}
 
+	@Override
+	public Boolean getResultCacheInvalidationById() {
+		return resultCacheInvalidationById;
+	}
+
+	@Override
+	public void setResultCacheInvalidationById(Boolean invalidationById) {
+		this.resultCacheInvalidationById = invalidationById;
+	}
+
 	@Override
 	public Boolean getQueryPlanCachingEnabled() {
 		return queryPlanCachingEnabled;
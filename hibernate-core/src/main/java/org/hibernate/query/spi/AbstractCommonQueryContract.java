@@ -64,9 +64,11 @@ import static java.util.Locale.ROOT;
 import static org.hibernate.LockOptions.WAIT_FOREVER;
 import static org.hibernate.internal.log.DeprecationLogger.DEPRECATION_LOGGER;
 import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_INVALIDATION_BY_ID;
 import static org.hibernate.jpa.HibernateHints.HINT_CACHE_MODE;
 import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
 import static org.hibernate.jpa.HibernateHints.HINT_COMMENT;
+import static org.hibernate.jpa.HibernateHints.HINT_DETACH_STREAMED_RESULTS;
 import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 import static org.hibernate.jpa.HibernateHints.HINT_FLUSH_MODE;
 import static org.hibernate.jpa.HibernateHints.HINT_FOLLOW_ON_LOCKING;
@@ -99,6 +101,7 @@ import static org.hibernate.jpa.internal.util.LockModeTypeHelper.interpretLockMo
 public abstract class AbstractCommonQueryContract implements CommonQueryContract {
 	private final SharedSessionContractImplementor session;
 	private final QueryOptionsImpl queryOptions = new QueryOptionsImpl();
+	private Boolean detachStreamedResults;
 
 	public AbstractCommonQueryContract(SharedSessionContractImplementor session) {
 		this.session = session;
@@ -184,7 +187,9 @@ public abstract class AbstractCommonQueryContract implements CommonQueryContract
 		putIfNotNull( hints, HINT_CACHEABLE, getQueryOptions().isResultCachingEnabled() );
 		putIfNotNull( hints, HINT_CACHE_REGION, getQueryOptions().getResultCacheRegionName() );
 		putIfNotNull( hints, HINT_CACHE_MODE, getQueryOptions().getCacheMode() );
+		putIfNotNull( hints, HINT_CACHE_INVALIDATION_BY_ID, getQueryOptions().getResultCacheInvalidationById() );
 		putIfNotNull( hints, HINT_QUERY_PLAN_CACHEABLE, getQueryOptions().getQueryPlanCachingEnabled() );
+		putIfNotNull( hints, HINT_DETACH_STREAMED_RESULTS, detachStreamedResults );
 
 		putIfNotNull( hints, HINT_SPEC_CACHE_RETRIEVE_MODE, getQueryOptions().getCacheRetrieveMode() );
 		putIfNotNull( hints, HINT_JAVAEE_CACHE_RETRIEVE_MODE, getQueryOptions().getCacheRetrieveMode() );
@@ -308,6 +313,9 @@ public abstract class AbstractCommonQueryContract implements CommonQueryContract
 				case HINT_QUERY_PLAN_CACHEABLE:
 					applyQueryPlanCacheableHint( getBoolean( value ) );
 					return true;
+				case HINT_DETACH_STREAMED_RESULTS:
+					applyDetachStreamedResultsHint( getBoolean( value ) );
+					return true;
 				case HINT_CACHEABLE:
 					applyCacheableHint( getBoolean( value ) );
 					return true;
@@ -317,6 +325,9 @@ public abstract class AbstractCommonQueryContract implements CommonQueryContract
 				case HINT_CACHE_MODE:
 					applyCacheModeHint( getCacheMode( value ) );
 					return true;
+				case HINT_CACHE_INVALIDATION_BY_ID:
+					applyCacheInvalidationByIdHint( getBoolean( value ) );
+					return true;
 				case HINT_JAVAEE_CACHE_RETRIEVE_MODE:
 					DEPRECATION_LOGGER.deprecatedSetting( HINT_JAVAEE_CACHE_RETRIEVE_MODE, HINT_SPEC_CACHE_RETRIEVE_MODE );
 					//fall through to:
@@ -352,6 +363,19 @@ public abstract class AbstractCommonQueryContract implements CommonQueryContract
 		getQueryOptions().setFetchSize( fetchSize );
 	}
 
+	protected void applyDetachStreamedResultsHint(boolean detach) {
+		detachStreamedResults = detach;
+	}
+
+	/**
+	 * Should entities loaded by a streamed query be detached when moving to the next row?
+	 *
+	 * @see org.hibernate.jpa.HibernateHints#HINT_DETACH_STREAMED_RESULTS
+	 */
+	protected boolean isDetachStreamedResults() {
+		return Boolean.TRUE.equals( detachStreamedResults );
+	}
+
 	protected void applyQueryPlanCacheableHint(boolean isCacheable) {
 		getQueryOptions().setQueryPlanCachingEnabled( isCacheable );
 	}
@@ -360,6 +384,10 @@ public abstract class AbstractCommonQueryContract implements CommonQueryContract
 		getQueryOptions().setCacheMode( cacheMode );
 	}
 
+	protected void applyCacheInvalidationByIdHint(boolean invalidationById) {
+		getQueryOptions().setResultCacheInvalidationById( invalidationById );
+	}
+
 	protected void applyCacheableHint(boolean isCacheable) {
 		getQueryOptions().setResultCachingEnabled( isCacheable );
 	}
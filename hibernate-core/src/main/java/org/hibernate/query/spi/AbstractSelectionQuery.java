@@ -49,6 +49,7 @@ import org.hibernate.metamodel.model.domain.BasicDomainType;
 import org.hibernate.metamodel.model.domain.DomainType;
 import org.hibernate.query.BindableType;
 import org.hibernate.query.IllegalQueryOperationException;
+import org.hibernate.query.QueryLogging;
 import org.hibernate.query.QueryParameter;
 import org.hibernate.query.QueryTypeMismatchException;
 import org.hibernate.query.SelectionQuery;
@@ -536,7 +537,10 @@ public abstract class AbstractSelectionQuery<R>
 	@SuppressWarnings( {"unchecked", "rawtypes"} )
 	@Override
 	public Stream stream() {
-		final ScrollableResultsImplementor scrollableResults = scroll( ScrollMode.FORWARD_ONLY );
+		final ScrollableResultsImplementor scrollableResults = scrollForStream();
+		if ( isDetachStreamedResults() && !scrollableResults.setDetachLoadedEntities( true ) ) {
+			QueryLogging.QUERY_LOGGER.debug( "Entities loaded by the streamed query will not be detached" );
+		}
 		final ScrollableResultsIterator iterator = new ScrollableResultsIterator<>( scrollableResults );
 		final Spliterator spliterator = spliteratorUnknownSize( iterator, Spliterator.NONNULL );
 
@@ -544,6 +548,25 @@ public abstract class AbstractSelectionQuery<R>
 		return (Stream) stream.onClose( scrollableResults::close );
 	}
 
+	private ScrollableResultsImplementor<R> scrollForStream() {
+		// unless specified, use the fetch size preferred by the Dialect for streaming
+		if ( getQueryOptions().getFetchSize() == null
+				&& getSession().getFactory().getSessionFactoryOptions().getJdbcFetchSize() == null ) {
+			final int fetchSize = getSession().getJdbcServices().getDialect().getDefaultStreamFetchSize();
+			if ( fetchSize > 0 ) {
+				// only for this execution, the statement is prepared by scroll()
+				getQueryOptions().setFetchSize( fetchSize );
+				try {
+					return scroll( ScrollMode.FORWARD_ONLY );
+				}
+				finally {
+					getQueryOptions().clearFetchSize();
+				}
+			}
+		}
+		return scroll( ScrollMode.FORWARD_ONLY );
+	}
+
 	@Override
 	public R uniqueResult() {
 		return uniqueElement( list() );
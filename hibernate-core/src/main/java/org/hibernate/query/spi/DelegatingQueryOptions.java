@@ -76,6 +76,11 @@ public class DelegatingQueryOptions implements QueryOptions {
 		return queryOptions.getCacheStoreMode();
 	}
 
+	@Override
+	public Boolean getResultCacheInvalidationById() {
+		return queryOptions.getResultCacheInvalidationById();
+	}
+
 	@Override
 	public Boolean getQueryPlanCachingEnabled() {
 		return queryOptions.getQueryPlanCachingEnabled();
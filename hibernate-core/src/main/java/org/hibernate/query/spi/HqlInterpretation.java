@@ -6,7 +6,9 @@
  */
 package org.hibernate.query.spi;
 
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.query.sqm.internal.DomainParameterXref;
+import org.hibernate.query.sqm.internal.SqmUtil;
 import org.hibernate.query.sqm.tree.SqmStatement;
 
 /**
@@ -20,4 +22,16 @@ public interface HqlInterpretation<R> {
 	ParameterMetadataImplementor getParameterMetadata();
 
 	DomainParameterXref getDomainParameterXref();
+
+	/**
+	 * Whether the translation of the statement to SQL depends on the number
+	 * of values bound to its multi-valued parameters.
+	 *
+	 * @see SqmUtil#hasExpandedParameters(SqmStatement, SessionFactoryImplementor)
+	 *
+	 * @since 6.6
+	 */
+	default boolean hasExpandedParameters(SessionFactoryImplementor factory) {
+		return SqmUtil.hasExpandedParameters( getSqmStatement(), factory );
+	}
 }
@@ -59,6 +59,18 @@ public interface MutableQueryOptions extends QueryOptions {
 	 */
 	void setResultCacheRegionName(String cacheRegion);
 
+	/**
+	 * Corollary to {@link #getResultCacheInvalidationById()}
+	 *
+	 * @implNote The default implementation ignores the setting, so
+	 * that cached results are invalidated by any change to the tables
+	 * they query.
+	 *
+	 * @since 6.6
+	 */
+	default void setResultCacheInvalidationById(Boolean invalidationById) {
+	}
+
 	/**
 	 * Corollary to {@link #getQueryPlanCachingEnabled()}
 	 */
@@ -74,6 +86,17 @@ public interface MutableQueryOptions extends QueryOptions {
 	 */
 	void setFetchSize(int fetchSize);
 
+	/**
+	 * Removes the {@linkplain #setFetchSize(int) fetch size}, so that the default
+	 * fetch size is used.
+	 *
+	 * @implNote The default implementation leaves the fetch size unchanged.
+	 *
+	 * @since 6.6
+	 */
+	default void clearFetchSize() {
+	}
+
 	/**
 	 * Corollary to {@link #isReadOnly()}
 	 */
@@ -6,6 +6,7 @@
  */
 package org.hibernate.query.spi;
 
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -39,6 +40,16 @@ public interface QueryInterpretationCache {
 
 	<R> HqlInterpretation<R> resolveHqlInterpretation(String queryString, Class<R> expectedResultType, HqlTranslator translator);
 
+	/**
+	 * Apply the given action to the query string and expected result type
+	 * of each cached HQL interpretation. The result type passed to the action
+	 * is {@code null} if the query was interpreted without a result type.
+	 *
+	 * @since 6.6
+	 */
+	default void forEachHqlInterpretation(BiConsumer<String, Class<?>> action) {
+	}
+
 	<R> SelectQueryPlan<R> resolveSelectQueryPlan(Key key, Supplier<SelectQueryPlan<R>> creator);
 
 	NonSelectQueryPlan getNonSelectQueryPlan(Key key);
@@ -101,6 +101,18 @@ public interface QueryOptions {
 	 */
 	String getResultCacheRegionName();
 
+	/**
+	 * Should the cached results of the query only be invalidated by
+	 * changes to the entities they contain, and by insertions?
+	 *
+	 * @see org.hibernate.jpa.HibernateHints#HINT_CACHE_INVALIDATION_BY_ID
+	 *
+	 * @since 6.6
+	 */
+	default Boolean getResultCacheInvalidationById() {
+		return null;
+	}
+
 	/**
 	 * Should the query plan of the query be cached?
 	 */
@@ -17,4 +17,16 @@ import org.hibernate.ScrollableResults;
 @Incubating
 public interface ScrollableResultsImplementor<R> extends ScrollableResults<R> {
 	boolean isClosed();
+
+	/**
+	 * Specify that the entities loaded for a row should be detached from the
+	 * persistence context when moving to another row.
+	 *
+	 * @return {@code false} if this is not supported by this implementation
+	 *
+	 * @since 6.6
+	 */
+	default boolean setDetachLoadedEntities(boolean detachLoadedEntities) {
+		return false;
+	}
 }
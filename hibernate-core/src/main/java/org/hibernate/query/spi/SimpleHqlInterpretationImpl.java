@@ -6,7 +6,9 @@
  */
 package org.hibernate.query.spi;
 
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.query.sqm.internal.DomainParameterXref;
+import org.hibernate.query.sqm.internal.SqmUtil;
 import org.hibernate.query.sqm.tree.SqmStatement;
 
 /**
@@ -16,6 +18,8 @@ public class SimpleHqlInterpretationImpl<R> implements HqlInterpretation<R> {
 	private final SqmStatement<R> sqmStatement;
 	private final ParameterMetadataImplementor parameterMetadata;
 	private final DomainParameterXref domainParameterXref;
+	// the statement is shared by all the queries created from this interpretation
+	private volatile Boolean expandedParameters;
 
 	public SimpleHqlInterpretationImpl(
 			SqmStatement<R> sqmStatement,
@@ -40,4 +44,14 @@ public class SimpleHqlInterpretationImpl<R> implements HqlInterpretation<R> {
 	public DomainParameterXref getDomainParameterXref() {
 		return domainParameterXref.copy();
 	}
+
+	@Override
+	public boolean hasExpandedParameters(SessionFactoryImplementor factory) {
+		Boolean expandedParameters = this.expandedParameters;
+		if ( expandedParameters == null ) {
+			expandedParameters = SqmUtil.hasExpandedParameters( sqmStatement, factory );
+			this.expandedParameters = expandedParameters;
+		}
+		return expandedParameters;
+	}
 }
@@ -8,6 +8,8 @@ package org.hibernate.query.sqm.internal;
 
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.graph.spi.AppliedGraph;
 import org.hibernate.query.IllegalSelectQueryException;
 import org.hibernate.query.KeyedPage;
@@ -17,9 +19,13 @@ import org.hibernate.query.Page;
 import org.hibernate.query.QueryLogging;
 import org.hibernate.query.SelectionQuery;
 import org.hibernate.query.criteria.ValueHandlingMode;
+import org.hibernate.query.hql.HqlTranslator;
 import org.hibernate.query.hql.internal.QuerySplitter;
 import org.hibernate.query.spi.AbstractSelectionQuery;
+import org.hibernate.query.spi.HqlInterpretation;
 import org.hibernate.query.spi.MutableQueryOptions;
+import org.hibernate.query.spi.QueryEngine;
+import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.SelectQueryPlan;
 import org.hibernate.query.sqm.NodeBuilder;
@@ -47,6 +53,48 @@ abstract class AbstractSqmSelectionQuery<R> extends AbstractSelectionQuery<R> {
 		super(session);
 	}
 
+	/**
+	 * Obtain the interpretation of the given HQL from the query interpretation
+	 * cache, reporting to the {@link EventManager} whether it had to be parsed.
+	 */
+	static <R> HqlInterpretation<R> interpretHql(
+			String hql,
+			Class<R> expectedResultType,
+			SharedSessionContractImplementor session) {
+		final QueryEngine queryEngine = session.getFactory().getQueryEngine();
+		final QueryInterpretationCache interpretationCache = queryEngine.getInterpretationCache();
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent sqmInterpretationEvent = eventManager.beginSqmInterpretationEvent();
+		if ( sqmInterpretationEvent == null ) {
+			return interpretationCache.resolveHqlInterpretation( hql, expectedResultType, queryEngine.getHqlTranslator() );
+		}
+		else {
+			// the translator is only called when the interpretation is not cached
+			final MonitoredHqlTranslator translator = new MonitoredHqlTranslator( queryEngine.getHqlTranslator() );
+			try {
+				return interpretationCache.resolveHqlInterpretation( hql, expectedResultType, translator );
+			}
+			finally {
+				eventManager.completeSqmInterpretationEvent( sqmInterpretationEvent, session, hql, !translator.translated );
+			}
+		}
+	}
+
+	private static class MonitoredHqlTranslator implements HqlTranslator {
+		private final HqlTranslator translator;
+		private boolean translated;
+
+		private MonitoredHqlTranslator(HqlTranslator translator) {
+			this.translator = translator;
+		}
+
+		@Override
+		public <R> SqmStatement<R> translate(String hql, Class<R> expectedResultType) {
+			translated = true;
+			return translator.translate( hql, expectedResultType );
+		}
+	}
+
 	protected int max(boolean hasLimit, SqmSelectStatement<?> sqmStatement, List<R> list) {
 		return !hasLimit || getQueryOptions().getLimit().getMaxRows() == null
 				? getMaxRows( sqmStatement, list.size() )
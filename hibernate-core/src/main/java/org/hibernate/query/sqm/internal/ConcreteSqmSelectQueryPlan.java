@@ -17,11 +17,15 @@ import org.hibernate.AssertionFailure;
 import org.hibernate.InstantiationException;
 import org.hibernate.ScrollMode;
 import org.hibernate.engine.spi.EntityHolder;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.internal.EmptyScrollableResults;
 import org.hibernate.metamodel.mapping.MappingModelExpressible;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.query.Query;
 import org.hibernate.query.QueryTypeMismatchException;
 import org.hibernate.query.TupleTransformer;
@@ -76,6 +80,8 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	private final SqmInterpreter<Object, ResultsConsumer<?, R>> executeQueryInterpreter;
 	private final SqmInterpreter<List<R>, Void> listInterpreter;
 	private final SqmInterpreter<ScrollableResultsImplementor<R>, ScrollMode> scrollInterpreter;
+	// the root entity of a query restricted by identifier only
+	private final String identifierRestrictedEntityName;
 
 	private volatile CacheableSqmInterpretation cacheableSqmInterpretation;
 
@@ -90,6 +96,9 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		this.domainParameterXref = domainParameterXref;
 
 		this.rowTransformer = determineRowTransformer( sqm, resultType, tupleMetadata, queryOptions );
+		this.identifierRestrictedEntityName = sqm.restrictsRootByIdentifierOnly()
+				? sqm.getQuerySpec().getFromClause().getRoots().get( 0 ).getEntityName()
+				: null;
 
 		final ListResultsConsumer.UniqueSemantic uniqueSemantic;
 		if ( sqm.producesUniqueResults() && !AppliedGraphs.containsCollectionFetches( queryOptions ) ) {
@@ -112,7 +121,13 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 				return session.getFactory().getJdbcServices().getJdbcSelectExecutor().executeQuery(
 						jdbcSelect,
 						jdbcParameterBindings,
-						listInterpreterExecutionContext( hql, executionContext, jdbcSelect, subSelectFetchKeyHandler ),
+						listInterpreterExecutionContext(
+								hql,
+								executionContext,
+								jdbcSelect,
+								subSelectFetchKeyHandler,
+								allowsResultCacheInvalidationById( executionContext )
+						),
 						rowTransformer,
 						null,
 						sql -> executionContext.getSession()
@@ -140,7 +155,13 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 				return session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
 						jdbcSelect,
 						jdbcParameterBindings,
-						listInterpreterExecutionContext( hql, executionContext, jdbcSelect, subSelectFetchKeyHandler ),
+						listInterpreterExecutionContext(
+								hql,
+								executionContext,
+								jdbcSelect,
+								subSelectFetchKeyHandler,
+								allowsResultCacheInvalidationById( executionContext )
+						),
 						rowTransformer,
 						uniqueSemantic
 				);
@@ -195,7 +216,47 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			DomainQueryExecutionContext executionContext,
 			JdbcOperationQuerySelect jdbcSelect,
 			SubselectFetch.RegistrationHandler subSelectFetchKeyHandler) {
-		return new MySqmJdbcExecutionContextAdapter( executionContext, jdbcSelect, subSelectFetchKeyHandler, hql );
+		return listInterpreterExecutionContext( hql, executionContext, jdbcSelect, subSelectFetchKeyHandler, false );
+	}
+
+	protected static SqmJdbcExecutionContextAdapter listInterpreterExecutionContext(
+			String hql,
+			DomainQueryExecutionContext executionContext,
+			JdbcOperationQuerySelect jdbcSelect,
+			SubselectFetch.RegistrationHandler subSelectFetchKeyHandler,
+			boolean allowsResultCacheInvalidationById) {
+		return new MySqmJdbcExecutionContextAdapter(
+				executionContext,
+				jdbcSelect,
+				subSelectFetchKeyHandler,
+				hql,
+				allowsResultCacheInvalidationById
+		);
+	}
+
+	/**
+	 * Results may only be invalidated by changes to the entities they contain
+	 * if nothing but the identifier restriction of the query determines which
+	 * rows it returns: no limit, no fetched associations, no filters, and no
+	 * {@linkplain org.hibernate.annotations.SQLRestriction SQL restriction}.
+	 */
+	private boolean allowsResultCacheInvalidationById(DomainQueryExecutionContext executionContext) {
+		if ( identifierRestrictedEntityName == null ) {
+			return false;
+		}
+		final QueryOptions queryOptions = executionContext.getQueryOptions();
+		if ( !queryOptions.getLimit().isEmpty()
+				|| queryOptions.getAppliedGraph() != null && queryOptions.getAppliedGraph().getGraph() != null ) {
+			return false;
+		}
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		final LoadQueryInfluencers influencers = session.getLoadQueryInfluencers();
+		final EntityPersister persister =
+				session.getFactory().getMappingMetamodel().findEntityDescriptor( identifierRestrictedEntityName );
+		return persister != null
+			&& !persister.hasWhereRestrictions()
+			&& !persister.isAffectedByEnabledFilters( influencers )
+			&& !influencers.hasEnabledFetchProfiles();
 	}
 
 	private static List<SqmSelection<?>> selections(SqmSelectStatement<?> sqm) {
@@ -433,52 +494,64 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			DomainQueryExecutionContext executionContext) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final SessionFactoryImplementor sessionFactory = session.getFactory();
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent sqlAstTranslationEvent = eventManager.beginSqlAstTranslationEvent();
+
+		String sql = null;
+		try {
+			final SqmTranslation<SelectStatement> sqmInterpretation =
+					sessionFactory.getQueryEngine().getSqmTranslatorFactory()
+							.createSelectTranslator(
+									sqm,
+									executionContext.getQueryOptions(),
+									domainParameterXref,
+									executionContext.getQueryParameterBindings(),
+									executionContext.getSession().getLoadQueryInfluencers(),
+									sessionFactory,
+									true
+							)
+							.translate();
+
+			final FromClauseAccess tableGroupAccess = sqmInterpretation.getFromClauseAccess();
+
+			final SqlAstTranslator<JdbcOperationQuerySelect> selectTranslator =
+					sessionFactory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory()
+							.buildSelectTranslator( sessionFactory, sqmInterpretation.getSqlAst() );
+
+			final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref
+					= SqmUtil.generateJdbcParamsXref( domainParameterXref, sqmInterpretation::getJdbcParamsBySqmParam );
+
+			final JdbcParameterBindings jdbcParameterBindings = SqmUtil.createJdbcParameterBindings(
+					executionContext.getQueryParameterBindings(),
+					domainParameterXref,
+					jdbcParamsXref,
+					session.getFactory().getRuntimeMetamodels().getMappingMetamodel(),
+					tableGroupAccess::findTableGroup,
+					new SqmParameterMappingModelResolutionAccess() {
+						@Override @SuppressWarnings("unchecked")
+						public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T> parameter) {
+							return (MappingModelExpressible<T>) sqmInterpretation.getSqmParameterMappingModelTypeResolutions().get(parameter);
+						}
+					},
+					session
+			);
 
-		final SqmTranslation<SelectStatement> sqmInterpretation =
-				sessionFactory.getQueryEngine().getSqmTranslatorFactory()
-						.createSelectTranslator(
-								sqm,
-								executionContext.getQueryOptions(),
-								domainParameterXref,
-								executionContext.getQueryParameterBindings(),
-								executionContext.getSession().getLoadQueryInfluencers(),
-								sessionFactory,
-								true
-						)
-						.translate();
-
-		final FromClauseAccess tableGroupAccess = sqmInterpretation.getFromClauseAccess();
-
-		final SqlAstTranslator<JdbcOperationQuerySelect> selectTranslator =
-				sessionFactory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory()
-						.buildSelectTranslator( sessionFactory, sqmInterpretation.getSqlAst() );
-
-		final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref
-				= SqmUtil.generateJdbcParamsXref( domainParameterXref, sqmInterpretation::getJdbcParamsBySqmParam );
-
-		final JdbcParameterBindings jdbcParameterBindings = SqmUtil.createJdbcParameterBindings(
-				executionContext.getQueryParameterBindings(),
-				domainParameterXref,
-				jdbcParamsXref,
-				session.getFactory().getRuntimeMetamodels().getMappingMetamodel(),
-				tableGroupAccess::findTableGroup,
-				new SqmParameterMappingModelResolutionAccess() {
-					@Override @SuppressWarnings("unchecked")
-					public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T> parameter) {
-						return (MappingModelExpressible<T>) sqmInterpretation.getSqmParameterMappingModelTypeResolutions().get(parameter);
-					}
-				},
-				session
-		);
-
-		return new CacheableSqmInterpretation(
-				sqmInterpretation.getSqlAst(),
-				selectTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() ),
-				tableGroupAccess,
-				jdbcParamsXref,
-				sqmInterpretation.getSqmParameterMappingModelTypeResolutions(),
-				jdbcParameterBindings
-		);
+			final JdbcOperationQuerySelect jdbcSelect =
+					selectTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
+			sql = jdbcSelect.getSqlString();
+
+			return new CacheableSqmInterpretation(
+					sqmInterpretation.getSqlAst(),
+					jdbcSelect,
+					tableGroupAccess,
+					jdbcParamsXref,
+					sqmInterpretation.getSqmParameterMappingModelTypeResolutions(),
+					jdbcParameterBindings
+			);
+		}
+		finally {
+			eventManager.completeSqlAstTranslationEvent( sqlAstTranslationEvent, session, sql );
+		}
 	}
 
 	private interface SqmInterpreter<T, X> {
@@ -544,15 +617,23 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	private static class MySqmJdbcExecutionContextAdapter extends SqmJdbcExecutionContextAdapter {
 		private final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler;
 		private final String hql;
+		private final boolean allowsResultCacheInvalidationById;
 
 		public MySqmJdbcExecutionContextAdapter(
 				DomainQueryExecutionContext executionContext,
 				JdbcOperationQuerySelect jdbcSelect,
 				SubselectFetch.RegistrationHandler subSelectFetchKeyHandler,
-				String hql) {
+				String hql,
+				boolean allowsResultCacheInvalidationById) {
 			super( executionContext, jdbcSelect );
 			this.subSelectFetchKeyHandler = subSelectFetchKeyHandler;
 			this.hql = hql;
+			this.allowsResultCacheInvalidationById = allowsResultCacheInvalidationById;
+		}
+
+		@Override
+		public boolean allowsResultCacheInvalidationById() {
+			return allowsResultCacheInvalidationById;
 		}
 
 		@Override
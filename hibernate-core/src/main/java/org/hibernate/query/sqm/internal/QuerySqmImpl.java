@@ -69,7 +69,6 @@ import org.hibernate.query.spi.HqlInterpretation;
 import org.hibernate.query.spi.MutableQueryOptions;
 import org.hibernate.query.spi.NonSelectQueryPlan;
 import org.hibernate.query.spi.ParameterMetadataImplementor;
-import org.hibernate.query.spi.QueryEngine;
 import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryParameterBindings;
@@ -140,6 +139,9 @@ public class QuerySqmImpl<R>
 
 	private final String hql;
 	private SqmStatement<R> sqm;
+	// null for criteria queries
+	private HqlInterpretation<R> hqlInterpretation;
+	private Boolean expandedParameters;
 
 	private final ParameterMetadataImplementor parameterMetadata;
 	private final DomainParameterXref domainParameterXref;
@@ -161,12 +163,10 @@ public class QuerySqmImpl<R>
 		this.hql = memento.getHqlString();
 		this.resultType = expectedResultType;
 
-		final QueryEngine queryEngine = session.getFactory().getQueryEngine();
-		final QueryInterpretationCache interpretationCache = queryEngine.getInterpretationCache();
-		final HqlInterpretation<R> hqlInterpretation =
-				interpretationCache.resolveHqlInterpretation( hql, expectedResultType, queryEngine.getHqlTranslator() );
+		final HqlInterpretation<R> hqlInterpretation = interpretHql( hql, expectedResultType, session );
 
 		this.sqm = hqlInterpretation.getSqmStatement();
+		this.hqlInterpretation = hqlInterpretation;
 
 		this.parameterMetadata = hqlInterpretation.getParameterMetadata();
 		this.domainParameterXref = hqlInterpretation.getDomainParameterXref();
@@ -203,6 +203,7 @@ public class QuerySqmImpl<R>
 		this.resultType = resultType;
 
 		this.sqm = hqlInterpretation.getSqmStatement();
+		this.hqlInterpretation = hqlInterpretation;
 
 		this.parameterMetadata = hqlInterpretation.getParameterMetadata();
 		this.domainParameterXref = hqlInterpretation.getDomainParameterXref();
@@ -426,6 +427,8 @@ public class QuerySqmImpl<R>
 	@Override
 	protected void setSqmStatement(SqmSelectStatement<R> sqm) {
 		this.sqm = sqm;
+		this.hqlInterpretation = null;
+		this.expandedParameters = null;
 	}
 
 	@Override
@@ -475,8 +478,21 @@ public class QuerySqmImpl<R>
 	}
 
 	protected boolean hasMultiValuedParameterBindings() {
-		return getQueryParameterBindings().hasAnyMultiValuedBindings()
-			|| getParameterMetadata().hasAnyMatching( QueryParameter::allowsMultiValuedBinding );
+		return ( getQueryParameterBindings().hasAnyMultiValuedBindings()
+				|| getParameterMetadata().hasAnyMatching( QueryParameter::allowsMultiValuedBinding ) )
+			// unless they are all bound as arrays
+			&& ( !getSessionFactory().getSessionFactoryOptions().inClauseParameterArrayEnabled()
+				|| hasExpandedParameters() );
+	}
+
+	private boolean hasExpandedParameters() {
+		if ( expandedParameters == null ) {
+			// computed once per interpretation of an HQL query
+			expandedParameters = hqlInterpretation == null
+					? SqmUtil.hasExpandedParameters( getSqmStatement(), getSessionFactory() )
+					: hqlInterpretation.hasExpandedParameters( getSessionFactory() );
+		}
+		return expandedParameters;
 	}
 
 
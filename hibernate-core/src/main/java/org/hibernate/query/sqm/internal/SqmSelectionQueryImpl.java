@@ -43,7 +43,6 @@ import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.HqlInterpretation;
 import org.hibernate.query.spi.MutableQueryOptions;
 import org.hibernate.query.spi.ParameterMetadataImplementor;
-import org.hibernate.query.spi.QueryEngine;
 import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryParameterBindings;
@@ -83,6 +82,9 @@ public class SqmSelectionQueryImpl<R> extends AbstractSqmSelectionQuery<R>
 		implements SqmSelectionQueryImplementor<R>, InterpretationsKeySource {
 	private final String hql;
 	private SqmSelectStatement<R> sqm;
+	// null for criteria queries
+	private HqlInterpretation<R> hqlInterpretation;
+	private Boolean expandedParameters;
 
 	private final ParameterMetadataImplementor parameterMetadata;
 	private final DomainParameterXref domainParameterXref;
@@ -101,6 +103,7 @@ public class SqmSelectionQueryImpl<R> extends AbstractSqmSelectionQuery<R>
 		this.hql = hql;
 
 		this.sqm = (SqmSelectStatement<R>) hqlInterpretation.getSqmStatement();
+		this.hqlInterpretation = hqlInterpretation;
 
 		this.parameterMetadata = hqlInterpretation.getParameterMetadata();
 		this.domainParameterXref = hqlInterpretation.getDomainParameterXref();
@@ -153,13 +156,11 @@ public class SqmSelectionQueryImpl<R> extends AbstractSqmSelectionQuery<R>
 		this.expectedResultType = resultType;
 		this.resultType = resultType;
 
-		final QueryEngine queryEngine = session.getFactory().getQueryEngine();
-		final QueryInterpretationCache interpretationCache = queryEngine.getInterpretationCache();
-		final HqlInterpretation<R> hqlInterpretation =
-				interpretationCache.resolveHqlInterpretation( hql, resultType, queryEngine.getHqlTranslator() );
+		final HqlInterpretation<R> hqlInterpretation = interpretHql( hql, resultType, session );
 
 		SqmUtil.verifyIsSelectStatement( hqlInterpretation.getSqmStatement(), hql );
 		this.sqm = (SqmSelectStatement<R>) hqlInterpretation.getSqmStatement();
+		this.hqlInterpretation = hqlInterpretation;
 
 		this.parameterMetadata = hqlInterpretation.getParameterMetadata();
 		this.domainParameterXref = hqlInterpretation.getDomainParameterXref();
@@ -245,6 +246,8 @@ public class SqmSelectionQueryImpl<R> extends AbstractSqmSelectionQuery<R>
 	@Override
 	protected void setSqmStatement(SqmSelectStatement<R> sqm) {
 		this.sqm = sqm;
+		this.hqlInterpretation = null;
+		this.expandedParameters = null;
 	}
 
 	@Override
@@ -405,8 +408,21 @@ public class SqmSelectionQueryImpl<R> extends AbstractSqmSelectionQuery<R>
 	}
 
 	protected boolean hasMultiValuedParameterBindings() {
-		return getQueryParameterBindings().hasAnyMultiValuedBindings()
-			|| getParameterMetadata().hasAnyMatching( QueryParameter::allowsMultiValuedBinding );
+		return ( getQueryParameterBindings().hasAnyMultiValuedBindings()
+				|| getParameterMetadata().hasAnyMatching( QueryParameter::allowsMultiValuedBinding ) )
+			// unless they are all bound as arrays
+			&& ( !getSessionFactory().getSessionFactoryOptions().inClauseParameterArrayEnabled()
+				|| hasExpandedParameters() );
+	}
+
+	private boolean hasExpandedParameters() {
+		if ( expandedParameters == null ) {
+			// computed once per interpretation of an HQL query
+			expandedParameters = hqlInterpretation == null
+					? SqmUtil.hasExpandedParameters( getSqmStatement(), getSessionFactory() )
+					: hqlInterpretation.hasExpandedParameters( getSessionFactory() );
+		}
+		return expandedParameters;
 	}
 
 
@@ -6,6 +6,7 @@
  */
 package org.hibernate.query.sqm.internal;
 
+import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -35,6 +36,9 @@ import org.hibernate.metamodel.mapping.MappingModelExpressible;
 import org.hibernate.metamodel.mapping.ModelPart;
 import org.hibernate.metamodel.mapping.ModelPartContainer;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.metamodel.model.domain.BasicDomainType;
+import org.hibernate.metamodel.model.domain.DiscriminatorSqmPath;
+import org.hibernate.metamodel.model.domain.DomainType;
 import org.hibernate.query.IllegalQueryOperationException;
 import org.hibernate.query.IllegalSelectQueryException;
 import org.hibernate.query.Order;
@@ -43,8 +47,10 @@ import org.hibernate.query.spi.QueryParameterBinding;
 import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.query.spi.QueryParameterImplementor;
 import org.hibernate.query.sqm.NodeBuilder;
+import org.hibernate.query.sqm.SqmExpressible;
 import org.hibernate.query.sqm.SqmPathSource;
 import org.hibernate.query.sqm.SqmQuerySource;
+import org.hibernate.query.sqm.spi.BaseSemanticQueryWalker;
 import org.hibernate.query.sqm.spi.JdbcParameterBySqmParameterAccess;
 import org.hibernate.query.sqm.spi.SqmParameterMappingModelResolutionAccess;
 import org.hibernate.query.sqm.sql.SqmToSqlAstConverter;
@@ -54,14 +60,18 @@ import org.hibernate.query.sqm.tree.SqmStatement;
 import org.hibernate.query.sqm.tree.domain.SqmPath;
 import org.hibernate.query.sqm.tree.expression.JpaCriteriaParameter;
 import org.hibernate.query.sqm.tree.expression.SqmAliasedNodeRef;
+import org.hibernate.query.sqm.tree.expression.SqmExpression;
 import org.hibernate.query.sqm.tree.expression.SqmJpaCriteriaParameterWrapper;
+import org.hibernate.query.sqm.tree.expression.SqmNamedParameter;
 import org.hibernate.query.sqm.tree.expression.SqmParameter;
+import org.hibernate.query.sqm.tree.expression.SqmPositionalParameter;
 import org.hibernate.query.sqm.tree.expression.SqmTuple;
 import org.hibernate.query.sqm.tree.from.SqmAttributeJoin;
 import org.hibernate.query.sqm.tree.from.SqmFrom;
 import org.hibernate.query.sqm.tree.from.SqmJoin;
 import org.hibernate.query.sqm.tree.from.SqmQualifiedJoin;
 import org.hibernate.query.sqm.tree.from.SqmRoot;
+import org.hibernate.query.sqm.tree.predicate.SqmInListPredicate;
 import org.hibernate.query.sqm.tree.select.SqmQueryPart;
 import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
 import org.hibernate.query.sqm.tree.select.SqmSelectableNode;
@@ -74,8 +84,10 @@ import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.ast.tree.from.TableGroup;
 import org.hibernate.sql.exec.internal.JdbcParameterBindingImpl;
 import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.internal.MultiValuedJdbcParameter;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcParametersList;
+import org.hibernate.type.BasicPluralType;
 import org.hibernate.type.JavaObjectType;
 import org.hibernate.type.descriptor.converter.spi.BasicValueConverter;
 import org.hibernate.type.descriptor.java.JavaType;
@@ -379,6 +391,24 @@ public class SqmUtil {
 						);
 					}
 				}
+				else if ( areArrayParameters( jdbcParamsBinds ) ) {
+					// all the values are bound to a single array parameter, see IN_CLAUSE_PARAMETER_ARRAY
+					final Collection<?> bindValues = domainParamBinding.isMultiValued()
+							? domainParamBinding.getBindValues()
+							: Collections.singletonList( domainParamBinding.getBindValue() );
+					for ( int i = 0; i < jdbcParamsBinds.size(); i++ ) {
+						final MultiValuedJdbcParameter jdbcParameter =
+								(MultiValuedJdbcParameter) jdbcParamsBinds.get( i ).get( 0 );
+						final JdbcMapping arrayJdbcMapping = jdbcParameter.getJdbcMapping();
+						jdbcParameterBindings.addBinding(
+								jdbcParameter,
+								new JdbcParameterBindingImpl(
+										arrayJdbcMapping,
+										toArray( bindValues, arrayJdbcMapping, jdbcParameter.getElementJdbcMapping(), session )
+								)
+						);
+					}
+				}
 				else if ( domainParamBinding.isMultiValued() ) {
 					final Collection<?> bindValues = domainParamBinding.getBindValues();
 					final Iterator<?> valueItr = bindValues.iterator();
@@ -490,6 +520,42 @@ public class SqmUtil {
 		return jdbcParameterBindings;
 	}
 
+	private static boolean areArrayParameters(List<JdbcParametersList> jdbcParamsBinds) {
+		for ( int i = 0; i < jdbcParamsBinds.size(); i++ ) {
+			final JdbcParametersList jdbcParams = jdbcParamsBinds.get( i );
+			if ( jdbcParams.size() != 1 || !( jdbcParams.get( 0 ) instanceof MultiValuedJdbcParameter ) ) {
+				return false;
+			}
+		}
+		return !jdbcParamsBinds.isEmpty();
+	}
+
+	/**
+	 * Collects the values bound to a multi-valued parameter into an array of the
+	 * type expected by the given array mapping, coercing the values which are not
+	 * instances of the element type, for example an {@code Integer} bound to a
+	 * parameter compared to a {@code Long} attribute.
+	 */
+	private static Object[] toArray(
+			Collection<?> bindValues,
+			JdbcMapping arrayJdbcMapping,
+			JdbcMapping elementJdbcMapping,
+			SharedSessionContractImplementor session) {
+		final Class<?> elementClass =
+				arrayJdbcMapping.getJavaTypeDescriptor().getJavaTypeClass().getComponentType();
+		final JavaType<?> elementJavaType = elementJdbcMapping.getJavaTypeDescriptor();
+		final Object[] array = (Object[]) Array.newInstance( elementClass, bindValues.size() );
+		int i = 0;
+		for ( Object value : bindValues ) {
+			Object element = elementJavaType.coerce( value, session );
+			if ( element != null && !elementClass.isInstance( element ) ) {
+				element = elementJavaType.wrap( element, session );
+			}
+			array[i++] = element;
+		}
+		return array;
+	}
+
 	private static void createValueBindings(
 			JdbcParameterBindings jdbcParameterBindings,
 			QueryParameterImplementor<?> domainParam,
@@ -709,6 +775,86 @@ public class SqmUtil {
 		return selection != null && selection.getSelectableNode() instanceof SqmTuple;
 	}
 
+	/**
+	 * Whether the parameter occurring alone in the list of the given {@code in}
+	 * predicate is bound as a single SQL array, instead of being expanded to one
+	 * parameter per bound value.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#IN_CLAUSE_PARAMETER_ARRAY
+	 */
+	public static boolean isBoundAsArray(SqmInListPredicate<?> predicate, SessionFactoryImplementor factory) {
+		final List<? extends SqmExpression<?>> listExpressions = predicate.getListExpressions();
+		if ( listExpressions.size() != 1
+				|| !( listExpressions.get( 0 ) instanceof SqmParameter<?> )
+				|| !( (SqmParameter<?>) listExpressions.get( 0 ) ).allowMultiValuedBinding()
+				|| !factory.getSessionFactoryOptions().inClauseParameterArrayEnabled()
+				|| !factory.getJdbcServices().getDialect().useArrayForMultiValuedParameters() ) {
+			return false;
+		}
+		final SqmExpression<?> testExpression = predicate.getTestExpression();
+		if ( testExpression instanceof DiscriminatorSqmPath ) {
+			// the values are entity classes
+			return false;
+		}
+		final SqmExpressible<?> nodeType = testExpression.getNodeType();
+		final DomainType<?> type = nodeType == null ? null : nodeType.getSqmType();
+		return type instanceof BasicDomainType
+			&& !( type instanceof BasicPluralType )
+			&& !( type instanceof JavaObjectType );
+	}
+
+	/**
+	 * Whether the translation of the given statement to SQL depends on the number
+	 * of values bound to its multi-valued parameters, that is, whether any of them
+	 * is not {@linkplain #isBoundAsArray(SqmInListPredicate, SessionFactoryImplementor)
+	 * bound as an array}.
+	 */
+	public static boolean hasExpandedParameters(SqmStatement<?> statement, SessionFactoryImplementor factory) {
+		final ExpandedParameterDetector detector = new ExpandedParameterDetector( factory );
+		statement.accept( detector );
+		return detector.expandedParameters;
+	}
+
+	private static class ExpandedParameterDetector extends BaseSemanticQueryWalker {
+		private final SessionFactoryImplementor factory;
+		private boolean expandedParameters;
+
+		private ExpandedParameterDetector(SessionFactoryImplementor factory) {
+			this.factory = factory;
+		}
+
+		@Override
+		public Object visitInListPredicate(SqmInListPredicate<?> predicate) {
+			if ( isBoundAsArray( predicate, factory ) ) {
+				predicate.getTestExpression().accept( this );
+				return predicate;
+			}
+			return super.visitInListPredicate( predicate );
+		}
+
+		@Override
+		public Object visitNamedParameterExpression(SqmNamedParameter<?> expression) {
+			return visitParameter( expression );
+		}
+
+		@Override
+		public Object visitPositionalParameterExpression(SqmPositionalParameter<?> expression) {
+			return visitParameter( expression );
+		}
+
+		@Override
+		public Object visitJpaCriteriaParameter(JpaCriteriaParameter<?> expression) {
+			return visitParameter( expression );
+		}
+
+		private Object visitParameter(SqmParameter<?> parameter) {
+			if ( parameter.allowMultiValuedBinding() ) {
+				expandedParameters = true;
+			}
+			return parameter;
+		}
+	}
+
 	private static class CriteriaParameterCollector {
 		private Set<SqmParameter<?>> sqmParameters;
 		private Map<JpaCriteriaParameter<?>, List<SqmJpaCriteriaParameterWrapper<?>>> jpaCriteriaParamResolutions;
@@ -31,6 +31,7 @@ import org.hibernate.id.enhanced.Optimizer;
 import org.hibernate.internal.util.collections.Stack;
 import org.hibernate.internal.util.collections.StandardStack;
 import org.hibernate.loader.MultipleBagFetchException;
+import org.hibernate.loader.ast.internal.MultiKeyLoadHelper;
 import org.hibernate.metamodel.CollectionClassification;
 import org.hibernate.metamodel.MappingMetamodel;
 import org.hibernate.metamodel.mapping.AssociationKey;
@@ -349,6 +350,7 @@ import org.hibernate.sql.ast.tree.predicate.BooleanExpressionPredicate;
 import org.hibernate.sql.ast.tree.predicate.ComparisonPredicate;
 import org.hibernate.sql.ast.tree.predicate.ExistsPredicate;
 import org.hibernate.sql.ast.tree.predicate.GroupedPredicate;
+import org.hibernate.sql.ast.tree.predicate.InArrayPredicate;
 import org.hibernate.sql.ast.tree.predicate.InListPredicate;
 import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
 import org.hibernate.sql.ast.tree.predicate.Junction;
@@ -370,6 +372,7 @@ import org.hibernate.sql.ast.tree.update.UpdateStatement;
 import org.hibernate.sql.exec.internal.AbstractJdbcParameter;
 import org.hibernate.sql.exec.internal.JdbcParameterImpl;
 import org.hibernate.sql.exec.internal.JdbcParametersImpl;
+import org.hibernate.sql.exec.internal.MultiValuedJdbcParameter;
 import org.hibernate.sql.exec.internal.SqlTypedMappingJdbcParameter;
 import org.hibernate.sql.exec.internal.VersionTypeSeedParameterSpecification;
 import org.hibernate.sql.exec.spi.ExecutionContext;
@@ -405,6 +408,7 @@ import org.hibernate.usertype.UserVersionType;
 import org.hibernate.usertype.internal.AbstractTimeZoneStorageCompositeUserType;
 import org.jboss.logging.Logger;
 
+import java.lang.reflect.Array;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.sql.PreparedStatement;
@@ -441,6 +445,7 @@ import static org.hibernate.query.sqm.TemporalUnit.NANOSECOND;
 import static org.hibernate.query.sqm.TemporalUnit.NATIVE;
 import static org.hibernate.query.sqm.TemporalUnit.SECOND;
 import static org.hibernate.query.sqm.UnaryArithmeticOperator.UNARY_MINUS;
+import static org.hibernate.query.sqm.internal.SqmUtil.isBoundAsArray;
 import static org.hibernate.query.sqm.internal.SqmUtil.isFkOptimizationAllowed;
 import static org.hibernate.sql.ast.spi.SqlAstTreeHelper.combinePredicates;
 import static org.hibernate.type.spi.TypeConfiguration.isDuration;
@@ -5889,7 +5894,8 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 				for ( List<JdbcParameter> parameters : jdbcParamsForSqmParameter ) {
 					assert parameters.size() == 1;
 					final JdbcParameter jdbcParameter = parameters.get( 0 );
-					if ( ( (SqlExpressible) jdbcParameter ).getJdbcMapping() != jdbcMapping ) {
+					if ( !( jdbcParameter instanceof MultiValuedJdbcParameter )
+							&& ( (SqlExpressible) jdbcParameter ).getJdbcMapping() != jdbcMapping ) {
 						final JdbcParameter newJdbcParameter = new JdbcParameterImpl( jdbcMapping );
 						parameters.set( 0, newJdbcParameter );
 						jdbcParameters.getJdbcParameters().remove( jdbcParameter );
@@ -8030,6 +8036,13 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 			if ( sqmExpression instanceof SqmParameter ) {
 				final SqmParameter<?> sqmParameter = (SqmParameter<?>) sqmExpression;
 
+				if ( isBoundAsArray( predicate, creationContext.getSessionFactory() ) ) {
+					final Predicate arrayCase = processInListWithArrayParameter( predicate, sqmParameter );
+					if ( arrayCase != null ) {
+						return arrayCase;
+					}
+				}
+
 				if ( sqmParameter.allowMultiValuedBinding() ) {
 					final InListPredicate specialCase = processInListWithSingleParameter( predicate, sqmParameter );
 					if ( specialCase != null ) {
@@ -8180,6 +8193,58 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 		}
 	}
 
+	/**
+	 * Binds all the values of the parameter to a single array parameter, so that
+	 * the SQL doesn't depend on the number of values.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#IN_CLAUSE_PARAMETER_ARRAY
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private Predicate processInListWithArrayParameter(SqmInListPredicate<?> sqmPredicate, SqmParameter<?> sqmParameter) {
+		final FromClauseIndex fromClauseIndex = fromClauseIndexStack.getCurrent();
+		final MappingModelExpressible<?> valueMapping =
+				determineValueMapping( sqmPredicate.getTestExpression(), fromClauseIndex );
+		if ( !( valueMapping instanceof BasicValuedMapping ) ) {
+			return null;
+		}
+		final JdbcMapping elementJdbcMapping = ( (BasicValuedMapping) valueMapping ).getJdbcMapping();
+		if ( !( elementJdbcMapping instanceof BasicType<?> ) ) {
+			return null;
+		}
+		final SessionFactoryImplementor sessionFactory = creationContext.getSessionFactory();
+		final Class<?> arrayClass =
+				Array.newInstance( elementJdbcMapping.getJavaTypeDescriptor().getJavaTypeClass(), 0 ).getClass();
+		final JdbcMapping arrayJdbcMapping = MultiKeyLoadHelper.resolveArrayJdbcMapping(
+				// a registered array type would ignore the converter of the elements
+				elementJdbcMapping.getValueConverter() == null
+						? sessionFactory.getTypeConfiguration().getBasicTypeRegistry().getRegisteredType( arrayClass )
+						: null,
+				elementJdbcMapping,
+				arrayClass,
+				sessionFactory
+		);
+
+		final SqmParameter<?> parameter = sqmParameter instanceof JpaCriteriaParameter<?>
+				? jpaCriteriaParamResolutions.get( (JpaCriteriaParameter<?>) sqmParameter )
+				: sqmParameter;
+		final JdbcParameter jdbcParameter = new MultiValuedJdbcParameter( arrayJdbcMapping, elementJdbcMapping );
+		final List<JdbcParameter> jdbcParametersForSqm = new ArrayList<>( 1 );
+		jdbcParametersForSqm.add( jdbcParameter );
+		jdbcParameters.addParameter( jdbcParameter );
+		jdbcParamsBySqmParam.computeIfAbsent( parameter, k -> new ArrayList<>( 1 ) ).add( jdbcParametersForSqm );
+		sqmParameterMappingModelTypes.put( parameter, valueMapping );
+		// the binding holds values of the element type
+		final QueryParameterImplementor<?> domainParam = domainParameterXref.getQueryParameter( parameter );
+		domainParameterBindings.getBinding( domainParam ).setType( (MappingModelExpressible) valueMapping );
+
+		final Predicate predicate = new InArrayPredicate(
+				(Expression) sqmPredicate.getTestExpression().accept( this ),
+				jdbcParameter,
+				getBooleanType()
+		);
+		return sqmPredicate.isNegated() ? new NegatedPredicate( predicate ) : predicate;
+	}
+
 	@Override
 	public InSubQueryPredicate visitInSubQueryPredicate(SqmInSubQueryPredicate<?> predicate) {
 		return new InSubQueryPredicate(
@@ -22,6 +22,7 @@ import org.hibernate.query.criteria.JpaPredicate;
 import org.hibernate.query.criteria.JpaQueryStructure;
 import org.hibernate.query.criteria.JpaRoot;
 import org.hibernate.query.criteria.JpaSelection;
+import org.hibernate.query.sqm.ComparisonOperator;
 import org.hibernate.query.sqm.FetchClauseType;
 import org.hibernate.query.sqm.NodeBuilder;
 import org.hibernate.query.sqm.SemanticQueryWalker;
@@ -32,12 +33,18 @@ import org.hibernate.query.sqm.tree.domain.SqmEntityValuedSimplePath;
 import org.hibernate.query.sqm.tree.domain.SqmPath;
 import org.hibernate.query.sqm.tree.expression.SqmAliasedNodeRef;
 import org.hibernate.query.sqm.tree.expression.SqmExpression;
+import org.hibernate.query.sqm.tree.expression.SqmLiteral;
+import org.hibernate.query.sqm.tree.expression.SqmParameter;
 import org.hibernate.query.sqm.tree.from.SqmAttributeJoin;
 import org.hibernate.query.sqm.tree.from.SqmFrom;
 import org.hibernate.query.sqm.tree.from.SqmFromClause;
 import org.hibernate.query.sqm.tree.from.SqmFromClauseContainer;
 import org.hibernate.query.sqm.tree.from.SqmJoin;
 import org.hibernate.query.sqm.tree.from.SqmRoot;
+import org.hibernate.query.sqm.tree.predicate.SqmComparisonPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmGroupedPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmInListPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmJunctionPredicate;
 import org.hibernate.query.sqm.tree.predicate.SqmPredicate;
 import org.hibernate.query.sqm.tree.predicate.SqmWhereClause;
 import org.hibernate.query.sqm.tree.predicate.SqmWhereClauseContainer;
@@ -202,6 +209,92 @@ public class SqmQuerySpec<T> extends SqmQueryPart<T>
 		return false;
 	}
 
+	/**
+	 * Does this query select its root entity, without joins, restricted
+	 * by identifier only? If so, an update of an entity which is not in
+	 * its results cannot add that entity to the results.
+	 *
+	 * @see org.hibernate.jpa.HibernateHints#HINT_CACHE_INVALIDATION_BY_ID
+	 *
+	 * @since 6.6
+	 */
+	public boolean restrictsRootByIdentifierOnly() {
+		if ( fromClause.getRoots().size() != 1
+				|| getFetchExpression() != null
+				|| getOffsetExpression() != null
+				|| !CollectionHelper.isEmpty( groupByClauseExpressions )
+				|| havingClausePredicate != null ) {
+			return false;
+		}
+		final SqmRoot<?> sqmRoot = fromClause.getRoots().get( 0 );
+		if ( !sqmRoot.getSqmJoins().isEmpty() || sqmRoot.hasTreats() ) {
+			return false;
+		}
+		if ( selectClause != null ) {
+			final List<SqmSelection<?>> selections = selectClause.getSelections();
+			if ( selections.size() != 1 || selections.get( 0 ).getSelectableNode() != sqmRoot ) {
+				return false;
+			}
+		}
+		final SqmPredicate restriction = whereClause == null ? null : whereClause.getPredicate();
+		return restriction != null && isIdentifierRestriction( restriction, sqmRoot );
+	}
+
+	private static boolean isIdentifierRestriction(SqmPredicate predicate, SqmRoot<?> sqmRoot) {
+		if ( predicate.isNegated() ) {
+			return false;
+		}
+		else if ( predicate instanceof SqmGroupedPredicate ) {
+			return isIdentifierRestriction( ( (SqmGroupedPredicate) predicate ).getSubPredicate(), sqmRoot );
+		}
+		else if ( predicate instanceof SqmJunctionPredicate ) {
+			for ( SqmPredicate subPredicate : ( (SqmJunctionPredicate) predicate ).getPredicates() ) {
+				if ( !isIdentifierRestriction( subPredicate, sqmRoot ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+		else if ( predicate instanceof SqmComparisonPredicate ) {
+			final SqmComparisonPredicate comparison = (SqmComparisonPredicate) predicate;
+			final SqmExpression<?> lhs = comparison.getLeftHandExpression();
+			final SqmExpression<?> rhs = comparison.getRightHandExpression();
+			return comparison.getSqmOperator() == ComparisonOperator.EQUAL
+					&& ( isIdentifierPath( lhs, sqmRoot ) && isValue( rhs )
+						|| isIdentifierPath( rhs, sqmRoot ) && isValue( lhs ) );
+		}
+		else if ( predicate instanceof SqmInListPredicate<?> ) {
+			final SqmInListPredicate<?> inList = (SqmInListPredicate<?>) predicate;
+			if ( !isIdentifierPath( inList.getTestExpression(), sqmRoot ) ) {
+				return false;
+			}
+			for ( SqmExpression<?> listExpression : inList.getListExpressions() ) {
+				if ( !isValue( listExpression ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
+	private static boolean isIdentifierPath(SqmExpression<?> expression, SqmRoot<?> sqmRoot) {
+		if ( expression instanceof SqmPath<?> ) {
+			final SqmPath<?> path = (SqmPath<?>) expression;
+			return path.getLhs() == sqmRoot
+				&& path.getReferencedPathSource() == sqmRoot.getModel().getIdentifierDescriptor();
+		}
+		else {
+			return false;
+		}
+	}
+
+	private static boolean isValue(SqmExpression<?> expression) {
+		return expression instanceof SqmParameter<?> || expression instanceof SqmLiteral<?>;
+	}
+
 	public SqmSelectClause getSelectClause() {
 		return selectClause;
 	}
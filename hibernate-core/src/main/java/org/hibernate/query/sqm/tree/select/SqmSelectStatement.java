@@ -199,6 +199,17 @@ public class SqmSelectStatement<T> extends AbstractSqmSelectQuery<T> implements
 		}
 	}
 
+	/**
+	 * @see SqmQuerySpec#restrictsRootByIdentifierOnly()
+	 *
+	 * @since 6.6
+	 */
+	public boolean restrictsRootByIdentifierOnly() {
+		return getCteStatements().isEmpty()
+			&& getQueryPart() instanceof SqmQuerySpec<?>
+			&& ( (SqmQuerySpec<?>) getQueryPart() ).restrictsRootByIdentifierOnly();
+	}
+
 	public boolean usesDistinct() {
 		return usesDistinct( getQueryPart() );
 	}
@@ -21,6 +21,7 @@ import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.jboss.logging.Logger;
 
 import static org.hibernate.ConnectionAcquisitionMode.IMMEDIATELY;
@@ -46,6 +47,8 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 
 	private final transient PhysicalConnectionHandlingMode connectionHandlingMode;
 
+	private final transient @Nullable PreparedStatementCache statementCache;
+
 	private transient Connection physicalConnection;
 	private boolean closed;
 
@@ -66,6 +69,15 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 
 		this.sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
 
+		final int statementCacheSize = jdbcSessionContext.getStatementCacheSize();
+		if ( statementCacheSize > 0 && resourceRegistry instanceof ResourceRegistryStandardImpl ) {
+			statementCache = new PreparedStatementCache( statementCacheSize, jdbcSessionContext.getStatistics() );
+			( (ResourceRegistryStandardImpl) resourceRegistry ).setStatementCache( statementCache );
+		}
+		else {
+			statementCache = null;
+		}
+
 		if ( connectionHandlingMode.getAcquisitionMode() == IMMEDIATELY ) {
 			acquireConnectionIfNeeded();
 		}
@@ -137,6 +149,15 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 		return physicalConnection != null;
 	}
 
+	/**
+	 * The cache of the prepared statements of the current JDBC connection,
+	 * or {@code null} if {@value org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE}
+	 * is not set.
+	 */
+	public @Nullable PreparedStatementCache getStatementCache() {
+		return statementCache;
+	}
+
 	@Override
 	public Connection getPhysicalConnection() {
 		errorIfClosed();
@@ -216,6 +237,9 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 		try {
 			try {
 				getResourceRegistry().releaseResources();
+				if ( statementCache != null ) {
+					statementCache.clear();
+				}
 				if ( !localVariableConnection.isClosed() ) {
 					sqlExceptionHelper.logAndClearWarnings( localVariableConnection );
 				}
@@ -0,0 +1,253 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.resource.jdbc.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.jboss.logging.Logger;
+
+/**
+ * A bounded cache of the {@link PreparedStatement}s of a JDBC connection,
+ * allowing a session to reuse a statement instead of preparing it again.
+ * <p>
+ * A statement obtained from the cache, or {@linkplain #track tracked} after
+ * being prepared, is in use until it is {@linkplain #release released}. It
+ * is then cleaned up and kept for reuse, the least recently released statement
+ * being closed when the cache is full. All statements are closed when the
+ * cache is {@linkplain #clear cleared}, which must happen before the JDBC
+ * connection is released.
+ *
+ * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+ *
+ * @since 6.6
+ */
+public final class PreparedStatementCache {
+	private static final Logger log = Logger.getLogger( PreparedStatementCache.class );
+
+	private final int maxSize;
+	private final StatisticsImplementor statistics;
+
+	private final IdentityHashMap<Statement, Entry> inUse = new IdentityHashMap<>();
+	private final LinkedHashMap<Key, Entry> idle;
+
+	public PreparedStatementCache(int maxSize, StatisticsImplementor statistics) {
+		this.maxSize = maxSize;
+		this.statistics = statistics;
+		this.idle = new LinkedHashMap<>() {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+				if ( size() > PreparedStatementCache.this.maxSize ) {
+					close( eldest.getValue().statement );
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Obtain a cached statement for the given key, or {@code null} if the
+	 * statement needs to be prepared.
+	 */
+	public @Nullable PreparedStatement take(Key key) {
+		final Entry entry = idle.remove( key );
+		if ( entry == null ) {
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.preparedStatementCacheMiss();
+			}
+			return null;
+		}
+		else {
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.preparedStatementCacheHit();
+			}
+			inUse.put( entry.statement, entry );
+			return entry.statement;
+		}
+	}
+
+	/**
+	 * Track a newly prepared statement, so that it is kept for reuse once
+	 * it is released.
+	 */
+	public void track(PreparedStatement statement, Key key) throws SQLException {
+		inUse.put( statement, new Entry( key, statement, statement.getFetchSize() ) );
+	}
+
+	/**
+	 * Keep a released statement for reuse.
+	 *
+	 * @return {@code false} if the statement was not obtained from this cache,
+	 *         and must be closed by the caller
+	 */
+	public boolean release(Statement statement) {
+		final Entry entry = inUse.remove( statement );
+		if ( entry == null ) {
+			return false;
+		}
+		if ( !reset( entry ) || idle.containsKey( entry.key ) ) {
+			close( statement );
+		}
+		else {
+			idle.put( entry.key, entry );
+		}
+		return true;
+	}
+
+	/**
+	 * Close all statements not in use, and forget the statements in use.
+	 */
+	public void clear() {
+		for ( Iterator<Entry> iterator = idle.values().iterator(); iterator.hasNext(); ) {
+			close( iterator.next().statement );
+			iterator.remove();
+		}
+		inUse.clear();
+	}
+
+	private static boolean reset(Entry entry) {
+		final PreparedStatement statement = entry.statement;
+		try {
+			if ( statement.isClosed() ) {
+				return false;
+			}
+			statement.clearParameters();
+			statement.clearBatch();
+			if ( statement.getMaxRows() != 0 ) {
+				statement.setMaxRows( 0 );
+			}
+			if ( statement.getQueryTimeout() != 0 ) {
+				statement.setQueryTimeout( 0 );
+			}
+			if ( statement.getFetchSize() != entry.fetchSize ) {
+				statement.setFetchSize( entry.fetchSize );
+			}
+			return true;
+		}
+		catch (SQLException e) {
+			log.debugf( "Unable to reset JDBC statement for reuse [%s]", e.getMessage() );
+			return false;
+		}
+	}
+
+	private static void close(Statement statement) {
+		try {
+			statement.close();
+		}
+		catch (SQLException e) {
+			log.debugf( "Unable to release JDBC statement [%s]", e.getMessage() );
+		}
+	}
+
+	private static final class Entry {
+		private final Key key;
+		private final PreparedStatement statement;
+		private final int fetchSize;
+
+		private Entry(Key key, PreparedStatement statement, int fetchSize) {
+			this.key = key;
+			this.statement = statement;
+			this.fetchSize = fetchSize;
+		}
+	}
+
+	/**
+	 * Identifies a statement by its SQL and by the options it was prepared with.
+	 */
+	public static final class Key {
+		private final String sql;
+		private final boolean callable;
+		private final int resultSetType;
+		private final int autoGeneratedKeys;
+		private final String @Nullable [] columnNames;
+		private final int hashCode;
+
+		private Key(
+				String sql,
+				boolean callable,
+				int resultSetType,
+				int autoGeneratedKeys,
+				String @Nullable [] columnNames) {
+			this.sql = sql;
+			this.callable = callable;
+			this.resultSetType = resultSetType;
+			this.autoGeneratedKeys = autoGeneratedKeys;
+			this.columnNames = columnNames;
+			this.hashCode = 31 * sql.hashCode() + Objects.hash( callable, resultSetType, autoGeneratedKeys )
+					+ Arrays.hashCode( columnNames );
+		}
+
+		/**
+		 * The key of a statement with a forward-only result set, and not
+		 * returning generated keys.
+		 */
+		public static Key of(String sql, boolean callable) {
+			return new Key( sql, callable, ResultSet.TYPE_FORWARD_ONLY, Statement.NO_GENERATED_KEYS, null );
+		}
+
+		/**
+		 * The key of a statement with a read-only result set of the given type.
+		 */
+		public static Key of(String sql, boolean callable, int resultSetType) {
+			return new Key( sql, callable, resultSetType, Statement.NO_GENERATED_KEYS, null );
+		}
+
+		/**
+		 * The key of a statement prepared with the given
+		 * {@linkplain java.sql.Connection#prepareStatement(String, int) generated keys flag}.
+		 */
+		public static Key withGeneratedKeys(String sql, int autoGeneratedKeys) {
+			return new Key( sql, false, ResultSet.TYPE_FORWARD_ONLY, autoGeneratedKeys, null );
+		}
+
+		/**
+		 * The key of a statement returning the given generated columns.
+		 */
+		public static Key withGeneratedKeys(String sql, String[] columnNames) {
+			return new Key( sql, false, ResultSet.TYPE_FORWARD_ONLY, Statement.RETURN_GENERATED_KEYS, columnNames );
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if ( this == object ) {
+				return true;
+			}
+			if ( !( object instanceof Key ) ) {
+				return false;
+			}
+			final Key that = (Key) object;
+			return hashCode == that.hashCode
+					&& callable == that.callable
+					&& resultSetType == that.resultSetType
+					&& autoGeneratedKeys == that.autoGeneratedKeys
+					&& sql.equals( that.sql )
+					&& Arrays.equals( columnNames, that.columnNames );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public String toString() {
+			return sql;
+		}
+	}
+}
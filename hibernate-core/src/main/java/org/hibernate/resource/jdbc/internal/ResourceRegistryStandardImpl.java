@@ -60,6 +60,8 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 
 	private Statement lastQuery;
 
+	private PreparedStatementCache statementCache;
+
 	public ResourceRegistryStandardImpl() {
 		this( null );
 	}
@@ -68,6 +70,14 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 		this.jdbcObserver = jdbcObserver;
 	}
 
+	/**
+	 * Keep released statements for reuse in the given cache, rather than
+	 * closing them.
+	 */
+	void setStatementCache(PreparedStatementCache statementCache) {
+		this.statementCache = statementCache;
+	}
+
 	@Override
 	public boolean hasRegisteredResources() {
 		return hasRegistered( xref )
@@ -105,7 +115,7 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 			log.unregisteredStatement();
 		}
 
-		close( statement );
+		closeOrCache( statement );
 
 		if ( lastQuery == statement ) {
 			lastQuery = null;
@@ -160,9 +170,15 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 		resultSets.clear();
 	}
 
-	private static void releaseXref(final Statement s, final HashMap<ResultSet, Object> r) {
+	private void releaseXref(final Statement s, final HashMap<ResultSet, Object> r) {
 		closeAll( r );
-		close( s );
+		closeOrCache( s );
+	}
+
+	private void closeOrCache(Statement statement) {
+		if ( statementCache == null || !statementCache.release( statement ) ) {
+			close( statement );
+		}
 	}
 
 	private static void close(final ResultSet resultSet) {
@@ -332,7 +348,7 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 			jdbcObserver.jdbcReleaseRegistryResourcesStart();
 		}
 
-		xref.forEach( ResourceRegistryStandardImpl::releaseXref );
+		xref.forEach( this::releaseXref );
 		xref.clear();
 
 		closeAll( unassociatedResultSets );
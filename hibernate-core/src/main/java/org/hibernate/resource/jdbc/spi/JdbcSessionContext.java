@@ -34,6 +34,15 @@ public interface JdbcSessionContext {
 	 */
 	Integer getFetchSizeOrNull();
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 *
+	 * @since 6.6
+	 */
+	default int getStatementCacheSize() {
+		return 0;
+	}
+
 	/**
 	 * @deprecated this is never called, and luckily so, because it's not null-safe
 	 */
@@ -20,6 +20,8 @@ import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.sql.exec.SqlExecLogger;
@@ -208,14 +210,29 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 
 		rowReader.startLoading( rowProcessingState );
 
-		final T result = resultsConsumer.consume(
-				jdbcValues,
-				session,
-				processingOptions,
-				valuesProcessingState,
-				rowProcessingState,
-				rowReader
-		);
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent rowHydrationEvent = eventManager.beginRowHydrationEvent();
+		T result = null;
+		try {
+			result = resultsConsumer.consume(
+					jdbcValues,
+					session,
+					processingOptions,
+					valuesProcessingState,
+					rowProcessingState,
+					rowReader
+			);
+		}
+		finally {
+			if ( rowHydrationEvent != null ) {
+				eventManager.completeRowHydrationEvent(
+						rowHydrationEvent,
+						session,
+						jdbcSelect.getSqlString(),
+						getResultSize( result )
+				);
+			}
+		}
 
 		if ( stats ) {
 			final long endTime = System.nanoTime();
@@ -324,13 +341,13 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 			final JdbcValuesMetadata metadataForCache;
 			final JdbcValuesMapping jdbcValuesMapping;
 			if ( queryResultsCacheKey == null ) {
-				jdbcValuesMapping = mappingProducer.resolve( resultSetAccess, session.getLoadQueryInfluencers(), factory );
+				jdbcValuesMapping = resolveJdbcValuesMapping( mappingProducer, resultSetAccess, jdbcSelect, session );
 				metadataForCache = null;
 			}
 			else {
 				// If we need to put the values into the cache, we need to be able to capture the JdbcValuesMetadata
 				final CapturingJdbcValuesMetadata capturingMetadata = new CapturingJdbcValuesMetadata( resultSetAccess );
-				jdbcValuesMapping = mappingProducer.resolve( capturingMetadata, session.getLoadQueryInfluencers(), factory );
+				jdbcValuesMapping = resolveJdbcValuesMapping( mappingProducer, capturingMetadata, jdbcSelect, session );
 				metadataForCache = capturingMetadata.resolveMetadataForCache();
 			}
 
@@ -347,15 +364,40 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 		else {
 			final JdbcValuesMapping jdbcValuesMapping;
 			if ( cachedResults.isEmpty() || !( cachedResults.get( 0 ) instanceof JdbcValuesMetadata ) ) {
-				jdbcValuesMapping = mappingProducer.resolve( resultSetAccess, session.getLoadQueryInfluencers(), factory );
+				jdbcValuesMapping = resolveJdbcValuesMapping( mappingProducer, resultSetAccess, jdbcSelect, session );
 			}
 			else {
-				jdbcValuesMapping = mappingProducer.resolve( (JdbcValuesMetadata) cachedResults.get( 0 ), session.getLoadQueryInfluencers(), factory );
+				jdbcValuesMapping = resolveJdbcValuesMapping(
+						mappingProducer,
+						(JdbcValuesMetadata) cachedResults.get( 0 ),
+						jdbcSelect,
+						session
+				);
 			}
 			return new JdbcValuesCacheHit( cachedResults, jdbcValuesMapping );
 		}
 	}
 
+	private static JdbcValuesMapping resolveJdbcValuesMapping(
+			JdbcValuesMappingProducer mappingProducer,
+			JdbcValuesMetadata jdbcResultsMetadata,
+			JdbcOperationQuerySelect jdbcSelect,
+			SharedSessionContractImplementor session) {
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent jdbcValuesMappingResolutionEvent =
+				eventManager.beginJdbcValuesMappingResolutionEvent();
+		try {
+			return mappingProducer.resolve( jdbcResultsMetadata, session.getLoadQueryInfluencers(), session.getFactory() );
+		}
+		finally {
+			eventManager.completeJdbcValuesMappingResolutionEvent(
+					jdbcValuesMappingResolutionEvent,
+					session,
+					jdbcSelect.getSqlString()
+			);
+		}
+	}
+
 	public static class CapturingJdbcValuesMetadata implements JdbcValuesMetadata {
 		private final ResultSetAccess resultSetAccess;
 		private String[] columnNames;
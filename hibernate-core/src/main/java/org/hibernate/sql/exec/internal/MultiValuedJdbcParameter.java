@@ -0,0 +1,35 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.exec.internal;
+
+import org.hibernate.metamodel.mapping.JdbcMapping;
+
+/**
+ * A parameter to which all the values of a multi-valued query parameter
+ * binding are bound as a single SQL array, whose type is the
+ * {@linkplain #getJdbcMapping() JDBC mapping} of this parameter.
+ *
+ * @see org.hibernate.cfg.QuerySettings#IN_CLAUSE_PARAMETER_ARRAY
+ *
+ * @since 6.6
+ */
+public class MultiValuedJdbcParameter extends AbstractJdbcParameter {
+	private final JdbcMapping elementJdbcMapping;
+
+	public MultiValuedJdbcParameter(JdbcMapping arrayJdbcMapping, JdbcMapping elementJdbcMapping) {
+		super( arrayJdbcMapping );
+		this.elementJdbcMapping = elementJdbcMapping;
+	}
+
+	/**
+	 * The mapping of the elements of the array, that is, of the
+	 * values of the multi-valued query parameter binding.
+	 */
+	public JdbcMapping getElementJdbcMapping() {
+		return elementJdbcMapping;
+	}
+}
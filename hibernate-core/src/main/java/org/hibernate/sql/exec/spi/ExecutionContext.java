@@ -97,6 +97,21 @@ public interface ExecutionContext {
 		return false;
 	}
 
+	/**
+	 * Whether the cached results of the query may record the entities they
+	 * contain, and then be invalidated only by updates and deletions of these
+	 * entities, and by other changes to their tables. This is only correct for
+	 * queries which select entities by identifier, since an update of any other
+	 * entity could otherwise add it to the results.
+	 *
+	 * @see org.hibernate.jpa.HibernateHints#HINT_CACHE_INVALIDATION_BY_ID
+	 *
+	 * @since 6.6
+	 */
+	default boolean allowsResultCacheInvalidationById() {
+		return false;
+	}
+
 	/**
 	 * Does this query return objects that might be already cached
 	 * by the session, whose lock mode may need upgrading
@@ -6,6 +6,8 @@
  */
 package org.hibernate.sql.results.caching;
 
+import java.util.List;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -14,5 +16,14 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 public interface QueryCachePutManager {
 	void registerJdbcRow(Object values);
 
+	/**
+	 * Register the results read from the JDBC rows, so that the cached
+	 * rows may record the entities they contain.
+	 *
+	 * @see org.hibernate.cache.spi.QueryResultsDependencies
+	 */
+	default void registerResults(List<?> results) {
+	}
+
 	void finishUp(SharedSessionContractImplementor session);
 }
@@ -11,6 +11,7 @@ import java.util.List;
 
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
+import org.hibernate.cache.spi.QueryResultsDependencies;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.sql.results.caching.QueryCachePutManager;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
@@ -28,6 +29,7 @@ public class QueryCachePutManagerEnabledImpl implements QueryCachePutManager {
 	private final QueryKey queryKey;
 	private final String queryIdentifier;
 	private final List<Object> dataToCache = new ArrayList<>();
+	private List<?> results;
 
 	public QueryCachePutManagerEnabledImpl(
 			QueryResultsCache queryCache,
@@ -49,11 +51,19 @@ public class QueryCachePutManagerEnabledImpl implements QueryCachePutManager {
 		dataToCache.add( values );
 	}
 
+	@Override
+	public void registerResults(List<?> results) {
+		this.results = results;
+	}
+
 	@Override
 	public void finishUp(SharedSessionContractImplementor session) {
+		final QueryResultsDependencies dependencies =
+				results == null ? null : QueryResultsDependencies.fromResults( results, session );
 		final boolean put = queryCache.put(
 				queryKey,
 				dataToCache,
+				dependencies,
 				session
 		);
 		if ( put && statistics.isStatisticsEnabled() ) {
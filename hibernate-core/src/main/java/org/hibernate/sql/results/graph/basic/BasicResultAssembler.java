@@ -56,6 +56,21 @@ public class BasicResultAssembler<J> implements DomainResultAssembler<J> {
 		return rowProcessingState.getJdbcValue( valuesArrayPosition );
 	}
 
+	/**
+	 * The position of the assembled value in the JDBC values array, if the
+	 * assembled value is the raw JDBC value, or {@code -1} if it needs to be
+	 * {@linkplain #assemble assembled}.
+	 *
+	 * @since 6.6
+	 */
+	@Internal
+	public int getRawValuesArrayPosition() {
+		// subclasses may transform the raw value
+		return getClass() == BasicResultAssembler.class && valueConverter == null && !unwrapRowProcessingState
+				? valuesArrayPosition
+				: -1;
+	}
+
 	@Override
 	public J assemble(
 			RowProcessingState rowProcessingState,
@@ -186,8 +186,7 @@ public class EntityDelayedFetchInitializer extends AbstractInitializer implement
 				}
 			}
 			else {
-				final EntityKey entityKey = new EntityKey( identifier, concreteDescriptor );
-				final EntityHolder holder = persistenceContext.getEntityHolder( entityKey );
+				final EntityHolder holder = persistenceContext.getEntityHolder( identifier, concreteDescriptor );
 				if ( holder != null && holder.getEntity() != null ) {
 					entityInstance = persistenceContext.proxyFor( holder, concreteDescriptor );
 				}
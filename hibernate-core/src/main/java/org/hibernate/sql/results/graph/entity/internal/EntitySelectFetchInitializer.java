@@ -165,10 +165,8 @@ public class EntitySelectFetchInitializer extends AbstractInitializer implements
 
 	protected void initialize(RowProcessingState rowProcessingState) {
 		final SharedSessionContractImplementor session = rowProcessingState.getSession();
-		final EntityKey entityKey = new EntityKey( entityIdentifier, concreteDescriptor );
-
 		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
-		final EntityHolder holder = persistenceContext.getEntityHolder( entityKey );
+		final EntityHolder holder = persistenceContext.getEntityHolder( entityIdentifier, concreteDescriptor );
 		if ( holder != null ) {
 			if ( EntityLoadingLogging.ENTITY_LOADING_LOGGER.isDebugEnabled() ) {
 				EntityLoadingLogging.ENTITY_LOADING_LOGGER.debugf(
@@ -80,6 +80,10 @@ public final class InitializersList {
 
 		public Builder() {}
 
+		boolean isEmpty() {
+			return initializers.isEmpty();
+		}
+
 		public void addInitializer(final Initializer initializer) {
 			initializers.add( initializer );
 			//in this method we perform these checks merely to learn the sizing hints,
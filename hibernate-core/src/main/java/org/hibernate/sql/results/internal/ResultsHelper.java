@@ -35,6 +35,7 @@ import org.hibernate.pretty.MessageHelper;
 import org.hibernate.spi.NavigablePath;
 import org.hibernate.sql.ast.spi.SqlAstCreationContext;
 import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.results.LoadingLogger;
 import org.hibernate.sql.results.ResultsLogger;
 import org.hibernate.sql.results.graph.AssemblerCreationState;
 import org.hibernate.sql.results.graph.DomainResultAssembler;
@@ -42,6 +43,7 @@ import org.hibernate.sql.results.graph.FetchParent;
 import org.hibernate.sql.results.graph.Initializer;
 import org.hibernate.sql.results.graph.InitializerParent;
 import org.hibernate.sql.results.graph.InitializerProducer;
+import org.hibernate.sql.results.graph.basic.BasicResultAssembler;
 import org.hibernate.sql.results.graph.collection.internal.AbstractImmediateCollectionInitializer;
 import org.hibernate.sql.results.graph.instantiation.DynamicInstantiationResult;
 import org.hibernate.sql.results.jdbc.spi.JdbcValues;
@@ -79,6 +81,13 @@ public class ResultsHelper {
 		);
 
 		final List<DomainResultAssembler<?>> assemblers = jdbcValuesMapping.resolveAssemblers( creationState );
+		if ( creationState.initializerListBuilder.isEmpty()
+				&& isBasicResultAssemblers( assemblers )
+				// the standard reader logs each row and value
+				&& !LoadingLogger.LOGGER.isDebugEnabled()
+				&& !ResultsLogger.RESULTS_LOGGER.isDebugEnabled() ) {
+			return new ScalarRowReader<>( assemblers, rowTransformer, transformedResultJavaType );
+		}
 		creationState.initializerMap.logInitializers();
 
 		return new StandardRowReader<>(
@@ -90,6 +99,15 @@ public class ResultsHelper {
 		);
 	}
 
+	private static boolean isBasicResultAssemblers(List<DomainResultAssembler<?>> assemblers) {
+		for ( int i = 0; i < assemblers.size(); i++ ) {
+			if ( !( assemblers.get( i ) instanceof BasicResultAssembler<?> ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	public static void finalizeCollectionLoading(
 			PersistenceContext persistenceContext,
 			CollectionPersister collectionDescriptor,
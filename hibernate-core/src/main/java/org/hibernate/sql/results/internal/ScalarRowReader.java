@@ -0,0 +1,125 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.sql.results.graph.DomainResultAssembler;
+import org.hibernate.sql.results.graph.Initializer;
+import org.hibernate.sql.results.graph.basic.BasicResultAssembler;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingState;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+import org.hibernate.sql.results.spi.RowReader;
+import org.hibernate.sql.results.spi.RowTransformer;
+import org.hibernate.type.descriptor.java.JavaType;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A {@link RowReader} for results made only of basic values, which need
+ * no {@link Initializer}. Values which need no conversion are read from
+ * the JDBC values array by position, without calling their assembler.
+ *
+ * @see StandardRowReader
+ *
+ * @since 6.6
+ */
+public class ScalarRowReader<T> implements RowReader<T> {
+	private static final InitializersList NO_INITIALIZERS = new InitializersList.Builder().build();
+
+	private final DomainResultAssembler<?>[] resultAssemblers;
+	// the position of the raw JDBC value of each result, or -1 to call its assembler
+	private final int[] valuesArrayPositions;
+	private final RowTransformer<T> rowTransformer;
+	private final Class<T> domainResultJavaType;
+
+	/**
+	 * @param resultAssemblers the assemblers of the results, which must all be
+	 *                         {@link BasicResultAssembler}s
+	 */
+	public ScalarRowReader(
+			List<DomainResultAssembler<?>> resultAssemblers,
+			RowTransformer<T> rowTransformer,
+			Class<T> domainResultJavaType) {
+		this.resultAssemblers = resultAssemblers.toArray( new DomainResultAssembler<?>[0] );
+		this.valuesArrayPositions = new int[resultAssemblers.size()];
+		for ( int i = 0; i < valuesArrayPositions.length; i++ ) {
+			valuesArrayPositions[i] =
+					( (BasicResultAssembler<?>) resultAssemblers.get( i ) ).getRawValuesArrayPosition();
+		}
+		this.rowTransformer = rowTransformer;
+		this.domainResultJavaType = domainResultJavaType;
+	}
+
+	@Override
+	public Class<T> getDomainResultResultJavaType() {
+		return domainResultJavaType;
+	}
+
+	@Override
+	public Class<?> getResultJavaType() {
+		if ( resultAssemblers.length == 1 ) {
+			return resultAssemblers[0].getAssembledJavaType().getJavaTypeClass();
+		}
+
+		return Object[].class;
+	}
+
+	@Override
+	public List<JavaType<?>> getResultJavaTypes() {
+		final List<JavaType<?>> javaTypes = new ArrayList<>( resultAssemblers.length );
+		for ( DomainResultAssembler<?> resultAssembler : resultAssemblers ) {
+			javaTypes.add( resultAssembler.getAssembledJavaType() );
+		}
+		return javaTypes;
+	}
+
+	@Override
+	@Deprecated
+	public List<Initializer> getInitializers() {
+		return Collections.emptyList();
+	}
+
+	@Override
+	public InitializersList getInitializersList() {
+		return NO_INITIALIZERS;
+	}
+
+	@Override
+	public @Nullable EntityKey resolveSingleResultEntityKey(RowProcessingState rowProcessingState) {
+		return null;
+	}
+
+	@Override
+	public boolean hasCollectionInitializers() {
+		return false;
+	}
+
+	@Override
+	public T readRow(RowProcessingState rowProcessingState, JdbcValuesSourceProcessingOptions options) {
+		final Object[] resultRow = new Object[resultAssemblers.length];
+		for ( int i = 0; i < resultRow.length; i++ ) {
+			final int valuesArrayPosition = valuesArrayPositions[i];
+			resultRow[i] = valuesArrayPosition < 0
+					? resultAssemblers[i].assemble( rowProcessingState, options )
+					: rowProcessingState.getJdbcValue( valuesArrayPosition );
+		}
+		return rowTransformer.transformRow( resultRow );
+	}
+
+	@Override
+	public void startLoading(RowProcessingState processingState) {
+	}
+
+	@Override
+	public void finishUp(JdbcValuesSourceProcessingState processingState) {
+	}
+}
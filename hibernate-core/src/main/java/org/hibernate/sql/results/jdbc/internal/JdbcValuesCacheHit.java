@@ -9,6 +9,7 @@ package org.hibernate.sql.results.jdbc.internal;
 import java.util.BitSet;
 import java.util.List;
 
+import org.hibernate.cache.internal.ColumnarQueryResults;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.sql.results.ResultsLogger;
 import org.hibernate.sql.results.graph.DomainResult;
@@ -23,6 +24,7 @@ import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
  */
 public class JdbcValuesCacheHit extends AbstractJdbcValues {
 	private List<?> cachedResults;
+	private ColumnarQueryResults columnarResults;
 	private final int numberOfRows;
 	private final JdbcValuesMapping resolvedMapping;
 	private final int[] valueIndexesToCacheIndexes;
@@ -31,6 +33,9 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 
 	public JdbcValuesCacheHit(List<?> cachedResults, JdbcValuesMapping resolvedMapping) {
 		this.cachedResults = cachedResults;
+		this.columnarResults = cachedResults instanceof ColumnarQueryResults
+				? (ColumnarQueryResults) cachedResults
+				: null;
 		this.offset = !cachedResults.isEmpty() && cachedResults.get( 0 ) instanceof JdbcValuesMetadata ? 1 : 0;
 		this.numberOfRows = cachedResults.size() - offset;
 		this.resolvedMapping = resolvedMapping;
@@ -222,6 +227,20 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 		if ( position >= numberOfRows ) {
 			return null;
 		}
+		if ( columnarResults != null ) {
+			// read the value straight from its column, without materializing the row
+			final int column;
+			if ( !columnarResults.isArrayRows() ) {
+				column = 0;
+			}
+			else if ( valueIndexesToCacheIndexes == null ) {
+				column = valueIndex;
+			}
+			else {
+				column = valueIndexesToCacheIndexes[valueIndex];
+			}
+			return columnarResults.getValue( position + offset, column );
+		}
 		final Object row = cachedResults.get( position + offset );
 		if ( valueIndexesToCacheIndexes == null ) {
 			return ( (Object[]) row )[valueIndex];
@@ -242,6 +261,7 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 	@Override
 	public void finishUp(SharedSessionContractImplementor session) {
 		cachedResults = null;
+		columnarResults = null;
 	}
 
 	@Override
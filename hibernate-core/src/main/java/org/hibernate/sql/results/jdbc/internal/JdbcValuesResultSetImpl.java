@@ -10,6 +10,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.BitSet;
+import java.util.List;
 
 import org.hibernate.JDBCException;
 import org.hibernate.QueryTimeoutException;
@@ -324,6 +325,13 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 		initializedIndexes.clear();
 	}
 
+	@Override
+	public void registerResults(List<?> results) {
+		if ( queryCachePutManager != null ) {
+			queryCachePutManager.registerResults( results );
+		}
+	}
+
 	@Override
 	public final void finishUp(SharedSessionContractImplementor session) {
 		if ( queryCachePutManager != null ) {
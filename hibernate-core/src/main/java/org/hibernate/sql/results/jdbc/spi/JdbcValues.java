@@ -6,6 +6,8 @@
  */
 package org.hibernate.sql.results.jdbc.spi;
 
+import java.util.List;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -84,6 +86,16 @@ public interface JdbcValues {
 		finishRowProcessing( rowProcessingState );
 	}
 
+	/**
+	 * Register the results read from these values, so that implementations
+	 * putting the values into the query cache may record the entities they
+	 * contain.
+	 *
+	 * @see org.hibernate.jpa.HibernateHints#HINT_CACHE_INVALIDATION_BY_ID
+	 */
+	default void registerResults(List<?> results) {
+	}
+
 	/**
 	 * Give implementations a chance to finish processing
 	 */
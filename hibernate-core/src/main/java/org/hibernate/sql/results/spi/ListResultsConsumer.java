@@ -209,6 +209,12 @@ public class ListResultsConsumer<R> implements ResultsConsumer<List<R>, R> {
 			rowReader.finishUp( jdbcValuesSourceProcessingState );
 			jdbcValuesSourceProcessingState.finishUp( readRows > 1 );
 
+			if ( queryOptions.getResultCacheInvalidationById() == Boolean.TRUE
+					&& session.getFactory().getSessionFactoryOptions().isQueryCacheInvalidationByIdEnabled()
+					&& jdbcValuesSourceProcessingState.getExecutionContext().allowsResultCacheInvalidationById() ) {
+				jdbcValues.registerResults( results.getResults() );
+			}
+
 			//noinspection unchecked
 			final ResultListTransformer<R> resultListTransformer =
 					(ResultListTransformer<R>) queryOptions.getResultListTransformer();
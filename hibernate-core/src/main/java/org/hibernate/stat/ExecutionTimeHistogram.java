@@ -0,0 +1,79 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import java.io.Serializable;
+
+import org.hibernate.Incubating;
+
+/**
+ * The distribution of the execution times, in milliseconds, of a query
+ * or of the natural id lookups of an entity.
+ * <p>
+ * The execution times are counted in buckets whose width grows with the
+ * execution time, so that a {@linkplain #getValueAtPercentile percentile}
+ * is never more than about 6% above the actual execution time, while
+ * recording an execution takes neither a lock nor a compare-and-set loop.
+ *
+ * @see HistogramStatistics
+ *
+ * @since 6.6
+ */
+@Incubating
+public interface ExecutionTimeHistogram extends Serializable {
+	/**
+	 * The number of recorded executions.
+	 */
+	long getCount();
+
+	/**
+	 * The total time taken by all the recorded executions.
+	 */
+	long getTotalTime();
+
+	/**
+	 * The shortest recorded execution time, or {@code 0} if no
+	 * execution was recorded.
+	 */
+	long getMinTime();
+
+	/**
+	 * The longest recorded execution time, or {@code 0} if no
+	 * execution was recorded.
+	 */
+	long getMaxTime();
+
+	/**
+	 * The execution time below which the given percentage of the
+	 * recorded execution times fall, or {@code 0} if no execution
+	 * was recorded.
+	 *
+	 * @param percentile a percentage between {@code 0} and {@code 100}
+	 */
+	long getValueAtPercentile(double percentile);
+
+	/**
+	 * The median execution time.
+	 */
+	default long getMedian() {
+		return getValueAtPercentile( 50 );
+	}
+
+	/**
+	 * The 99th percentile of the execution times.
+	 */
+	default long get99thPercentile() {
+		return getValueAtPercentile( 99 );
+	}
+
+	/**
+	 * The 99.9th percentile of the execution times.
+	 */
+	default long get999thPercentile() {
+		return getValueAtPercentile( 99.9 );
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import org.hibernate.Incubating;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * {@link Statistics} which also keep an {@linkplain ExecutionTimeHistogram histogram}
+ * of the execution times of each query and of the natural id lookups of each entity,
+ * and which notify {@linkplain ExecutionListener listeners} of each execution, so that
+ * they may be recorded by a metrics library without polling.
+ *
+ * @see org.hibernate.cfg.StatisticsSettings#STATISTICS_HISTOGRAMS
+ *
+ * @since 6.6
+ */
+@Incubating
+public interface HistogramStatistics extends Statistics {
+	/**
+	 * The distribution of the execution times of all queries.
+	 */
+	ExecutionTimeHistogram getQueryExecutionTimeHistogram();
+
+	/**
+	 * The distribution of the execution times of the given query, or
+	 * {@code null} if it was not executed since the statistics were cleared.
+	 *
+	 * @param queryString the query string, in HQL or SQL
+	 */
+	@Nullable ExecutionTimeHistogram getQueryExecutionTimeHistogram(String queryString);
+
+	/**
+	 * The distribution of the execution times of all natural id lookups.
+	 */
+	ExecutionTimeHistogram getNaturalIdQueryExecutionTimeHistogram();
+
+	/**
+	 * The distribution of the execution times of the natural id lookups
+	 * of the given entity, or {@code null} if there were none since the
+	 * statistics were cleared.
+	 *
+	 * @param rootEntityName the name of the root entity of the hierarchy
+	 */
+	@Nullable ExecutionTimeHistogram getNaturalIdQueryExecutionTimeHistogram(String rootEntityName);
+
+	/**
+	 * Register a listener to be notified of each execution of a query
+	 * or of a natural id lookup, while statistics are enabled.
+	 */
+	void addExecutionListener(ExecutionListener listener);
+
+	/**
+	 * Remove a listener added by {@link #addExecutionListener}.
+	 */
+	void removeExecutionListener(ExecutionListener listener);
+
+	/**
+	 * Notified of each execution of a query or of a natural id lookup.
+	 * <p>
+	 * Called by the thread which executed the query, so implementations
+	 * must be thread-safe, and should return quickly.
+	 */
+	interface ExecutionListener {
+		/**
+		 * A query was executed.
+		 *
+		 * @param queryString the query string, or {@code null} if unknown
+		 * @param rows the number of rows returned
+		 * @param time the execution time, in milliseconds
+		 */
+		default void queryExecuted(@Nullable String queryString, int rows, long time) {
+		}
+
+		/**
+		 * The natural id of an entity was resolved against the database.
+		 *
+		 * @param rootEntityName the name of the root entity of the hierarchy
+		 * @param time the execution time, in milliseconds
+		 */
+		default void naturalIdQueryExecuted(String rootEntityName, long time) {
+		}
+	}
+}
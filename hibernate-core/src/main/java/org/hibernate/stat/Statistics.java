@@ -11,6 +11,8 @@ import java.util.Map;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import static java.util.Collections.emptyMap;
+
 /**
  * Exposes statistics collected from all sessions belonging to a
  * particular {@link org.hibernate.SessionFactory}.
@@ -380,6 +382,30 @@ public interface Statistics {
 	 */
 	long getCloseStatementCount();
 
+	/**
+	 * The number of prepared statements reused from the statement cache
+	 * of a session, instead of being prepared again.
+	 *
+	 * @since 6.6
+	 *
+	 * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+	 */
+	default long getPreparedStatementCacheHitCount() {
+		return 0;
+	}
+
+	/**
+	 * The number of prepared statements <em>not</em> found in the statement
+	 * cache of a session.
+	 *
+	 * @since 6.6
+	 *
+	 * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+	 */
+	default long getPreparedStatementCacheMissCount() {
+		return 0;
+	}
+
 	/**
 	 * The number of Hibernate {@code StaleObjectStateException}s or JPA
 	 * {@code OptimisticLockException}s that have occurred.
@@ -395,4 +421,38 @@ public interface Statistics {
 	 * The global number of query plans lookups <em>not</em> found in cache.
 	 */
 	long getQueryPlanCacheMissCount();
+
+	/**
+	 * The global number of blocks of identifier values fetched from the
+	 * database by table-based identifier generators.
+	 *
+	 * @since 6.6
+	 */
+	default long getIdentifierBlockFetchCount() {
+		return 0;
+	}
+
+	/**
+	 * The global number of times a thread generating an identifier had to
+	 * wait for a block of identifier values to be fetched from the database
+	 * by a table-based identifier generator.
+	 *
+	 * @since 6.6
+	 */
+	default long getIdentifierBlockFetchWaitCount() {
+		return 0;
+	}
+
+	/**
+	 * If {@value org.hibernate.cfg.BatchSettings#BATCH_TARGET_LATENCY} is
+	 * set, a map from the {@linkplain org.hibernate.engine.jdbc.batch.spi.BatchKey
+	 * batch key} to the JDBC batch size currently chosen for it.
+	 *
+	 * @since 6.6
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_TARGET_LATENCY
+	 */
+	default Map<String,Integer> getJdbcBatchSizes() {
+		return emptyMap();
+	}
 }
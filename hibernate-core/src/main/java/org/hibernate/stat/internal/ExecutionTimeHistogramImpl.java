@@ -0,0 +1,165 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongBinaryOperator;
+
+import org.hibernate.stat.ExecutionTimeHistogram;
+
+/**
+ * A log-linear histogram of execution times, where the values below
+ * {@value #SUB_BUCKET_COUNT} each have their own bucket, and every
+ * power of two above is split in {@value #SUB_BUCKET_COUNT} buckets,
+ * as in HdrHistogram.
+ * <p>
+ * Each bucket is a {@link LongAdder}, created on first use, so that
+ * concurrent recordings don't contend, and the histogram of a query
+ * which always takes about the same time stays small.
+ *
+ * @since 6.6
+ */
+public class ExecutionTimeHistogramImpl implements ExecutionTimeHistogram {
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	// longer execution times, about 50 days in milliseconds, are counted in the last bucket
+	private static final int MAX_EXPONENT = 31;
+	private static final int BUCKET_COUNT = bucketIndex( ( 1L << ( MAX_EXPONENT + 1 ) ) - 1 ) + 1;
+
+	private static final LongBinaryOperator MAX = (LongBinaryOperator & Serializable) Math::max;
+	private static final LongBinaryOperator MIN = (LongBinaryOperator & Serializable) Math::min;
+
+	private final AtomicReferenceArray<LongAdder> buckets = new AtomicReferenceArray<>( BUCKET_COUNT );
+	private final LongAdder count = new LongAdder();
+	private final LongAdder totalTime = new LongAdder();
+	private final LongAccumulator maxTime = new LongAccumulator( MAX, 0L );
+	private final LongAccumulator minTime = new LongAccumulator( MIN, Long.MAX_VALUE );
+
+	/**
+	 * Record an execution time.
+	 *
+	 * @param time the execution time, in milliseconds
+	 */
+	public void record(long time) {
+		final long value = Math.max( time, 0L );
+		bucket( bucketIndex( Math.min( value, ( 1L << ( MAX_EXPONENT + 1 ) ) - 1 ) ) ).increment();
+		count.increment();
+		totalTime.add( value );
+		maxTime.accumulate( value );
+		minTime.accumulate( value );
+	}
+
+	/**
+	 * Forget all recorded execution times.
+	 */
+	public void reset() {
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			final LongAdder bucket = buckets.get( i );
+			if ( bucket != null ) {
+				bucket.reset();
+			}
+		}
+		count.reset();
+		totalTime.reset();
+		maxTime.reset();
+		minTime.reset();
+	}
+
+	@Override
+	public long getCount() {
+		return count.sum();
+	}
+
+	@Override
+	public long getTotalTime() {
+		return totalTime.sum();
+	}
+
+	@Override
+	public long getMinTime() {
+		final long min = minTime.get();
+		return min == Long.MAX_VALUE ? 0L : min;
+	}
+
+	@Override
+	public long getMaxTime() {
+		return maxTime.get();
+	}
+
+	@Override
+	public long getValueAtPercentile(double percentile) {
+		if ( percentile < 0 || percentile > 100 ) {
+			throw new IllegalArgumentException( "Percentile must be between 0 and 100: " + percentile );
+		}
+		// the buckets are read one after the other, while executions may still be recorded,
+		// so the rank is computed from the counts which were actually read
+		final long[] counts = new long[BUCKET_COUNT];
+		long total = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			final LongAdder bucket = buckets.get( i );
+			if ( bucket != null ) {
+				counts[i] = bucket.sum();
+				total += counts[i];
+			}
+		}
+		if ( total == 0 ) {
+			return 0L;
+		}
+		final long rank = Math.max( 1L, (long) Math.ceil( percentile / 100 * total ) );
+		long cumulated = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			cumulated += counts[i];
+			if ( cumulated >= rank ) {
+				return Math.min( highestValue( i ), getMaxTime() );
+			}
+		}
+		return getMaxTime();
+	}
+
+	private LongAdder bucket(int index) {
+		final LongAdder bucket = buckets.get( index );
+		if ( bucket != null ) {
+			return bucket;
+		}
+		final LongAdder newBucket = new LongAdder();
+		return buckets.compareAndSet( index, null, newBucket ) ? newBucket : buckets.get( index );
+	}
+
+	static int bucketIndex(long value) {
+		if ( value < SUB_BUCKET_COUNT ) {
+			return (int) value;
+		}
+		final int exponent = 63 - Long.numberOfLeadingZeros( value );
+		final int shift = exponent - SUB_BUCKET_BITS;
+		final int subBucket = (int) ( value >>> shift ) & ( SUB_BUCKET_COUNT - 1 );
+		return SUB_BUCKET_COUNT + shift * SUB_BUCKET_COUNT + subBucket;
+	}
+
+	static long highestValue(int bucketIndex) {
+		if ( bucketIndex < SUB_BUCKET_COUNT ) {
+			return bucketIndex;
+		}
+		final int shift = ( bucketIndex - SUB_BUCKET_COUNT ) / SUB_BUCKET_COUNT;
+		final int subBucket = ( bucketIndex - SUB_BUCKET_COUNT ) % SUB_BUCKET_COUNT;
+		return ( (long) ( SUB_BUCKET_COUNT + subBucket + 1 ) << shift ) - 1;
+	}
+
+	@Override
+	public String toString() {
+		return "ExecutionTimeHistogram"
+				+ "[count=" + getCount()
+				+ ",minTime=" + getMinTime()
+				+ ",medianTime=" + getMedian()
+				+ ",99thPercentile=" + get99thPercentile()
+				+ ",999thPercentile=" + get999thPercentile()
+				+ ",maxTime=" + getMaxTime()
+				+ ']';
+	}
+}
@@ -0,0 +1,257 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.ExecutionTimeHistogram;
+import org.hibernate.stat.HistogramStatistics;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static org.hibernate.internal.CoreLogging.messageLogger;
+
+/**
+ * {@link StatisticsImpl} which keeps an {@link ExecutionTimeHistogramImpl} of
+ * the execution times of each query and of the natural id lookups of each
+ * entity, instead of the locks and compare-and-set loops through which the
+ * default {@link QueryStatisticsImpl} and {@link NaturalIdStatisticsImpl}
+ * track the average, minimum, and maximum execution times.
+ *
+ * @see org.hibernate.cfg.StatisticsSettings#STATISTICS_HISTOGRAMS
+ *
+ * @since 6.6
+ */
+public class HistogramStatisticsImpl extends StatisticsImpl implements HistogramStatistics {
+	private static final CoreMessageLogger LOG = messageLogger( HistogramStatisticsImpl.class );
+
+	private final ExecutionTimeHistogramImpl queryExecutionTimes = new ExecutionTimeHistogramImpl();
+	private final ExecutionTimeHistogramImpl naturalIdQueryExecutionTimes = new ExecutionTimeHistogramImpl();
+	private final List<ExecutionListener> listeners = new CopyOnWriteArrayList<>();
+
+	public HistogramStatisticsImpl(SessionFactoryImplementor sessionFactory) {
+		super( sessionFactory );
+	}
+
+	@Override
+	public void clear() {
+		super.clear();
+		queryExecutionTimes.reset();
+		naturalIdQueryExecutionTimes.reset();
+	}
+
+	@Override
+	protected QueryStatisticsImpl createQueryStatistics(String queryString) {
+		return new HistogramQueryStatistics( queryString );
+	}
+
+	@Override
+	protected NaturalIdStatisticsImpl createNaturalIdStatistics(EntityPersister rootEntityDescriptor) {
+		return new HistogramNaturalIdStatistics( rootEntityDescriptor );
+	}
+
+	@Override
+	public void queryExecuted(String hql, int rows, long time) {
+		// the global count and maximum are those of the histogram
+		LOG.hql( hql, time, (long) rows );
+		queryExecutionTimes.record( time );
+		if ( hql != null ) {
+			getQueryStatistics( hql ).executed( rows, time );
+		}
+		for ( ExecutionListener listener : listeners ) {
+			listener.queryExecuted( hql, rows, time );
+		}
+	}
+
+	@Override
+	public void naturalIdQueryExecuted(String rootEntityName, long time) {
+		naturalIdQueryExecutionTimes.record( time );
+		getNaturalIdStatistics( rootEntityName ).queryExecuted( time );
+		for ( ExecutionListener listener : listeners ) {
+			listener.naturalIdQueryExecuted( rootEntityName, time );
+		}
+	}
+
+	@Override
+	public long getQueryExecutionCount() {
+		return queryExecutionTimes.getCount();
+	}
+
+	@Override
+	public long getQueryExecutionMaxTime() {
+		return queryExecutionTimes.getMaxTime();
+	}
+
+	@Override
+	public @Nullable String getQueryExecutionMaxTimeQueryString() {
+		// look for the query whose maximum is the global one, since
+		// tracking it on every execution would need a compare-and-set loop
+		if ( queryExecutionTimes.getCount() > 0 ) {
+			final long maxTime = queryExecutionTimes.getMaxTime();
+			for ( String queryString : getQueries() ) {
+				final QueryStatisticsImpl statistics = findQueryStatistics( queryString );
+				if ( statistics != null && statistics.getExecutionCount() > 0
+						&& statistics.getExecutionMaxTime() == maxTime ) {
+					return queryString;
+				}
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public long getNaturalIdQueryExecutionCount() {
+		return naturalIdQueryExecutionTimes.getCount();
+	}
+
+	@Override
+	public long getNaturalIdQueryExecutionMaxTime() {
+		return naturalIdQueryExecutionTimes.getMaxTime();
+	}
+
+	@Override
+	public @Nullable String getNaturalIdQueryExecutionMaxTimeEntity() {
+		// as for queries, look for the entity whose maximum is the global one
+		if ( naturalIdQueryExecutionTimes.getCount() > 0 ) {
+			final long maxTime = naturalIdQueryExecutionTimes.getMaxTime();
+			for ( String rootEntityName : getNaturalIdQueryEntityNames() ) {
+				final NaturalIdStatisticsImpl statistics = findNaturalIdStatistics( rootEntityName );
+				if ( statistics != null && statistics.getExecutionCount() > 0
+						&& statistics.getExecutionMaxTime() == maxTime ) {
+					return rootEntityName;
+				}
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public @Nullable String getNaturalIdQueryExecutionMaxTimeRegion() {
+		final String rootEntityName = getNaturalIdQueryExecutionMaxTimeEntity();
+		final NaturalIdStatisticsImpl statistics =
+				rootEntityName == null ? null : findNaturalIdStatistics( rootEntityName );
+		return statistics == null ? null : statistics.getCacheRegionName();
+	}
+
+	@Override
+	public ExecutionTimeHistogram getQueryExecutionTimeHistogram() {
+		return queryExecutionTimes;
+	}
+
+	@Override
+	public @Nullable ExecutionTimeHistogram getQueryExecutionTimeHistogram(String queryString) {
+		final QueryStatisticsImpl statistics = findQueryStatistics( queryString );
+		return statistics == null ? null : ( (HistogramQueryStatistics) statistics ).executionTimes;
+	}
+
+	@Override
+	public ExecutionTimeHistogram getNaturalIdQueryExecutionTimeHistogram() {
+		return naturalIdQueryExecutionTimes;
+	}
+
+	@Override
+	public @Nullable ExecutionTimeHistogram getNaturalIdQueryExecutionTimeHistogram(String rootEntityName) {
+		final NaturalIdStatisticsImpl statistics = findNaturalIdStatistics( rootEntityName );
+		return statistics == null ? null : ( (HistogramNaturalIdStatistics) statistics ).executionTimes;
+	}
+
+	@Override
+	public void addExecutionListener(ExecutionListener listener) {
+		listeners.add( listener );
+	}
+
+	@Override
+	public void removeExecutionListener(ExecutionListener listener) {
+		listeners.remove( listener );
+	}
+
+	private static class HistogramQueryStatistics extends QueryStatisticsImpl {
+		private final ExecutionTimeHistogramImpl executionTimes = new ExecutionTimeHistogramImpl();
+		private final LongAdder executionRowCount = new LongAdder();
+
+		private HistogramQueryStatistics(String query) {
+			super( query );
+		}
+
+		@Override
+		public void executed(long rows, long time) {
+			executionTimes.record( time );
+			executionRowCount.add( rows );
+		}
+
+		@Override
+		public long getExecutionCount() {
+			return executionTimes.getCount();
+		}
+
+		@Override
+		public long getExecutionRowCount() {
+			return executionRowCount.sum();
+		}
+
+		@Override
+		public double getExecutionAvgTimeAsDouble() {
+			// the count and the total may be read between the updates of a concurrent execution
+			final long count = executionTimes.getCount();
+			return count == 0 ? 0 : executionTimes.getTotalTime() / (double) count;
+		}
+
+		@Override
+		public long getExecutionMaxTime() {
+			return executionTimes.getMaxTime();
+		}
+
+		@Override
+		public long getExecutionMinTime() {
+			return executionTimes.getCount() == 0 ? Long.MAX_VALUE : executionTimes.getMinTime();
+		}
+
+		@Override
+		public long getExecutionTotalTime() {
+			return executionTimes.getTotalTime();
+		}
+	}
+
+	private static class HistogramNaturalIdStatistics extends NaturalIdStatisticsImpl {
+		private final ExecutionTimeHistogramImpl executionTimes = new ExecutionTimeHistogramImpl();
+
+		private HistogramNaturalIdStatistics(EntityPersister rootEntityDescriptor) {
+			super( rootEntityDescriptor );
+		}
+
+		@Override
+		void queryExecuted(long time) {
+			executionTimes.record( time );
+		}
+
+		@Override
+		public long getExecutionCount() {
+			return executionTimes.getCount();
+		}
+
+		@Override
+		public long getExecutionAvgTime() {
+			final long count = executionTimes.getCount();
+			return count == 0 ? 0 : executionTimes.getTotalTime() / count;
+		}
+
+		@Override
+		public long getExecutionMaxTime() {
+			return executionTimes.getMaxTime();
+		}
+
+		@Override
+		public long getExecutionMinTime() {
+			return executionTimes.getCount() == 0 ? Long.MAX_VALUE : executionTimes.getMinTime();
+		}
+	}
+}
@@ -113,10 +113,10 @@ public class NaturalIdStatisticsImpl extends AbstractCacheableDataStatistics imp
 		final StringBuilder buf = new StringBuilder()
 				.append( "NaturalIdCacheStatistics" )
 				.append( "[rootEntityName=" ).append( rootEntityName )
-				.append( ",executionCount=" ).append( this.executionCount )
+				.append( ",executionCount=" ).append( this.getExecutionCount() )
 				.append( ",executionAvgTime=" ).append( this.getExecutionAvgTime() )
-				.append( ",executionMinTime=" ).append( this.executionMinTime )
-				.append( ",executionMaxTime=" ).append( this.executionMaxTime );
+				.append( ",executionMinTime=" ).append( this.getExecutionMinTime() )
+				.append( ",executionMaxTime=" ).append( this.getExecutionMaxTime() );
 		appendCacheStats( buf );
 		return buf.append( ']' ).toString();
 	}
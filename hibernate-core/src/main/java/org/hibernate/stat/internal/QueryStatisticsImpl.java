@@ -215,11 +215,11 @@ public class QueryStatisticsImpl implements QueryStatistics {
 				+ ",cachePutCount=" + this.cachePutCount
 				+ ",planCacheHitCount=" + this.planCacheHitCount
 				+ ",planCacheMissCount=" + this.planCacheMissCount
-				+ ",executionCount=" + this.executionCount
-				+ ",executionRowCount=" + this.executionRowCount
+				+ ",executionCount=" + this.getExecutionCount()
+				+ ",executionRowCount=" + this.getExecutionRowCount()
 				+ ",executionAvgTime=" + this.getExecutionAvgTime()
-				+ ",executionMaxTime=" + this.executionMaxTime
-				+ ",executionMinTime=" + this.executionMinTime
+				+ ",executionMaxTime=" + this.getExecutionMaxTime()
+				+ ",executionMinTime=" + this.getExecutionMinTime()
 				+ ']';
 	}
 }
@@ -65,6 +65,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder prepareStatementCount = new LongAdder();
 	private final LongAdder closeStatementCount = new LongAdder();
+	private final LongAdder preparedStatementCacheHitCount = new LongAdder();
+	private final LongAdder preparedStatementCacheMissCount = new LongAdder();
 
 	private final LongAdder entityLoadCount = new LongAdder();
 	private final LongAdder entityUpdateCount = new LongAdder();
@@ -99,6 +101,9 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	private final LongAdder queryPlanCacheHitCount = new LongAdder();
 	private final LongAdder queryPlanCacheMissCount = new LongAdder();
 
+	private final LongAdder identifierBlockFetchCount = new LongAdder();
+	private final LongAdder identifierBlockFetchWaitCount = new LongAdder();
+
 	private final LongAdder updateTimestampsCacheHitCount = new LongAdder();
 	private final LongAdder updateTimestampsCacheMissCount = new LongAdder();
 	private final LongAdder updateTimestampsCachePutCount = new LongAdder();
@@ -126,6 +131,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	 * Keyed by query SQL
 	 */
 	private final Map<String, Long> slowQueries = new ConcurrentHashMap<>();
+	private final Map<String, Integer> jdbcBatchSizes = new ConcurrentHashMap<>();
 
 	public StatisticsImpl(SessionFactoryImplementor sessionFactory) {
 		Objects.requireNonNull( sessionFactory );
@@ -172,6 +178,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 		prepareStatementCount.reset();
 		closeStatementCount.reset();
+		preparedStatementCacheHitCount.reset();
+		preparedStatementCacheMissCount.reset();
 
 		entityDeleteCount.reset();
 		entityInsertCount.reset();
@@ -210,6 +218,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
 
+		identifierBlockFetchCount.reset();
+		identifierBlockFetchWaitCount.reset();
+
+		jdbcBatchSizes.clear();
+
 		resetStart();
 	}
 
@@ -453,6 +466,21 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		);
 	}
 
+	/**
+	 * The statistics of the natural id lookups of the given entity, or
+	 * {@code null} if there were none since the statistics were cleared.
+	 */
+	protected @Nullable NaturalIdStatisticsImpl findNaturalIdStatistics(String rootEntityName) {
+		return naturalIdQueryStatsMap.get( rootEntityName );
+	}
+
+	/**
+	 * The entities whose natural id lookups have {@linkplain #findNaturalIdStatistics statistics}.
+	 */
+	protected String[] getNaturalIdQueryEntityNames() {
+		return naturalIdQueryStatsMap.keysAsArray();
+	}
+
 	@Override
 	public long getNaturalIdQueryExecutionCount() {
 		return naturalIdQueryExecutionCount.sum();
@@ -667,11 +695,20 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return NullnessUtil.castNonNull(
 					queryStatsMap.getOrCompute(
 						queryString,
-						QueryStatisticsImpl::new
+						this::createQueryStatistics
 					)
 		);
 	}
 
+	/**
+	 * The statistics of the given query, or {@code null} if the query was
+	 * not executed since the statistics were cleared, or if its statistics
+	 * were evicted.
+	 */
+	protected @Nullable QueryStatisticsImpl findQueryStatistics(String queryString) {
+		return queryStatsMap.get( queryString );
+	}
+
 	@Override
 	public long getQueryExecutionCount() {
 		return queryExecutionCount.sum();
@@ -800,6 +837,26 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		}
 	}
 
+	@Override
+	public long getIdentifierBlockFetchCount() {
+		return identifierBlockFetchCount.sum();
+	}
+
+	@Override
+	public long getIdentifierBlockFetchWaitCount() {
+		return identifierBlockFetchWaitCount.sum();
+	}
+
+	@Override
+	public void identifierBlockFetch() {
+		identifierBlockFetchCount.increment();
+	}
+
+	@Override
+	public void identifierBlockFetchWait() {
+		identifierBlockFetchWaitCount.increment();
+	}
+
 	private CacheRegionStatisticsImpl getQueryRegionStats(String regionName) {
 		return NullnessUtil.castNonNull(
 					l2CacheStatsMap.getOrCompute(
@@ -852,6 +909,16 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return prepareStatementCount.sum();
 	}
 
+	@Override
+	public long getPreparedStatementCacheHitCount() {
+		return preparedStatementCacheHitCount.sum();
+	}
+
+	@Override
+	public long getPreparedStatementCacheMissCount() {
+		return preparedStatementCacheMissCount.sum();
+	}
+
 	@Override
 	public void openSession() {
 		sessionOpenCount.increment();
@@ -882,6 +949,16 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		closeStatementCount.increment();
 	}
 
+	@Override
+	public void preparedStatementCacheHit() {
+		preparedStatementCacheHitCount.increment();
+	}
+
+	@Override
+	public void preparedStatementCacheMiss() {
+		preparedStatementCacheMissCount.increment();
+	}
+
 	@Override
 	public void endTransaction(boolean success) {
 		transactionCount.increment();
@@ -919,16 +996,16 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		LOG.naturalIdCachePuts( naturalIdCachePutCount.sum() );
 		LOG.naturalIdCacheHits( naturalIdCacheHitCount.sum() );
 		LOG.naturalIdCacheMisses( naturalIdCacheMissCount.sum() );
-		LOG.naturalIdMaxQueryTime( naturalIdQueryExecutionMaxTime.get() );
-		LOG.naturalIdQueriesExecuted( naturalIdQueryExecutionCount.sum() );
-		LOG.queriesExecuted( queryExecutionCount.sum() );
+		LOG.naturalIdMaxQueryTime( getNaturalIdQueryExecutionMaxTime() );
+		LOG.naturalIdQueriesExecuted( getNaturalIdQueryExecutionCount() );
+		LOG.queriesExecuted( getQueryExecutionCount() );
 		LOG.queryCachePuts( queryCachePutCount.sum() );
 		LOG.timestampCachePuts( updateTimestampsCachePutCount.sum() );
 		LOG.timestampCacheHits( updateTimestampsCacheHitCount.sum() );
 		LOG.timestampCacheMisses( updateTimestampsCacheMissCount.sum() );
 		LOG.queryCacheHits( queryCacheHitCount.sum() );
 		LOG.queryCacheMisses( queryCacheMissCount.sum() );
-		LOG.maxQueryTime( queryExecutionMaxTime.get() );
+		LOG.maxQueryTime( getQueryExecutionMaxTime() );
 		LOG.queryPlanCacheHits( queryPlanCacheHitCount.sum() );
 		LOG.queryPlanCacheMisses( queryPlanCacheMissCount.sum() );
 	}
@@ -959,19 +1036,19 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 				",collections removed=" + collectionRemoveCount +
 				",collections recreated=" + collectionRecreateCount +
 				",collections fetched=" + collectionFetchCount +
-				",naturalId queries executed to database=" + naturalIdQueryExecutionCount +
+				",naturalId queries executed to database=" + getNaturalIdQueryExecutionCount() +
 				",naturalId cache puts=" + naturalIdCachePutCount +
 				",naturalId cache hits=" + naturalIdCacheHitCount +
 				",naturalId cache misses=" + naturalIdCacheMissCount +
-				",naturalId max query time=" + naturalIdQueryExecutionMaxTime +
-				",queries executed to database=" + queryExecutionCount +
+				",naturalId max query time=" + getNaturalIdQueryExecutionMaxTime() +
+				",queries executed to database=" + getQueryExecutionCount() +
 				",query cache puts=" + queryCachePutCount +
 				",query cache hits=" + queryCacheHitCount +
 				",query cache misses=" + queryCacheMissCount +
 				",update timestamps cache puts=" + updateTimestampsCachePutCount +
 				",update timestamps cache hits=" + updateTimestampsCacheHitCount +
 				",update timestamps cache misses=" + updateTimestampsCacheMissCount +
-				",max query time=" + queryExecutionMaxTime +
+				",max query time=" + getQueryExecutionMaxTime() +
 				",query plan cache hits=" + queryPlanCacheHitCount +
 				",query plan cache misses=" + queryPlanCacheMissCount +
 				']';
@@ -990,7 +1067,22 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		if ( !entityDescriptor.hasNaturalIdentifier() ) {
 			throw new IllegalArgumentException( "Given entity [" + entityName + "] does not define natural-id" );
 		}
-		return new NaturalIdStatisticsImpl( entityDescriptor );
+		return createNaturalIdStatistics( entityDescriptor );
+	}
+
+	/**
+	 * Create the statistics of the given query.
+	 */
+	protected QueryStatisticsImpl createQueryStatistics(String queryString) {
+		return new QueryStatisticsImpl( queryString );
+	}
+
+	/**
+	 * Create the statistics of the natural id lookups of the given entity,
+	 * which {@linkplain EntityPersister#hasNaturalIdentifier() has a natural id}.
+	 */
+	protected NaturalIdStatisticsImpl createNaturalIdStatistics(EntityPersister rootEntityDescriptor) {
+		return new NaturalIdStatisticsImpl( rootEntityDescriptor );
 	}
 
 	private CacheRegionStatisticsImpl instantiateCacheRegionStatistics(final String regionName) {
@@ -1039,4 +1131,14 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	public void slowQuery(String sql, long executionTime) {
 		slowQueries.merge( sql, executionTime, Math::max );
 	}
+
+	@Override
+	public Map<String, Integer> getJdbcBatchSizes() {
+		return Map.copyOf( jdbcBatchSizes );
+	}
+
+	@Override
+	public void jdbcBatchSize(String batchKey, int batchSize) {
+		jdbcBatchSizes.put( batchKey, batchSize );
+	}
 }
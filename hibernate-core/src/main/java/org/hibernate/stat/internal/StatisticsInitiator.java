@@ -6,6 +6,8 @@
  */
 package org.hibernate.stat.internal;
 
+import java.util.Map;
+
 import org.hibernate.HibernateException;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.engine.config.spi.ConfigurationService;
@@ -21,7 +23,9 @@ import org.jboss.logging.Logger;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import static org.hibernate.cfg.StatisticsSettings.STATISTICS_HISTOGRAMS;
 import static org.hibernate.cfg.StatisticsSettings.STATS_BUILDER;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 
 /**
  * @author Steve Ebersole
@@ -38,16 +42,18 @@ public class StatisticsInitiator implements SessionFactoryServiceInitiator<Stati
 
 	@Override
 	public StatisticsImplementor initiateService(SessionFactoryServiceInitiatorContext context) {
-		final Object configValue = context.getServiceRegistry()
+		final Map<String, Object> settings = context.getServiceRegistry()
 				.requireService( ConfigurationService.class )
-				.getSettings()
-				.get( STATS_BUILDER );
-		return initiateServiceInternal( context.getSessionFactory(), configValue, context.getServiceRegistry() );
+				.getSettings();
+		final Object configValue = settings.get( STATS_BUILDER );
+		final boolean histograms = getBoolean( STATISTICS_HISTOGRAMS, settings );
+		return initiateServiceInternal( context.getSessionFactory(), configValue, histograms, context.getServiceRegistry() );
 	}
 
 	private StatisticsImplementor initiateServiceInternal(
 			SessionFactoryImplementor sessionFactory,
 			@Nullable Object configValue,
+			boolean histograms,
 			ServiceRegistryImplementor registry) {
 
 		final StatisticsFactory statisticsFactory;
@@ -76,7 +82,9 @@ public class StatisticsInitiator implements SessionFactoryServiceInitiator<Stati
 		final StatisticsImplementor statistics;
 		if ( statisticsFactory == null ) {
 			// Default:
-			statistics = new StatisticsImpl( sessionFactory );
+			statistics = histograms
+					? new HistogramStatisticsImpl( sessionFactory )
+					: new StatisticsImpl( sessionFactory );
 		}
 		else {
 			statistics = statisticsFactory.buildStatistics( sessionFactory );
@@ -11,12 +11,10 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
 
 import org.hibernate.internal.util.NullnessUtil;
-import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.internal.util.collections.TinyLfuConcurrentMap;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
-import static org.hibernate.internal.util.collections.BoundedConcurrentHashMap.Eviction.LRU;
-
 /**
  * Decorates a ConcurrentHashMap implementation to make sure the methods are being
  * used correctly for the purpose of Hibernate's statistics. In particular, we do
@@ -33,10 +31,12 @@ public final class StatsNamedContainer<V> {
 	private final static Object NULL_TOKEN = new Object();
 
 	/**
-	 * Creates a bounded container - based on BoundedConcurrentHashMap
+	 * Creates a bounded container - based on TinyLfuConcurrentMap
+	 *
+	 * @param concurrencyLevel ignored, the bounded map does not partition its entries
 	 */
 	public StatsNamedContainer(int capacity, int concurrencyLevel) {
-		this.map = new BoundedConcurrentHashMap<>( capacity, concurrencyLevel, LRU );
+		this.map = new TinyLfuConcurrentMap<>( capacity );
 	}
 
 	/**
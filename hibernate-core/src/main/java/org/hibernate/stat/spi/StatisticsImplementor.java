@@ -269,6 +269,45 @@ public interface StatisticsImplementor extends Statistics, Service {
 		//For backward compatibility
 	}
 
+	/**
+	 * Callback indicating a block of identifier values was fetched from the database.
+	 *
+	 * @since 6.6
+	 */
+	default void identifierBlockFetch() {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating a thread had to wait for a block of identifier values
+	 * to be fetched from the database.
+	 *
+	 * @since 6.6
+	 */
+	default void identifierBlockFetchWait() {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating a prepared statement was found in the statement
+	 * cache of a session.
+	 *
+	 * @since 6.6
+	 */
+	default void preparedStatementCacheHit() {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating a prepared statement was not found in the
+	 * statement cache of a session.
+	 *
+	 * @since 6.6
+	 */
+	default void preparedStatementCacheMiss() {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback indicating compilation of a sql/hql query
 	 *
@@ -291,4 +330,14 @@ public interface StatisticsImplementor extends Statistics, Service {
 		//For backward compatibility
 		return emptyMap();
 	}
+
+	/**
+	 * Callback indicating the JDBC batch size chosen for a batch key
+	 * after the execution of one of its batches.
+	 *
+	 * @since 6.6
+	 */
+	default void jdbcBatchSize(String batchKey, int batchSize) {
+		//For backward compatibility
+	}
 }
@@ -0,0 +1,130 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.engine.jdbc.batch.internal.AdaptiveBatchSizeController;
+import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = AdaptiveBatchSizeTest.Event.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = BatchSettings.STATEMENT_BATCH_SIZE, value = "50"),
+				@Setting(name = BatchSettings.BATCH_TARGET_LATENCY, value = "1000")
+		}
+)
+public class AdaptiveBatchSizeTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testBatchSizesStatistics(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 120; i++ ) {
+				session.persist( new Event( i, "event " + i ) );
+			}
+		} );
+
+		final Map<String, Integer> batchSizes = scope.getSessionFactory().getStatistics().getJdbcBatchSizes();
+		assertThat( batchSizes ).containsKey( Event.class.getName() + "#INSERT" );
+		assertThat( batchSizes.get( Event.class.getName() + "#INSERT" ) ).isBetween( 2, 50 );
+
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Event", Long.class ).getSingleResult()
+		).isEqualTo( 120L ) );
+	}
+
+	@Test
+	public void testBatchSizesStatisticsCleared(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 60; i++ ) {
+				session.persist( new Event( i, "event " + i ) );
+			}
+		} );
+		final Map<String, Integer> batchSizes = statistics.getJdbcBatchSizes();
+		assertThat( batchSizes ).containsKey( Event.class.getName() + "#INSERT" );
+
+		statistics.clear();
+		assertThat( statistics.getJdbcBatchSizes() ).isEmpty();
+		// a snapshot
+		assertThat( batchSizes ).containsKey( Event.class.getName() + "#INSERT" );
+
+		// reported again, even though the size chosen for the key is unchanged
+		scope.inTransaction( session -> {
+			for ( int i = 60; i < 120; i++ ) {
+				session.persist( new Event( i, "event " + i ) );
+			}
+		} );
+		assertThat( statistics.getJdbcBatchSizes() ).containsKey( Event.class.getName() + "#INSERT" );
+	}
+
+	@Test
+	public void testBatchSizeAdjustments() {
+		final AdaptiveBatchSizeController controller = new AdaptiveBatchSizeController( 100 );
+		final BatchKey key = new BasicBatchKey( "Event#INSERT" );
+		assertThat( controller.getBatchSize( key, 100 ) ).isEqualTo( 100 );
+
+		// too slow: shrinks in proportion, but at most by half
+		assertThat( controller.batchExecuted( key, 100, 0, millis( 125 ), 100, null ) ).isEqualTo( 80 );
+		assertThat( controller.batchExecuted( key, 80, 0, millis( 800 ), 100, null ) ).isEqualTo( 40 );
+		assertThat( controller.getBatchSize( key, 100 ) ).isEqualTo( 40 );
+		// the configured batch size still applies
+		assertThat( controller.getBatchSize( key, 20 ) ).isEqualTo( 20 );
+
+		// fast enough: grows by a quarter, but only after a full batch
+		assertThat( controller.batchExecuted( key, 10, 0, millis( 10 ), 100, null ) ).isEqualTo( 40 );
+		assertThat( controller.batchExecuted( key, 40, 0, millis( 10 ), 100, null ) ).isEqualTo( 50 );
+		assertThat( controller.batchExecuted( key, 50, 0, millis( 10 ), 100, null ) ).isEqualTo( 62 );
+
+		// the bound values stay within a few megabytes
+		assertThat( controller.batchExecuted( key, 62, 62L * 1024 * 1024, millis( 10 ), 100, null ) )
+				.isEqualTo( 4 );
+	}
+
+	private static long millis(long millis) {
+		return TimeUnit.MILLISECONDS.toNanos( millis );
+	}
+
+	@Entity(name = "Event")
+	public static class Event {
+		@Id
+		Integer id;
+
+		String name;
+
+		public Event() {
+		}
+
+		public Event(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
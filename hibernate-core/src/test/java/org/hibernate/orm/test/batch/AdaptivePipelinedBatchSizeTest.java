@@ -0,0 +1,79 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.Map;
+
+import org.hibernate.cfg.BatchSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the batch size adapts to batches executed in the background
+ * when {@value BatchSettings#BATCH_PIPELINING} is combined with
+ * {@value BatchSettings#BATCH_TARGET_LATENCY}.
+ */
+@DomainModel(annotatedClasses = AdaptivePipelinedBatchSizeTest.Event.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = BatchSettings.STATEMENT_BATCH_SIZE, value = "20"),
+				@Setting(name = BatchSettings.BATCH_TARGET_LATENCY, value = "1000"),
+				@Setting(name = BatchSettings.BATCH_PIPELINING, value = "true")
+		}
+)
+public class AdaptivePipelinedBatchSizeTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testPipelinedBatchSizes(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 500; i++ ) {
+				session.persist( new Event( i, "event " + i ) );
+			}
+		} );
+
+		final Map<String, Integer> batchSizes = scope.getSessionFactory().getStatistics().getJdbcBatchSizes();
+		assertThat( batchSizes ).containsKey( Event.class.getName() + "#INSERT" );
+		assertThat( batchSizes.get( Event.class.getName() + "#INSERT" ) ).isBetween( 2, 20 );
+
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Event", Long.class ).getSingleResult()
+		).isEqualTo( 500L ) );
+	}
+
+	@Entity(name = "Event")
+	public static class Event {
+		@Id
+		Integer id;
+
+		String name;
+
+		public Event() {
+		}
+
+		public Event(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
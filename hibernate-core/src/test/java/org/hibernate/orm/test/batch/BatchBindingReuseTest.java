@@ -0,0 +1,141 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.List;
+
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.engine.jdbc.mutation.ParameterUsage;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.sql.model.jdbc.JdbcValueDescriptor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = BatchBindingReuseTest.Measurement.class)
+@SessionFactory
+@ServiceRegistry(settings = @Setting(name = BatchSettings.STATEMENT_BATCH_SIZE, value = "5"))
+public class BatchBindingReuseTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testValuesOfReusedBindings(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 12; i++ ) {
+				// every other row binds null, which must not keep the value of the previous row
+				session.persist( new Measurement( i, i % 2 == 0 ? "sensor " + i : null, i * 1.5 ) );
+			}
+		} );
+		scope.inTransaction( session -> {
+			for ( Measurement measurement : session.createSelectionQuery( "from Measurement", Measurement.class )
+					.getResultList() ) {
+				measurement.reading = -measurement.reading;
+			}
+		} );
+
+		scope.inTransaction( session -> {
+			final List<Measurement> measurements = session.createSelectionQuery(
+					"from Measurement order by id",
+					Measurement.class
+			).getResultList();
+			assertThat( measurements ).hasSize( 12 );
+			for ( Measurement measurement : measurements ) {
+				final int i = measurement.id;
+				assertThat( measurement.sensor ).isEqualTo( i % 2 == 0 ? "sensor " + i : null );
+				assertThat( measurement.reading ).isEqualTo( -i * 1.5 );
+			}
+		} );
+	}
+
+	@Test
+	public void testBindingGroupReuse() {
+		final JdbcValueDescriptor first = new Descriptor( "first", 1 );
+		final JdbcValueDescriptor second = new Descriptor( "second", 2 );
+		final BindingGroup bindingGroup = new BindingGroup( "table" );
+
+		bindingGroup.bindValue( "second", "b", second );
+		bindingGroup.bindValue( "first", "a", first );
+		assertThat( bindingGroup.getBindings() ).extracting( Binding::getValue ).containsExactly( "a", "b" );
+		final Binding binding = bindingGroup.getBindings().iterator().next();
+		final Binding[] copy = bindingGroup.copyBindings();
+
+		bindingGroup.clear();
+		assertThat( bindingGroup.getBindings() ).isEmpty();
+
+		bindingGroup.bindValue( "first", "c", first );
+		assertThat( bindingGroup.getBindings() ).hasSize( 1 );
+		assertThat( bindingGroup.getBindings().iterator().next() ).isSameAs( binding );
+		assertThat( binding.getValue() ).isEqualTo( "c" );
+		// the copy is not affected by the reuse of the group
+		assertThat( copy ).extracting( Binding::getValue ).containsExactly( "a", "b" );
+	}
+
+	private static class Descriptor implements JdbcValueDescriptor {
+		private final String columnName;
+		private final int position;
+
+		private Descriptor(String columnName, int position) {
+			this.columnName = columnName;
+			this.position = position;
+		}
+
+		@Override
+		public String getColumnName() {
+			return columnName;
+		}
+
+		@Override
+		public ParameterUsage getUsage() {
+			return ParameterUsage.SET;
+		}
+
+		@Override
+		public int getJdbcPosition() {
+			return position;
+		}
+
+		@Override
+		public JdbcMapping getJdbcMapping() {
+			return null;
+		}
+	}
+
+	@Entity(name = "Measurement")
+	public static class Measurement {
+		@Id
+		Integer id;
+
+		String sensor;
+
+		double reading;
+
+		public Measurement() {
+		}
+
+		public Measurement(Integer id, String sensor, double reading) {
+			this.id = id;
+			this.sensor = sensor;
+			this.reading = reading;
+		}
+	}
+}
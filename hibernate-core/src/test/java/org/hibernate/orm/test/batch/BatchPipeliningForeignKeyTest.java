@@ -0,0 +1,182 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.BatchSettings;
+
+import org.hibernate.testing.jdbc.ConnectionProviderDelegate;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that a batch filling up while the previous batch executes in the background
+ * waits for it, when its rows reference the rows inserted by the previous batch.
+ * <p>
+ * The parent inserts are slowed down, so that the child inserts would otherwise run first.
+ */
+@DomainModel(
+		annotatedClasses = {
+				BatchPipeliningForeignKeyTest.Parent.class,
+				BatchPipeliningForeignKeyTest.Child.class
+		}
+)
+@SessionFactory
+@ServiceRegistry(
+		settings = {
+				@Setting(name = BatchSettings.STATEMENT_BATCH_SIZE, value = "5"),
+				@Setting(name = BatchSettings.ORDER_INSERTS, value = "true"),
+				@Setting(name = BatchSettings.BATCH_PIPELINING, value = "true"),
+				@Setting(
+						name = AvailableSettings.CONNECTION_PROVIDER,
+						value = "org.hibernate.orm.test.batch.BatchPipeliningForeignKeyTest$SlowParentInsertConnectionProvider"
+				)
+		}
+)
+public class BatchPipeliningForeignKeyTest {
+	private static final int PARENTS = 12;
+	private static final int CHILDREN_PER_PARENT = 3;
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testChildBatchWaitsForParentBatch(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Parent[] parents = new Parent[PARENTS];
+			for ( int i = 0; i < PARENTS; i++ ) {
+				parents[i] = new Parent( i );
+				session.persist( parents[i] );
+			}
+			// the last parents are inserted by the batch executing in the background,
+			// and the first batch of children to fill up references them
+			int id = 0;
+			for ( int i = PARENTS - 1; i >= 0; i-- ) {
+				for ( int j = 0; j < CHILDREN_PER_PARENT; j++ ) {
+					session.persist( new Child( id++, parents[i] ) );
+				}
+			}
+		} );
+
+		scope.inTransaction( session -> {
+			assertThat( session.createSelectionQuery( "select count(*) from Parent", Long.class ).getSingleResult() )
+					.isEqualTo( (long) PARENTS );
+			assertThat( session.createSelectionQuery( "select count(*) from Child", Long.class ).getSingleResult() )
+					.isEqualTo( (long) PARENTS * CHILDREN_PER_PARENT );
+		} );
+	}
+
+	/**
+	 * Delays the execution of the batched parent inserts.
+	 */
+	public static class SlowParentInsertConnectionProvider extends ConnectionProviderDelegate {
+		private static final long DELAY_MILLIS = 200;
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			final Connection connection = super.getConnection();
+			return (Connection) Proxy.newProxyInstance(
+					getClass().getClassLoader(),
+					new Class<?>[] { Connection.class },
+					new ConnectionHandler( connection )
+			);
+		}
+
+		@Override
+		public void closeConnection(Connection connection) throws SQLException {
+			super.closeConnection( ( (ConnectionHandler) Proxy.getInvocationHandler( connection ) ).connection );
+		}
+	}
+
+	private static class ConnectionHandler implements InvocationHandler {
+		private final Connection connection;
+
+		private ConnectionHandler(Connection connection) {
+			this.connection = connection;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			final Object result = invokeOn( connection, method, args );
+			if ( method.getName().equals( "prepareStatement" )
+					&& ( (String) args[0] ).toLowerCase().startsWith( "insert into parent" ) ) {
+				final PreparedStatement statement = (PreparedStatement) result;
+				return Proxy.newProxyInstance(
+						getClass().getClassLoader(),
+						new Class<?>[] { PreparedStatement.class },
+						(statementProxy, statementMethod, statementArgs) -> {
+							if ( statementMethod.getName().equals( "executeBatch" ) ) {
+								Thread.sleep( SlowParentInsertConnectionProvider.DELAY_MILLIS );
+							}
+							return invokeOn( statement, statementMethod, statementArgs );
+						}
+				);
+			}
+			return result;
+		}
+
+		private static Object invokeOn(Object target, Method method, Object[] args) throws Throwable {
+			try {
+				return method.invoke( target, args );
+			}
+			catch (InvocationTargetException e) {
+				throw e.getCause();
+			}
+		}
+	}
+
+	@Entity(name = "Parent")
+	public static class Parent {
+		@Id
+		Integer id;
+
+		public Parent() {
+		}
+
+		public Parent(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Child")
+	public static class Child {
+		@Id
+		Integer id;
+
+		@ManyToOne
+		Parent parent;
+
+		public Child() {
+		}
+
+		public Child(Integer id, Parent parent) {
+			this.id = id;
+			this.parent = parent;
+		}
+	}
+}
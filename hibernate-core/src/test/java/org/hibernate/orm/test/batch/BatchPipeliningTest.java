@@ -0,0 +1,120 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.batch;
+
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.exception.ConstraintViolationException;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DomainModel(
+		annotatedClasses = {
+				BatchPipeliningTest.Customer.class,
+				BatchPipeliningTest.Order.class
+		}
+)
+@SessionFactory
+@ServiceRegistry(
+		settings = {
+				@Setting(name = BatchSettings.STATEMENT_BATCH_SIZE, value = "10"),
+				@Setting(name = BatchSettings.ORDER_INSERTS, value = "true"),
+				@Setting(name = BatchSettings.BATCH_PIPELINING, value = "true")
+		}
+)
+public class BatchPipeliningTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testPipelinedBatches(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 25; i++ ) {
+				final Customer customer = new Customer( i, "customer " + i );
+				session.persist( customer );
+				for ( int j = 0; j < 4; j++ ) {
+					session.persist( new Order( i * 4 + j, customer ) );
+				}
+			}
+		} );
+
+		scope.inTransaction( session -> {
+			assertThat( session.createSelectionQuery( "select count(*) from Customer", Long.class ).getSingleResult() )
+					.isEqualTo( 25L );
+			assertThat( session.createSelectionQuery( "select count(*) from Order_", Long.class ).getSingleResult() )
+					.isEqualTo( 100L );
+		} );
+	}
+
+	@Test
+	public void testFailureOfPipelinedBatch(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Customer( 3, "customer 3" ) ) );
+
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 5; i++ ) {
+				final Customer customer = new Customer( i, "customer " + i );
+				session.persist( customer );
+				session.persist( new Order( i, customer ) );
+			}
+			// the customers are inserted in the background while the orders are bound
+			assertThrows( ConstraintViolationException.class, session::flush );
+			session.getTransaction().markRollbackOnly();
+		} );
+
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Order_", Long.class ).getSingleResult()
+		).isEqualTo( 0L ) );
+	}
+
+	@Entity(name = "Customer")
+	public static class Customer {
+		@Id
+		Integer id;
+
+		String name;
+
+		public Customer() {
+		}
+
+		public Customer(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Order_")
+	public static class Order {
+		@Id
+		Integer id;
+
+		@ManyToOne
+		Customer customer;
+
+		public Order() {
+		}
+
+		public Order(Integer id, Customer customer) {
+			this.id = id;
+			this.customer = customer;
+		}
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.batch;
+
+import org.hibernate.annotations.ColumnTransformer;
+import org.hibernate.cfg.BatchSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(
+		annotatedClasses = {
+				MultiRowInsertBatchTest.Person.class,
+				MultiRowInsertBatchTest.Employee.class,
+				MultiRowInsertBatchTest.Tag.class
+		}
+)
+@SessionFactory(useCollectingStatementInspector = true)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = BatchSettings.STATEMENT_BATCH_SIZE, value = "5"),
+				@Setting(name = BatchSettings.BATCH_MULTI_ROW_INSERTS, value = "true")
+		}
+)
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsValuesListForInsert.class)
+public class MultiRowInsertBatchTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testMultiRowInsert(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 11; i++ ) {
+				session.persist( new Person( i, "person " + i ) );
+			}
+		} );
+
+		// two statements of 5 rows, and one of a single row
+		statementInspector.assertExecutedCount( 3 );
+		assertThat( statementInspector.getSqlQueries().get( 0 ) ).endsWith( "values (?,?),(?,?),(?,?),(?,?),(?,?)" );
+		assertThat( statementInspector.getSqlQueries().get( 2 ) ).endsWith( "values (?,?)" );
+
+		scope.inTransaction( session -> {
+			assertThat( session.createSelectionQuery( "select count(*) from Person", Long.class ).getSingleResult() )
+					.isEqualTo( 11L );
+			assertThat( session.find( Person.class, 7 ).name ).isEqualTo( "person 7" );
+		} );
+	}
+
+	@Test
+	public void testMultiRowInsertJoinedInheritance(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 3; i++ ) {
+				session.persist( new Employee( i, "employee " + i, "department " + i ) );
+			}
+		} );
+
+		// one statement per table
+		statementInspector.assertExecutedCount( 2 );
+
+		scope.inTransaction( session -> {
+			final Employee employee = session.find( Employee.class, 2 );
+			assertThat( employee.name ).isEqualTo( "employee 2" );
+			assertThat( employee.department ).isEqualTo( "department 2" );
+		} );
+	}
+
+	@Test
+	public void testWriteExpressionFallsBackToJdbcBatching(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 3; i++ ) {
+				session.persist( new Tag( i, "tag " + i ) );
+			}
+		} );
+
+		// the column write expression is not repeated for each row
+		assertThat( statementInspector.getSqlQueries() ).noneMatch( sql -> sql.contains( "),(" ) );
+
+		scope.inTransaction( session -> {
+			assertThat( session.createSelectionQuery( "select count(*) from Tag", Long.class ).getSingleResult() )
+					.isEqualTo( 3L );
+			assertThat( session.find( Tag.class, 2 ).name ).isEqualTo( "TAG 2" );
+		} );
+	}
+
+	@Entity(name = "Person")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Person {
+		@Id
+		Integer id;
+
+		String name;
+
+		public Person() {
+		}
+
+		public Person(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee extends Person {
+		String department;
+
+		public Employee() {
+		}
+
+		public Employee(Integer id, String name, String department) {
+			super( id, name );
+			this.department = department;
+		}
+	}
+
+	@Entity(name = "Tag")
+	public static class Tag {
+		@Id
+		Integer id;
+
+		@ColumnTransformer(write = "upper(?)")
+		String name;
+
+		public Tag() {
+		}
+
+		public Tag(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,155 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.List;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(
+		annotatedClasses = {
+				BatchCacheMultiGetTest.Book.class,
+				BatchCacheMultiGetTest.Author.class
+		}
+)
+@SessionFactory(generateStatistics = true, useCollectingStatementInspector = true)
+@ServiceRegistry(settings = @Setting(name = CacheSettings.USE_SECOND_LEVEL_CACHE, value = "true"))
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsStandardArrays.class)
+public class BatchCacheMultiGetTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				final Author author = new Author( i, "author " + i );
+				session.persist( author );
+				session.persist( new Book( i, "book " + i, author ) );
+			}
+		} );
+		scope.getSessionFactory().getCache().evictAllRegions();
+		// put the authors into the second-level cache
+		scope.inTransaction( session -> session.createSelectionQuery( "from Author", Author.class ).getResultList() );
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testBatchResolvedFromCache(SessionFactoryScope scope) {
+		scope.getSessionFactory().getCache().evict( Author.class, 1 );
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction( session -> {
+			final List<Book> books = session.createSelectionQuery( "from Book order by id", Book.class )
+					.getResultList();
+			statistics.clear();
+
+			Hibernate.initialize( books.get( 0 ).author );
+
+			// the rest of the batch was resolved from the cache at once
+			for ( Book book : books ) {
+				assertThat( Hibernate.isInitialized( book.author ) ).isTrue();
+			}
+			assertThat( books.get( 4 ).author.name ).isEqualTo( "author 5" );
+			assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 4 );
+		} );
+
+		// the query, and the select of the author missing from the cache
+		statementInspector.assertExecutedCount( 2 );
+	}
+
+	@Test
+	public void testMultiLoadResolvedFromCache(SessionFactoryScope scope) {
+		scope.getSessionFactory().getCache().evict( Author.class, 3 );
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction( session -> {
+			final List<Author> authors = session.byMultipleIds( Author.class )
+					.with( CacheMode.NORMAL )
+					.multiLoad( 1, 2, 3, 4, 5 );
+			assertThat( authors ).extracting( author -> author.name )
+					.containsExactly( "author 1", "author 2", "author 3", "author 4", "author 5" );
+		} );
+
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 4 );
+		assertThat( statistics.getSecondLevelCacheMissCount() ).isEqualTo( 1 );
+		statementInspector.assertExecutedCount( 1 );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Integer id;
+
+		String title;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+
+	@Entity(name = "Author")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	@BatchSize(size = 10)
+	public static class Author {
+		@Id
+		Integer id;
+
+		String name;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,150 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.cache.spi.entry.CollectionCacheEntry;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+import org.hibernate.cache.spi.support.CompactCacheEntrySerializer;
+import org.hibernate.cache.spi.support.JavaCacheEntrySerializer;
+import org.hibernate.type.SerializationException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CompactCacheEntrySerializerTest {
+	private final CompactCacheEntrySerializer serializer = new CompactCacheEntrySerializer();
+
+	@Test
+	public void testBasicValues() {
+		final Timestamp timestamp = new Timestamp( 123456789L );
+		timestamp.setNanos( 999999999 );
+		final List<Object> values = List.of(
+				true, false, 0, -1, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE, (short) -5, (byte) 3,
+				1.5d, -0.0d, 2.5f, 'x', "", "héllo", new BigDecimal( "-123.4500" ),
+				new BigInteger( "-99999999999999999999" ), UUID.randomUUID(), LocalDate.of( -5, 1, 1 ),
+				LocalTime.MAX, LocalDateTime.of( 2024, 2, 29, 23, 59, 59, 1 ), Instant.ofEpochSecond( -100, 5 ),
+				new Date( 1000L ), new java.sql.Date( -10000L ), new java.sql.Time( 5000L ), timestamp,
+				// these fall back to Java serialization
+				Duration.ofSeconds( 5 ), new ArrayList<>( List.of( 1, 2 ) )
+		);
+		for ( Object value : values ) {
+			final Object result = roundTrip( value );
+			assertEquals( value, result );
+			assertSame( value.getClass(), result.getClass() );
+		}
+		assertNull( roundTrip( null ) );
+		assertSame( LazyPropertyInitializer.UNFETCHED_PROPERTY, roundTrip( LazyPropertyInitializer.UNFETCHED_PROPERTY ) );
+		assertArrayEquals( new byte[] { 1, 2, 3 }, (byte[]) roundTrip( new byte[] { 1, 2, 3 } ) );
+	}
+
+	@Test
+	public void testCacheEntries() {
+		final StandardCacheEntryImpl entry = new StandardCacheEntryImpl(
+				new Serializable[] { "title", 42L, new BigDecimal( "9.99" ), null, LazyPropertyInitializer.UNFETCHED_PROPERTY },
+				"org.acme.Book",
+				3
+		);
+		final StandardCacheEntryImpl result = (StandardCacheEntryImpl) roundTrip( entry );
+		assertEquals( "org.acme.Book", result.getSubclass() );
+		assertEquals( 3, result.getVersion() );
+		assertArrayEquals( entry.getDisassembledState(), result.getDisassembledState() );
+
+		final CollectionCacheEntry collectionEntry = new CollectionCacheEntry( new Serializable[] { 1L, 2L } );
+		assertArrayEquals( collectionEntry.getState(), ( (CollectionCacheEntry) roundTrip( collectionEntry ) ).getState() );
+
+		// much smaller than with Java serialization, even with the entity name written inline
+		assertTrue( serializer.serialize( entry ).length * 5 < JavaCacheEntrySerializer.INSTANCE.serialize( entry ).length );
+	}
+
+	@Test
+	public void testReadByAnotherInstance() {
+		final StandardCacheEntryImpl entry =
+				new StandardCacheEntryImpl( new Serializable[] { "title", 42L }, "org.acme.Book", null );
+		final StandardCacheEntryImpl result = (StandardCacheEntryImpl)
+				new CompactCacheEntrySerializer().deserialize( serializer.serialize( entry ) );
+		assertEquals( "org.acme.Book", result.getSubclass() );
+		assertArrayEquals( entry.getDisassembledState(), result.getDisassembledState() );
+	}
+
+	@Test
+	public void testMalformedData() {
+		final byte[] data = serializer.serialize(
+				new StandardCacheEntryImpl( new Serializable[] { "title", 42L }, "org.acme.Book", null )
+		);
+		for ( int length = 0; length < data.length; length++ ) {
+			final byte[] truncated = Arrays.copyOf( data, length );
+			assertThrows( SerializationException.class, () -> serializer.deserialize( truncated ) );
+		}
+		final byte[] unknownTag = data.clone();
+		unknownTag[5] = 100;
+		assertThrows( SerializationException.class, () -> serializer.deserialize( unknownTag ) );
+	}
+
+	@Test
+	public void testInvalidLengths() {
+		// the length follows the format version, the fingerprint, and the type tag
+		final byte[] string = serializer.serialize( "title" );
+		final byte[] bytes = serializer.serialize( new byte[] { 1, 2, 3 } );
+		final byte[] array = serializer.serialize( new Object[] { "title", 42L } );
+		final byte[][] lengths = {
+				// more than the remaining bytes
+				{ 0x7F },
+				// Integer.MAX_VALUE
+				{ (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07 },
+				// larger than Integer.MAX_VALUE, but a positive int when truncated
+				{ (byte) 0x81, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x10 },
+				// negative
+				{ (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+						(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x01 }
+		};
+		for ( byte[] data : List.of( string, bytes, array ) ) {
+			for ( byte[] length : lengths ) {
+				final byte[] invalid = withLength( data, length );
+				assertThrows( SerializationException.class, () -> serializer.deserialize( invalid ) );
+			}
+		}
+	}
+
+	@Test
+	public void testNonSerializable() {
+		assertNull( serializer.serialize( new Object() ) );
+	}
+
+	private static byte[] withLength(byte[] data, byte[] length) {
+		final byte[] result = new byte[data.length - 1 + length.length];
+		System.arraycopy( data, 0, result, 0, 6 );
+		System.arraycopy( length, 0, result, 6, length.length );
+		System.arraycopy( data, 7, result, 6 + length.length, data.length - 7 );
+		return result;
+	}
+
+	private Object roundTrip(Object value) {
+		return serializer.deserialize( serializer.serialize( value ) );
+	}
+}
@@ -0,0 +1,197 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.internal.OffHeapRegionFactory;
+import org.hibernate.cache.internal.OffHeapStorageAccess;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+import org.hibernate.cache.spi.support.CacheEntrySerializer;
+import org.hibernate.cache.spi.support.CompactCacheEntrySerializer;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+import org.hibernate.type.SerializationException;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Temporal;
+import jakarta.persistence.TemporalType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DomainModel(annotatedClasses = OffHeapRegionFactoryTest.Dog.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.CACHE_REGION_FACTORY, value = "org.hibernate.cache.internal.OffHeapRegionFactory"),
+		@Setting(name = AvailableSettings.CACHE_ENTRY_SERIALIZER, value = CompactCacheEntrySerializer.SHORT_NAME),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class OffHeapRegionFactoryTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Dog" ).executeUpdate() );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testEntityAndCollectionCaching(SessionFactoryScope scope) {
+		assertTrue( scope.getSessionFactory().getCache().getRegionFactory() instanceof OffHeapRegionFactory );
+
+		scope.inTransaction( session -> {
+			final Dog yogi = new Dog( "Yogi", 3 );
+			yogi.born = new Date( 1_000_000L );
+			yogi.nickNames.add( "The Yog" );
+			yogi.nickNames.add( "Little Boy" );
+			session.persist( yogi );
+		} );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final Dog yogi = session.find( Dog.class, "Yogi" );
+			assertEquals( 3, yogi.age );
+			assertEquals( 1_000_000L, yogi.born.getTime() );
+			assertEquals( Set.of( "The Yog", "Little Boy" ), yogi.nickNames );
+			yogi.age = 4;
+		} );
+		assertEquals( 1, statistics.getSecondLevelCacheHitCount() );
+
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final Dog yogi = session.find( Dog.class, "Yogi" );
+			assertEquals( 4, yogi.age );
+			assertEquals( 2, yogi.nickNames.size() );
+		} );
+		assertEquals( 2, statistics.getSecondLevelCacheHitCount() );
+		assertEquals( 0, statistics.getSecondLevelCacheMissCount() );
+	}
+
+	@Test
+	public void testQueryCaching(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Dog( "Irma", 5 ) );
+			session.persist( new Dog( "Yogi", 3 ) );
+		} );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> {
+				final List<String> names = session.createSelectionQuery( "select name from Dog order by name", String.class )
+						.setCacheable( true )
+						.getResultList();
+				assertEquals( List.of( "Irma", "Yogi" ), names );
+			} );
+		}
+		assertEquals( 1, statistics.getQueryCacheMissCount() );
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+	}
+
+	@Test
+	public void testEntriesReadByAnotherSerializer(SessionFactoryScope scope) {
+		final OffHeapRegionFactory regionFactory =
+				(OffHeapRegionFactory) scope.getSessionFactory().getCache().getRegionFactory();
+		final CacheEntrySerializer serializer = regionFactory.getCacheEntrySerializer();
+		assertInstanceOf( CompactCacheEntrySerializer.class, serializer );
+
+		// a java.sql.Timestamp, as loaded for a java.util.Date attribute
+		final Date born = new java.sql.Timestamp( 1_000_000L );
+		final StandardCacheEntryImpl entry = new StandardCacheEntryImpl(
+				new Serializable[] { 3, born, null },
+				Dog.class.getName(),
+				null
+		);
+		final byte[] data = serializer.serialize( entry );
+
+		// another serializer with the same mappings, as in another JVM
+		final CompactCacheEntrySerializer other = new CompactCacheEntrySerializer();
+		other.prepare( scope.getSessionFactory() );
+		final StandardCacheEntryImpl result = (StandardCacheEntryImpl) other.deserialize( data );
+		assertEquals( Dog.class.getName(), result.getSubclass() );
+		assertEquals( 3, result.getDisassembledState()[0] );
+		assertInstanceOf( java.sql.Timestamp.class, result.getDisassembledState()[1] );
+		assertEquals( born, result.getDisassembledState()[1] );
+
+		// a serializer without the same mappings can't read the entity name
+		assertThrows( SerializationException.class, () -> new CompactCacheEntrySerializer().deserialize( data ) );
+	}
+
+	@Test
+	public void testEviction() {
+		final OffHeapStorageAccess storage = new OffHeapStorageAccess( "test", 4096, 64, new CompactCacheEntrySerializer() );
+		final byte[] value = new byte[500];
+		for ( int i = 0; i < 100; i++ ) {
+			storage.putIntoCache( i, value, null );
+			assertTrue( storage.getSizeInBytes() <= 4096 );
+		}
+		// the least recently used entries were evicted
+		assertFalse( storage.contains( 0 ) );
+		assertTrue( storage.contains( 99 ) );
+		assertTrue( storage.getElementCount() < 10 );
+
+		// entries which were read recently are kept
+		storage.getFromCache( 95, null );
+		storage.putIntoCache( 100, value, null );
+		storage.putIntoCache( 101, value, null );
+		assertTrue( storage.contains( 95 ) );
+
+		// entries which can never fit are not cached, and replace any previous value
+		storage.putIntoCache( 99, new byte[5000], null );
+		assertNull( storage.getFromCache( 99, null ) );
+
+		storage.evictData();
+		assertEquals( 0, storage.getElementCount() );
+		assertEquals( 0, storage.getSizeInBytes() );
+	}
+
+	@Entity(name = "Dog")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Dog {
+		@Id
+		String name;
+		int age;
+		@Temporal(TemporalType.TIMESTAMP)
+		Date born;
+		@ElementCollection
+		@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+		Set<String> nickNames = new HashSet<>();
+
+		public Dog() {
+		}
+
+		public Dog(String name, int age) {
+			this.name = name;
+			this.age = age;
+		}
+	}
+}
@@ -0,0 +1,172 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.dirtiness;
+
+import java.util.Date;
+
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Temporal;
+import jakarta.persistence.TemporalType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that dirty checking at flush time, which skips {@code Type#isDirty}
+ * for unchanged attributes of immutable basic types, still detects the
+ * in-place modification of attributes of mutable types.
+ */
+@DomainModel(annotatedClasses = FindDirtyTest.Document.class)
+@SessionFactory(useCollectingStatementInspector = true)
+public class FindDirtyTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Document document = new Document();
+			document.id = 1;
+			document.title = "title";
+			document.pages = 1;
+			document.content = new byte[] { 1, 2, 3 };
+			document.published = new Date( 0L );
+			document.author = new Author( "first", "last" );
+			session.persist( document );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testUnchanged(SessionFactoryScope scope) {
+		assertUpdates( scope, 0, document -> {
+		} );
+	}
+
+	@Test
+	public void testImmutableReplacedByEqualInstance(SessionFactoryScope scope) {
+		// a different, but equal, instance is not the same instance, and is not dirty either
+		assertDirty( scope, document -> document.title = new String( "title" ) );
+		assertUpdates( scope, 0, document -> document.title = new String( "title" ) );
+	}
+
+	@Test
+	public void testImmutableChanged(SessionFactoryScope scope) {
+		assertDirty( scope, document -> document.title = "other", "title" );
+		assertUpdates( scope, 1, document -> document.pages = 2 );
+	}
+
+	@Test
+	public void testArrayModifiedInPlace(SessionFactoryScope scope) {
+		assertDirty( scope, document -> document.content[0] = 42, "content" );
+		assertUpdates( scope, 1, document -> document.content[0] = 42 );
+	}
+
+	@Test
+	public void testDateModifiedInPlace(SessionFactoryScope scope) {
+		assertDirty( scope, document -> document.published.setTime( 1000L ), "published" );
+		assertUpdates( scope, 1, document -> document.published.setTime( 1000L ) );
+	}
+
+	@Test
+	public void testEmbeddableModifiedInPlace(SessionFactoryScope scope) {
+		assertDirty( scope, document -> document.author.lastName = "other", "author" );
+		assertUpdates( scope, 1, document -> document.author.lastName = "other" );
+	}
+
+	private static void assertUpdates(SessionFactoryScope scope, int expectedUpdates, Modification modification) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1 );
+			statementInspector.clear();
+			modification.apply( document );
+			session.flush();
+			assertThat( statementInspector.getSqlQueries() ).hasSize( expectedUpdates );
+		} );
+	}
+
+	private static void assertDirty(SessionFactoryScope scope, Modification modification, String... expectedDirty) {
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1 );
+			final EntityPersister persister = session.getEntityPersister( null, document );
+			final Object[] loadedState = session.getPersistenceContextInternal()
+					.getEntry( document )
+					.getLoadedState();
+			modification.apply( document );
+			final int[] dirty = persister.findDirty(
+					persister.getValues( document ),
+					loadedState,
+					document,
+					session
+			);
+			if ( expectedDirty.length == 0 ) {
+				assertThat( dirty ).isNull();
+			}
+			else {
+				final String[] propertyNames = persister.getPropertyNames();
+				assertThat( dirty ).hasSize( expectedDirty.length );
+				for ( int i = 0; i < dirty.length; i++ ) {
+					assertThat( propertyNames[dirty[i]] ).isEqualTo( expectedDirty[i] );
+				}
+			}
+			// don't flush the modification
+			session.clear();
+		} );
+	}
+
+	@FunctionalInterface
+	private interface Modification {
+		void apply(Document document);
+	}
+
+	@Entity(name = "Document")
+	public static class Document {
+		@Id
+		Integer id;
+
+		String title;
+
+		int pages;
+
+		byte[] content;
+
+		@Temporal(TemporalType.TIMESTAMP)
+		Date published;
+
+		@Embedded
+		Author author;
+	}
+
+	@Embeddable
+	public static class Author {
+		String firstName;
+
+		String lastName;
+
+		public Author() {
+		}
+
+		public Author(String firstName, String lastName) {
+			this.firstName = firstName;
+			this.lastName = lastName;
+		}
+	}
+}
@@ -0,0 +1,202 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.flush;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Transient;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Checks that flushes give the same outcome when
+ * {@value AvailableSettings#PARALLEL_DIRTY_CHECKING_THRESHOLD} is enabled.
+ */
+@DomainModel(annotatedClasses = {
+		ParallelDirtyCheckingTest.Owner.class,
+		ParallelDirtyCheckingTest.Item.class,
+		ParallelDirtyCheckingTest.Editor.class
+})
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.PARALLEL_DIRTY_CHECKING_THRESHOLD, value = "10"))
+@SessionFactory
+public class ParallelDirtyCheckingTest {
+	private static final int ITEMS = 1000;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Owner first = new Owner( 1L, "first" );
+			final Owner second = new Owner( 2L, "second" );
+			session.persist( first );
+			session.persist( second );
+			for ( long i = 0; i < ITEMS; i++ ) {
+				session.persist( new Item( i, "item " + i, (int) i, new Dimensions( 1, 2 ), first ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testUpdates(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Item> items = session.createSelectionQuery( "from Item order by id", Item.class ).getResultList();
+			final Owner second = session.find( Owner.class, 2L );
+			for ( Item item : items ) {
+				final int id = item.id.intValue();
+				if ( id % 3 == 0 ) {
+					item.name = "renamed " + id;
+				}
+				if ( id % 5 == 0 ) {
+					item.dimensions = new Dimensions( 3, 4 );
+				}
+				if ( id % 7 == 0 ) {
+					item.owner = second;
+				}
+				if ( id % 11 == 0 ) {
+					item.description = null;
+				}
+			}
+		} );
+		scope.inTransaction( session -> {
+			final List<Item> items = session.createSelectionQuery( "from Item order by id", Item.class ).getResultList();
+			final Owner first = session.find( Owner.class, 1L );
+			final Owner second = session.find( Owner.class, 2L );
+			assertEquals( ITEMS, items.size() );
+			for ( Item item : items ) {
+				final int id = item.id.intValue();
+				assertEquals( id % 3 == 0 ? "renamed " + id : "item " + id, item.name );
+				assertEquals( id % 5 == 0 ? 3 : 1, item.dimensions.width );
+				assertSame( id % 7 == 0 ? second : first, item.owner );
+				if ( id % 11 == 0 ) {
+					assertNull( item.description );
+				}
+				else {
+					assertEquals( "description " + id, item.description );
+				}
+			}
+		} );
+	}
+
+	@Test
+	public void testChangeOfAnotherEntityInCallbackIsFlushed(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Editor( 1L ) ) );
+		scope.inTransaction( session -> {
+			// the editor is flushed first, and its callback modifies an item flushed later
+			final Editor editor = session.find( Editor.class, 1L );
+			final List<Item> items =
+					session.createSelectionQuery( "from Item order by id", Item.class ).getResultList();
+			editor.editedItem = items.get( 42 );
+			editor.name = "changed";
+		} );
+		scope.inTransaction( session -> {
+			final Item item = session.find( Item.class, 42L );
+			assertEquals( "edited", item.name );
+			assertEquals( "changed", session.find( Editor.class, 1L ).name );
+			assertEquals( "item 41", session.find( Item.class, 41L ).name );
+		} );
+	}
+
+	@Entity(name = "Owner")
+	public static class Owner {
+		@Id
+		Long id;
+		String name;
+
+		public Owner() {
+		}
+
+		public Owner(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Embeddable
+	public static class Dimensions {
+		int width;
+		int height;
+
+		public Dimensions() {
+		}
+
+		public Dimensions(int width, int height) {
+			this.width = width;
+			this.height = height;
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		Long id;
+		String name;
+		String description;
+		@Embedded
+		Dimensions dimensions;
+		@ManyToOne(fetch = FetchType.LAZY)
+		Owner owner;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name, int rank, Dimensions dimensions, Owner owner) {
+			this.id = id;
+			this.name = name;
+			this.description = "description " + rank;
+			this.dimensions = dimensions;
+			this.owner = owner;
+		}
+	}
+
+	@Entity(name = "Editor")
+	public static class Editor {
+		@Id
+		Long id;
+		String name;
+
+		@Transient
+		Item editedItem;
+
+		public Editor() {
+		}
+
+		public Editor(Long id) {
+			this.id = id;
+		}
+
+		@PreUpdate
+		void preUpdate() {
+			if ( editedItem != null ) {
+				editedItem.name = "edited";
+			}
+		}
+	}
+}
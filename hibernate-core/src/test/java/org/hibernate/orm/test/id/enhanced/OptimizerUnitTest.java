@@ -6,9 +6,14 @@
  */
 package org.hibernate.orm.test.id.enhanced;
 
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.id.enhanced.AccessCallback;
+import org.hibernate.id.enhanced.ConcurrentPooledLoOptimizer;
 import org.hibernate.id.enhanced.Optimizer;
 import org.hibernate.id.enhanced.OptimizerFactory;
 import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
@@ -304,6 +309,141 @@ public class OptimizerUnitTest {
 
 	}
 
+	@Test
+	public void testBasicConcurrentPooledLoOptimizerUsage() {
+		final SourceMock sequence = new SourceMock( 1, 50 );
+		final Optimizer optimizer = buildConcurrentPooledLoOptimizer( 1, 50 );
+
+		assertEquals( 0, sequence.getTimesCalled() );
+		assertEquals( -1, sequence.getCurrentValue() );
+
+		Long next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 1, next.intValue() );
+		assertEquals( 1, sequence.getTimesCalled() );
+		assertEquals( 1, sequence.getCurrentValue() );
+
+		for ( int i = 2; i < 26; i++ ) {
+			next = ( Long ) optimizer.generate( sequence );
+			assertEquals( i, next.intValue() );
+		}
+		assertEquals( 1, sequence.getTimesCalled() );
+
+		// half of the block is used, the next one is fetched ahead of time
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 26, next.intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+		assertEquals( 51, sequence.getCurrentValue() );
+
+		// and used once the first block runs out
+		for ( int i = 27; i < 76; i++ ) {
+			next = ( Long ) optimizer.generate( sequence );
+			assertEquals( i, next.intValue() );
+		}
+		assertEquals( 2, sequence.getTimesCalled() );
+
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 76, next.intValue() );
+		assertEquals( 3, sequence.getTimesCalled() );
+		assertEquals( 101, sequence.getCurrentValue() );
+	}
+
+	@Test
+	public void testConcurrentPooledLoOptimizerFailedPrefetch() {
+		final SourceMock sequence = new SourceMock( 1, 50 );
+		final AccessCallback failingOnce = new AccessCallback() {
+			private boolean failed;
+
+			@Override
+			public IntegralDataTypeHolder getNextValue() {
+				if ( sequence.getTimesCalled() == 1 && !failed ) {
+					failed = true;
+					throw new IllegalStateException( "Simulated failure" );
+				}
+				return sequence.getNextValue();
+			}
+
+			@Override
+			public String getTenantIdentifier() {
+				return null;
+			}
+		};
+		final Optimizer optimizer = buildConcurrentPooledLoOptimizer( 1, 50 );
+
+		for ( int i = 1; i < 26; i++ ) {
+			assertEquals( i, ( (Long) optimizer.generate( failingOnce ) ).intValue() );
+		}
+		// the value is handed out although fetching the next block ahead of time fails
+		assertEquals( 26, ( (Long) optimizer.generate( failingOnce ) ).intValue() );
+		assertEquals( 1, sequence.getTimesCalled() );
+
+		for ( int i = 27; i < 51; i++ ) {
+			assertEquals( i, ( (Long) optimizer.generate( failingOnce ) ).intValue() );
+		}
+		assertEquals( 1, sequence.getTimesCalled() );
+
+		// the next block is fetched once the first block runs out
+		assertEquals( 51, ( (Long) optimizer.generate( failingOnce ) ).intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+		assertEquals( 51, sequence.getCurrentValue() );
+	}
+
+	@Test
+	public void testConcurrentPooledLoOptimizerWaits() throws Exception {
+		final SourceMock sequence = new SourceMock( 1, 10 );
+		final AtomicInteger waits = new AtomicInteger();
+		final AccessCallback callback = new AccessCallback() {
+			@Override
+			public IntegralDataTypeHolder getNextValue() {
+				return sequence.getNextValue();
+			}
+
+			@Override
+			public String getTenantIdentifier() {
+				return null;
+			}
+
+			@Override
+			public void onWaitForNextValue() {
+				waits.incrementAndGet();
+			}
+		};
+		// the blocks fetched ahead of time are fetched when the test decides to
+		final Queue<Runnable> fetches = new ConcurrentLinkedQueue<>();
+		final ConcurrentPooledLoOptimizer optimizer = new ConcurrentPooledLoOptimizer( Long.class, 10, 5 );
+
+		// the calling thread has no values yet
+		assertEquals( 1, ( (Long) optimizer.generate( callback, sequence, fetches::add ) ).intValue() );
+		assertEquals( 1, waits.get() );
+		for ( int i = 2; i < 11; i++ ) {
+			assertEquals( i, ( (Long) optimizer.generate( callback, sequence, fetches::add ) ).intValue() );
+			if ( i == 6 ) {
+				// the next block is fetched ahead of time
+				assertEquals( 1, fetches.size() );
+				fetches.poll().run();
+			}
+		}
+		// and is used without waiting once the first block runs out
+		assertEquals( 11, ( (Long) optimizer.generate( callback, sequence, fetches::add ) ).intValue() );
+		assertEquals( 1, waits.get() );
+
+		for ( int i = 12; i < 21; i++ ) {
+			assertEquals( i, ( (Long) optimizer.generate( callback, sequence, fetches::add ) ).intValue() );
+		}
+		// the block fetched ahead of time is still being fetched when the second block runs out
+		assertEquals( 1, fetches.size() );
+		final Thread fetcher = new Thread( () -> {
+			while ( waits.get() < 2 ) {
+				Thread.onSpinWait();
+			}
+			fetches.poll().run();
+		} );
+		fetcher.start();
+		assertEquals( 21, ( (Long) optimizer.generate( callback, sequence, fetches::add ) ).intValue() );
+		fetcher.join();
+		assertEquals( 2, waits.get() );
+		assertEquals( 3, sequence.getTimesCalled() );
+	}
+
 	private static Optimizer buildNoneOptimizer(long initial, int increment) {
 		return buildOptimizer( StandardOptimizerDescriptor.NONE, initial, increment );
 	}
@@ -324,6 +464,10 @@ public class OptimizerUnitTest {
 		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LOTL, initial, increment );
 	}
 
+	private static Optimizer buildConcurrentPooledLoOptimizer(long initial, int increment) {
+		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LO_CONCURRENT, initial, increment );
+	}
+
 	private static Optimizer buildOptimizer(
 			StandardOptimizerDescriptor descriptor,
 			long initial,
@@ -0,0 +1,94 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.idgen.enhanced.sequence;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.id.enhanced.ConcurrentPooledLoOptimizer;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+/**
+ * Checks that the blocks of values of a sequence are fetched ahead of time on a
+ * background thread by the {@link ConcurrentPooledLoOptimizer}.
+ */
+@DomainModel( annotatedClasses = PrefetchSequenceTest.PrefetchedEntity.class )
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.PREFERRED_POOLED_OPTIMIZER, value = "pooled-lo-concurrent" ) )
+@SessionFactory( useCollectingStatementInspector = true )
+public class PrefetchSequenceTest {
+
+	@Test
+	public void testPrefetching(SessionFactoryScope scope) {
+		final EntityPersister persister = scope.getSessionFactory()
+				.getMappingMetamodel()
+				.getEntityDescriptor( PrefetchedEntity.class );
+		final SequenceStyleGenerator generator = assertInstanceOf( SequenceStyleGenerator.class, persister.getGenerator() );
+		final ConcurrentPooledLoOptimizer optimizer =
+				assertInstanceOf( ConcurrentPooledLoOptimizer.class, generator.getOptimizer() );
+
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction(
+				(s) -> {
+					// the blocks are used in the order they were fetched
+					for ( int i = 1; i <= 100; i++ ) {
+						final PrefetchedEntity entity = new PrefetchedEntity( "" + i );
+						s.persist( entity );
+						assertEquals( i, entity.id.longValue() );
+					}
+				}
+		);
+		// the block fetched last may still be in progress
+		optimizer.awaitPrefetchedBlocks();
+		// each block is fetched once
+		assertEquals( 11, generator.getDatabaseStructure().getTimesAccessed() );
+		// only the first block is fetched through the session, the others in the background
+		assertEquals(
+				1,
+				statementInspector.getSqlQueries().stream().filter( sql -> !sql.startsWith( "insert" ) ).count()
+		);
+	}
+
+	@AfterEach
+	public void cleanTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (s) -> s.createMutationQuery( "delete PrefetchedEntity" ).executeUpdate() );
+	}
+
+	@Entity( name = "PrefetchedEntity" )
+	public static class PrefetchedEntity {
+		@Id
+		@GeneratedValue( strategy = GenerationType.SEQUENCE, generator = "prefetched_sequence" )
+		@SequenceGenerator( name = "prefetched_sequence", allocationSize = 10 )
+		Long id;
+
+		String name;
+
+		public PrefetchedEntity() {
+		}
+
+		public PrefetchedEntity(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.idgen.enhanced.table;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.Properties;
+
+import org.hibernate.MappingException;
+import org.hibernate.annotations.IdGeneratorType;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.id.enhanced.ConcurrentPooledLoOptimizer;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.Statistics;
+import org.hibernate.type.Type;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DomainModel( annotatedClasses = PrefetchTableTest.PrefetchedEntity.class )
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" ) )
+@SessionFactory
+public class PrefetchTableTest {
+
+	@Test
+	public void testPrefetching(SessionFactoryScope scope) {
+		final EntityPersister persister = scope.getSessionFactory()
+				.getMappingMetamodel()
+				.getEntityDescriptor( PrefetchedEntity.class );
+		final TableGenerator generator = assertInstanceOf( TableGenerator.class, persister.getGenerator() );
+		assertInstanceOf( ConcurrentPooledLoOptimizer.class, generator.getOptimizer() );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction(
+				(s) -> {
+					// the blocks are used in the order they were fetched
+					for ( int i = 1; i <= 100; i++ ) {
+						final PrefetchedEntity entity = new PrefetchedEntity( "" + i );
+						s.persist( entity );
+						assertEquals( i, entity.id.longValue() );
+					}
+				}
+		);
+		// the block fetched last may still be in progress
+		( (ConcurrentPooledLoOptimizer) generator.getOptimizer() ).awaitPrefetchedBlocks();
+		// each block is fetched once
+		assertEquals( 11, statistics.getIdentifierBlockFetchCount() );
+		assertEquals( 11, generator.getTableAccessCount() );
+		// the thread generating the identifiers fetches the first block, and
+		// might have to wait for some of the blocks being fetched ahead of time
+		final long waitCount = statistics.getIdentifierBlockFetchWaitCount();
+		assertTrue( waitCount >= 1 && waitCount <= 11, "Unexpected wait count: " + waitCount );
+	}
+
+	@AfterEach
+	public void cleanTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (s) -> s.createMutationQuery( "delete PrefetchedEntity" ).executeUpdate() );
+	}
+
+	@Entity( name = "PrefetchedEntity" )
+	public static class PrefetchedEntity {
+		@Id
+		@PrefetchingTable
+		Long id;
+
+		String name;
+
+		public PrefetchedEntity() {
+		}
+
+		public PrefetchedEntity(String name) {
+			this.name = name;
+		}
+	}
+
+	@IdGeneratorType( PrefetchingTableGenerator.class )
+	@Target( { METHOD, FIELD } )
+	@Retention( RUNTIME )
+	public @interface PrefetchingTable {
+	}
+
+	public static class PrefetchingTableGenerator extends TableGenerator {
+		@Override
+		public void configure(Type type, Properties parameters, org.hibernate.service.ServiceRegistry serviceRegistry) throws MappingException {
+			parameters.put( TABLE_PARAM, "ID_TBL_PREFETCH_TBL" );
+			parameters.put( SEGMENT_VALUE_PARAM, "test" );
+			parameters.put( INITIAL_PARAM, "1" );
+			parameters.put( INCREMENT_PARAM, "10" );
+			parameters.put( PREFETCH_LOW_WATERMARK_PARAM, "5" );
+			super.configure( type, parameters, serviceRegistry );
+		}
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.insertordering;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Inserts waiting on each other, here because of an inconsistent bidirectional association,
+ * can't be sorted, and are executed in their original order.
+ */
+public class InsertOrderingCycleFallbackTest extends BaseInsertOrderingTest {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Node.class, Tag.class };
+	}
+
+	@Test
+	public void testCycleKeepsOriginalOrder() {
+		sessionFactoryScope().inTransaction( session -> {
+			final Node first = new Node( 1 );
+			final Node second = new Node( 2 );
+			// each node is an element of the children of the other one, but has no parent
+			first.children.add( second );
+			second.children.add( first );
+			session.persist( first );
+			session.persist( new Tag( 1 ) );
+			session.persist( second );
+			session.persist( new Tag( 2 ) );
+
+			clearBatches();
+		} );
+
+		// one batch per insert, since the inserts of the two entities alternate
+		verifyPreparedStatementCount( 4 );
+
+		sessionFactoryScope().inTransaction( session -> {
+			assertThat( session.createSelectionQuery( "select count(*) from Node", Long.class ).getSingleResult() )
+					.isEqualTo( 2L );
+			assertThat( session.createSelectionQuery( "select count(*) from Tag", Long.class ).getSingleResult() )
+					.isEqualTo( 2L );
+		} );
+	}
+
+	@Test
+	public void testWithoutCycle() {
+		sessionFactoryScope().inTransaction( session -> {
+			final Node first = new Node( 3 );
+			final Node second = new Node( 4 );
+			second.parent = first;
+			first.children.add( second );
+			session.persist( first );
+			session.persist( new Tag( 3 ) );
+			session.persist( second );
+			session.persist( new Tag( 4 ) );
+
+			clearBatches();
+		} );
+
+		verifyContainsBatches(
+				new Batch( "insert into Node (parent_id,id) values (?,?)", 2 ),
+				new Batch( "insert into Tag (id) values (?)", 2 )
+		);
+	}
+
+	@Entity(name = "Node")
+	public static class Node {
+		@Id
+		Integer id;
+
+		@ManyToOne
+		Node parent;
+
+		@OneToMany(mappedBy = "parent")
+		List<Node> children = new ArrayList<>();
+
+		public Node() {
+		}
+
+		public Node(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Tag")
+	public static class Tag {
+		@Id
+		Integer id;
+
+		public Tag() {
+		}
+
+		public Tag(Integer id) {
+			this.id = id;
+		}
+	}
+}
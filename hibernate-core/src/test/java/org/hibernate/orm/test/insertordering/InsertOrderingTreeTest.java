@@ -0,0 +1,86 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.insertordering;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Inserts of a self-referencing entity, interleaved with inserts of another entity
+ * referencing it, are still grouped into one batch per entity.
+ */
+public class InsertOrderingTreeTest extends BaseInsertOrderingTest {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Category.class, Item.class };
+	}
+
+	@Test
+	public void testBatching() {
+		sessionFactoryScope().inTransaction( session -> {
+			Category parent = null;
+			for ( int i = 0; i < 4; i++ ) {
+				final Category category = new Category( "category " + i, parent );
+				session.persist( category );
+				session.persist( new Item( "item " + i, category ) );
+				parent = category;
+			}
+
+			clearBatches();
+		} );
+
+		verifyContainsBatches(
+				new Batch( "insert into Category (name,parent_id,id) values (?,?,?)", 4 ),
+				new Batch( "insert into Item (category_id,name,id) values (?,?,?)", 4 )
+		);
+	}
+
+	@Entity(name = "Category")
+	public static class Category {
+		@Id
+		@GeneratedValue
+		Long id;
+
+		String name;
+
+		@ManyToOne
+		Category parent;
+
+		public Category() {
+		}
+
+		public Category(String name, Category parent) {
+			this.name = name;
+			this.parent = parent;
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		@GeneratedValue
+		Long id;
+
+		String name;
+
+		@ManyToOne
+		Category category;
+
+		public Item() {
+		}
+
+		public Item(String name, Category category) {
+			this.name = name;
+			this.category = category;
+		}
+	}
+}
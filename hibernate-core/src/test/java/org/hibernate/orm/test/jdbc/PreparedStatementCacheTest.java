@@ -0,0 +1,110 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.jdbc;
+
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = PreparedStatementCacheTest.Item.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = @Setting(name = JdbcSettings.STATEMENT_CACHE_SIZE, value = "10"))
+public class PreparedStatementCacheTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testStatementsReusedAcrossFlushes(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				session.persist( new Item( i, "item " + i ) );
+				session.flush();
+			}
+		} );
+
+		assertThat( statistics.getPreparedStatementCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getPreparedStatementCacheHitCount() ).isEqualTo( 2 );
+		// statements obtained from the cache are not prepared again
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testStatementsReusedAcrossQueries(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Item( 1, "hammer" ) );
+			session.persist( new Item( 2, "saw" ) );
+		} );
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			for ( String name : new String[] { "hammer", "saw", "drill" } ) {
+				final Item item = session.createSelectionQuery( "from Item where name = :name", Item.class )
+						.setParameter( "name", name )
+						.getSingleResultOrNull();
+				// the parameters of the previous execution don't leak into the next one
+				assertThat( item == null ? null : item.name ).isEqualTo( "drill".equals( name ) ? null : name );
+			}
+		} );
+
+		assertThat( statistics.getPreparedStatementCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getPreparedStatementCacheHitCount() ).isEqualTo( 2 );
+		// statements obtained from the cache are not prepared again
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testCacheClearedOnConnectionRelease(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		scope.inSession( session -> {
+			scope.inTransaction( session, s -> s.createSelectionQuery( "from Item", Item.class ).getResultList() );
+			// the connection was released at the end of the transaction
+			scope.inTransaction( session, s -> s.createSelectionQuery( "from Item", Item.class ).getResultList() );
+		} );
+
+		assertThat( statistics.getPreparedStatementCacheMissCount() ).isEqualTo( 2 );
+		assertThat( statistics.getPreparedStatementCacheHitCount() ).isEqualTo( 0 );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		Integer id;
+
+		String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,359 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.jdbc;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MonitorInfo;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.hibernate.MappingException;
+import org.hibernate.annotations.IdGeneratorType;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.id.IncrementGenerator;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.hibernate.type.Type;
+
+import org.hibernate.testing.jdbc.ConnectionProviderDelegate;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Checks that the identifier generators don't hold a monitor while they query the database,
+ * which would pin a virtual thread to its carrier thread until the database responds.
+ * <p>
+ * The entities are inserted by several concurrent threads. On every JDK, platform threads
+ * check that no monitor acquired by Hibernate is held whenever a statement is prepared.
+ * When the JDK supports virtual threads, the inserts are repeated on virtual threads, and
+ * pinning is observed through the {@code jdk.VirtualThreadPinned} JFR event. The queries
+ * of the generators are slowed down, so that the threads park while waiting for them.
+ */
+@DomainModel(
+		annotatedClasses = {
+				VirtualThreadPinningTest.IncrementEvent.class,
+				VirtualThreadPinningTest.SequenceEvent.class,
+				VirtualThreadPinningTest.TableEvent.class,
+				VirtualThreadPinningTest.PrefetchingTableEvent.class
+		}
+)
+@ServiceRegistry(
+		settings = @Setting(
+				name = AvailableSettings.CONNECTION_PROVIDER,
+				value = "org.hibernate.orm.test.jdbc.VirtualThreadPinningTest$MonitorCheckingConnectionProvider"
+		)
+)
+@SessionFactory
+public class VirtualThreadPinningTest {
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+	private static final long SLEEP_MILLIS = 20;
+	private static final int THREADS = 8;
+	private static final int INSERTS_PER_THREAD = 10;
+
+	private static final Queue<String> HELD_MONITORS = new ConcurrentLinkedQueue<>();
+
+	@BeforeEach
+	public void clearHeldMonitors() {
+		HELD_MONITORS.clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testPinningIsRecorded() throws Exception {
+		final int jdkVersion = Runtime.version().feature();
+		// from JDK 24 on, virtual threads are no longer pinned by monitors (JEP 491)
+		assumeTrue( jdkVersion >= 21 && jdkVersion < 24, "Requires a JDK between 21 and 23" );
+		// make sure that the recording would report pinning by a monitor
+		final Object monitor = new Object();
+		final ExecutorService executor = newVirtualThreadPerTaskExecutor();
+		try {
+			final List<RecordedEvent> events = recordPinning( () -> executor.submit( () -> {
+				synchronized ( monitor ) {
+					Thread.sleep( SLEEP_MILLIS * 5 );
+				}
+				return null;
+			} ).get() );
+			assertEquals( 1, events.size() );
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testIncrementGenerator(SessionFactoryScope scope) throws Exception {
+		checkConcurrentInserts( scope, IncrementEvent.class, IncrementEvent::new );
+	}
+
+	@Test
+	public void testPooledSequenceGenerator(SessionFactoryScope scope) throws Exception {
+		checkConcurrentInserts( scope, SequenceEvent.class, SequenceEvent::new );
+	}
+
+	@Test
+	public void testPooledTableGenerator(SessionFactoryScope scope) throws Exception {
+		checkConcurrentInserts( scope, TableEvent.class, TableEvent::new );
+	}
+
+	@Test
+	public void testPrefetchingTableGenerator(SessionFactoryScope scope) throws Exception {
+		checkConcurrentInserts( scope, PrefetchingTableEvent.class, PrefetchingTableEvent::new );
+	}
+
+	private static void checkConcurrentInserts(
+			SessionFactoryScope scope,
+			Class<?> entityClass,
+			Supplier<Object> entities) throws Exception {
+		insertConcurrently( scope, entities, Executors.newFixedThreadPool( THREADS ) );
+		assertTrue( HELD_MONITORS.isEmpty(), () -> "Monitors held while preparing a statement: " + HELD_MONITORS );
+		int expectedCount = THREADS * INSERTS_PER_THREAD;
+
+		final ExecutorService virtualThreads = newVirtualThreadPerTaskExecutor();
+		if ( virtualThreads != null ) {
+			final List<RecordedEvent> events = recordPinning( () -> {
+				insertConcurrently( scope, entities, virtualThreads );
+				return null;
+			} );
+			assertTrue( events.isEmpty(), () -> "Virtual thread pinned: " + events );
+			expectedCount *= 2;
+		}
+
+		final long count = expectedCount;
+		scope.inTransaction( session -> assertEquals(
+				count,
+				session.createSelectionQuery(
+						"select count(distinct id) from " + entityClass.getSimpleName(),
+						Long.class
+				).getSingleResult()
+		) );
+	}
+
+	private static void insertConcurrently(
+			SessionFactoryScope scope,
+			Supplier<Object> entities,
+			ExecutorService executor) throws Exception {
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int i = 0; i < THREADS; i++ ) {
+				futures.add( executor.submit( () -> {
+					for ( int j = 0; j < INSERTS_PER_THREAD; j++ ) {
+						scope.inTransaction( session -> session.persist( entities.get() ) );
+					}
+					return null;
+				} ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get( 1, TimeUnit.MINUTES );
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Creates an executor running each task on a new virtual thread, or returns {@code null}
+	 * if the JDK doesn't support virtual threads. Reflectively, since the tests are compiled
+	 * for the baseline JDK.
+	 */
+	private static ExecutorService newVirtualThreadPerTaskExecutor() throws Exception {
+		try {
+			return (ExecutorService) Executors.class.getMethod( "newVirtualThreadPerTaskExecutor" ).invoke( null );
+		}
+		catch (NoSuchMethodException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Runs the task, and returns the pinning events with a stack trace going through this
+	 * class, to ignore virtual threads run by other tests.
+	 */
+	private static List<RecordedEvent> recordPinning(Callable<?> task) throws Exception {
+		final Path file = Files.createTempFile( "pinning", ".jfr" );
+		try ( Recording recording = new Recording() ) {
+			recording.enable( PINNED_EVENT ).withStackTrace().withThreshold( Duration.ofMillis( SLEEP_MILLIS / 2 ) );
+			recording.start();
+			task.call();
+			recording.stop();
+			recording.dump( file );
+			return RecordingFile.readAllEvents( file ).stream()
+					.filter( event -> event.getEventType().getName().equals( PINNED_EVENT ) )
+					.filter( event -> event.getStackTrace() != null && event.getStackTrace().getFrames().stream()
+							.anyMatch( frame -> frame.getMethod().getType().getName()
+									.startsWith( VirtualThreadPinningTest.class.getName() ) ) )
+					.collect( Collectors.toList() );
+		}
+		finally {
+			Files.deleteIfExists( file );
+		}
+	}
+
+	/**
+	 * Records the monitors acquired by Hibernate which a platform thread holds when it prepares
+	 * a statement, and slows down the queries of the generators.
+	 */
+	public static class MonitorCheckingConnectionProvider extends ConnectionProviderDelegate {
+		@Override
+		public Connection getConnection() throws SQLException {
+			final Connection connection = super.getConnection();
+			return (Connection) Proxy.newProxyInstance(
+					getClass().getClassLoader(),
+					new Class<?>[] { Connection.class },
+					new ConnectionHandler( connection )
+			);
+		}
+
+		@Override
+		public void closeConnection(Connection connection) throws SQLException {
+			super.closeConnection( ( (ConnectionHandler) Proxy.getInvocationHandler( connection ) ).connection );
+		}
+	}
+
+	private static class ConnectionHandler implements InvocationHandler {
+		private final Connection connection;
+
+		private ConnectionHandler(Connection connection) {
+			this.connection = connection;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			if ( method.getName().equals( "prepareStatement" ) ) {
+				recordHeldMonitors();
+				final String sql = ( (String) args[0] ).toLowerCase();
+				if ( sql.startsWith( "select" ) || sql.startsWith( "update" ) ) {
+					Thread.sleep( SLEEP_MILLIS );
+				}
+			}
+			try {
+				return method.invoke( connection, args );
+			}
+			catch (InvocationTargetException e) {
+				throw e.getCause();
+			}
+		}
+
+		private static void recordHeldMonitors() {
+			final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+			if ( threadMXBean.isObjectMonitorUsageSupported() ) {
+				final ThreadInfo[] threadInfos =
+						threadMXBean.getThreadInfo( new long[] { Thread.currentThread().getId() }, true, false );
+				// there is no information about virtual threads
+				if ( threadInfos[0] != null ) {
+					for ( MonitorInfo monitor : threadInfos[0].getLockedMonitors() ) {
+						final String className = monitor.getLockedStackFrame().getClassName();
+						if ( className.startsWith( "org.hibernate." ) && !className.startsWith( "org.hibernate.orm.test." ) ) {
+							HELD_MONITORS.add( monitor + " locked at " + monitor.getLockedStackFrame() );
+						}
+					}
+				}
+			}
+		}
+	}
+
+	@Entity(name = "IncrementEvent")
+	public static class IncrementEvent {
+		@Id
+		@Increment
+		Long id;
+	}
+
+	@Entity(name = "SequenceEvent")
+	public static class SequenceEvent {
+		@Id
+		@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_sequence")
+		@SequenceGenerator(name = "event_sequence", allocationSize = 5)
+		Long id;
+	}
+
+	@Entity(name = "TableEvent")
+	public static class TableEvent {
+		@Id
+		@GeneratedValue(strategy = GenerationType.TABLE, generator = "event_table")
+		@jakarta.persistence.TableGenerator(name = "event_table", allocationSize = 5)
+		Long id;
+	}
+
+	@Entity(name = "PrefetchingTableEvent")
+	public static class PrefetchingTableEvent {
+		@Id
+		@PrefetchingTable
+		Long id;
+	}
+
+	@IdGeneratorType(IncrementGenerator.class)
+	@Target({ METHOD, FIELD })
+	@Retention(RUNTIME)
+	public @interface Increment {
+	}
+
+	@IdGeneratorType(PrefetchingTableGenerator.class)
+	@Target({ METHOD, FIELD })
+	@Retention(RUNTIME)
+	public @interface PrefetchingTable {
+	}
+
+	public static class PrefetchingTableGenerator extends TableGenerator {
+		@Override
+		public void configure(Type type, Properties parameters, org.hibernate.service.ServiceRegistry serviceRegistry)
+				throws MappingException {
+			parameters.put( TABLE_PARAM, "prefetching_table" );
+			parameters.put( INCREMENT_PARAM, "5" );
+			parameters.put( PREFETCH_LOW_WATERMARK_PARAM, "2" );
+			super.configure( type, parameters, serviceRegistry );
+		}
+	}
+}
@@ -0,0 +1,198 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.pc;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the persistence context lookups behave identically when
+ * {@value AvailableSettings#PRIMITIVE_IDENTIFIER_INDEX} is enabled.
+ */
+@DomainModel(annotatedClasses = {
+		PrimitiveIdentifierIndexTest.LongEntity.class,
+		PrimitiveIdentifierIndexTest.IntEntity.class,
+		PrimitiveIdentifierIndexTest.IdentityEntity.class,
+		PrimitiveIdentifierIndexTest.StringEntity.class
+})
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.PRIMITIVE_IDENTIFIER_INDEX, value = "true"))
+@SessionFactory
+public class PrimitiveIdentifierIndexTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testLookups(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final LongEntity longEntity = new LongEntity( 1L );
+			final IntEntity intEntity = new IntEntity( 1 );
+			final StringEntity stringEntity = new StringEntity( "1" );
+			session.persist( longEntity );
+			session.persist( intEntity );
+			session.persist( stringEntity );
+
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			final EntityKey longKey = key( session, LongEntity.class, 1L );
+			final EntityKey intKey = key( session, IntEntity.class, 1 );
+			assertSame( longEntity, persistenceContext.getEntity( longKey ) );
+			assertSame( intEntity, persistenceContext.getEntity( intKey ) );
+			assertSame( stringEntity, persistenceContext.getEntity( key( session, StringEntity.class, "1" ) ) );
+			assertTrue( persistenceContext.containsEntity( longKey ) );
+			assertNotNull( persistenceContext.getEntityHolder( longKey ) );
+			assertNull( persistenceContext.getEntity( key( session, LongEntity.class, 2L ) ) );
+
+			assertSame( longEntity, session.find( LongEntity.class, 1L ) );
+
+			session.remove( longEntity );
+			session.flush();
+			assertFalse( persistenceContext.containsEntity( longKey ) );
+			assertNull( persistenceContext.getEntityHolder( longKey ) );
+			assertSame( intEntity, persistenceContext.getEntity( intKey ) );
+
+			session.clear();
+			assertNull( persistenceContext.getEntity( intKey ) );
+			assertNotNull( session.find( IntEntity.class, 1 ) );
+			assertTrue( persistenceContext.containsEntity( intKey ) );
+		} );
+	}
+
+	@Test
+	public void testProxyAndEviction(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new LongEntity( 5L ) ) );
+		scope.inTransaction( session -> {
+			final LongEntity reference = session.getReference( LongEntity.class, 5L );
+			final EntityKey key = key( session, LongEntity.class, 5L );
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			assertSame( reference, persistenceContext.getProxy( key ) );
+			assertNull( persistenceContext.getEntity( key ) );
+
+			final LongEntity loaded = session.find( LongEntity.class, 5L );
+			assertSame( reference, loaded );
+			assertTrue( persistenceContext.containsEntity( key ) );
+
+			session.evict( loaded );
+			assertFalse( persistenceContext.containsEntity( key ) );
+			assertNull( persistenceContext.getEntityHolder( key ) );
+		} );
+	}
+
+	@Test
+	public void testGeneratedIdentity(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final IdentityEntity entity = new IdentityEntity();
+			session.persist( entity );
+			assertNotNull( entity.id );
+			assertSame(
+					entity,
+					session.getPersistenceContextInternal().getEntity( key( session, IdentityEntity.class, entity.id ) )
+			);
+		} );
+	}
+
+	@Test
+	public void testLookupsByIdentifier(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final LongEntity longEntity = new LongEntity( 1L );
+			final StringEntity stringEntity = new StringEntity( "1" );
+			session.persist( longEntity );
+			session.persist( stringEntity );
+
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			final EntityPersister longPersister = persister( session, LongEntity.class );
+			final EntityPersister stringPersister = persister( session, StringEntity.class );
+			assertSame( longEntity, persistenceContext.getEntity( 1L, longPersister ) );
+			assertSame( longEntity, persistenceContext.getEntityHolder( 1L, longPersister ).getEntity() );
+			assertNull( persistenceContext.getEntity( 2L, longPersister ) );
+			assertNull( persistenceContext.getEntityHolder( 2L, longPersister ) );
+			// not indexed, hence looked up by EntityKey
+			assertSame( stringEntity, persistenceContext.getEntity( "1", stringPersister ) );
+
+			session.evict( longEntity );
+			assertNull( persistenceContext.getEntity( 1L, longPersister ) );
+		} );
+	}
+
+	private static EntityPersister persister(SessionImplementor session, Class<?> entityClass) {
+		return session.getFactory().getMappingMetamodel().getEntityDescriptor( entityClass );
+	}
+
+	private static EntityKey key(SessionImplementor session, Class<?> entityClass, Object id) {
+		final EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor( entityClass );
+		return session.generateEntityKey( id, persister );
+	}
+
+	@Entity(name = "LongEntity")
+	public static class LongEntity {
+		@Id
+		Long id;
+
+		public LongEntity() {
+		}
+
+		public LongEntity(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "IntEntity")
+	public static class IntEntity {
+		@Id
+		int id;
+
+		public IntEntity() {
+		}
+
+		public IntEntity(int id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "IdentityEntity")
+	public static class IdentityEntity {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		Long id;
+	}
+
+	@Entity(name = "StringEntity")
+	public static class StringEntity {
+		@Id
+		String id;
+
+		public StringEntity() {
+		}
+
+		public StringEntity(String id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,187 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+
+import org.hibernate.query.spi.QueryInterpretationCache;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Converter;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The binding of IN-clause parameters as arrays, run against the dialects selected by the subclasses,
+ * which also enable {@link org.hibernate.cfg.QuerySettings#IN_CLAUSE_PARAMETER_ARRAY}.
+ */
+@DomainModel(annotatedClasses = AbstractInClauseParameterArrayTest.Person.class)
+@SessionFactory(useCollectingStatementInspector = true)
+public abstract class AbstractInClauseParameterArrayTest {
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i < 10; i++ ) {
+				final Person person = new Person();
+				person.id = i;
+				person.name = "Person " + i;
+				person.status = i % 2 == 0 ? Status.ACTIVE : Status.RETIRED;
+				person.code = new Code( "P" + i );
+				session.persist( person );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testSameSqlWhateverTheNumberOfValues(SessionFactoryScope scope) {
+		final QueryInterpretationCache interpretationCache =
+				scope.getSessionFactory().getQueryEngine().getInterpretationCache();
+		final int cachedQueryPlans = interpretationCache.getNumberOfCachedQueryPlans();
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		assertThat( findIds( scope, List.of( 1 ) ) ).containsExactly( 1 );
+		assertThat( findIds( scope, List.of( 1, 2, 3 ) ) ).containsExactly( 1, 2, 3 );
+		assertThat( findIds( scope, List.of( 2, 4, 6, 8, 10, 12, 14 ) ) ).containsExactly( 2, 4, 6, 8 );
+		assertThat( findIds( scope, List.of() ) ).isEmpty();
+
+		final List<String> sqlQueries = statementInspector.getSqlQueries();
+		assertThat( sqlQueries ).hasSize( 4 );
+		assertThat( sqlQueries ).containsOnly( sqlQueries.get( 0 ) );
+		assertThat( interpretationCache.getNumberOfCachedQueryPlans() ).isEqualTo( cachedQueryPlans + 1 );
+	}
+
+	@Test
+	public void testSingleValuedBinding(SessionFactoryScope scope) {
+		final String hql = "select p.id from Person p where p.id in :ids order by p.id";
+		scope.inSession( session -> {
+			assertThat( session.createSelectionQuery( hql, Integer.class )
+					.setParameter( "ids", 5 )
+					.getResultList() ).containsExactly( 5 );
+			assertThat( session.createSelectionQuery( hql, Integer.class )
+					.setParameterList( "ids", List.of( 5, 6 ) )
+					.getResultList() ).containsExactly( 5, 6 );
+		} );
+	}
+
+	@Test
+	public void testNotIn(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final List<Integer> ids = session.createSelectionQuery(
+							"select p.id from Person p where p.name not in :names order by p.id",
+							Integer.class
+					)
+					.setParameterList( "names", List.of( "Person 1", "Person 2", "Person 3", "Person 4" ) )
+					.getResultList();
+			assertThat( ids ).containsExactly( 5, 6, 7, 8, 9 );
+		} );
+	}
+
+	@Test
+	public void testEnumValues(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final List<Integer> ids = session.createSelectionQuery(
+							"select p.id from Person p where p.status in :statuses order by p.id",
+							Integer.class
+					)
+					.setParameterList( "statuses", List.of( Status.ACTIVE ) )
+					.getResultList();
+			assertThat( ids ).containsExactly( 2, 4, 6, 8 );
+		} );
+	}
+
+	@Test
+	public void testConvertedValues(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final List<Integer> ids = session.createSelectionQuery(
+							"select p.id from Person p where p.code in :codes order by p.id",
+							Integer.class
+					)
+					.setParameterList( "codes", List.of( new Code( "P3" ), new Code( "P7" ), new Code( "P42" ) ) )
+					.getResultList();
+			assertThat( ids ).containsExactly( 3, 7 );
+		} );
+	}
+
+	protected static List<Integer> findIds(SessionFactoryScope scope, List<Integer> ids) {
+		return scope.fromSession( session -> session.createSelectionQuery(
+						"select p.id from Person p where p.id in :ids order by p.id asc",
+						Integer.class
+				)
+				.setParameterList( "ids", ids )
+				.getResultList() );
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+		@Id
+		Integer id;
+
+		String name;
+
+		@Enumerated(EnumType.STRING)
+		Status status;
+
+		@Convert(converter = CodeConverter.class)
+		Code code;
+	}
+
+	public enum Status {
+		ACTIVE,
+		RETIRED
+	}
+
+	public static class Code {
+		final String value;
+
+		public Code(String value) {
+			this.value = value;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof Code && value.equals( ( (Code) o ).value );
+		}
+
+		@Override
+		public int hashCode() {
+			return value.hashCode();
+		}
+	}
+
+	@Converter
+	public static class CodeConverter implements AttributeConverter<Code, String> {
+		@Override
+		public String convertToDatabaseColumn(Code code) {
+			return code == null ? null : code.value;
+		}
+
+		@Override
+		public Code convertToEntityAttribute(String value) {
+			return value == null ? null : new Code( value );
+		}
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.dialect.DatabaseVersion;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.jdbc.dialect.spi.DialectResolutionInfo;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the binding of IN-clause parameters as arrays on H2, for which
+ * {@link H2Dialect#useArrayForMultiValuedParameters()} is otherwise disabled.
+ *
+ * @see InClauseParameterArrayTest
+ */
+@ServiceRegistry(
+		settings = @Setting(name = QuerySettings.IN_CLAUSE_PARAMETER_ARRAY, value = "true"),
+		settingProviders = @SettingProvider(
+				provider = InClauseParameterArrayH2Test.TestSettingProvider.class,
+				settingName = AvailableSettings.DIALECT
+		)
+)
+@RequiresDialect(H2Dialect.class)
+public class InClauseParameterArrayH2Test extends AbstractInClauseParameterArrayTest {
+
+	public static class TestSettingProvider implements SettingProvider.Provider<String> {
+		@Override
+		public String getSetting() {
+			return TestDialect.class.getName();
+		}
+	}
+
+	public static class TestDialect extends H2Dialect {
+		public TestDialect(DialectResolutionInfo info) {
+			super( info );
+		}
+
+		public TestDialect() {
+		}
+
+		public TestDialect(DatabaseVersion version) {
+			super( version );
+		}
+
+		@Override
+		public boolean useArrayForMultiValuedParameters() {
+			return true;
+		}
+	}
+
+	@Test
+	public void testBoundAsArray(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		assertThat( findIds( scope, List.of( 1, 2, 3 ) ) ).containsExactly( 1, 2, 3 );
+
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+		assertThat( statementInspector.getSqlQueries().get( 0 ) ).contains( "array_contains(" );
+	}
+}
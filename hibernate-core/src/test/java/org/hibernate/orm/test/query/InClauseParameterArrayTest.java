@@ -0,0 +1,19 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import org.hibernate.cfg.QuerySettings;
+
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.Setting;
+
+@ServiceRegistry(settings = @Setting(name = QuerySettings.IN_CLAUSE_PARAMETER_ARRAY, value = "true"))
+@RequiresDialectFeature(feature = DialectFeatureChecks.UsesArrayForMultiValuedParameters.class)
+public class InClauseParameterArrayTest extends AbstractInClauseParameterArrayTest {
+}
@@ -0,0 +1,123 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Tuple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Queries returning only basic values are read by the
+ * {@link org.hibernate.sql.results.internal.ScalarRowReader}.
+ */
+@DomainModel(annotatedClasses = ScalarRowReaderTest.Book.class)
+@SessionFactory
+public class ScalarRowReaderTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Book( 1L, "Dune", Genre.FICTION, true ) );
+			session.persist( new Book( 2L, "Cosmos", Genre.SCIENCE, false ) );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testSingleValue(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<String> titles = session.createSelectionQuery( "select title from Book order by id", String.class )
+					.getResultList();
+			assertThat( titles ).containsExactly( "Dune", "Cosmos" );
+		} );
+	}
+
+	@Test
+	public void testConvertedValues(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Object[]> rows = session.createSelectionQuery(
+					"select id, genre, available, id + 1 from Book order by id",
+					Object[].class
+			).getResultList();
+			assertThat( rows ).hasSize( 2 );
+			assertThat( rows.get( 0 ) ).containsExactly( 1L, Genre.FICTION, true, 2L );
+			assertThat( rows.get( 1 ) ).containsExactly( 2L, Genre.SCIENCE, false, 3L );
+		} );
+	}
+
+	@Test
+	public void testTuple(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Tuple tuple = session.createSelectionQuery(
+					"select title as title, genre as genre from Book where id = 2",
+					Tuple.class
+			).getSingleResult();
+			assertThat( tuple.get( "title" ) ).isEqualTo( "Cosmos" );
+			assertThat( tuple.get( "genre" ) ).isEqualTo( Genre.SCIENCE );
+		} );
+	}
+
+	public enum Genre {
+		FICTION,
+		SCIENCE
+	}
+
+	public static class YesNoConverter implements AttributeConverter<Boolean, String> {
+		@Override
+		public String convertToDatabaseColumn(Boolean attribute) {
+			return attribute == null ? null : attribute ? "Y" : "N";
+		}
+
+		@Override
+		public Boolean convertToEntityAttribute(String dbData) {
+			return dbData == null ? null : dbData.equals( "Y" );
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Long id;
+
+		String title;
+
+		@Enumerated(EnumType.STRING)
+		Genre genre;
+
+		@Convert(converter = YesNoConverter.class)
+		Boolean available;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title, Genre genre, Boolean available) {
+			this.id = id;
+			this.title = title;
+			this.genre = genre;
+			this.available = available;
+		}
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query.hql;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.spi.QueryInterpretationCache;
+
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class QueryInterpretationCacheSnapshotTest {
+
+	private static final String QUERY = "from Book where title = :title";
+
+	@Test
+	public void testSnapshot(@TempDir Path tempDir) {
+		final Path snapshot = tempDir.resolve( "queries.bin" );
+
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( snapshot, Book.class ) ) {
+			sessionFactory.inSession( session -> session.createSelectionQuery( QUERY, Book.class ) );
+			sessionFactory.inSession( session -> session.createSelectionQuery( "select count(*) from Book" ) );
+		}
+		assertThat( snapshot ).exists();
+
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( snapshot, Book.class ) ) {
+			final Map<String, Class<?>> interpretations = interpretations( sessionFactory );
+			assertThat( interpretations ).containsEntry( QUERY, Book.class );
+			assertThat( interpretations ).containsEntry( "select count(*) from Book", null );
+		}
+	}
+
+	@Test
+	public void testStaleSnapshot(@TempDir Path tempDir) throws Exception {
+		final Path snapshot = tempDir.resolve( "queries.bin" );
+
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( snapshot, Book.class ) ) {
+			sessionFactory.inSession( session -> session.createSelectionQuery( QUERY, Book.class ) );
+		}
+		final byte[] saved = Files.readAllBytes( snapshot );
+
+		// the mapping model changed
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( snapshot, Book.class, Author.class ) ) {
+			assertThat( interpretations( sessionFactory ) ).isEmpty();
+		}
+		assertThat( Files.readAllBytes( snapshot ) ).isNotEqualTo( saved );
+	}
+
+	@Test
+	public void testCorruptedSnapshot(@TempDir Path tempDir) throws Exception {
+		final Path snapshot = tempDir.resolve( "queries.bin" );
+
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( snapshot, Book.class ) ) {
+			sessionFactory.inSession( session -> session.createSelectionQuery( QUERY, Book.class ) );
+		}
+		final byte[] saved = Files.readAllBytes( snapshot );
+		// the format version, the fingerprint, and the number of queries precede the length of the first query
+		final int lengthOffset = 4 + 2 + ( ( saved[4] & 0xFF ) << 8 | saved[5] & 0xFF ) + 4;
+
+		for ( int length : new int[] { Integer.MAX_VALUE, -1, saved.length } ) {
+			final byte[] corrupted = saved.clone();
+			ByteBuffer.wrap( corrupted ).putInt( lengthOffset, length );
+			Files.write( snapshot, corrupted );
+			try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( snapshot, Book.class ) ) {
+				assertThat( interpretations( sessionFactory ) ).isEmpty();
+			}
+		}
+
+		// truncated
+		Files.write( snapshot, Arrays.copyOf( saved, saved.length - 3 ) );
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( snapshot, Book.class ) ) {
+			assertThat( interpretations( sessionFactory ) ).isEmpty();
+		}
+	}
+
+	private static Map<String, Class<?>> interpretations(SessionFactoryImplementor sessionFactory) {
+		final QueryInterpretationCache interpretationCache = sessionFactory.getQueryEngine().getInterpretationCache();
+		final Map<String, Class<?>> interpretations = new HashMap<>();
+		interpretationCache.forEachHqlInterpretation( interpretations::put );
+		return interpretations;
+	}
+
+	private static SessionFactoryImplementor buildSessionFactory(Path snapshot, Class<?>... annotatedClasses) {
+		final StandardServiceRegistry registry = ServiceRegistryUtil.serviceRegistryBuilder()
+				.applySetting( QuerySettings.QUERY_PLAN_CACHE_SNAPSHOT, snapshot.toString() )
+				.build();
+		try {
+			final MetadataSources metadataSources = new MetadataSources( registry );
+			for ( Class<?> annotatedClass : annotatedClasses ) {
+				metadataSources.addAnnotatedClass( annotatedClass );
+			}
+			return (SessionFactoryImplementor) metadataSources.buildMetadata().buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( registry );
+			throw e;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Long id;
+
+		String title;
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		Long id;
+
+		String name;
+	}
+}
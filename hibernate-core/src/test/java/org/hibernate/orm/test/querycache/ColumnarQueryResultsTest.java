@@ -0,0 +1,161 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.cache.internal.ColumnarQueryResults;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = ColumnarQueryResultsTest.Reading.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = @Setting(name = CacheSettings.USE_QUERY_CACHE, value = "true"))
+public class ColumnarQueryResultsTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				session.persist( new Reading( (long) i, i % 3 == 0 ? null : "sensor " + i % 2, i * 0.5, i % 4 == 0 ) );
+			}
+		} );
+		scope.getSessionFactory().getCache().evictQueryRegions();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testCachedRows(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		final List<Object[]> rows = selectRows( scope );
+		assertThat( statistics.getQueryCachePutCount() ).isEqualTo( 1 );
+
+		final List<Object[]> cachedRows = selectRows( scope );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( cachedRows ).hasSize( 10 );
+		for ( int i = 0; i < rows.size(); i++ ) {
+			assertThat( cachedRows.get( i ) ).containsExactly( rows.get( i ) );
+		}
+	}
+
+	@Test
+	public void testCachedEntities(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		selectEntities( scope );
+		final List<Reading> readings = selectEntities( scope );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( readings ).hasSize( 10 );
+		for ( Reading reading : readings ) {
+			final long i = reading.id;
+			assertThat( reading.sensor ).isEqualTo( i % 3 == 0 ? null : "sensor " + i % 2 );
+			assertThat( reading.reading ).isEqualTo( i * 0.5 );
+			assertThat( reading.alert ).isEqualTo( i % 4 == 0 );
+		}
+	}
+
+	@Test
+	public void testListView() {
+		final List<Object> results = new ArrayList<>();
+		for ( int i = 0; i < 6; i++ ) {
+			results.add( new Object[] {
+					(long) i,
+					i == 2 ? null : i,
+					"value " + i % 2,
+					i % 2 == 0,
+					BigDecimal.valueOf( i ),
+					i % 2 == 0 ? 1L : 1
+			} );
+		}
+
+		final ColumnarQueryResults columnarResults = ColumnarQueryResults.from( results );
+		assertThat( columnarResults ).isNotNull();
+		assertThat( columnarResults.isArrayRows() ).isTrue();
+		assertThat( columnarResults ).hasSize( 6 );
+		for ( int i = 0; i < 6; i++ ) {
+			assertThat( (Object[]) columnarResults.get( i ) ).containsExactly( (Object[]) results.get( i ) );
+			assertThat( columnarResults.getValue( i, 1 ) ).isEqualTo( ( (Object[]) results.get( i ) )[1] );
+		}
+
+		final List<?> deserialized = (List<?>) SerializationHelper.clone( columnarResults );
+		assertThat( deserialized.get( 3 ) ).isEqualTo( new Object[] { 3L, 3, "value 1", false, BigDecimal.valueOf( 3 ), 1 } );
+	}
+
+	@Test
+	public void testSingleValues() {
+		final ColumnarQueryResults columnarResults = ColumnarQueryResults.from( Arrays.asList( 1L, null, 3L ) );
+		assertThat( columnarResults ).isNotNull();
+		assertThat( columnarResults.isArrayRows() ).isFalse();
+		assertThat( columnarResults ).containsExactly( 1L, null, 3L );
+	}
+
+	@Test
+	public void testUnsupportedResults() {
+		assertThat( ColumnarQueryResults.from( List.of() ) ).isNull();
+		assertThat( ColumnarQueryResults.from( List.of( new Object[] { 1 }, new Object[] { 1, 2 } ) ) ).isNull();
+		assertThat( ColumnarQueryResults.from( List.of( new Object[] { 1 }, 2 ) ) ).isNull();
+	}
+
+	private static List<Object[]> selectRows(SessionFactoryScope scope) {
+		return scope.fromTransaction( session -> session.createSelectionQuery(
+						"select id, sensor, reading, alert from Reading order by id",
+						Object[].class
+				)
+				.setCacheable( true )
+				.getResultList() );
+	}
+
+	private static List<Reading> selectEntities(SessionFactoryScope scope) {
+		return scope.fromTransaction( session -> session.createSelectionQuery( "from Reading order by id", Reading.class )
+				.setCacheable( true )
+				.getResultList() );
+	}
+
+	@Entity(name = "Reading")
+	public static class Reading {
+		@Id
+		Long id;
+
+		String sensor;
+
+		double reading;
+
+		boolean alert;
+
+		public Reading() {
+		}
+
+		public Reading(Long id, String sensor, double reading, boolean alert) {
+			this.id = id;
+			this.sensor = sensor;
+			this.reading = reading;
+			this.alert = alert;
+		}
+	}
+}
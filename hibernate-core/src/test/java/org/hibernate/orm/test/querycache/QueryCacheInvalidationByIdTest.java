@@ -0,0 +1,182 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.cache.spi.QueryResultsDependencies;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = QueryCacheInvalidationByIdTest.Product.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = CacheSettings.USE_QUERY_CACHE, value = "true"),
+				@Setting(name = CacheSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+				@Setting(name = CacheSettings.QUERY_CACHE_INVALIDATION_BY_ID, value = "true")
+		}
+)
+public class QueryCacheInvalidationByIdTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Product( 1L, "hammer", "tools" ) );
+			session.persist( new Product( 2L, "saw", "tools" ) );
+			session.persist( new Product( 3L, "apple", "fruit" ) );
+		} );
+		scope.getSessionFactory().getCache().evictQueryRegions();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testUpdateOfOtherEntity(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		assertThat( findByIds( scope, List.of( 1L, 2L ), true ) ).hasSize( 2 );
+		assertThat( statistics.getQueryCachePutCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> session.find( Product.class, 3L ).name = "pear" );
+
+		assertThat( findByIds( scope, List.of( 1L, 2L ), true ) ).hasSize( 2 );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testUpdateOfCachedEntity(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		assertThat( findByIds( scope, List.of( 1L, 2L ), true ) ).hasSize( 2 );
+
+		scope.inTransaction( session -> session.find( Product.class, 2L ).name = "jigsaw" );
+
+		assertThat( findByIds( scope, List.of( 1L, 2L ), true ) )
+				.extracting( product -> product.name )
+				.containsExactlyInAnyOrder( "hammer", "jigsaw" );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 0 );
+		assertThat( statistics.getQueryCachePutCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testDeletionOfCachedEntity(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		assertThat( findByIds( scope, List.of( 1L, 2L ), true ) ).hasSize( 2 );
+
+		scope.inTransaction( session -> session.remove( session.find( Product.class, 1L ) ) );
+
+		assertThat( findByIds( scope, List.of( 1L, 2L ), true ) ).hasSize( 1 );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testInsertion(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		assertThat( findByIds( scope, List.of( 1L, 2L, 4L ), true ) ).hasSize( 2 );
+
+		scope.inTransaction( session -> session.persist( new Product( 4L, "drill", "tools" ) ) );
+
+		assertThat( findByIds( scope, List.of( 1L, 2L, 4L ), true ) ).hasSize( 3 );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testWithoutHint(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		assertThat( findByIds( scope, List.of( 1L, 2L ), false ) ).hasSize( 2 );
+
+		scope.inTransaction( session -> session.find( Product.class, 3L ).name = "pear" );
+
+		assertThat( findByIds( scope, List.of( 1L, 2L ), false ) ).hasSize( 2 );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testHintIgnoredWithoutIdentifierRestriction(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		assertThat( findByCategory( scope, "tools" ) ).hasSize( 2 );
+
+		// the update of an entity which is not in the results adds it to the results
+		scope.inTransaction( session -> session.find( Product.class, 3L ).category = "tools" );
+
+		assertThat( findByCategory( scope, "tools" ) ).hasSize( 3 );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testRowKeysBounded(SessionFactoryScope scope) {
+		final EntityPersister persister =
+				scope.getSessionFactory().getMappingMetamodel().getEntityDescriptor( Product.class );
+		final Set<String> rowKeys = new HashSet<>();
+		for ( long id = 0; id < 10_000; id++ ) {
+			rowKeys.add( QueryResultsDependencies.rowKey( "Product", persister, id ) );
+		}
+		assertThat( rowKeys ).hasSize( QueryResultsDependencies.ROW_BUCKETS );
+	}
+
+	private static List<Product> findByIds(SessionFactoryScope scope, List<Long> ids, boolean byId) {
+		return scope.fromTransaction( session -> session.createQuery(
+						"from Product where id in :ids",
+						Product.class
+				)
+				.setParameter( "ids", ids )
+				.setHint( HibernateHints.HINT_CACHE_INVALIDATION_BY_ID, byId )
+				.setCacheable( true )
+				.getResultList() );
+	}
+
+	private static List<Product> findByCategory(SessionFactoryScope scope, String category) {
+		return scope.fromTransaction( session -> session.createQuery(
+						"from Product where category = :category",
+						Product.class
+				)
+				.setParameter( "category", category )
+				.setHint( HibernateHints.HINT_CACHE_INVALIDATION_BY_ID, true )
+				.setCacheable( true )
+				.getResultList() );
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		Long id;
+
+		String name;
+
+		String category;
+
+		public Product() {
+		}
+
+		public Product(Long id, String name, String category) {
+			this.id = id;
+			this.name = name;
+			this.category = category;
+		}
+	}
+}
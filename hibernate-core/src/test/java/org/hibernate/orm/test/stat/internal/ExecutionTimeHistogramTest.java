@@ -0,0 +1,71 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stat.internal;
+
+import org.hibernate.stat.internal.ExecutionTimeHistogramImpl;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ExecutionTimeHistogramTest {
+
+	@Test
+	public void testEmpty() {
+		final ExecutionTimeHistogramImpl histogram = new ExecutionTimeHistogramImpl();
+		assertThat( histogram.getCount() ).isZero();
+		assertThat( histogram.getMinTime() ).isZero();
+		assertThat( histogram.getMaxTime() ).isZero();
+		assertThat( histogram.getMedian() ).isZero();
+		assertThat( histogram.get999thPercentile() ).isZero();
+	}
+
+	@Test
+	public void testSmallValuesAreExact() {
+		final ExecutionTimeHistogramImpl histogram = new ExecutionTimeHistogramImpl();
+		for ( int time = 1; time <= 10; time++ ) {
+			histogram.record( time );
+		}
+		assertThat( histogram.getCount() ).isEqualTo( 10 );
+		assertThat( histogram.getTotalTime() ).isEqualTo( 55 );
+		assertThat( histogram.getMinTime() ).isEqualTo( 1 );
+		assertThat( histogram.getMaxTime() ).isEqualTo( 10 );
+		assertThat( histogram.getMedian() ).isEqualTo( 5 );
+		assertThat( histogram.getValueAtPercentile( 90 ) ).isEqualTo( 9 );
+		assertThat( histogram.get99thPercentile() ).isEqualTo( 10 );
+	}
+
+	@Test
+	public void testPercentiles() {
+		final ExecutionTimeHistogramImpl histogram = new ExecutionTimeHistogramImpl();
+		for ( int time = 1; time <= 10_000; time++ ) {
+			histogram.record( time );
+		}
+		assertThat( histogram.getMedian() ).isBetween( 5_000L, 5_320L );
+		assertThat( histogram.get99thPercentile() ).isBetween( 9_900L, 10_000L );
+		assertThat( histogram.get999thPercentile() ).isBetween( 9_990L, 10_000L );
+		assertThat( histogram.getMaxTime() ).isEqualTo( 10_000 );
+	}
+
+	@Test
+	public void testOutlier() {
+		final ExecutionTimeHistogramImpl histogram = new ExecutionTimeHistogramImpl();
+		for ( int i = 0; i < 999; i++ ) {
+			histogram.record( 3 );
+		}
+		histogram.record( 60_000 );
+		assertThat( histogram.getMedian() ).isEqualTo( 3 );
+		assertThat( histogram.get99thPercentile() ).isEqualTo( 3 );
+		assertThat( histogram.getValueAtPercentile( 100 ) ).isEqualTo( 60_000 );
+		assertThat( histogram.getMaxTime() ).isEqualTo( 60_000 );
+
+		histogram.reset();
+		assertThat( histogram.getCount() ).isZero();
+		assertThat( histogram.getMaxTime() ).isZero();
+		assertThat( histogram.get99thPercentile() ).isZero();
+	}
+}
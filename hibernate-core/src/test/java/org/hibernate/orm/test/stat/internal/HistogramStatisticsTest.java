@@ -0,0 +1,152 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stat.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.stat.ExecutionTimeHistogram;
+import org.hibernate.stat.HistogramStatistics;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = HistogramStatisticsTest.Employee.class)
+@ServiceRegistry(settings = {
+		@Setting(name = StatisticsSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = StatisticsSettings.STATISTICS_HISTOGRAMS, value = "true")
+})
+@SessionFactory
+public class HistogramStatisticsTest {
+	private static final String QUERY = "select e from Employee e where e.name like :name";
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				final Employee employee = new Employee();
+				employee.id = i;
+				employee.name = "Employee " + i;
+				session.persist( employee );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@BeforeEach
+	public void clearStatistics(SessionFactoryScope scope) {
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@Test
+	public void testQueryExecutionTimes(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( statistics ).isInstanceOf( HistogramStatistics.class );
+		final HistogramStatistics histogramStatistics = (HistogramStatistics) statistics;
+
+		final List<Integer> listenedRows = new ArrayList<>();
+		final HistogramStatistics.ExecutionListener listener = new HistogramStatistics.ExecutionListener() {
+			@Override
+			public void queryExecuted(String queryString, int rows, long time) {
+				if ( QUERY.equals( queryString ) ) {
+					listenedRows.add( rows );
+				}
+			}
+		};
+		histogramStatistics.addExecutionListener( listener );
+		try {
+			scope.inSession( session -> {
+				for ( int i = 0; i < 3; i++ ) {
+					assertThat( session.createSelectionQuery( QUERY, Employee.class )
+							.setParameter( "name", "Employee%" )
+							.getResultList() ).hasSize( 5 );
+				}
+			} );
+		}
+		finally {
+			histogramStatistics.removeExecutionListener( listener );
+		}
+
+		final ExecutionTimeHistogram histogram = histogramStatistics.getQueryExecutionTimeHistogram( QUERY );
+		assertThat( histogram.getCount() ).isEqualTo( 3 );
+		assertThat( histogram.getMedian() ).isBetween( histogram.getMinTime(), histogram.getMaxTime() );
+		assertThat( histogram.get999thPercentile() ).isEqualTo( histogram.getMaxTime() );
+		assertThat( histogramStatistics.getQueryExecutionTimeHistogram().getCount() ).isEqualTo( 3 );
+		assertThat( listenedRows ).containsExactly( 5, 5, 5 );
+
+		final QueryStatistics queryStatistics = statistics.getQueryStatistics( QUERY );
+		assertThat( queryStatistics.getExecutionCount() ).isEqualTo( 3 );
+		assertThat( queryStatistics.getExecutionRowCount() ).isEqualTo( 15 );
+		assertThat( queryStatistics.getExecutionTotalTime() ).isEqualTo( histogram.getTotalTime() );
+		assertThat( queryStatistics.getExecutionMaxTime() ).isEqualTo( histogram.getMaxTime() );
+		assertThat( statistics.getQueryExecutionCount() ).isEqualTo( 3 );
+		assertThat( statistics.getQueryExecutionMaxTime() ).isEqualTo( histogram.getMaxTime() );
+		assertThat( statistics.getQueryExecutionMaxTimeQueryString() ).isEqualTo( QUERY );
+
+		statistics.clear();
+		assertThat( histogramStatistics.getQueryExecutionTimeHistogram().getCount() ).isZero();
+		assertThat( histogramStatistics.getQueryExecutionTimeHistogram( QUERY ) ).isNull();
+		assertThat( statistics.getQueryExecutionMaxTimeQueryString() ).isNull();
+		assertThat( statistics.getQueryStatistics( QUERY ).getExecutionMinTime() ).isEqualTo( Long.MAX_VALUE );
+	}
+
+	@Test
+	public void testNaturalIdExecutionTimes(SessionFactoryScope scope) {
+		final HistogramStatistics statistics = (HistogramStatistics) scope.getSessionFactory().getStatistics();
+
+		scope.inSession( session -> assertThat( session.bySimpleNaturalId( Employee.class ).load( "Employee 2" ) )
+				.isNotNull() );
+
+		final long executions = statistics.getNaturalIdStatistics( Employee.class.getName() ).getExecutionCount();
+		assertThat( executions ).isPositive();
+		assertThat( statistics.getNaturalIdQueryExecutionTimeHistogram( Employee.class.getName() ).getCount() )
+				.isEqualTo( executions );
+		assertThat( statistics.getNaturalIdQueryExecutionTimeHistogram().getCount() )
+				.isEqualTo( statistics.getNaturalIdQueryExecutionCount() );
+		assertThat( statistics.getNaturalIdQueryExecutionMaxTime() )
+				.isEqualTo( statistics.getNaturalIdQueryExecutionTimeHistogram().getMaxTime() );
+		assertThat( statistics.getNaturalIdQueryExecutionMaxTimeEntity() ).isEqualTo( Employee.class.getName() );
+	}
+
+	@Test
+	public void testHistogramOfUnknownQuery(SessionFactoryScope scope) {
+		final HistogramStatistics statistics = (HistogramStatistics) scope.getSessionFactory().getStatistics();
+		assertThat( statistics.getQueryExecutionTimeHistogram( "select e from Employee e" ) ).isNull();
+		assertThat( statistics.getNaturalIdQueryExecutionTimeHistogram( Employee.class.getName() ) ).isNull();
+		// the lookups don't create statistics
+		assertThat( statistics.getQueries() ).doesNotContain( "select e from Employee e" );
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		Integer id;
+
+		@NaturalId
+		String name;
+	}
+}
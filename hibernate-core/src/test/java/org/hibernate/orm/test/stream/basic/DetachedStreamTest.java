@@ -0,0 +1,132 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.stream.basic;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DomainModel(annotatedClasses = { DetachedStreamTest.Book.class, DetachedStreamTest.Publisher.class })
+@SessionFactory
+public class DetachedStreamTest {
+	private static final int BOOKS = 100;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Publisher publisher = new Publisher( 1, "Acme" );
+			session.persist( publisher );
+			for ( int i = 0; i < BOOKS; i++ ) {
+				session.persist( new Book( i, "Book " + i, publisher ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testDetachedStream(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final AtomicReference<Book> previous = new AtomicReference<>();
+			final AtomicInteger count = new AtomicInteger();
+			try ( Stream<Book> books = session.createSelectionQuery( "from Book order by id", Book.class )
+					.setHint( HibernateHints.HINT_DETACH_STREAMED_RESULTS, true )
+					.stream() ) {
+				books.forEach( book -> {
+					assertTrue( session.contains( book ) );
+					if ( previous.get() != null ) {
+						assertFalse( session.contains( previous.get() ) );
+					}
+					// the persistence context does not grow
+					assertEquals( 1, session.getPersistenceContextInternal().getNumberOfManagedEntities() );
+					previous.set( book );
+					count.incrementAndGet();
+				} );
+			}
+			assertEquals( BOOKS, count.get() );
+		} );
+	}
+
+	@Test
+	public void testPreviouslyManagedEntitiesStayManaged(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Publisher publisher = session.find( Publisher.class, 1 );
+			try ( Stream<Book> books = session.createSelectionQuery( "from Book b join fetch b.publisher", Book.class )
+					.setHint( HibernateHints.HINT_DETACH_STREAMED_RESULTS, true )
+					.stream() ) {
+				assertEquals( BOOKS, books.filter( book -> book.publisher == publisher ).count() );
+			}
+			// not detached by cascade from the books
+			assertTrue( session.contains( publisher ) );
+		} );
+	}
+
+	@Test
+	public void testStreamWithoutDetaching(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			try ( Stream<Book> books = session.createSelectionQuery( "from Book", Book.class ).stream() ) {
+				assertEquals( BOOKS, books.count() );
+			}
+			assertEquals( BOOKS, session.getPersistenceContextInternal().getNumberOfManagedEntities() );
+		} );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+		@ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.DETACH)
+		Publisher publisher;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Publisher publisher) {
+			this.id = id;
+			this.title = title;
+			this.publisher = publisher;
+		}
+	}
+
+	@Entity(name = "Publisher")
+	public static class Publisher {
+		@Id
+		Integer id;
+		String name;
+
+		public Publisher() {
+		}
+
+		public Publisher(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
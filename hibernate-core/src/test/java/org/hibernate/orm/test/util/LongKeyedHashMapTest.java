@@ -0,0 +1,78 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.hibernate.internal.util.collections.LongKeyedHashMap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LongKeyedHashMapTest {
+	@Test
+	public void testPutGetRemove() {
+		final LongKeyedHashMap<String> map = new LongKeyedHashMap<>();
+		assertTrue( map.isEmpty() );
+		assertNull( map.put( 1L, "one" ) );
+		assertNull( map.put( 0L, "zero" ) );
+		assertNull( map.put( -1L, "minus one" ) );
+		assertNull( map.put( Long.MAX_VALUE, "max" ) );
+		assertEquals( 4, map.size() );
+		assertEquals( "one", map.get( 1L ) );
+		assertEquals( "zero", map.get( 0L ) );
+		assertEquals( "minus one", map.get( -1L ) );
+		assertEquals( "max", map.get( Long.MAX_VALUE ) );
+		assertNull( map.get( 2L ) );
+
+		assertEquals( "one", map.put( 1L, "uno" ) );
+		assertEquals( 4, map.size() );
+		assertEquals( "uno", map.remove( 1L ) );
+		assertNull( map.remove( 1L ) );
+		assertFalse( map.containsKey( 1L ) );
+		assertEquals( 3, map.size() );
+
+		map.clear();
+		assertTrue( map.isEmpty() );
+		assertNull( map.get( 0L ) );
+	}
+
+	@Test
+	public void testNullValuesRejected() {
+		assertThrows( NullPointerException.class, () -> new LongKeyedHashMap<>().put( 1L, null ) );
+	}
+
+	@Test
+	public void testAgainstHashMap() {
+		final Random random = new Random( 42 );
+		final LongKeyedHashMap<Long> map = new LongKeyedHashMap<>( 4 );
+		final Map<Long, Long> reference = new HashMap<>();
+		for ( int i = 0; i < 100_000; i++ ) {
+			// colliding high bits as well as dense low values
+			final long key = random.nextInt( 1000 ) * ( i % 2 == 0 ? 1L : 1L << 32 );
+			switch ( random.nextInt( 3 ) ) {
+				case 0:
+					assertEquals( reference.put( key, (long) i ), map.put( key, (long) i ) );
+					break;
+				case 1:
+					assertEquals( reference.remove( key ), map.remove( key ) );
+					break;
+				default:
+					assertEquals( reference.get( key ), map.get( key ) );
+			}
+			assertEquals( reference.size(), map.size() );
+		}
+		reference.forEach( (key, value) -> assertEquals( value, map.get( key ) ) );
+	}
+}
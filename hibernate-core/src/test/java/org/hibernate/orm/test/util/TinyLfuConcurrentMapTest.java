@@ -0,0 +1,170 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.internal.util.collections.TinyLfuConcurrentMap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TinyLfuConcurrentMapTest {
+	@Test
+	public void testMapOperations() {
+		final TinyLfuConcurrentMap<String, String> map = new TinyLfuConcurrentMap<>( 10 );
+		assertTrue( map.isEmpty() );
+		assertNull( map.put( "one", "1" ) );
+		assertNull( map.putIfAbsent( "two", "2" ) );
+		assertEquals( "2", map.putIfAbsent( "two", "deux" ) );
+		assertEquals( "1", map.put( "one", "un" ) );
+		assertEquals( "un", map.get( "one" ) );
+		assertEquals( 2, map.size() );
+
+		assertEquals( "2", map.replace( "two", "deux" ) );
+		assertFalse( map.replace( "two", "2", "zwei" ) );
+		assertTrue( map.replace( "two", "deux", "zwei" ) );
+		assertFalse( map.remove( "two", "deux" ) );
+		assertTrue( map.remove( "two", "zwei" ) );
+		assertEquals( "un", map.remove( "one" ) );
+		assertNull( map.remove( "one" ) );
+		assertTrue( map.isEmpty() );
+
+		assertEquals( "3", map.computeIfAbsent( "three", key -> "3" ) );
+		assertEquals( 1, map.keySet().size() );
+		map.clear();
+		assertNull( map.get( "three" ) );
+		assertTrue( map.isEmpty() );
+	}
+
+	@Test
+	public void testNullValuesRejected() {
+		assertThrows( NullPointerException.class, () -> new TinyLfuConcurrentMap<>( 10 ).put( "key", null ) );
+	}
+
+	@Test
+	public void testAgainstHashMap() {
+		final Random random = new Random( 42 );
+		// large enough to never evict
+		final TinyLfuConcurrentMap<Integer, Integer> map = new TinyLfuConcurrentMap<>( 1000 );
+		final Map<Integer, Integer> reference = new HashMap<>();
+		for ( int i = 0; i < 100_000; i++ ) {
+			final int key = random.nextInt( 1000 );
+			switch ( random.nextInt( 3 ) ) {
+				case 0:
+					assertEquals( reference.put( key, i ), map.put( key, i ) );
+					break;
+				case 1:
+					assertEquals( reference.remove( key ), map.remove( key ) );
+					break;
+				default:
+					assertEquals( reference.get( key ), map.get( key ) );
+			}
+			assertEquals( reference.size(), map.size() );
+		}
+	}
+
+	@Test
+	public void testBounded() {
+		final TinyLfuConcurrentMap<Integer, Integer> map = new TinyLfuConcurrentMap<>( 100 );
+		for ( int i = 0; i < 10_000; i++ ) {
+			map.put( i, i );
+			assertTrue( map.size() <= 100 );
+		}
+		assertEquals( 100, map.size() );
+	}
+
+	@Test
+	public void testEvictionListener() {
+		final Map<Integer, Integer> evicted = new HashMap<>();
+		final TinyLfuConcurrentMap<Integer, Integer> map = new TinyLfuConcurrentMap<>( 100, evicted::put );
+		for ( int i = 0; i < 1_000; i++ ) {
+			map.put( i, i );
+		}
+		map.remove( 999 );
+		assertEquals( 99, map.size() );
+		assertEquals( 900, evicted.size() );
+		for ( Map.Entry<Integer, Integer> entry : evicted.entrySet() ) {
+			assertEquals( entry.getKey(), entry.getValue() );
+			assertFalse( map.containsKey( entry.getKey() ) );
+		}
+	}
+
+	@Test
+	public void testScanResistance() {
+		final TinyLfuConcurrentMap<Integer, Integer> map = new TinyLfuConcurrentMap<>( 100 );
+		for ( int i = 0; i < 50; i++ ) {
+			map.put( i, i );
+		}
+		for ( int round = 0; round < 10; round++ ) {
+			for ( int i = 0; i < 50; i++ ) {
+				assertEquals( i, map.get( i ) );
+			}
+		}
+
+		// keys used only once don't displace the frequently used ones
+		for ( int i = 1000; i < 11_000; i++ ) {
+			map.put( i, i );
+		}
+		for ( int i = 0; i < 50; i++ ) {
+			assertTrue( map.containsKey( i ), "evicted hot key " + i );
+		}
+	}
+
+	@Test
+	public void testConcurrentAccess() throws Exception {
+		final TinyLfuConcurrentMap<Integer, Integer> map = new TinyLfuConcurrentMap<>( 100 );
+		final ExecutorService executor = Executors.newFixedThreadPool( 8 );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int thread = 0; thread < 8; thread++ ) {
+				futures.add( executor.submit( () -> {
+					final ThreadLocalRandom random = ThreadLocalRandom.current();
+					for ( int i = 0; i < 50_000; i++ ) {
+						final int key = random.nextInt( 1000 );
+						switch ( random.nextInt( 4 ) ) {
+							case 0:
+								map.put( key, key * 2 );
+								break;
+							case 1:
+								map.remove( key );
+								break;
+							default:
+								final Integer value = map.get( key );
+								assertTrue( value == null || value == key * 2 );
+						}
+					}
+				} ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get( 1, TimeUnit.MINUTES );
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		// the next write drains the buffers and evicts
+		map.put( -1, -2 );
+		assertTrue( map.size() <= 100 );
+		map.forEach( (key, value) -> assertEquals( key * 2, value ) );
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.persister.entity;
+
+import org.hibernate.FetchMode;
+import org.hibernate.engine.spi.CascadeStyles;
+import org.hibernate.tuple.NonIdentifierAttribute;
+import org.hibernate.tuple.StandardProperty;
+import org.hibernate.type.AbstractSingleColumnStandardBasicType;
+import org.hibernate.type.descriptor.java.MutabilityPlan;
+import org.hibernate.type.descriptor.java.StringJavaType;
+import org.hibernate.type.descriptor.jdbc.VarcharJdbcType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that {@link DirtyHelper#findDirty} recognizes unchanged attributes
+ * of immutable basic types without calling {@code Type#isDirty}.
+ */
+public class DirtyHelperTest {
+	private static final boolean[][] INCLUDE_COLUMNS = { { true } };
+
+	private CountingStringType type;
+	private NonIdentifierAttribute[] properties;
+
+	@BeforeEach
+	@SuppressWarnings("removal")
+	public void setUp() {
+		type = new CountingStringType();
+		properties = new NonIdentifierAttribute[] {
+				new StandardProperty(
+						"name",
+						type,
+						false,
+						true,
+						true,
+						true,
+						true,
+						true,
+						CascadeStyles.NONE,
+						FetchMode.SELECT
+				)
+		};
+	}
+
+	@Test
+	public void testSameInstanceSkipsType() {
+		final boolean[] cleanIfSame = DirtyHelper.determineCleanIfSame( properties );
+		assertThat( cleanIfSame ).containsExactly( true );
+		type.dirtyChecks = 0;
+
+		final String name = "name";
+		assertThat( findDirty( name, name, cleanIfSame ) ).isNull();
+		assertThat( type.dirtyChecks ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testEqualInstanceCheckedByType() {
+		final boolean[] cleanIfSame = DirtyHelper.determineCleanIfSame( properties );
+		type.dirtyChecks = 0;
+
+		assertThat( findDirty( "name", new String( "name" ), cleanIfSame ) ).isNull();
+		assertThat( type.dirtyChecks ).isEqualTo( 1 );
+		assertThat( findDirty( "name", "other", cleanIfSame ) ).containsExactly( 0 );
+		assertThat( type.dirtyChecks ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testSameInstanceCheckedByTypeWithoutShortcut() {
+		final String name = "name";
+		assertThat( findDirty( name, name, new boolean[] { false } ) ).isNull();
+		assertThat( type.dirtyChecks ).isEqualTo( 1 );
+	}
+
+	private int[] findDirty(String previous, String current, boolean[] cleanIfSame) {
+		return DirtyHelper.findDirty(
+				properties,
+				new Object[] { current },
+				new Object[] { previous },
+				INCLUDE_COLUMNS,
+				cleanIfSame,
+				null
+		);
+	}
+
+	/**
+	 * An immutable type counting its dirty checks, each of which consults
+	 * the mutability plan once.
+	 */
+	private static class CountingStringType extends AbstractSingleColumnStandardBasicType<String> {
+		private int dirtyChecks;
+
+		private CountingStringType() {
+			super( VarcharJdbcType.INSTANCE, StringJavaType.INSTANCE );
+		}
+
+		@Override
+		public String getName() {
+			return "counting_string";
+		}
+
+		@Override
+		protected MutabilityPlan<String> getMutabilityPlan() {
+			dirtyChecks++;
+			return super.getMutabilityPlan();
+		}
+	}
+}
@@ -0,0 +1,48 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.internal.build.AllowNonPortable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(BatchFetchEvent.NAME)
+@Label("Batch Fetch Executed")
+@Category("Hibernate ORM")
+@Description("Entities or collections fetched together from the batch fetch queue")
+@StackTrace(false)
+@AllowNonPortable
+public class BatchFetchEvent extends Event implements HibernateMonitoringEvent {
+	public static final String NAME = "org.hibernate.orm.BatchFetch";
+
+	@Label("Session Identifier")
+	public String sessionIdentifier;
+
+	@Label("Entity Name")
+	public String entityName;
+
+	@Label("Collection Name")
+	public String collectionName;
+
+	@Label("Batch Size")
+	public int batchSize;
+
+	@Label("Maximum Batch Size")
+	public int maxBatchSize;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+
+}
@@ -0,0 +1,39 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.internal.build.AllowNonPortable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(JdbcValuesMappingResolutionEvent.NAME)
+@Label("JDBC Values Mapping Resolved")
+@Category("Hibernate ORM")
+@Description("Mapping of the JDBC values of query results resolved")
+@StackTrace(false)
+@AllowNonPortable
+public class JdbcValuesMappingResolutionEvent extends Event implements HibernateMonitoringEvent {
+	public static final String NAME = "org.hibernate.orm.JdbcValuesMappingResolution";
+
+	@Label("Session Identifier")
+	public String sessionIdentifier;
+
+	@Label("SQL")
+	public String sql;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+
+}
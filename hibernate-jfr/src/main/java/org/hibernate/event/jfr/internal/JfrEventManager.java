@@ -41,6 +41,13 @@ public class JfrEventManager implements EventManager {
 	private static final EventType partialFlushEventType = EventType.getEventType( PartialFlushEvent.class );
 	private static final EventType dirtyCalculationEventType = EventType.getEventType( DirtyCalculationEvent.class );
 	private static final EventType prePartialFlushEventType = EventType.getEventType( PrePartialFlushEvent.class );
+	private static final EventType sqmInterpretationEventType = EventType.getEventType( SqmInterpretationEvent.class );
+	private static final EventType sqlAstTranslationEventType = EventType.getEventType( SqlAstTranslationEvent.class );
+	private static final EventType jdbcValuesMappingResolutionEventType = EventType
+			.getEventType( JdbcValuesMappingResolutionEvent.class );
+	private static final EventType rowHydrationEventType = EventType.getEventType( RowHydrationEvent.class );
+	private static final EventType lazyInitializationEventType = EventType.getEventType( LazyInitializationEvent.class );
+	private static final EventType batchFetchEventType = EventType.getEventType( BatchFetchEvent.class );
 
 	@Override
 	public SessionOpenEvent beginSessionOpenEvent() {
@@ -525,6 +532,218 @@ public class JfrEventManager implements EventManager {
 		}
 	}
 
+	@Override
+	public SqmInterpretationEvent beginSqmInterpretationEvent() {
+		if ( sqmInterpretationEventType.isEnabled() ) {
+			final SqmInterpretationEvent sqmInterpretationEvent = new SqmInterpretationEvent();
+			sqmInterpretationEvent.begin();
+			return sqmInterpretationEvent;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeSqmInterpretationEvent(
+			HibernateMonitoringEvent event,
+			SharedSessionContractImplementor session,
+			String hql,
+			boolean cacheHit) {
+		if ( event != null ) {
+			final SqmInterpretationEvent sqmInterpretationEvent = (SqmInterpretationEvent) event;
+			sqmInterpretationEvent.end();
+			if ( sqmInterpretationEvent.shouldCommit() ) {
+				sqmInterpretationEvent.sessionIdentifier = getSessionIdentifier( session );
+				sqmInterpretationEvent.hql = hql;
+				sqmInterpretationEvent.cacheHit = cacheHit;
+				sqmInterpretationEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public SqlAstTranslationEvent beginSqlAstTranslationEvent() {
+		if ( sqlAstTranslationEventType.isEnabled() ) {
+			final SqlAstTranslationEvent sqlAstTranslationEvent = new SqlAstTranslationEvent();
+			sqlAstTranslationEvent.begin();
+			return sqlAstTranslationEvent;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeSqlAstTranslationEvent(
+			HibernateMonitoringEvent event,
+			SharedSessionContractImplementor session,
+			String sql) {
+		if ( event != null ) {
+			final SqlAstTranslationEvent sqlAstTranslationEvent = (SqlAstTranslationEvent) event;
+			sqlAstTranslationEvent.end();
+			if ( sqlAstTranslationEvent.shouldCommit() ) {
+				sqlAstTranslationEvent.sessionIdentifier = getSessionIdentifier( session );
+				sqlAstTranslationEvent.sql = sql;
+				sqlAstTranslationEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public JdbcValuesMappingResolutionEvent beginJdbcValuesMappingResolutionEvent() {
+		if ( jdbcValuesMappingResolutionEventType.isEnabled() ) {
+			final JdbcValuesMappingResolutionEvent jdbcValuesMappingResolutionEvent = new JdbcValuesMappingResolutionEvent();
+			jdbcValuesMappingResolutionEvent.begin();
+			return jdbcValuesMappingResolutionEvent;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeJdbcValuesMappingResolutionEvent(
+			HibernateMonitoringEvent event,
+			SharedSessionContractImplementor session,
+			String sql) {
+		if ( event != null ) {
+			final JdbcValuesMappingResolutionEvent jdbcValuesMappingResolutionEvent = (JdbcValuesMappingResolutionEvent) event;
+			jdbcValuesMappingResolutionEvent.end();
+			if ( jdbcValuesMappingResolutionEvent.shouldCommit() ) {
+				jdbcValuesMappingResolutionEvent.sessionIdentifier = getSessionIdentifier( session );
+				jdbcValuesMappingResolutionEvent.sql = sql;
+				jdbcValuesMappingResolutionEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public RowHydrationEvent beginRowHydrationEvent() {
+		if ( rowHydrationEventType.isEnabled() ) {
+			final RowHydrationEvent rowHydrationEvent = new RowHydrationEvent();
+			rowHydrationEvent.begin();
+			return rowHydrationEvent;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeRowHydrationEvent(
+			HibernateMonitoringEvent event,
+			SharedSessionContractImplementor session,
+			String sql,
+			int rowCount) {
+		if ( event != null ) {
+			final RowHydrationEvent rowHydrationEvent = (RowHydrationEvent) event;
+			rowHydrationEvent.end();
+			if ( rowHydrationEvent.shouldCommit() ) {
+				rowHydrationEvent.sessionIdentifier = getSessionIdentifier( session );
+				rowHydrationEvent.sql = sql;
+				rowHydrationEvent.rowCount = rowCount;
+				rowHydrationEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public LazyInitializationEvent beginLazyInitializationEvent() {
+		if ( lazyInitializationEventType.isEnabled() ) {
+			final LazyInitializationEvent lazyInitializationEvent = new LazyInitializationEvent();
+			lazyInitializationEvent.begin();
+			return lazyInitializationEvent;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeLazyInitializationEvent(
+			HibernateMonitoringEvent event,
+			SharedSessionContractImplementor session,
+			String entityName) {
+		if ( event != null ) {
+			final LazyInitializationEvent lazyInitializationEvent = (LazyInitializationEvent) event;
+			lazyInitializationEvent.end();
+			if ( lazyInitializationEvent.shouldCommit() ) {
+				lazyInitializationEvent.sessionIdentifier = getSessionIdentifier( session );
+				lazyInitializationEvent.entityName = entityName;
+				lazyInitializationEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public void completeLazyInitializationEvent(
+			HibernateMonitoringEvent event,
+			SharedSessionContractImplementor session,
+			CollectionPersister persister) {
+		if ( event != null ) {
+			final LazyInitializationEvent lazyInitializationEvent = (LazyInitializationEvent) event;
+			lazyInitializationEvent.end();
+			if ( lazyInitializationEvent.shouldCommit() ) {
+				lazyInitializationEvent.sessionIdentifier = getSessionIdentifier( session );
+				lazyInitializationEvent.collectionName = persister.getNavigableRole().getFullPath();
+				lazyInitializationEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public BatchFetchEvent beginBatchFetchEvent() {
+		if ( batchFetchEventType.isEnabled() ) {
+			final BatchFetchEvent batchFetchEvent = new BatchFetchEvent();
+			batchFetchEvent.begin();
+			return batchFetchEvent;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeBatchFetchEvent(
+			HibernateMonitoringEvent event,
+			SharedSessionContractImplementor session,
+			EntityPersister persister,
+			Object[] ids,
+			int maxBatchSize) {
+		if ( event != null ) {
+			final BatchFetchEvent batchFetchEvent = (BatchFetchEvent) event;
+			batchFetchEvent.end();
+			if ( batchFetchEvent.shouldCommit() ) {
+				batchFetchEvent.sessionIdentifier = getSessionIdentifier( session );
+				batchFetchEvent.entityName = getEntityName( persister );
+				batchFetchEvent.batchSize = countNonNull( ids );
+				batchFetchEvent.maxBatchSize = maxBatchSize;
+				batchFetchEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public void completeBatchFetchEvent(
+			HibernateMonitoringEvent event,
+			SharedSessionContractImplementor session,
+			CollectionPersister persister,
+			Object[] keys,
+			int maxBatchSize) {
+		if ( event != null ) {
+			final BatchFetchEvent batchFetchEvent = (BatchFetchEvent) event;
+			batchFetchEvent.end();
+			if ( batchFetchEvent.shouldCommit() ) {
+				batchFetchEvent.sessionIdentifier = getSessionIdentifier( session );
+				batchFetchEvent.collectionName = persister.getNavigableRole().getFullPath();
+				batchFetchEvent.batchSize = countNonNull( keys );
+				batchFetchEvent.maxBatchSize = maxBatchSize;
+				batchFetchEvent.commit();
+			}
+		}
+	}
+
 	private String getSessionIdentifier(SharedSessionContractImplementor session) {
 		if ( session == null ) {
 			return null;
@@ -535,4 +754,14 @@ public class JfrEventManager implements EventManager {
 	private String getEntityName(EntityPersister persister) {
 		return StatsHelper.INSTANCE.getRootEntityRole( persister ).getFullPath();
 	}
+
+	private static int countNonNull(Object[] values) {
+		int count = 0;
+		for ( Object value : values ) {
+			if ( value != null ) {
+				count++;
+			}
+		}
+		return count;
+	}
 }
@@ -0,0 +1,42 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.internal.build.AllowNonPortable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(RowHydrationEvent.NAME)
+@Label("Result Rows Hydrated")
+@Category("Hibernate ORM")
+@Description("Rows of the results of a query read and hydrated")
+@StackTrace(false)
+@AllowNonPortable
+public class RowHydrationEvent extends Event implements HibernateMonitoringEvent {
+	public static final String NAME = "org.hibernate.orm.RowHydration";
+
+	@Label("Session Identifier")
+	public String sessionIdentifier;
+
+	@Label("SQL")
+	public String sql;
+
+	@Label("Row Count")
+	public int rowCount;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+
+}
@@ -0,0 +1,42 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.internal.build.AllowNonPortable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(SqmInterpretationEvent.NAME)
+@Label("HQL Interpreted")
+@Category("Hibernate ORM")
+@Description("HQL query interpreted as SQM, or found in the query interpretation cache")
+@StackTrace(false)
+@AllowNonPortable
+public class SqmInterpretationEvent extends Event implements HibernateMonitoringEvent {
+	public static final String NAME = "org.hibernate.orm.SqmInterpretation";
+
+	@Label("Session Identifier")
+	public String sessionIdentifier;
+
+	@Label("HQL")
+	public String hql;
+
+	@Label("Cache Hit")
+	public boolean cacheHit;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+
+}
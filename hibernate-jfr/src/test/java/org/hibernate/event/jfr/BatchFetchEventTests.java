@@ -0,0 +1,154 @@
+package org.hibernate.event.jfr;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.event.jfr.internal.BatchFetchEvent;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jdk.jfr.consumer.RecordedEvent;
+import org.moditect.jfrunit.EnableEvent;
+import org.moditect.jfrunit.JfrEventTest;
+import org.moditect.jfrunit.JfrEvents;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JfrEventTest
+@DomainModel(annotatedClasses = {
+		BatchFetchEventTests.Author.class,
+		BatchFetchEventTests.Book.class,
+})
+@SessionFactory
+public class BatchFetchEventTests {
+	public JfrEvents jfrEvents = new JfrEvents();
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 3; i++ ) {
+						Author author = new Author( i );
+						session.persist( author );
+						Book book = new Book( i, author );
+						author.books.add( book );
+						session.persist( book );
+					}
+				}
+		);
+	}
+
+	@Test
+	@EnableEvent(BatchFetchEvent.NAME)
+	public void testEntityBatchFetchEvent(SessionFactoryScope scope) {
+		jfrEvents.reset();
+		String sessionId = scope.fromSession(
+				session -> {
+					List<Book> books = session.createSelectionQuery( "from Book b order by b.id", Book.class )
+							.getResultList();
+					assertThat( books ).hasSize( 3 );
+					Hibernate.initialize( books.get( 0 ).author );
+					// the other authors were fetched in the same batch
+					assertThat( Hibernate.isInitialized( books.get( 2 ).author ) ).isTrue();
+					return session.getSessionIdentifier().toString();
+				}
+		);
+		List<RecordedEvent> events = events( BatchFetchEvent.NAME );
+		assertThat( events ).hasSize( 1 );
+
+		RecordedEvent event = events.get( 0 );
+		assertThat( event.getString( "sessionIdentifier" ) )
+				.isEqualTo( sessionId );
+		assertThat( event.getString( "entityName" ) )
+				.isEqualTo( Author.class.getName() );
+		assertThat( event.getString( "collectionName" ) )
+				.isNull();
+		assertThat( event.getInt( "batchSize" ) )
+				.isEqualTo( 3 );
+		assertThat( event.getInt( "maxBatchSize" ) )
+				.isEqualTo( 10 );
+	}
+
+	@Test
+	@EnableEvent(BatchFetchEvent.NAME)
+	public void testCollectionBatchFetchEvent(SessionFactoryScope scope) {
+		jfrEvents.reset();
+		String sessionId = scope.fromSession(
+				session -> {
+					List<Author> authors = session.createSelectionQuery( "from Author a order by a.id", Author.class )
+							.getResultList();
+					assertThat( authors ).hasSize( 3 );
+					assertThat( authors.get( 0 ).books ).hasSize( 1 );
+					// the other collections were fetched in the same batch
+					assertThat( Hibernate.isInitialized( authors.get( 2 ).books ) ).isTrue();
+					return session.getSessionIdentifier().toString();
+				}
+		);
+		List<RecordedEvent> events = events( BatchFetchEvent.NAME );
+		assertThat( events ).hasSize( 1 );
+
+		RecordedEvent event = events.get( 0 );
+		assertThat( event.getString( "sessionIdentifier" ) )
+				.isEqualTo( sessionId );
+		assertThat( event.getString( "collectionName" ) )
+				.isEqualTo( Author.class.getName() + ".books" );
+		assertThat( event.getString( "entityName" ) )
+				.isNull();
+		assertThat( event.getInt( "batchSize" ) )
+				.isEqualTo( 3 );
+		assertThat( event.getInt( "maxBatchSize" ) )
+				.isEqualTo( 10 );
+	}
+
+	private List<RecordedEvent> events(String name) {
+		return jfrEvents.events()
+				.filter( recordedEvent -> recordedEvent.getEventType().getName().equals( name ) )
+				.toList();
+	}
+
+	@Entity(name = "Author")
+	@BatchSize(size = 10)
+	public static class Author {
+		@Id
+		private Integer id;
+
+		@OneToMany(mappedBy = "author")
+		@BatchSize(size = 10)
+		private List<Book> books = new ArrayList<>();
+
+		public Author() {
+		}
+
+		public Author(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, Author author) {
+			this.id = id;
+			this.author = author;
+		}
+	}
+}
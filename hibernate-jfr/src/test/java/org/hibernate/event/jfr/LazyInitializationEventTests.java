@@ -0,0 +1,138 @@
+package org.hibernate.event.jfr;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.event.jfr.internal.BatchFetchEvent;
+import org.hibernate.event.jfr.internal.LazyInitializationEvent;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.OneToMany;
+import jdk.jfr.consumer.RecordedEvent;
+import org.moditect.jfrunit.EnableEvent;
+import org.moditect.jfrunit.JfrEventTest;
+import org.moditect.jfrunit.JfrEvents;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JfrEventTest
+@DomainModel(annotatedClasses = {
+		LazyInitializationEventTests.Parent.class,
+		LazyInitializationEventTests.Child.class,
+})
+@SessionFactory
+public class LazyInitializationEventTests {
+	public JfrEvents jfrEvents = new JfrEvents();
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					Parent parent = new Parent( 1 );
+					Child child = new Child( 1 );
+					parent.children.add( child );
+					session.persist( child );
+					session.persist( parent );
+				}
+		);
+	}
+
+	@Test
+	@EnableEvent(LazyInitializationEvent.NAME)
+	public void testEntityLazyInitializationEvent(SessionFactoryScope scope) {
+		jfrEvents.reset();
+		String sessionId = scope.fromSession(
+				session -> {
+					Parent parent = session.getReference( Parent.class, 1 );
+					parent.getId();
+					parent.getChildren();
+					return session.getSessionIdentifier().toString();
+				}
+		);
+		List<RecordedEvent> events = events( LazyInitializationEvent.NAME );
+		assertThat( events ).hasSize( 1 );
+
+		RecordedEvent event = events.get( 0 );
+		assertThat( event.getDuration() ).isPositive();
+		assertThat( event.getString( "sessionIdentifier" ) )
+				.isEqualTo( sessionId );
+		assertThat( event.getString( "entityName" ) )
+				.isEqualTo( Parent.class.getName() );
+		assertThat( event.getString( "collectionName" ) )
+				.isNull();
+	}
+
+	@Test
+	@EnableEvent(LazyInitializationEvent.NAME)
+	@EnableEvent(BatchFetchEvent.NAME)
+	public void testCollectionLazyInitializationEvent(SessionFactoryScope scope) {
+		jfrEvents.reset();
+		String sessionId = scope.fromSession(
+				session -> {
+					Parent parent = session.find( Parent.class, 1 );
+					assertThat( parent.getChildren() ).hasSize( 1 );
+					return session.getSessionIdentifier().toString();
+				}
+		);
+		List<RecordedEvent> events = events( LazyInitializationEvent.NAME );
+		assertThat( events ).hasSize( 1 );
+
+		RecordedEvent event = events.get( 0 );
+		assertThat( event.getString( "sessionIdentifier" ) )
+				.isEqualTo( sessionId );
+		assertThat( event.getString( "collectionName" ) )
+				.isEqualTo( Parent.class.getName() + ".children" );
+		// no batch fetching is configured
+		assertThat( events( BatchFetchEvent.NAME ) ).isEmpty();
+	}
+
+	private List<RecordedEvent> events(String name) {
+		return jfrEvents.events()
+				.filter( recordedEvent -> recordedEvent.getEventType().getName().equals( name ) )
+				.toList();
+	}
+
+	@Entity(name = "Parent")
+	public static class Parent {
+		@Id
+		private Integer id;
+
+		@OneToMany
+		private List<Child> children = new ArrayList<>();
+
+		public Parent() {
+		}
+
+		public Parent(Integer id) {
+			this.id = id;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public List<Child> getChildren() {
+			return children;
+		}
+	}
+
+	@Entity(name = "Child")
+	public static class Child {
+		@Id
+		private Integer id;
+
+		public Child() {
+		}
+
+		public Child(Integer id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,167 @@
+package org.hibernate.event.jfr;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.event.jfr.internal.JdbcValuesMappingResolutionEvent;
+import org.hibernate.event.jfr.internal.RowHydrationEvent;
+import org.hibernate.event.jfr.internal.SqlAstTranslationEvent;
+import org.hibernate.event.jfr.internal.SqmInterpretationEvent;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jdk.jfr.consumer.RecordedEvent;
+import org.moditect.jfrunit.EnableEvent;
+import org.moditect.jfrunit.JfrEventTest;
+import org.moditect.jfrunit.JfrEvents;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JfrEventTest
+@DomainModel(annotatedClasses = {
+		QueryEventTests.TestEntity.class,
+})
+@SessionFactory
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+				@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+				@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		}
+)
+public class QueryEventTests {
+	public JfrEvents jfrEvents = new JfrEvents();
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.persist( new TestEntity( 1, "name_1" ) );
+					session.persist( new TestEntity( 2, "name_2" ) );
+				}
+		);
+	}
+
+	@Test
+	@EnableEvent(SqmInterpretationEvent.NAME)
+	public void testSqmInterpretationEvent(SessionFactoryScope scope) {
+		jfrEvents.reset();
+		final String hql = "select t from TestEntity t where t.name = :name";
+		String sessionId = scope.fromSession(
+				session -> {
+					session.createSelectionQuery( hql, TestEntity.class )
+							.setParameter( "name", "name_1" )
+							.getResultList();
+					session.createSelectionQuery( hql, TestEntity.class )
+							.setParameter( "name", "name_2" )
+							.getResultList();
+					return session.getSessionIdentifier().toString();
+				}
+		);
+		List<RecordedEvent> events = events( SqmInterpretationEvent.NAME );
+		assertThat( events ).hasSize( 2 );
+
+		RecordedEvent event = events.get( 0 );
+		assertThat( event.getString( "sessionIdentifier" ) )
+				.isEqualTo( sessionId );
+		assertThat( event.getString( "hql" ) )
+				.isEqualTo( hql );
+		assertThat( event.getBoolean( "cacheHit" ) )
+				.isFalse();
+		assertThat( events.get( 1 ).getBoolean( "cacheHit" ) )
+				.isTrue();
+	}
+
+	@Test
+	@EnableEvent(SqlAstTranslationEvent.NAME)
+	@EnableEvent(RowHydrationEvent.NAME)
+	public void testSqlAstTranslationAndRowHydrationEvents(SessionFactoryScope scope) {
+		jfrEvents.reset();
+		String sessionId = scope.fromSession(
+				session -> {
+					session.createSelectionQuery( "from TestEntity t order by t.id", TestEntity.class )
+							.getResultList();
+					return session.getSessionIdentifier().toString();
+				}
+		);
+		List<RecordedEvent> translationEvents = events( SqlAstTranslationEvent.NAME );
+		assertThat( translationEvents ).hasSize( 1 );
+		RecordedEvent translationEvent = translationEvents.get( 0 );
+		assertThat( translationEvent.getString( "sessionIdentifier" ) )
+				.isEqualTo( sessionId );
+		assertThat( translationEvent.getString( "sql" ) )
+				.containsIgnoringCase( "order by" );
+
+		List<RecordedEvent> hydrationEvents = events( RowHydrationEvent.NAME );
+		assertThat( hydrationEvents ).hasSize( 1 );
+		RecordedEvent hydrationEvent = hydrationEvents.get( 0 );
+		assertThat( hydrationEvent.getString( "sessionIdentifier" ) )
+				.isEqualTo( sessionId );
+		assertThat( hydrationEvent.getString( "sql" ) )
+				.isEqualTo( translationEvent.getString( "sql" ) );
+		assertThat( hydrationEvent.getInt( "rowCount" ) )
+				.isEqualTo( 2 );
+	}
+
+	@Test
+	@EnableEvent(JdbcValuesMappingResolutionEvent.NAME)
+	public void testJdbcValuesMappingResolutionEventOnQueryCacheHit(SessionFactoryScope scope) {
+		// a scalar query, since the entities of cached results would be loaded by id
+		final String hql = "select t.name from TestEntity t where t.id = 1";
+		scope.inSession(
+				session -> session.createSelectionQuery( hql, String.class )
+						.setCacheable( true )
+						.getResultList()
+		);
+		scope.getSessionFactory().getStatistics().clear();
+		jfrEvents.reset();
+		String sessionId = scope.fromSession(
+				session -> {
+					assertThat( session.createSelectionQuery( hql, String.class )
+							.setCacheable( true )
+							.getResultList() ).containsExactly( "name_1" );
+					return session.getSessionIdentifier().toString();
+				}
+		);
+		assertThat( scope.getSessionFactory().getStatistics().getQueryCacheHitCount() )
+				.isEqualTo( 1 );
+
+		List<RecordedEvent> events = events( JdbcValuesMappingResolutionEvent.NAME );
+		assertThat( events ).hasSize( 1 );
+		RecordedEvent event = events.get( 0 );
+		assertThat( event.getString( "sessionIdentifier" ) )
+				.isEqualTo( sessionId );
+		assertThat( event.getString( "sql" ) )
+				.containsIgnoringCase( "select" );
+	}
+
+	private List<RecordedEvent> events(String name) {
+		return jfrEvents.events()
+				.filter( recordedEvent -> recordedEvent.getEventType().getName().equals( name ) )
+				.toList();
+	}
+
+	@Entity(name = "TestEntity")
+	public static class TestEntity {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public TestEntity() {
+		}
+
+		public TestEntity(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -13,6 +13,7 @@ import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.binder.MeterBinder;
 
 import org.hibernate.SessionFactory;
@@ -20,24 +21,39 @@ import org.hibernate.SessionFactory;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import java.util.function.ToDoubleFunction;
 
 /**
  * A {@link MeterBinder} implementation that provides Hibernate metrics. It exposes the
  * same statistics as would be exposed when calling {@link Statistics#logSummary()}.
+ * <p>
+ * When the statistics are {@link HistogramStatistics}, the executions of queries are
+ * also recorded by {@link Timer}s, named {@code hibernate.query.executions.duration} and
+ * {@code hibernate.query.natural.id.executions.duration}, which publish the median, 99th
+ * and 99.9th percentiles of the execution times. Only the executions which happen after
+ * this binder is bound to a registry, and before it is {@linkplain #close() closed}, are
+ * recorded by the timers.
+ *
+ * @see org.hibernate.cfg.StatisticsSettings#STATISTICS_HISTOGRAMS
  */
 @NonNullApi
 @NonNullFields
-public class HibernateMetrics implements MeterBinder {
+public class HibernateMetrics implements MeterBinder, AutoCloseable {
 
 	private static final String SESSION_FACTORY_TAG_NAME = "entityManagerFactory";
 
+	private static final double[] PERCENTILES = { 0.5, 0.99, 0.999 };
+
 	private final String cacheFactoryPrefix;
 	private final Iterable<Tag> tags;
 
 	private final @Nullable Statistics statistics;
 
+	private final List<HistogramStatistics.ExecutionListener> executionListeners = new CopyOnWriteArrayList<>();
+
 	/**
 	 * Create {@code HibernateMetrics} and bind to the specified meter registry.
 	 *
@@ -289,6 +305,11 @@ public class HibernateMetrics implements MeterBinder {
 				.tags( tags )
 				.register( registry );
 
+		if ( statistics instanceof HistogramStatistics ) {
+			// Natural Id and query executions, also recorded as they happen
+			executionTimers( registry, (HistogramStatistics) statistics );
+		}
+
 		// Update timestamp cache
 		counter(registry,
 				"hibernate.cache.update.timestamps.requests",
@@ -334,6 +355,49 @@ public class HibernateMetrics implements MeterBinder {
 		);
 	}
 
+	/**
+	 * Register {@link Timer}s, with percentiles, for the executions of natural id
+	 * and other queries, in addition to polling their count and maximum time.
+	 */
+	private void executionTimers(MeterRegistry registry, HistogramStatistics statistics) {
+		final Timer naturalIdExecutions = Timer.builder( "hibernate.query.natural.id.executions.duration" )
+				.description( "The naturalId queries executed against the database" )
+				.tags( tags )
+				.publishPercentiles( PERCENTILES )
+				.register( registry );
+		final Timer queryExecutions = Timer.builder( "hibernate.query.executions.duration" )
+				.description( "The executed queries" )
+				.tags( tags )
+				.publishPercentiles( PERCENTILES )
+				.register( registry );
+		final HistogramStatistics.ExecutionListener executionListener = new HistogramStatistics.ExecutionListener() {
+			@Override
+			public void queryExecuted(@Nullable String queryString, int rows, long time) {
+				queryExecutions.record( time, TimeUnit.MILLISECONDS );
+			}
+
+			@Override
+			public void naturalIdQueryExecuted(String rootEntityName, long time) {
+				naturalIdExecutions.record( time, TimeUnit.MILLISECONDS );
+			}
+		};
+		statistics.addExecutionListener( executionListener );
+		executionListeners.add( executionListener );
+	}
+
+	/**
+	 * Stop recording the executions of queries in the {@link Timer}s.
+	 */
+	@Override
+	public void close() {
+		if ( statistics instanceof HistogramStatistics ) {
+			for ( HistogramStatistics.ExecutionListener executionListener : executionListeners ) {
+				( (HistogramStatistics) statistics ).removeExecutionListener( executionListener );
+			}
+		}
+		executionListeners.clear();
+	}
+
 	private boolean hasDomainDataRegionStatistics(String regionName) {
 		// This appears to be a _qualified
 		// In 5.3, getDomainDataRegionStatistics (a new method) will throw an IllegalArgumentException
@@ -17,7 +17,13 @@ import org.hibernate.event.service.spi.EventListenerRegistry;
 import org.hibernate.event.spi.EventType;
 import org.hibernate.event.spi.PostLoadEvent;
 import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.internal.util.collections.TinyLfuConcurrentMap;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -27,10 +33,19 @@ import java.util.concurrent.TimeUnit;
  * <p>
  * Be aware of the potential for high cardinality of unique Hibernate queries executed by your
  * application when considering using this {@link MeterBinder}.
+ * <p>
+ * When the statistics are {@link HistogramStatistics}, each execution of a query is
+ * recorded by a {@link Timer}, which publishes the median, 99th and 99.9th percentiles
+ * of the execution times of the query, instead of being polled from its
+ * {@link QueryStatistics}. The timers are kept for as many queries as the
+ * {@linkplain org.hibernate.cfg.StatisticsSettings#QUERY_STATISTICS_MAX_SIZE query statistics},
+ * and the meters of the queries executed the least often are then removed.
+ * <p>
+ * {@link #close() Closing} this binder stops recording the executions.
  */
 @NonNullApi
 @NonNullFields
-public class HibernateQueryMetrics implements MeterBinder {
+public class HibernateQueryMetrics implements MeterBinder, AutoCloseable {
 
 	private static final String SESSION_FACTORY_TAG_NAME = "entityManagerFactory";
 
@@ -38,6 +53,9 @@ public class HibernateQueryMetrics implements MeterBinder {
 
 	private final SessionFactory sessionFactory;
 
+	private final List<QueryExecutionTimers> executionTimers = new CopyOnWriteArrayList<>();
+	private final List<MetricsEventHandler> eventHandlers = new CopyOnWriteArrayList<>();
+
 	/**
 	 * Create {@code HibernateQueryMetrics} and bind to the specified meter registry.
 	 *
@@ -85,9 +103,108 @@ public class HibernateQueryMetrics implements MeterBinder {
 	@Override
 	public void bindTo(MeterRegistry meterRegistry) {
 		if ( sessionFactory instanceof SessionFactoryImplementor ) {
+			Statistics statistics = sessionFactory.getStatistics();
+			boolean timed = statistics instanceof HistogramStatistics;
+			if ( timed ) {
+				QueryExecutionTimers timers = new QueryExecutionTimers(
+						meterRegistry,
+						sessionFactory.getSessionFactoryOptions().getQueryStatisticsMaxSize()
+				);
+				( (HistogramStatistics) statistics ).addExecutionListener( timers );
+				executionTimers.add( timers );
+			}
 			EventListenerRegistry eventListenerRegistry = ( (SessionFactoryImplementor) sessionFactory ).getEventEngine().getListenerRegistry();
-			MetricsEventHandler metricsEventHandler = new MetricsEventHandler( meterRegistry );
+			MetricsEventHandler metricsEventHandler = new MetricsEventHandler( meterRegistry, timed );
 			eventListenerRegistry.appendListeners( EventType.POST_LOAD, metricsEventHandler );
+			eventHandlers.add( metricsEventHandler );
+		}
+	}
+
+	/**
+	 * Stop recording the executions of queries, and remove the timers of the queries
+	 * from the registries. The meters polling the {@link QueryStatistics} are kept.
+	 */
+	@Override
+	public void close() {
+		for ( QueryExecutionTimers timers : executionTimers ) {
+			( (HistogramStatistics) sessionFactory.getStatistics() ).removeExecutionListener( timers );
+			timers.removeMeters();
+		}
+		executionTimers.clear();
+		// the event listeners cannot be removed from the registry
+		for ( MetricsEventHandler eventHandler : eventHandlers ) {
+			eventHandler.closed = true;
+		}
+		eventHandlers.clear();
+	}
+
+	/**
+	 * Records each execution of a query in a {@link Timer}, and the number of rows
+	 * it returned in a {@link Counter}, both created on the first execution, and
+	 * removed from the registry when the query is evicted.
+	 */
+	class QueryExecutionTimers implements HistogramStatistics.ExecutionListener {
+
+		private final MeterRegistry meterRegistry;
+
+		private final Map<String, QueryMeters> queryMeters;
+
+		QueryExecutionTimers(MeterRegistry meterRegistry, int maxSize) {
+			this.meterRegistry = meterRegistry;
+			this.queryMeters = new TinyLfuConcurrentMap<>( maxSize, (query, meters) -> meters.remove( meterRegistry ) );
+		}
+
+		@Override
+		public void queryExecuted(@Nullable String queryString, int rows, long time) {
+			if ( queryString != null ) {
+				QueryMeters meters = queryMeters.get( queryString );
+				if ( meters == null ) {
+					// registering the same meters twice returns the existing ones
+					QueryMeters newMeters = createQueryMeters( queryString );
+					QueryMeters existing = queryMeters.putIfAbsent( queryString, newMeters );
+					meters = existing == null ? newMeters : existing;
+				}
+				meters.executions.record( time, TimeUnit.MILLISECONDS );
+				meters.rows.increment( rows );
+			}
+		}
+
+		void removeMeters() {
+			for ( QueryMeters meters : queryMeters.values() ) {
+				meters.remove( meterRegistry );
+			}
+			queryMeters.clear();
+		}
+
+		private QueryMeters createQueryMeters(String query) {
+			return new QueryMeters(
+					Timer.builder( "hibernate.query.execution.total" )
+							.tags( tags )
+							.tags( "query", query )
+							.description( "Query executions" )
+							.publishPercentiles( 0.5, 0.99, 0.999 )
+							.register( meterRegistry ),
+					Counter.builder( "hibernate.query.execution.rows" )
+							.tags( tags )
+							.tags( "query", query )
+							.description( "Number of rows processed for a query" )
+							.register( meterRegistry )
+			);
+		}
+	}
+
+	private static class QueryMeters {
+		private final Timer executions;
+		private final Counter rows;
+
+		private QueryMeters(Timer executions, Counter rows) {
+			this.executions = executions;
+			this.rows = rows;
+		}
+
+		private void remove(MeterRegistry meterRegistry) {
+			meterRegistry.remove( executions );
+			meterRegistry.remove( rows );
 		}
 	}
 
@@ -95,13 +212,21 @@ public class HibernateQueryMetrics implements MeterBinder {
 
 		private final MeterRegistry meterRegistry;
 
-		MetricsEventHandler(MeterRegistry meterRegistry) {
+		// the executions are then recorded by QueryExecutionTimers
+		private final boolean timed;
+
+		private volatile boolean closed;
+
+		MetricsEventHandler(MeterRegistry meterRegistry, boolean timed) {
 			this.meterRegistry = meterRegistry;
+			this.timed = timed;
 		}
 
 		@Override
 		public void onPostLoad(PostLoadEvent event) {
-			registerQueryMetric( event.getFactory().getStatistics() );
+			if ( !closed ) {
+				registerQueryMetric( event.getFactory().getStatistics() );
+			}
 		}
 
 		void registerQueryMetric(Statistics statistics) {
@@ -138,6 +263,10 @@ public class HibernateQueryMetrics implements MeterBinder {
 						.description( "Number of cache puts for a query" )
 						.register( meterRegistry );
 
+				if ( timed ) {
+					continue;
+				}
+
 				FunctionTimer.builder(
 						"hibernate.query.execution.total",
 						queryStatistics,
@@ -0,0 +1,144 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stat;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.stat.HibernateMetrics;
+import org.hibernate.stat.HibernateQueryMetrics;
+import org.hibernate.stat.HistogramStatistics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MicrometerHistogramStatisticsTest extends BaseCoreFunctionalTestCase {
+
+	private static final String QUERY = "select a from Account a";
+	private static final int MAX_QUERIES = 20;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Account.class, AccountId.class };
+	}
+
+	private SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private HibernateMetrics hibernateMetrics;
+	private HibernateQueryMetrics hibernateQueryMetrics;
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+
+		configuration.setProperty( Environment.USE_SECOND_LEVEL_CACHE, "false" );
+		configuration.setProperty( Environment.USE_QUERY_CACHE, "false" );
+		configuration.setProperty( Environment.GENERATE_STATISTICS, "true" );
+		configuration.setProperty( StatisticsSettings.STATISTICS_HISTOGRAMS, "true" );
+		configuration.setProperty( StatisticsSettings.QUERY_STATISTICS_MAX_SIZE, String.valueOf( MAX_QUERIES ) );
+	}
+
+	@Before
+	public void setUpMetrics() {
+		hibernateMetrics = new HibernateMetrics( sessionFactory(), "something", Tags.empty() );
+		hibernateMetrics.bindTo( registry );
+		hibernateQueryMetrics = new HibernateQueryMetrics( sessionFactory(), "something", Tags.empty() );
+		hibernateQueryMetrics.bindTo( registry );
+	}
+
+	@After
+	public void cleanUpMetrics() {
+		hibernateMetrics.close();
+		hibernateQueryMetrics.close();
+		registry.clear();
+	}
+
+	@Test
+	public void testExecutionTimers() {
+		assertTrue( sessionFactory().getStatistics() instanceof HistogramStatistics );
+
+		Timer queryExecutions = registry.get( "hibernate.query.executions.duration" ).timer();
+		Timer naturalIdExecutions = registry.get( "hibernate.query.natural.id.executions.duration" ).timer();
+		assertEquals( 0, queryExecutions.count() );
+		assertEquals( 0, naturalIdExecutions.count() );
+
+		Session session = openSession();
+		session.beginTransaction();
+		session.persist( new Account( new AccountId( 1 ), "testAcct" ) );
+		session.getTransaction().commit();
+		session.close();
+
+		session = openSession();
+		for ( int i = 0; i < 3; i++ ) {
+			assertEquals( 1, session.createSelectionQuery( QUERY, Account.class ).getResultList().size() );
+		}
+		Assert.assertNotNull( session.bySimpleNaturalId( Account.class ).load( "testAcct" ) );
+		session.close();
+
+		assertEquals( 3, queryExecutions.count() );
+		assertTrue( naturalIdExecutions.count() > 0 );
+
+		ValueAtPercentile[] percentiles = queryExecutions.takeSnapshot().percentileValues();
+		assertEquals( 3, percentiles.length );
+		assertEquals( 0.999, percentiles[2].percentile(), 0 );
+
+		Timer queryTimer = registry.get( "hibernate.query.execution.total" ).tags( "query", QUERY ).timer();
+		assertEquals( 3, queryTimer.count() );
+		assertEquals( 3, registry.get( "hibernate.query.execution.rows" ).tags( "query", QUERY ).counter().count(), 0 );
+
+		// the polled meters keep their names and types
+		assertEquals( 3, registry.get( "hibernate.query.executions" ).functionCounter().count(), 0 );
+		assertTrue( registry.get( "hibernate.query.natural.id.executions" ).functionCounter().count() > 0 );
+		assertEquals( 1, registry.find( "hibernate.query.executions.max" ).meters().size() );
+		// the polled meters of each query are replaced by the timers
+		assertTrue( registry.find( "hibernate.query.execution.max" ).meters().isEmpty() );
+
+		// clean up
+		session = openSession();
+		session.beginTransaction();
+		session.createMutationQuery( "delete from Account" ).executeUpdate();
+		session.getTransaction().commit();
+		session.close();
+	}
+
+	@Test
+	public void testQueryTimersBounded() {
+		Session session = openSession();
+		for ( int i = 0; i < MAX_QUERIES * 5; i++ ) {
+			session.createSelectionQuery( "select a from Account a where a.accountId.id = " + i, Account.class )
+					.getResultList();
+		}
+		session.close();
+
+		assertTrue( registry.find( "hibernate.query.execution.total" ).timers().size() <= MAX_QUERIES );
+		assertTrue( registry.find( "hibernate.query.execution.rows" ).counters().size() <= MAX_QUERIES );
+	}
+
+	@Test
+	public void testClose() {
+		hibernateMetrics.close();
+		hibernateQueryMetrics.close();
+
+		Session session = openSession();
+		session.createSelectionQuery( QUERY, Account.class ).getResultList();
+		session.close();
+
+		assertEquals( 0, registry.get( "hibernate.query.executions.duration" ).timer().count() );
+		assertTrue( registry.find( "hibernate.query.execution.total" ).timers().isEmpty() );
+	}
+}
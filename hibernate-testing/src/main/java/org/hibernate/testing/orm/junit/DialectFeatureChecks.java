@@ -680,6 +680,12 @@ abstract public class DialectFeatureChecks {
 		}
 	}
 
+	public static class UsesArrayForMultiValuedParameters implements DialectFeatureCheck {
+		public boolean apply(Dialect dialect) {
+			return dialect.useArrayForMultiValuedParameters();
+		}
+	}
+
 	public static class SupportsStructuralArrays implements DialectFeatureCheck {
 		public boolean apply(Dialect dialect) {
 			return dialect.getPreferredSqlTypeCodeForArray() != SqlTypes.VARBINARY;